@@ -15,13 +15,14 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-
 package org.apache.wayang.api.sql.calcite.converter;
 
-import org.apache.calcite.rel.core.Aggregate;
 import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.sql.type.SqlTypeName;
 import org.apache.wayang.api.sql.calcite.rel.WayangAggregate;
 import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.basic.operators.AggregateOperator;
 import org.apache.wayang.basic.operators.GlobalReduceOperator;
 import org.apache.wayang.basic.operators.MapOperator;
 import org.apache.wayang.basic.operators.ReduceByOperator;
@@ -31,7 +32,9 @@ import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.types.DataUnitType;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 public class WayangAggregateVisitor extends WayangRelNodeVisitor<WayangAggregate> {
 
@@ -42,9 +45,87 @@ public class WayangAggregateVisitor extends WayangRelNodeVisitor<WayangAggregate
     @Override
     Operator visit(WayangAggregate wayangRelNode) {
         Operator childOp = wayangRelConverter.convert(wayangRelNode.getInput(0));
+
+        List<AggregateDescriptor.Aggregate> aggregates = new ArrayList<>();
+        for (AggregateCall aggregateCall : wayangRelNode.getAggCallList()) {
+            final AggregateDescriptor.Aggregate aggregate = toAggregate(aggregateCall);
+            if (aggregate == null) {
+                return visitGeneric(wayangRelNode, childOp);
+            }
+            aggregates.add(aggregate);
+        }
+
+        AggregateOperator aggregateOperator = new AggregateOperator(new AggregateDescriptor(
+                wayangRelNode.getGroupSet().toArray(),
+                aggregates
+        ));
+        childOp.connectTo(0, aggregateOperator, 0);
+        return aggregateOperator;
+    }
+
+    /**
+     * Translates a Calcite {@link AggregateCall} into an {@link AggregateDescriptor.Aggregate}.
+     *
+     * @return the {@link AggregateDescriptor.Aggregate} or {@code null} if the {@link AggregateCall} cannot be
+     * expressed as such
+     */
+    private static AggregateDescriptor.Aggregate toAggregate(AggregateCall aggregateCall) {
+        if (aggregateCall.isDistinct() || aggregateCall.hasFilter() || aggregateCall.getArgList().size() > 1) {
+            return null;
+        }
+
+        final AggregateDescriptor.Function function;
+        switch (aggregateCall.getAggregation().getKind()) {
+            case COUNT:
+                function = AggregateDescriptor.Function.COUNT;
+                break;
+            case SUM:
+                function = AggregateDescriptor.Function.SUM;
+                break;
+            case SUM0:
+                function = AggregateDescriptor.Function.SUM0;
+                break;
+            case MIN:
+                function = AggregateDescriptor.Function.MIN;
+                break;
+            case MAX:
+                function = AggregateDescriptor.Function.MAX;
+                break;
+            case AVG:
+                function = AggregateDescriptor.Function.AVG;
+                break;
+            default:
+                return null;
+        }
+        final int field = aggregateCall.getArgList().isEmpty() ? -1 : aggregateCall.getArgList().get(0);
+
+        final SqlTypeName typeName = aggregateCall.getType().getSqlTypeName();
+        final AggregateDescriptor.ValueType valueType;
+        if (SqlTypeName.INT_TYPES.contains(typeName)) {
+            valueType = AggregateDescriptor.ValueType.LONG;
+        } else if (SqlTypeName.APPROX_TYPES.contains(typeName)) {
+            valueType = AggregateDescriptor.ValueType.DOUBLE;
+        } else if (typeName == SqlTypeName.DECIMAL && function != AggregateDescriptor.Function.AVG) {
+            valueType = AggregateDescriptor.ValueType.DECIMAL;
+        } else if (function == AggregateDescriptor.Function.MIN || function == AggregateDescriptor.Function.MAX) {
+            valueType = AggregateDescriptor.ValueType.OBJECT;
+        } else {
+            return null;
+        }
+
+        return new AggregateDescriptor.Aggregate(function, field, valueType);
+    }
+
+    /**
+     * Translates the {@link WayangAggregate} into a generic pipeline of a {@link MapOperator} that appends the
+     * aggregated values to the {@link Record}s, a {@link ReduceByOperator} or {@link GlobalReduceOperator}, and a
+     * {@link MapOperator} that extracts the result. This is used for aggregates that have no
+     * {@link AggregateDescriptor.Aggregate} counterpart.
+     */
+    private Operator visitGeneric(WayangAggregate wayangRelNode, Operator childOp) {
         Operator aggregateOperator;
 
-        List<AggregateCall> aggregateCalls = ((Aggregate) wayangRelNode).getAggCallList();
+        List<AggregateCall> aggregateCalls = wayangRelNode.getAggCallList();
         int groupCount = wayangRelNode.getGroupCount();
         Set<Integer> groupingFields = wayangRelNode.getGroupSet().asSet();
 
@@ -84,10 +165,8 @@ public class WayangAggregateVisitor extends WayangRelNodeVisitor<WayangAggregate
         );
         aggregateOperator.connectTo(0,mapOperator2,0);
         return mapOperator2;
-
     }
 }
-
 class KeyExtractor implements FunctionDescriptor.SerializableFunction<Record, Object> {
     private Set<Integer> indexSet;
 
@@ -191,7 +270,7 @@ class aggregateFunction implements FunctionDescriptor.SerializableBinaryOperator
             String name = aggregateCall.getAggregation().getName();
             double val1 = record.getDouble(i);
             double val2 = record2.getDouble(i);
-            if (name.equals("SUM")) {
+            if (name.equals("SUM") || name.equals("$SUM0")) {
                 resValues[i] = val1 + val2;
             }
             else if (name.equals("MIN")) {
@@ -19,13 +19,17 @@
 
 package org.apache.wayang.api.sql.calcite.converter;
 
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.core.Project;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
 import org.apache.calcite.rex.RexInputRef;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexShuttle;
 import org.apache.calcite.sql.SqlOperator;
 import org.apache.wayang.api.sql.calcite.rel.WayangProject;
+import org.apache.wayang.api.sql.calcite.rel.WayangTableScan;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.MapOperator;
@@ -49,11 +53,29 @@ public class WayangProjectVisitor extends WayangRelNodeVisitor<WayangProject> {
     @Override
     Operator visit(WayangProject wayangRelNode) {
 
-        Operator childOp = wayangRelConverter.convert(wayangRelNode.getInput(0));
-
         /* Quick check */
         List<RexNode> projects = ((Project) wayangRelNode).getProjects();
 
+        final Operator childOp;
+        final RelNode input = wayangRelNode.getInput(0);
+        if (input instanceof WayangTableScan && WayangTableScanVisitor.isProjectable((WayangTableScan) input)) {
+            // Let the source provide only the referenced columns and refer to them by their new positions.
+            final int[] fields = RelOptUtil.InputFinder.bits(projects, null).toArray();
+            final int[] positions = new int[input.getRowType().getFieldCount()];
+            for (int i = 0; i < fields.length; i++) {
+                positions[fields[i]] = i;
+            }
+            childOp = new WayangTableScanVisitor(wayangRelConverter).visit((WayangTableScan) input, fields);
+            projects = new RexShuttle() {
+                @Override
+                public RexNode visitInputRef(RexInputRef inputRef) {
+                    return new RexInputRef(positions[inputRef.getIndex()], inputRef.getType());
+                }
+            }.apply(projects);
+        } else {
+            childOp = wayangRelConverter.convert(input);
+        }
+
         //TODO: create a map with specific dataset type
         MapOperator<Tuple2<Record, Record>, Record> projection = new MapOperator(
                 new MapFunctionImpl(projects),
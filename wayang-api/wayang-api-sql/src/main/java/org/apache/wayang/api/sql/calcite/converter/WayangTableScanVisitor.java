@@ -42,6 +42,26 @@ public class WayangTableScanVisitor extends WayangRelNodeVisitor<WayangTableScan
 
     @Override
     Operator visit(WayangTableScan wayangRelNode) {
+        return this.visit(wayangRelNode, wayangRelNode.getFields());
+    }
+
+    /**
+     * Tells whether the source for the given {@link WayangTableScan} can provide only some of the table columns,
+     * i.e., whether {@link #visit(WayangTableScan, int[])} honors its {@code fields}.
+     */
+    static boolean isProjectable(WayangTableScan wayangRelNode) {
+        return wayangRelNode.getTable().getQualifiedName().get(0).equals("fs");
+    }
+
+    /**
+     * Creates the source for a {@link WayangTableScan} that provides only the given columns if the source is
+     * {@link #isProjectable(WayangTableScan) projectable}.
+     *
+     * @param wayangRelNode the {@link WayangTableScan}
+     * @param fields        indices of the table columns to provide
+     * @return the source
+     */
+    Operator visit(WayangTableScan wayangRelNode, int[] fields) {
 
         String tableName = wayangRelNode.getTableName();
         List<String> columnNames = wayangRelNode.getColumnNames();
@@ -69,10 +89,10 @@ public class WayangTableScanVisitor extends WayangRelNodeVisitor<WayangTableScan
 
             if (Objects.equals(separator, "")) {
                 return new JavaCSVTableSource(url,
-                        DataSetType.createDefault(Record.class), fieldTypes);
+                        DataSetType.createDefault(Record.class), fieldTypes, fields);
             } else {
                 return new JavaCSVTableSource(url,
-                        DataSetType.createDefault(Record.class), fieldTypes, separator.charAt(0));
+                        DataSetType.createDefault(Record.class), fieldTypes, separator.charAt(0), fields);
             }
         } else throw new RuntimeException("Source not supported");
     }
@@ -93,4 +93,11 @@ public class WayangTableScan extends TableScan implements WayangRel {
     public List<String> getColumnNames() {
         return table.getRowType().getFieldNames();
     }
+
+    /**
+     * @return the indices of the table columns that are scanned
+     */
+    public int[] getFields() {
+        return this.fields;
+    }
 }
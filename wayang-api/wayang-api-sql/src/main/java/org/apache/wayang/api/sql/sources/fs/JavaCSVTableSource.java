@@ -17,10 +17,12 @@
 
 package org.apache.wayang.api.sql.sources.fs;
 
+import au.com.bytecode.opencsv.CSVParser;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.commons.io.IOUtils;
 import org.apache.wayang.basic.channels.FileChannel;
 import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -35,32 +37,68 @@ import org.apache.wayang.core.util.fs.FileSystems;
 import org.apache.wayang.core.util.fs.FileUtils;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.TextFileSplit;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+/**
+ * Reads a CSV file with a header row into {@link Record}s.
+ * <p>If only some of the columns are projected, the other ones are neither converted nor, for lines without quotes,
+ * materialized. Unless {@value #PARALLEL_KEY} is disabled, the file is cut into line-aligned {@link TextFileSplit}s
+ * that are parsed concurrently a few splits ahead of the consumer. The output {@link Stream} is sequential and keeps
+ * the line order of the file.</p>
+ */
 public class JavaCSVTableSource<T> extends UnarySource<T> implements JavaExecutionOperator {
 
+    /**
+     * {@link Configuration} key to enable parsing files in parallel splits.
+     */
+    public static final String PARALLEL_KEY = "wayang.java.csvtablesource.parallel";
+
+    /**
+     * {@link Configuration} key for the number of bytes per split when parsing in parallel.
+     */
+    public static final String SPLIT_SIZE_KEY = "wayang.java.csvtablesource.split-size";
 
     private final String sourcePath;
 
     private final List<RelDataType> fieldTypes;
     private char separator = ';';   // Default separator
 
-    // TODO: incorporate fields later for projectable table scans
-    // private final ImmutableIntList fields;
+    /**
+     * Indices of the CSV columns that make up the output {@link Record}s or {@code null} for all columns.
+     */
+    private final int[] projectedFields;
 
     public JavaCSVTableSource(String sourcePath, DataSetType type, List<RelDataType> fieldTypes) {
+        this(sourcePath, type, fieldTypes, null);
+    }
+
+    /**
+     * Constructor with projected columns
+     * @param sourcePath
+     * @param type
+     * @param fieldTypes      the types of all columns in the CSV file
+     * @param projectedFields indices of the columns to output (in that order) or {@code null} for all columns
+     */
+    public JavaCSVTableSource(String sourcePath, DataSetType type, List<RelDataType> fieldTypes, int[] projectedFields) {
         super(type);
         this.sourcePath = sourcePath;
         this.fieldTypes = fieldTypes;
+        this.projectedFields = projectedFields;
     }
 
     /**
@@ -71,9 +109,20 @@ public class JavaCSVTableSource<T> extends UnarySource<T> implements JavaExecuti
      * @param separator
      */
     public JavaCSVTableSource(String sourcePath, DataSetType type, List<RelDataType> fieldTypes, char separator) {
-        super(type);
-        this.sourcePath = sourcePath;
-        this.fieldTypes = fieldTypes;
+        this(sourcePath, type, fieldTypes, separator, null);
+    }
+
+    /**
+     * Constructor with separator and projected columns
+     * @param sourcePath
+     * @param type
+     * @param fieldTypes      the types of all columns in the CSV file
+     * @param separator
+     * @param projectedFields indices of the columns to output (in that order) or {@code null} for all columns
+     */
+    public JavaCSVTableSource(String sourcePath, DataSetType type, List<RelDataType> fieldTypes, char separator,
+                              int[] projectedFields) {
+        this(sourcePath, type, fieldTypes, projectedFields);
         this.separator = separator;
     }
 
@@ -98,40 +147,156 @@ public class JavaCSVTableSource<T> extends UnarySource<T> implements JavaExecuti
             path = this.sourcePath;
         }
         final String actualInputPath = FileSystems.findActualSingleInputPath(path);
-        Stream<T> stream = this.createStream(actualInputPath);
+        Stream<T> stream = this.createStream(actualInputPath, javaExecutor.getConfiguration());
         ((StreamChannel.Instance) outputs[0]).accept(stream);
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
-    private Stream<T> createStream(String actualInputPath) {
-        Function<String, T> parser = this::parseLine;
-        return streamLines(actualInputPath).map(parser);
+    private Stream<T> createStream(String actualInputPath, Configuration configuration) {
+        if (configuration.getBooleanProperty(PARALLEL_KEY, true)) {
+            final List<TextFileSplit> splits;
+            try {
+                splits = TextFileSplit.createSplits(actualInputPath, configuration.getLongProperty(SPLIT_SIZE_KEY, 32L << 20));
+            } catch (IOException e) {
+                throw new WayangException(String.format("Could not split %s.", actualInputPath), e);
+            }
+            if (splits.size() > 1) {
+                return this.parseSplits(splits);
+            }
+        }
+        final LineParser lineParser = new LineParser();
+        return streamLines(actualInputPath).map(lineParser::parse);
     }
 
-    private T parseLine(String s) {
-        Class typeClass = this.getType().getDataUnitType().getTypeClass();
-        assert typeClass == Record.class;
-        try {
-            String[] tokens = CsvRowConverter.parseLine(s, this.separator);
+    /**
+     * Parses the given {@link TextFileSplit}s concurrently, but provides their {@link Record}s in order. To bound the
+     * memory footprint, only a few splits are parsed ahead of the consumer.
+     */
+    private Stream<T> parseSplits(List<TextFileSplit> splits) {
+        final int numParsedAhead = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+        final Deque<CompletableFuture<List<T>>> parsedSplits = new ArrayDeque<>(numParsedAhead);
+        final Iterator<List<T>> iterator = new Iterator<List<T>>() {
+
+            private int nextSplit = 0;
+
+            {
+                this.parseAhead();
+            }
 
-            if (tokens.length != fieldTypes.size()) {
-                throw new IllegalStateException(String.format("Error while parsing CSV file %s at line %s", sourcePath, s));
+            private void parseAhead() {
+                while (parsedSplits.size() < numParsedAhead && this.nextSplit < splits.size()) {
+                    final TextFileSplit split = splits.get(this.nextSplit++);
+                    parsedSplits.add(CompletableFuture.supplyAsync(() -> JavaCSVTableSource.this.parseSplit(split)));
+                }
             }
-            final Object[] objects = new Object[tokens.length];
-            for (int i = 0; i < tokens.length; i++) {
-                objects[i] = CsvRowConverter.convert(fieldTypes.get(i), tokens[i]);
+
+            @Override
+            public boolean hasNext() {
+                return !parsedSplits.isEmpty();
             }
-            return (T) new Record(objects);
-        } catch (IOException e) {
-            System.out.println(e.getMessage());
+
+            @Override
+            public List<T> next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                final List<T> records;
+                try {
+                    records = parsedSplits.poll().join();
+                } catch (CompletionException e) {
+                    throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+                this.parseAhead();
+                return records;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(() -> parsedSplits.forEach(parsedSplit -> parsedSplit.cancel(false)));
+    }
+
+    private List<T> parseSplit(TextFileSplit split) {
+        final LineParser lineParser = new LineParser();
+        try (Stream<String> lines = split.lines(StandardCharsets.UTF_8, true)) {
+            return lines.map(lineParser::parse).collect(Collectors.toList());
+        } catch (IOException | URISyntaxException e) {
+            throw new WayangException(String.format("Reading %s failed.", split), e);
         }
-        throw new IllegalStateException(String.format("Error while parsing CSV file %s at line %s", sourcePath, s));
     }
 
+    /**
+     * Parses lines of the CSV file into {@link Record}s with the {@link #projectedFields}. Not thread-safe.
+     */
+    private class LineParser {
+
+        private final CSVParser csvParser = new CSVParser(JavaCSVTableSource.this.separator);
 
+        /**
+         * Maps each CSV column to its position in the output {@link Record}s or {@code -1} if it is not projected.
+         */
+        private final int[] outputPositions = new int[JavaCSVTableSource.this.fieldTypes.size()];
 
+        private final int numOutputFields;
 
+        private LineParser() {
+            final int[] projectedFields = JavaCSVTableSource.this.projectedFields;
+            if (projectedFields == null) {
+                for (int i = 0; i < this.outputPositions.length; i++) {
+                    this.outputPositions[i] = i;
+                }
+                this.numOutputFields = this.outputPositions.length;
+            } else {
+                Arrays.fill(this.outputPositions, -1);
+                for (int i = 0; i < projectedFields.length; i++) {
+                    this.outputPositions[projectedFields[i]] = i;
+                }
+                this.numOutputFields = projectedFields.length;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private T parse(String line) {
+            Class typeClass = JavaCSVTableSource.this.getType().getDataUnitType().getTypeClass();
+            assert typeClass == Record.class;
+            final List<RelDataType> fieldTypes = JavaCSVTableSource.this.fieldTypes;
+            final Object[] objects = new Object[this.numOutputFields];
+            int numFields = 0;
+            if (line.indexOf('"') < 0 && line.indexOf('\\') < 0) {
+                // Without quotes and escapes, the fields are delimited by the separators only, so that we can skip
+                // the fields that are not projected without materializing them.
+                int start = 0;
+                while (true) {
+                    int end = line.indexOf(JavaCSVTableSource.this.separator, start);
+                    if (end < 0) end = line.length();
+                    if (numFields < this.outputPositions.length && this.outputPositions[numFields] >= 0) {
+                        objects[this.outputPositions[numFields]] =
+                                CsvRowConverter.convert(fieldTypes.get(numFields), line.substring(start, end));
+                    }
+                    numFields++;
+                    if (end == line.length()) break;
+                    start = end + 1;
+                }
+            } else {
+                final String[] tokens;
+                try {
+                    tokens = this.csvParser.parseLine(line);
+                } catch (IOException e) {
+                    throw new IllegalStateException(
+                            String.format("Error while parsing CSV file %s at line %s", sourcePath, line), e
+                    );
+                }
+                numFields = tokens.length;
+                for (int i = 0; i < Math.min(tokens.length, this.outputPositions.length); i++) {
+                    if (this.outputPositions[i] >= 0) {
+                        objects[this.outputPositions[i]] = CsvRowConverter.convert(fieldTypes.get(i), tokens[i]);
+                    }
+                }
+            }
+            if (numFields != fieldTypes.size()) {
+                throw new IllegalStateException(String.format("Error while parsing CSV file %s at line %s", sourcePath, line));
+            }
+            return (T) new Record(objects);
+        }
+    }
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
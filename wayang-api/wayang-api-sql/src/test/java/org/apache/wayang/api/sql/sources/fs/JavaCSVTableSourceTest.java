@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.api.sql.sources.fs;
+
+import org.apache.calcite.jdbc.JavaTypeFactoryImpl;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.sql.type.SqlTypeName;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.Java;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link JavaCSVTableSource}.
+ */
+public class JavaCSVTableSourceTest {
+
+    private static final RelDataTypeFactory typeFactory = new JavaTypeFactoryImpl();
+
+    private static final List<RelDataType> fieldTypes = Arrays.asList(
+            typeFactory.createSqlType(SqlTypeName.INTEGER),
+            typeFactory.createSqlType(SqlTypeName.VARCHAR),
+            typeFactory.createSqlType(SqlTypeName.DOUBLE)
+    );
+
+    @Test
+    public void testSplitsNeitherDropNorDuplicateLines() throws IOException {
+        final List<Record> expectedRecords = new ArrayList<>();
+        final File file = writeCsvFile(500, expectedRecords);
+        try {
+            for (long splitSize : new long[]{1, 7, 16, 64, 1000, 1L << 20}) {
+                Assert.assertEquals("Split size " + splitSize,
+                        expectedRecords, this.readCsvFile(file, null, true, splitSize));
+            }
+            Assert.assertEquals(expectedRecords, this.readCsvFile(file, null, false, 0));
+        } finally {
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    public void testProjection() throws IOException {
+        final List<Record> records = new ArrayList<>();
+        final File file = writeCsvFile(100, records);
+        final List<Record> expectedRecords = new ArrayList<>();
+        for (Record record : records) {
+            expectedRecords.add(new Record(record.getField(2), record.getField(0)));
+        }
+        try {
+            final int[] projection = {2, 0};
+            Assert.assertEquals(expectedRecords, this.readCsvFile(file, projection, true, 64));
+            Assert.assertEquals(expectedRecords, this.readCsvFile(file, projection, false, 0));
+        } finally {
+            Assert.assertTrue(file.delete());
+        }
+    }
+
+    /**
+     * Writes a CSV file with a header and the given number of rows. Every third row quotes its text field, which
+     * contains the separator then.
+     */
+    private static File writeCsvFile(int numRows, List<Record> records) throws IOException {
+        final StringBuilder sb = new StringBuilder("id;name;score\n");
+        for (int i = 0; i < numRows; i++) {
+            final String name = i % 3 == 0 ? "name;" + i : "name" + i;
+            final double score = i / 4d;
+            sb.append(i).append(';')
+                    .append(i % 3 == 0 ? "\"" + name + "\"" : name).append(';')
+                    .append(score).append('\n');
+            records.add(new Record(i, name, score));
+        }
+        final File file = File.createTempFile("wayang-csv", ".csv");
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private List<Record> readCsvFile(File file, int[] projection, boolean isParallel, long splitSize) {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(JavaCSVTableSource.PARALLEL_KEY, String.valueOf(isParallel));
+        configuration.setProperty(JavaCSVTableSource.SPLIT_SIZE_KEY, String.valueOf(splitSize));
+
+        final JavaCSVTableSource<Record> source = new JavaCSVTableSource<>(
+                file.toURI().toString(), DataSetType.createDefault(Record.class), fieldTypes, ';', projection
+        );
+        final List<Record> collector = new ArrayList<>();
+        final LocalCallbackSink<Record> sink = LocalCallbackSink.createCollectingSink(
+                collector, DataSetType.createDefault(Record.class)
+        );
+        source.connectTo(0, sink, 0);
+        new WayangContext(configuration).with(Java.basicPlugin()).execute(new WayangPlan(sink));
+        return collector;
+    }
+
+}
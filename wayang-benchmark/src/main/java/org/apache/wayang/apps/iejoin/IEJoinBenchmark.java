@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.apps.iejoin;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.data.Tuple5;
+import org.apache.wayang.iejoin.data.Data;
+import org.apache.wayang.iejoin.operators.IEJoinMasterOperator;
+import org.apache.wayang.iejoin.operators.JavaIEJoinOperator;
+import org.apache.wayang.iejoin.operators.java_helpers.ArrayIEJoin;
+import org.apache.wayang.iejoin.operators.java_helpers.BitSetJoin;
+import org.apache.wayang.iejoin.operators.java_helpers.DataComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares the list-based {@link BitSetJoin}, which the {@link JavaIEJoinOperator} used to run on, with the
+ * {@link ArrayIEJoin} in sequential and parallel mode. Both inputs consist of random intervals, and the benchmark
+ * finds all pairs of intervals where the first one strictly contains the second one.
+ * <p>Usage: {@code IEJoinBenchmark <size>[,<size>...] <repetitions>}, e.g., {@code IEJoinBenchmark 10000,100000 5}.
+ * The reported times are the minimum over the repetitions and exclude the generation of the inputs.</p>
+ */
+public class IEJoinBenchmark {
+
+    private static final IEJoinMasterOperator.JoinCondition COND0 = IEJoinMasterOperator.JoinCondition.LessThan;
+
+    private static final IEJoinMasterOperator.JoinCondition COND1 = IEJoinMasterOperator.JoinCondition.GreaterThan;
+
+    /**
+     * Creates random intervals of length {@code < 1000}.
+     *
+     * @param size the number of intervals
+     * @param seed the seed for the intervals
+     * @return the intervals as {@code (start, end)} tuples
+     */
+    public static List<Tuple2<Integer, Integer>> createIntervals(int size, long seed) {
+        final Random random = new Random(seed);
+        final int domain = Math.max(1000, 100 * size);
+        final List<Tuple2<Integer, Integer>> intervals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final int start = random.nextInt(domain);
+            intervals.add(new Tuple2<>(start, start + random.nextInt(1000)));
+        }
+        return intervals;
+    }
+
+    /**
+     * Joins the intervals with the {@link BitSetJoin}, just like the {@link JavaIEJoinOperator} used to do.
+     *
+     * @return the number of join pairs
+     */
+    public static int joinWithBitSetJoin(List<Tuple2<Integer, Integer>> input0, List<Tuple2<Integer, Integer>> input1) {
+        final Tuple5<Boolean, Boolean, Boolean, Boolean, Boolean> sortOrders = IEJoinMasterOperator.getSortOrders(COND0, COND1);
+        final boolean list1ASC = sortOrders.field0, list1ASCSec = sortOrders.field1,
+                list2ASC = sortOrders.field2, list2ASCSec = sortOrders.field3, equalReverse = sortOrders.field4;
+
+        ArrayList<scala.Tuple2<Data<Integer, Integer>, Tuple2<Integer, Integer>>> list0 = new ArrayList<>();
+        ArrayList<scala.Tuple2<Data<Integer, Integer>, Tuple2<Integer, Integer>>> list1 = new ArrayList<>();
+        for (Tuple2<Integer, Integer> interval : input0) {
+            list0.add(new scala.Tuple2<>(new Data<>(0, interval.field0, interval.field1), interval));
+        }
+        for (Tuple2<Integer, Integer> interval : input1) {
+            list1.add(new scala.Tuple2<>(new Data<>(0, interval.field0, interval.field1), interval));
+        }
+        Collections.sort(list0, new DataComparator<>(list1ASC, list1ASCSec));
+        Collections.sort(list1, new DataComparator<>(list2ASC, list2ASCSec));
+        for (int i = 0; i < list0.size(); i++) {
+            list0.get(i)._1().setRowID(i);
+        }
+        for (int i = 0; i < list1.size(); i++) {
+            list1.get(i)._1().setRowID(i + list0.size() + 1);
+        }
+
+        return new BitSetJoin<Integer, Integer, Tuple2<Integer, Integer>>(
+                list1ASC, list2ASC, list1ASCSec, list2ASCSec, equalReverse, false, COND0
+        ).call(list0, list1).size();
+    }
+
+    /**
+     * Joins the intervals with the {@link ArrayIEJoin}.
+     *
+     * @return the number of join pairs
+     */
+    @SuppressWarnings("unchecked")
+    public static int joinWithArrayIEJoin(List<Tuple2<Integer, Integer>> input0, List<Tuple2<Integer, Integer>> input1,
+                                          boolean isParallel) {
+        final Tuple2<Integer, Integer>[] intervals0 = input0.toArray(new Tuple2[0]);
+        final Tuple2<Integer, Integer>[] intervals1 = input1.toArray(new Tuple2[0]);
+        final Integer[] starts0 = new Integer[intervals0.length], ends0 = new Integer[intervals0.length];
+        for (int i = 0; i < intervals0.length; i++) {
+            starts0[i] = intervals0[i].field0;
+            ends0[i] = intervals0[i].field1;
+        }
+        final Integer[] starts1 = new Integer[intervals1.length], ends1 = new Integer[intervals1.length];
+        for (int i = 0; i < intervals1.length; i++) {
+            starts1[i] = intervals1[i].field0;
+            ends1[i] = intervals1[i].field1;
+        }
+
+        return new ArrayIEJoin<Integer, Integer, Tuple2<Integer, Integer>>(COND0, COND1, isParallel)
+                .join(intervals0, starts0, ends0, intervals1, starts1, ends1)
+                .size();
+    }
+
+    public static void main(String... args) {
+        if (args.length < 2) {
+            System.err.printf("Usage: java %s <size>[,<size>...] <repetitions>\n", IEJoinBenchmark.class.getName());
+            System.exit(1);
+        }
+        List<Integer> sizes = new ArrayList<>();
+        for (String size : args[0].split(",")) {
+            sizes.add(Integer.parseInt(size));
+        }
+        int repetitions = Integer.parseInt(args[1]);
+
+        // Warm up the JVM.
+        final List<Tuple2<Integer, Integer>> warmUpInput = createIntervals(sizes.get(0), 0);
+        joinWithBitSetJoin(warmUpInput, warmUpInput);
+        joinWithArrayIEJoin(warmUpInput, warmUpInput, false);
+        joinWithArrayIEJoin(warmUpInput, warmUpInput, true);
+
+        System.out.println("size,pairs,bitsetjoin_ms,array_sequential_ms,array_parallel_ms");
+        for (int size : sizes) {
+            final List<Tuple2<Integer, Integer>> input0 = createIntervals(size, 1);
+            final List<Tuple2<Integer, Integer>> input1 = createIntervals(size, 2);
+            long bitSetJoinTime = Long.MAX_VALUE, sequentialTime = Long.MAX_VALUE, parallelTime = Long.MAX_VALUE;
+            int numPairs = 0;
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                long startTime = System.currentTimeMillis();
+                joinWithBitSetJoin(input0, input1);
+                bitSetJoinTime = Math.min(bitSetJoinTime, System.currentTimeMillis() - startTime);
+
+                startTime = System.currentTimeMillis();
+                numPairs = joinWithArrayIEJoin(input0, input1, false);
+                sequentialTime = Math.min(sequentialTime, System.currentTimeMillis() - startTime);
+
+                startTime = System.currentTimeMillis();
+                joinWithArrayIEJoin(input0, input1, true);
+                parallelTime = Math.min(parallelTime, System.currentTimeMillis() - startTime);
+            }
+            System.out.printf("%d,%d,%d,%d,%d\n", size, numPairs, bitSetJoinTime, sequentialTime, parallelTime);
+        }
+    }
+
+}
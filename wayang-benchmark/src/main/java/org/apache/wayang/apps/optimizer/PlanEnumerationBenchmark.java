@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.apps.optimizer;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.CollectionSource;
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.optimizer.enumeration.PlanEnumerator;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.flink.Flink;
+import org.apache.wayang.java.Java;
+import org.apache.wayang.spark.Spark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Measures the time that the optimizer needs to build an execution plan for synthetic {@link WayangPlan}s of growing
+ * width, once with the sequential and once with the parallel {@link PlanEnumerator}. The plans are not executed.
+ * <p>Usage: {@code PlanEnumerationBenchmark <width>[,<width>...] <repetitions> [<threads>]}, e.g.,
+ * {@code PlanEnumerationBenchmark 2,4,8,12 5}. A plan of width {@code w} has {@code w} branches of a source, a map,
+ * and a filter, which are joined one after another and finally reduced, i.e., it comprises {@code 5w} operators
+ * that are enumerated for the Java, Spark, and Flink platforms.</p>
+ */
+public class PlanEnumerationBenchmark {
+
+    /**
+     * Creates a synthetic {@link WayangPlan}.
+     *
+     * @param width the number of branches in the plan
+     * @return the {@link WayangPlan}
+     */
+    public static WayangPlan createWayangPlan(int width) {
+        final List<Integer> data = Arrays.asList(1, 2, 3, 4, 5);
+        Operator joined = null;
+        for (int branch = 0; branch < width; branch++) {
+            CollectionSource<Integer> source = new CollectionSource<>(data, Integer.class);
+            source.setName("Source " + branch);
+            MapOperator<Integer, Integer> map = new MapOperator<>(i -> i + 1, Integer.class, Integer.class);
+            map.setName("Map " + branch);
+            FilterOperator<Integer> filter = new FilterOperator<>(i -> i > 0, Integer.class);
+            filter.setName("Filter " + branch);
+            source.connectTo(0, map, 0);
+            map.connectTo(0, filter, 0);
+
+            if (joined == null) {
+                joined = filter;
+            } else {
+                JoinOperator<Integer, Integer, Integer> join = new JoinOperator<>(i -> i, i -> i, Integer.class, Integer.class, Integer.class);
+                join.setName("Join " + branch);
+                MapOperator<Tuple2<Integer, Integer>, Integer> unwrap = new MapOperator<>(
+                        t -> t.field0,
+                        ReflectionUtils.specify(Tuple2.class),
+                        Integer.class
+                );
+                unwrap.setName("Unwrap " + branch);
+                joined.connectTo(0, join, 0);
+                filter.connectTo(0, join, 1);
+                join.connectTo(0, unwrap, 0);
+                joined = unwrap;
+            }
+        }
+
+        ReduceByOperator<Integer, Integer> reduce = new ReduceByOperator<>(
+                (FunctionDescriptor.SerializableFunction<Integer, Integer>) i -> i,
+                (FunctionDescriptor.SerializableBinaryOperator<Integer>) Integer::sum,
+                Integer.class,
+                Integer.class
+        );
+        reduce.setName("Reduce");
+        LocalCallbackSink<Integer> sink = LocalCallbackSink.createCollectingSink(new LinkedList<>(), DataSetType.createDefault(Integer.class));
+        sink.setName("Sink");
+        joined.connectTo(0, reduce, 0);
+        reduce.connectTo(0, sink, 0);
+        return new WayangPlan(sink);
+    }
+
+    /**
+     * Measures the time to build the initial execution plan for a {@link WayangPlan} of the given width.
+     *
+     * @param width      the width of the {@link WayangPlan}
+     * @param isParallel whether to enumerate in parallel
+     * @param threads    the parallelism of the enumeration
+     * @return the elapsed time in milliseconds
+     */
+    public static long measure(int width, boolean isParallel, int threads) {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(PlanEnumerator.PARALLEL_KEY, String.valueOf(isParallel));
+        configuration.setProperty(PlanEnumerator.PARALLELISM_KEY, String.valueOf(threads));
+        WayangContext wayangContext = new WayangContext(configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin())
+                .with(Flink.basicPlugin());
+        WayangPlan wayangPlan = createWayangPlan(width);
+
+        long startTime = System.currentTimeMillis();
+        wayangContext.buildInitialExecutionPlan("Plan enumeration benchmark (width " + width + ")", wayangPlan);
+        return System.currentTimeMillis() - startTime;
+    }
+
+    public static void main(String... args) {
+        if (args.length < 2) {
+            System.err.printf("Usage: java %s <width>[,<width>...] <repetitions> [<threads>]\n", PlanEnumerationBenchmark.class.getName());
+            System.exit(1);
+        }
+        List<Integer> widths = new ArrayList<>();
+        for (String width : args[0].split(",")) {
+            widths.add(Integer.parseInt(width));
+        }
+        int repetitions = Integer.parseInt(args[1]);
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+
+        // Warm up the JVM and the optimizer.
+        measure(widths.get(0), false, threads);
+        measure(widths.get(0), true, threads);
+
+        System.out.println("width,operators,sequential_ms,parallel_ms");
+        for (int width : widths) {
+            long sequentialTime = Long.MAX_VALUE, parallelTime = Long.MAX_VALUE;
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                sequentialTime = Math.min(sequentialTime, measure(width, false, threads));
+                parallelTime = Math.min(parallelTime, measure(width, true, threads));
+            }
+            System.out.printf("%d,%d,%d,%d\n", width, 5 * width, sequentialTime, parallelTime);
+        }
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.channels.serialization;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Compact {@link ObjectFileSerializer} for {@link Record}s, {@link Tuple2}s, and primitives. If all data quanta of a
+ * chunk are {@link Record}s with the same field types, the schema is written only once per chunk. Any other type is
+ * embedded via Java serialization: all such values of a chunk are written through a single
+ * {@link ObjectOutputStream} ahead of the other values, so that class descriptors are written only once per chunk.
+ */
+public class BinaryObjectFileSerializer implements ObjectFileSerializer {
+
+    public static final byte ID = 1;
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Layouts of chunks.
+     */
+    private static final byte TAGGED_LAYOUT = 0, RECORD_LAYOUT = 1;
+
+    /**
+     * Type tags of values.
+     */
+    private static final byte NULL = 0, BOOLEAN = 1, BYTE = 2, SHORT = 3, CHAR = 4, INT = 5, LONG = 6, FLOAT = 7,
+            DOUBLE = 8, STRING = 9, BYTES = 10, TUPLE2 = 11, RECORD = 12, JAVA_OBJECT = 13;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public void writeChunk(Object[] chunk, int size, DataOutputStream out) throws IOException {
+        writeVarInt(size, out);
+        final byte[] schema = this.inferRecordSchema(chunk, size);
+        if (schema == null) {
+            // Buffer the values, so that the Java-serialized values they contain can be written ahead of them.
+            final List<Object> javaObjects = new ArrayList<>();
+            final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            final DataOutputStream values = new DataOutputStream(bos);
+            for (int i = 0; i < size; i++) {
+                this.writeTagged(chunk[i], values, javaObjects);
+            }
+            values.flush();
+            writeJavaObjects(javaObjects, out);
+            out.writeByte(TAGGED_LAYOUT);
+            bos.writeTo(out);
+        } else {
+            // Record schemas contain only primitive types, hence there are no Java-serialized values.
+            writeVarInt(0, out);
+            out.writeByte(RECORD_LAYOUT);
+            writeVarInt(schema.length, out);
+            out.write(schema);
+            for (int i = 0; i < size; i++) {
+                final Record record = (Record) chunk[i];
+                for (int field = 0; field < schema.length; field++) {
+                    this.writeValue(schema[field], record.getField(field), out, null);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object[] readChunk(DataInputStream in) throws IOException {
+        final Object[] chunk = new Object[readVarInt(in)];
+        final Iterator<Object> javaObjects = readJavaObjects(in).iterator();
+        final byte layout = in.readByte();
+        switch (layout) {
+            case TAGGED_LAYOUT:
+                for (int i = 0; i < chunk.length; i++) {
+                    chunk[i] = this.readTagged(in, javaObjects);
+                }
+                break;
+            case RECORD_LAYOUT:
+                final byte[] schema = new byte[readVarInt(in)];
+                in.readFully(schema);
+                for (int i = 0; i < chunk.length; i++) {
+                    final Object[] values = new Object[schema.length];
+                    for (int field = 0; field < schema.length; field++) {
+                        values[field] = this.readValue(schema[field], in, javaObjects);
+                    }
+                    chunk[i] = new Record(values);
+                }
+                break;
+            default:
+                throw new IOException(String.format("Unknown chunk layout %d.", layout));
+        }
+        return chunk;
+    }
+
+    /**
+     * Writes the values of a chunk that require Java serialization through a single {@link ObjectOutputStream}.
+     */
+    private static void writeJavaObjects(List<Object> javaObjects, DataOutputStream out) throws IOException {
+        writeVarInt(javaObjects.size(), out);
+        if (javaObjects.isEmpty()) return;
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            for (Object javaObject : javaObjects) {
+                oos.writeObject(javaObject);
+            }
+        }
+        writeBytes(bos.toByteArray(), out);
+    }
+
+    /**
+     * Reads the values written by {@link #writeJavaObjects(List, DataOutputStream)}.
+     */
+    private static List<Object> readJavaObjects(DataInputStream in) throws IOException {
+        final int numJavaObjects = readVarInt(in);
+        final List<Object> javaObjects = new ArrayList<>(numJavaObjects);
+        if (numJavaObjects == 0) return javaObjects;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(readBytes(in)))) {
+            for (int i = 0; i < numJavaObjects; i++) {
+                javaObjects.add(ois.readObject());
+            }
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not deserialize value.", e);
+        }
+        return javaObjects;
+    }
+
+    /**
+     * Determine the common field types of the given data quanta if they are {@link Record}s.
+     *
+     * @return the type tags of the fields or {@code null} if there are none
+     */
+    private byte[] inferRecordSchema(Object[] chunk, int size) {
+        if (size < 2 || chunk[0] == null || chunk[0].getClass() != Record.class) return null;
+        final byte[] schema = new byte[((Record) chunk[0]).size()];
+        for (int i = 0; i < size; i++) {
+            if (chunk[i] == null || chunk[i].getClass() != Record.class) return null;
+            final Record record = (Record) chunk[i];
+            if (record.size() != schema.length) return null;
+            for (int field = 0; field < schema.length; field++) {
+                final byte tag = getPrimitiveTag(record.getField(field));
+                if (tag == NULL || (i > 0 && tag != schema[field])) return null;
+                schema[field] = tag;
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Find the type tag for a primitive value.
+     *
+     * @return the type tag or {@link #NULL} if the value is not primitive
+     */
+    private static byte getPrimitiveTag(Object value) {
+        if (value == null) return NULL;
+        final Class<?> cls = value.getClass();
+        if (cls == Integer.class) return INT;
+        if (cls == Long.class) return LONG;
+        if (cls == Double.class) return DOUBLE;
+        if (cls == String.class) return STRING;
+        if (cls == Float.class) return FLOAT;
+        if (cls == Boolean.class) return BOOLEAN;
+        if (cls == Short.class) return SHORT;
+        if (cls == Byte.class) return BYTE;
+        if (cls == Character.class) return CHAR;
+        return NULL;
+    }
+
+    private void writeTagged(Object value, DataOutputStream out, List<Object> javaObjects) throws IOException {
+        byte tag = getPrimitiveTag(value);
+        if (tag == NULL && value != null) {
+            final Class<?> cls = value.getClass();
+            if (cls == Tuple2.class) tag = TUPLE2;
+            else if (cls == Record.class) tag = RECORD;
+            else if (cls == byte[].class) tag = BYTES;
+            else tag = JAVA_OBJECT;
+        }
+        out.writeByte(tag);
+        this.writeValue(tag, value, out, javaObjects);
+    }
+
+    /**
+     * Writes a value without its type tag. Values tagged with {@link #JAVA_OBJECT} are only collected in
+     * {@code javaObjects}.
+     */
+    private void writeValue(byte tag, Object value, DataOutputStream out, List<Object> javaObjects) throws IOException {
+        switch (tag) {
+            case NULL:
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case SHORT:
+                out.writeShort((Short) value);
+                break;
+            case CHAR:
+                out.writeChar((Character) value);
+                break;
+            case INT:
+                writeVarLong(zigZag((Integer) value), out);
+                break;
+            case LONG:
+                writeVarLong(zigZag((Long) value), out);
+                break;
+            case FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case STRING:
+                writeBytes(((String) value).getBytes(StandardCharsets.UTF_8), out);
+                break;
+            case BYTES:
+                writeBytes((byte[]) value, out);
+                break;
+            case TUPLE2:
+                final Tuple2<?, ?> tuple = (Tuple2<?, ?>) value;
+                this.writeTagged(tuple.field0, out, javaObjects);
+                this.writeTagged(tuple.field1, out, javaObjects);
+                break;
+            case RECORD:
+                final Record record = (Record) value;
+                writeVarInt(record.size(), out);
+                for (int field = 0; field < record.size(); field++) {
+                    this.writeTagged(record.getField(field), out, javaObjects);
+                }
+                break;
+            case JAVA_OBJECT:
+                javaObjects.add(value);
+                break;
+            default:
+                throw new IOException(String.format("Unknown type tag %d.", tag));
+        }
+    }
+
+    private Object readTagged(DataInputStream in, Iterator<Object> javaObjects) throws IOException {
+        return this.readValue(in.readByte(), in, javaObjects);
+    }
+
+    private Object readValue(byte tag, DataInputStream in, Iterator<Object> javaObjects) throws IOException {
+        switch (tag) {
+            case NULL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case BYTE:
+                return in.readByte();
+            case SHORT:
+                return in.readShort();
+            case CHAR:
+                return in.readChar();
+            case INT:
+                return (int) unZigZag(readVarLong(in));
+            case LONG:
+                return unZigZag(readVarLong(in));
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                return readBytes(in);
+            case TUPLE2:
+                final Object field0 = this.readTagged(in, javaObjects);
+                return new Tuple2<>(field0, this.readTagged(in, javaObjects));
+            case RECORD:
+                final Object[] values = new Object[readVarInt(in)];
+                for (int field = 0; field < values.length; field++) {
+                    values[field] = this.readTagged(in, javaObjects);
+                }
+                return new Record(values);
+            case JAVA_OBJECT:
+                if (!javaObjects.hasNext()) throw new IOException("Missing Java-serialized value.");
+                return javaObjects.next();
+            default:
+                throw new IOException(String.format("Unknown type tag %d.", tag));
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(int value, DataOutputStream out) throws IOException {
+        writeVarLong(value & 0xFFFFFFFFL, out);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(long value, DataOutputStream out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Malformed variable-length number.");
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutputStream out) throws IOException {
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+}
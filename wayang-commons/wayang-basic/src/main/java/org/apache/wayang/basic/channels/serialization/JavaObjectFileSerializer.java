@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.channels.serialization;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link ObjectFileSerializer} that relies on Java serialization. Its chunks are consistent with Spark's object files.
+ */
+public class JavaObjectFileSerializer implements ObjectFileSerializer {
+
+    public static final byte ID = 0;
+
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public byte getId() {
+        return ID;
+    }
+
+    @Override
+    public void writeChunk(Object[] chunk, int size, DataOutputStream out) throws IOException {
+        final ObjectOutputStream oos = new ObjectOutputStream(out);
+        oos.writeObject(chunk.length == size ? chunk : Arrays.copyOfRange(chunk, 0, size));
+        oos.flush();
+    }
+
+    @Override
+    public Object[] readChunk(DataInputStream in) throws IOException {
+        final Object chunk;
+        try {
+            chunk = new ObjectInputStream(in).readObject();
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Could not deserialize chunk.", e);
+        }
+        // Besides Spark's arrays, older writers also produced collections and single objects.
+        if (chunk instanceof Object[]) {
+            return (Object[]) chunk;
+        } else if (chunk instanceof Collection) {
+            return ((Collection<?>) chunk).toArray();
+        }
+        return new Object[]{chunk};
+    }
+
+}
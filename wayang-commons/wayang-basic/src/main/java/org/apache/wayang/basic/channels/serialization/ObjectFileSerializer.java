@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.channels.serialization;
+
+import org.apache.wayang.basic.channels.FileChannel;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+
+/**
+ * Encodes chunks of data quanta in {@link FileChannel#HDFS_OBJECT_FILE_DESCRIPTOR} files, i.e., Hadoop sequence files
+ * with {@code NullWritable} keys and {@code BytesWritable} values. Instances must be stateless and {@link Serializable},
+ * because they are shipped to Spark and Flink workers.
+ *
+ * @see ObjectFileSerializers
+ */
+public interface ObjectFileSerializer extends Serializable {
+
+    /**
+     * Identifies the chunks encoded by this instance, so that readers can pick the right instance. The identifiers
+     * {@code 0} and {@code 1} are reserved for the {@link JavaObjectFileSerializer} and the
+     * {@link BinaryObjectFileSerializer}, respectively.
+     *
+     * @return the identifier
+     */
+    byte getId();
+
+    /**
+     * Encode a chunk of data quanta.
+     *
+     * @param chunk contains the data quanta
+     * @param size  the number of valid data quanta in the {@code chunk}
+     * @param out   to which the encoded chunk should be written
+     */
+    void writeChunk(Object[] chunk, int size, DataOutputStream out) throws IOException;
+
+    /**
+     * Decode a chunk of data quanta as written by {@link #writeChunk(Object[], int, DataOutputStream)}.
+     *
+     * @param in from which the encoded chunk can be read
+     * @return the data quanta
+     */
+    Object[] readChunk(DataInputStream in) throws IOException;
+
+}
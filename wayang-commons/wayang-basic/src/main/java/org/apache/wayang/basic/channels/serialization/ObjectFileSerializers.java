@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.channels.serialization;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.util.ReflectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Utilities to read and write chunks of object files with {@link ObjectFileSerializer}s.
+ * <p>Chunks of the {@link JavaObjectFileSerializer} are plain Java serialization streams, as in Spark's object files.
+ * All other chunks start with the {@link #MAGIC} byte followed by the {@link ObjectFileSerializer#getId()} of their
+ * writer. Hence, readers recognize the encoding of any chunk regardless of the configured
+ * {@link ObjectFileSerializer}.</p>
+ */
+public class ObjectFileSerializers {
+
+    /**
+     * Configuration key for the {@link ObjectFileSerializer} to write object files with. Supported values are
+     * {@code java} (the default), {@code binary}, or the name of an {@link ObjectFileSerializer} class with a default
+     * constructor. Object files of the {@code binary} encoding cannot be read by other tools, such as Spark's
+     * {@code objectFile}.
+     */
+    public static final String SERIALIZER_KEY = "wayang.basic.objectfile.serializer";
+
+    /**
+     * Marks chunks not written by the {@link JavaObjectFileSerializer}. Must not clash with the first byte of Java
+     * serialization streams ({@code 0xAC}).
+     */
+    public static final byte MAGIC = 0x57;
+
+    private static final ObjectFileSerializer JAVA = new JavaObjectFileSerializer();
+
+    private static final ObjectFileSerializer BINARY = new BinaryObjectFileSerializer();
+
+    private ObjectFileSerializers() {
+    }
+
+    /**
+     * Provide the {@link ObjectFileSerializer} specified in the given {@link Configuration}.
+     *
+     * @param configuration provides the {@link #SERIALIZER_KEY}
+     * @return the {@link ObjectFileSerializer}
+     */
+    public static ObjectFileSerializer create(Configuration configuration) {
+        final String name = configuration.getStringProperty(SERIALIZER_KEY, "java");
+        switch (name) {
+            case "binary":
+                return BINARY;
+            case "java":
+                return JAVA;
+            default:
+                return ReflectionUtils.instantiateDefault(name);
+        }
+    }
+
+    /**
+     * Encode a chunk of data quanta.
+     *
+     * @param serializer encodes the chunk
+     * @param chunk      contains the data quanta
+     * @param size       the number of valid data quanta in the {@code chunk}
+     * @return the encoded chunk
+     */
+    public static byte[] serialize(ObjectFileSerializer serializer, Object[] chunk, int size) throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bos);
+        if (serializer.getId() != JavaObjectFileSerializer.ID) {
+            out.writeByte(MAGIC);
+            out.writeByte(serializer.getId());
+        }
+        serializer.writeChunk(chunk, size, out);
+        out.flush();
+        return bos.toByteArray();
+    }
+
+    /**
+     * Decode a chunk of data quanta.
+     *
+     * @param serializer the configured {@link ObjectFileSerializer}; used if the chunk is not encoded by one of the
+     *                   built-in {@link ObjectFileSerializer}s
+     * @param bytes      contain the encoded chunk
+     * @param length     of the encoded chunk in the {@code bytes}
+     * @return the data quanta
+     */
+    public static Object[] deserialize(ObjectFileSerializer serializer, byte[] bytes, int length) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, length));
+        if (length < 2 || bytes[0] != MAGIC) {
+            return JAVA.readChunk(in);
+        }
+        in.readByte();
+        final byte id = in.readByte();
+        if (id == BINARY.getId()) {
+            return BINARY.readChunk(in);
+        } else if (id == serializer.getId()) {
+            return serializer.readChunk(in);
+        }
+        throw new IOException(String.format("No object file serializer for ID %d available.", id));
+    }
+
+}
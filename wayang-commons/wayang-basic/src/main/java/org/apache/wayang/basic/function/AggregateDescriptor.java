@@ -0,0 +1,460 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.function;
+
+import org.apache.wayang.basic.data.Record;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This descriptor pertains to SQL-style aggregations over {@link Record}s: the {@link Record}s are grouped by some
+ * fields and for each group, a number of {@link Aggregate}s is computed. The output {@link Record}s consist of the
+ * grouping fields followed by the aggregates.
+ * <p>Numeric aggregates are computed on primitive {@code long}s and {@code double}s in an {@link Accumulator}, so
+ * that no intermediate {@link Record}s or boxed values need to be created per input {@link Record}; only
+ * {@link ValueType#DECIMAL} sums are kept as exact {@link BigDecimal}s. As is common in SQL, {@code null} values are
+ * ignored by all aggregates but {@code COUNT(*)}.</p>
+ */
+public class AggregateDescriptor implements Serializable {
+
+    /**
+     * Supported aggregate functions. {@link #SUM0} is a {@link #SUM} that yields {@code 0} rather than {@code null}
+     * for groups without non-{@code null} values.
+     */
+    public enum Function {
+        COUNT, SUM, SUM0, MIN, MAX, AVG
+    }
+
+    /**
+     * Value types on which an {@link Aggregate} is computed. {@link #OBJECT} is only supported for {@link Function#MIN}
+     * and {@link Function#MAX} on {@link Comparable} values. {@link #DECIMAL} aggregates {@link BigDecimal}s exactly.
+     */
+    public enum ValueType {
+        LONG, DOUBLE, DECIMAL, OBJECT
+    }
+
+    /**
+     * Describes a single aggregate.
+     */
+    public static class Aggregate implements Serializable {
+
+        private final Function function;
+
+        /**
+         * Index of the aggregated field or {@code -1} for {@code COUNT(*)}.
+         */
+        private final int field;
+
+        private final ValueType valueType;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param function  the aggregate function
+         * @param field     index of the aggregated field or {@code -1} for {@code COUNT(*)}
+         * @param valueType type on which the aggregate is computed; {@code COUNT} always yields a {@code long} and
+         *                  {@code AVG} always yields a {@code double}
+         */
+        public Aggregate(Function function, int field, ValueType valueType) {
+            if (field < 0 && function != Function.COUNT) {
+                throw new IllegalArgumentException(String.format("%s requires a field.", function));
+            }
+            if (valueType == ValueType.OBJECT && function != Function.MIN && function != Function.MAX) {
+                throw new IllegalArgumentException(String.format("%s requires a numeric field.", function));
+            }
+            this.function = function;
+            this.field = field;
+            this.valueType = function == Function.COUNT ? ValueType.LONG :
+                    function == Function.AVG ? ValueType.DOUBLE :
+                            valueType;
+        }
+
+        public Function getFunction() {
+            return this.function;
+        }
+
+        public int getField() {
+            return this.field;
+        }
+
+        public ValueType getValueType() {
+            return this.valueType;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(%s):%s", this.function, this.field < 0 ? "*" : "#" + this.field, this.valueType);
+        }
+    }
+
+    /**
+     * Mutable intermediate state of the {@link Aggregate}s for a group. Each {@link Aggregate} uses the slot with its
+     * index in the array for its {@link ValueType}.
+     */
+    public static class Accumulator implements Serializable {
+
+        private final long[] longs;
+
+        private final double[] doubles;
+
+        private final Object[] objects;
+
+        /**
+         * Number of non-{@code null} values per {@link Aggregate} (or of all {@link Record}s for {@code COUNT(*)}).
+         */
+        private final long[] counts;
+
+        private Accumulator(long[] longs, double[] doubles, Object[] objects, long[] counts) {
+            this.longs = longs;
+            this.doubles = doubles;
+            this.objects = objects;
+            this.counts = counts;
+        }
+    }
+
+    /**
+     * Indices of the grouping fields; empty for a global aggregation.
+     */
+    private final int[] groupFields;
+
+    private final Aggregate[] aggregates;
+
+    /**
+     * Tell whether any {@link Aggregate} requires a {@code long}, {@code double}, or {@link Object} slot; the latter
+     * are also used for {@link ValueType#DECIMAL}s.
+     */
+    private final boolean isUsingLongs, isUsingDoubles, isUsingObjects;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param groupFields indices of the grouping fields; empty for a global aggregation
+     * @param aggregates  the {@link Aggregate}s to compute per group
+     */
+    public AggregateDescriptor(int[] groupFields, List<Aggregate> aggregates) {
+        this.groupFields = groupFields.clone();
+        this.aggregates = aggregates.toArray(new Aggregate[0]);
+        this.isUsingLongs = aggregates.stream().anyMatch(aggregate -> aggregate.valueType == ValueType.LONG);
+        this.isUsingDoubles = aggregates.stream().anyMatch(aggregate -> aggregate.valueType == ValueType.DOUBLE);
+        this.isUsingObjects = aggregates.stream().anyMatch(
+                aggregate -> aggregate.valueType == ValueType.OBJECT || aggregate.valueType == ValueType.DECIMAL
+        );
+    }
+
+    public int[] getGroupFields() {
+        return this.groupFields.clone();
+    }
+
+    public List<Aggregate> getAggregates() {
+        return Arrays.asList(this.aggregates);
+    }
+
+    /**
+     * Tells whether this instance describes a global aggregation, i.e., one without grouping fields.
+     *
+     * @return whether there are no grouping fields
+     */
+    public boolean isGlobal() {
+        return this.groupFields.length == 0;
+    }
+
+    /**
+     * Extracts the grouping key from a {@link Record}. Keys of a single field are the field value itself; composite
+     * keys are {@link Record}s.
+     *
+     * @param record the {@link Record}
+     * @return the key
+     */
+    public Object extractKey(Record record) {
+        if (this.groupFields.length == 1) {
+            return record.getField(this.groupFields[0]);
+        }
+        final Object[] values = new Object[this.groupFields.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = record.getField(this.groupFields[i]);
+        }
+        return new Record(values);
+    }
+
+    /**
+     * Creates an {@link Accumulator} for an empty group.
+     *
+     * @return the {@link Accumulator}
+     */
+    public Accumulator createAccumulator() {
+        final int n = this.aggregates.length;
+        final Accumulator accumulator = new Accumulator(
+                this.isUsingLongs ? new long[n] : null,
+                this.isUsingDoubles ? new double[n] : null,
+                this.isUsingObjects ? new Object[n] : null,
+                new long[n]
+        );
+        for (int i = 0; i < n; i++) {
+            final Aggregate aggregate = this.aggregates[i];
+            if (aggregate.function == Function.MIN) {
+                if (aggregate.valueType == ValueType.LONG) accumulator.longs[i] = Long.MAX_VALUE;
+                else if (aggregate.valueType == ValueType.DOUBLE) accumulator.doubles[i] = Double.POSITIVE_INFINITY;
+            } else if (aggregate.function == Function.MAX) {
+                if (aggregate.valueType == ValueType.LONG) accumulator.longs[i] = Long.MIN_VALUE;
+                else if (aggregate.valueType == ValueType.DOUBLE) accumulator.doubles[i] = Double.NEGATIVE_INFINITY;
+            }
+        }
+        return accumulator;
+    }
+
+    /**
+     * Adds a {@link Record} to an {@link Accumulator}.
+     *
+     * @param accumulator the {@link Accumulator}
+     * @param record      the {@link Record}
+     */
+    public void accumulate(Accumulator accumulator, Record record) {
+        for (int i = 0; i < this.aggregates.length; i++) {
+            final Aggregate aggregate = this.aggregates[i];
+            if (aggregate.field < 0) {
+                accumulator.counts[i]++;
+            } else {
+                this.accumulate(accumulator, i, record.getField(aggregate.field));
+            }
+        }
+    }
+
+    /**
+     * Adds a single value to an {@link Accumulator}, thereby allowing to aggregate column by column.
+     *
+     * @param accumulator the {@link Accumulator}
+     * @param index       the index of the {@link Aggregate}
+     * @param value       the value of the {@link Aggregate}'s field or any value for {@code COUNT(*)}; {@code null}s
+     *                    are only counted by the latter
+     */
+    @SuppressWarnings("unchecked")
+    public void accumulate(Accumulator accumulator, int index, Object value) {
+        final Aggregate aggregate = this.aggregates[index];
+        if (aggregate.field < 0) {
+            accumulator.counts[index]++;
+            return;
+        }
+        if (value == null) return;
+        if (aggregate.valueType == ValueType.LONG) {
+            this.accumulateLong(accumulator, index, ((Number) value).longValue());
+            return;
+        }
+        if (aggregate.valueType == ValueType.DOUBLE) {
+            this.accumulateDouble(accumulator, index, ((Number) value).doubleValue());
+            return;
+        }
+        accumulator.counts[index]++;
+        switch (aggregate.function) {
+            case SUM:
+            case SUM0:
+                final BigDecimal decimal = toDecimal(value);
+                accumulator.objects[index] = accumulator.objects[index] == null ?
+                        decimal :
+                        ((BigDecimal) accumulator.objects[index]).add(decimal);
+                break;
+            case MIN:
+                if (accumulator.objects[index] == null || ((Comparable<Object>) value).compareTo(accumulator.objects[index]) < 0) {
+                    accumulator.objects[index] = value;
+                }
+                break;
+            case MAX:
+                if (accumulator.objects[index] == null || ((Comparable<Object>) value).compareTo(accumulator.objects[index]) > 0) {
+                    accumulator.objects[index] = value;
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static BigDecimal toDecimal(Object value) {
+        if (value instanceof BigDecimal) return (BigDecimal) value;
+        if (value instanceof Double || value instanceof Float) return BigDecimal.valueOf(((Number) value).doubleValue());
+        if (value instanceof Number) return BigDecimal.valueOf(((Number) value).longValue());
+        return new BigDecimal(value.toString());
+    }
+
+    /**
+     * Adds a non-{@code null} {@code long} value to an {@link Accumulator} without boxing it.
+     *
+     * @param accumulator the {@link Accumulator}
+     * @param index       the index of the {@link Aggregate}
+     * @param value       the value of the {@link Aggregate}'s field
+     */
+    public void accumulateLong(Accumulator accumulator, int index, long value) {
+        final Aggregate aggregate = this.aggregates[index];
+        if (aggregate.valueType != ValueType.LONG) {
+            if (aggregate.valueType == ValueType.DOUBLE) this.accumulateDouble(accumulator, index, value);
+            else this.accumulate(accumulator, index, (Object) value);
+            return;
+        }
+        accumulator.counts[index]++;
+        switch (aggregate.function) {
+            case SUM:
+            case SUM0:
+            case AVG:
+                accumulator.longs[index] += value;
+                break;
+            case MIN:
+                accumulator.longs[index] = Math.min(accumulator.longs[index], value);
+                break;
+            case MAX:
+                accumulator.longs[index] = Math.max(accumulator.longs[index], value);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Adds a non-{@code null} {@code double} value to an {@link Accumulator} without boxing it.
+     *
+     * @param accumulator the {@link Accumulator}
+     * @param index       the index of the {@link Aggregate}
+     * @param value       the value of the {@link Aggregate}'s field
+     */
+    public void accumulateDouble(Accumulator accumulator, int index, double value) {
+        final Aggregate aggregate = this.aggregates[index];
+        if (aggregate.valueType != ValueType.DOUBLE) {
+            if (aggregate.valueType == ValueType.LONG) this.accumulateLong(accumulator, index, (long) value);
+            else this.accumulate(accumulator, index, (Object) value);
+            return;
+        }
+        accumulator.counts[index]++;
+        switch (aggregate.function) {
+            case SUM:
+            case SUM0:
+            case AVG:
+                accumulator.doubles[index] += value;
+                break;
+            case MIN:
+                accumulator.doubles[index] = Math.min(accumulator.doubles[index], value);
+                break;
+            case MAX:
+                accumulator.doubles[index] = Math.max(accumulator.doubles[index], value);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Merges an {@link Accumulator} into another one.
+     *
+     * @param target receives the state of the {@code source}
+     * @param source the {@link Accumulator} to merge; must not be used afterwards
+     * @return the {@code target}
+     */
+    @SuppressWarnings("unchecked")
+    public Accumulator merge(Accumulator target, Accumulator source) {
+        for (int i = 0; i < this.aggregates.length; i++) {
+            final Aggregate aggregate = this.aggregates[i];
+            target.counts[i] += source.counts[i];
+            switch (aggregate.function) {
+                case COUNT:
+                    break;
+                case SUM:
+                case SUM0:
+                case AVG:
+                    if (aggregate.valueType == ValueType.LONG) {
+                        target.longs[i] += source.longs[i];
+                    } else if (aggregate.valueType == ValueType.DOUBLE) {
+                        target.doubles[i] += source.doubles[i];
+                    } else if (source.objects[i] != null) {
+                        target.objects[i] = target.objects[i] == null ?
+                                source.objects[i] :
+                                ((BigDecimal) target.objects[i]).add((BigDecimal) source.objects[i]);
+                    }
+                    break;
+                case MIN:
+                case MAX:
+                    final int sign = aggregate.function == Function.MIN ? -1 : 1;
+                    if (aggregate.valueType == ValueType.LONG) {
+                        if (Long.compare(source.longs[i], target.longs[i]) == sign) target.longs[i] = source.longs[i];
+                    } else if (aggregate.valueType == ValueType.DOUBLE) {
+                        if (Double.compare(source.doubles[i], target.doubles[i]) == sign) target.doubles[i] = source.doubles[i];
+                    } else if (source.objects[i] != null && (target.objects[i] == null
+                            || Integer.signum(((Comparable<Object>) source.objects[i]).compareTo(target.objects[i])) == sign)) {
+                        target.objects[i] = source.objects[i];
+                    }
+                    break;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Creates the output {@link Record} for a group.
+     *
+     * @param key         the key of the group as provided by {@link #extractKey(Record)} or {@code null} for a global
+     *                    aggregation
+     * @param accumulator the {@link Accumulator} of the group
+     * @return the output {@link Record}
+     */
+    public Record createOutput(Object key, Accumulator accumulator) {
+        final Object[] values = new Object[this.groupFields.length + this.aggregates.length];
+        if (this.groupFields.length == 1) {
+            values[0] = key;
+        } else {
+            for (int i = 0; i < this.groupFields.length; i++) {
+                values[i] = ((Record) key).getField(i);
+            }
+        }
+        for (int i = 0; i < this.aggregates.length; i++) {
+            final Aggregate aggregate = this.aggregates[i];
+            final long count = accumulator.counts[i];
+            final Object value;
+            if (aggregate.function == Function.COUNT) {
+                value = count;
+            } else if (count == 0) {
+                value = aggregate.function == Function.SUM0 ? zero(aggregate.valueType) : null;
+            } else if (aggregate.function == Function.AVG) {
+                value = accumulator.doubles[i] / count;
+            } else if (aggregate.valueType == ValueType.LONG) {
+                value = accumulator.longs[i];
+            } else if (aggregate.valueType == ValueType.DOUBLE) {
+                value = accumulator.doubles[i];
+            } else {
+                value = accumulator.objects[i];
+            }
+            values[this.groupFields.length + i] = value;
+        }
+        return new Record(values);
+    }
+
+    private static Object zero(ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return 0L;
+            case DOUBLE:
+                return 0d;
+            default:
+                return BigDecimal.ZERO;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[group by %s: %s]",
+                this.getClass().getSimpleName(), Arrays.toString(this.groupFields), Arrays.toString(this.aggregates));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This operator groups {@link Record}s by some of their fields and computes SQL-style aggregates for each group as
+ * described by an {@link AggregateDescriptor}. Without grouping fields, it yields exactly one {@link Record}.
+ */
+public class AggregateOperator extends UnaryToUnaryOperator<Record, Record> {
+
+    protected final AggregateDescriptor aggregateDescriptor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param aggregateDescriptor describes the grouping and the aggregates
+     */
+    public AggregateOperator(AggregateDescriptor aggregateDescriptor) {
+        super(DataSetType.createDefault(Record.class), DataSetType.createDefault(Record.class), false);
+        this.aggregateDescriptor = aggregateDescriptor;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public AggregateOperator(AggregateOperator that) {
+        super(that);
+        this.aggregateDescriptor = that.getAggregateDescriptor();
+    }
+
+    public AggregateDescriptor getAggregateDescriptor() {
+        return this.aggregateDescriptor;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        if (this.aggregateDescriptor == null || this.aggregateDescriptor.isGlobal()) {
+            return Optional.of(new FixedSizeCardinalityEstimator(1));
+        }
+        // Same uncertain guess as for the ReduceByOperator: about every tenth input record starts a new group.
+        return Optional.of(new DefaultCardinalityEstimator(
+                0.5d,
+                1,
+                this.isSupportingBroadcastInputs(),
+                inputCards -> (long) (inputCards[0] * 0.1)));
+    }
+}
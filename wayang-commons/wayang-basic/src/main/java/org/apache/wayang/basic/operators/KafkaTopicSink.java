@@ -23,9 +23,11 @@ import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.costs.DefaultLoadEstimator;
 import org.apache.wayang.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.apache.wayang.core.plan.wayangplan.MicroBatchOperator;
 import org.apache.wayang.core.plan.wayangplan.UnarySink;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -39,8 +41,9 @@ import java.util.Properties;
 
 /**
  * This {@link UnarySink} writes all incoming data quanta to a single Kafka topic.
+ * <p>The Kafka producer is kept open across the micro-batches of a {@link Job}.</p>
  */
-public class KafkaTopicSink<T> extends UnarySink<T> implements Serializable {
+public class KafkaTopicSink<T> extends UnarySink<T> implements Serializable, MicroBatchOperator {
 
     protected String topicName;
 
@@ -155,6 +158,19 @@ public class KafkaTopicSink<T> extends UnarySink<T> implements Serializable {
         return this.producer;
     }
 
+    @Override
+    public void onBatchCompleted() {
+        // Nothing to do: the messages of a batch are flushed by the execution operators.
+    }
+
+    @Override
+    public void release() {
+        if (this.producer != null) {
+            this.producer.close();
+            this.producer = null;
+        }
+    }
+
     /**
      * Load properties from a properties file or alternatively use the default properties with some sensitive values
      * from environment variables.
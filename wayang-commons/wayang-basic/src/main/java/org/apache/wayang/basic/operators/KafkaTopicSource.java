@@ -18,17 +18,24 @@
 
 package org.apache.wayang.basic.operators;
 
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.wayang.basic.operators.TextFileSource;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 import org.apache.commons.lang3.Validate;
@@ -36,8 +43,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasurement;
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.MicroBatchOperator;
 import org.apache.wayang.core.plan.wayangplan.UnarySource;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.LimitedInputStream;
@@ -55,15 +64,43 @@ import java.util.OptionalLong;
 
 /**
  * This source reads messages from a Kafka topic and outputs the messages as data units.
+ * <p>Each execution reads a bounded batch of messages (see {@link #pollBatch(Configuration)}), whose offsets are
+ * committed once the batch has been processed. In the micro-batch mode of a {@link Job}, this happens repeatedly
+ * with the same Kafka consumer.</p>
  */
-public class KafkaTopicSource extends UnarySource<String> {
+public class KafkaTopicSource extends UnarySource<String> implements MicroBatchOperator {
 
     private final static Logger logger = LogManager.getLogger(KafkaTopicSource.class);
 
+    /**
+     * {@link Configuration} key for the maximum number of messages per batch.
+     */
+    public static final String MAX_RECORDS_KEY = "wayang.basic.kafka.source.batch.max-records";
+
+    /**
+     * {@link Configuration} key for the maximum number of milliseconds to wait for the messages of a batch.
+     */
+    public static final String MAX_LATENCY_KEY = "wayang.basic.kafka.source.batch.max-latency";
+
+    /**
+     * Milliseconds to wait for further messages once a batch has received its first messages.
+     */
+    private static final long FOLLOW_UP_POLL_MILLIS = 100L;
+
     String topicName = null;
     String encoding;
 
-    transient KafkaConsumer<String, String> consumer = null;
+    transient Consumer<String, String> consumer = null;
+
+    /**
+     * Offsets of the current batch that are yet to be committed.
+     */
+    private transient Map<TopicPartition, OffsetAndMetadata> pendingOffsets = new HashMap<>();
+
+    /**
+     * Number of messages in the current batch.
+     */
+    private transient long batchSize = 0L;
 
     public KafkaTopicSource(String topicName) {
         this(topicName, "UTF-8");
@@ -100,13 +137,24 @@ public class KafkaTopicSource extends UnarySource<String> {
 
     boolean isInitialized = false;
 
-    public KafkaConsumer<String, String> getConsumer(){
+    public Consumer<String, String> getConsumer(){
         if ( this.consumer == null ) {
             this.consumer = getConsumer( null );
         }
         return this.consumer;
     }
 
+    /**
+     * Sets the Kafka {@link Consumer} to poll from, e.g., a {@link org.apache.kafka.clients.consumer.MockConsumer}.
+     * The {@link Consumer} must already be subscribed to or assigned the topic.
+     *
+     * @param consumer the {@link Consumer}
+     */
+    public void setConsumer(Consumer<String, String> consumer) {
+        this.consumer = consumer;
+        this.isInitialized = true;
+    }
+
     public KafkaConsumer<String, String> getConsumer( Properties props ){
 
         if ( props == null ) {
@@ -117,15 +165,21 @@ public class KafkaTopicSource extends UnarySource<String> {
             System.out.println(">>> Create consumer from PROPERTIES: " + props);
         }
 
+        // Offsets are committed only after a batch has been processed.
+        final Properties consumerProps = new Properties();
+        consumerProps.putAll(props);
+        consumerProps.putIfAbsent(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+
         // Continue to set up your test using the mockConsumer
-        this.consumer = new KafkaConsumer<String, String>(props);
+        final KafkaConsumer<String, String> kafkaConsumer = new KafkaConsumer<String, String>(consumerProps);
+        this.consumer = kafkaConsumer;
 
         if( !isInitialized ) {
             this.consumer.subscribe(Arrays.asList(topicName));
             isInitialized = true;
             System.out.println(">>> KafkaTopicSource isInitialized=" + isInitialized);
         }
-        return this.consumer;
+        return kafkaConsumer;
     }
 
     /**
@@ -174,6 +228,7 @@ public class KafkaTopicSource extends UnarySource<String> {
 
         props.put(ConsumerConfig.GROUP_ID_CONFIG, "wayang-kafka-java-source-client-2");
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
 
 
 
@@ -263,6 +318,68 @@ public class KafkaTopicSource extends UnarySource<String> {
 
     }
 
+    /**
+     * Polls the next batch of messages from the topic. The batch is complete once it contains
+     * {@value #MAX_RECORDS_KEY} messages, once {@value #MAX_LATENCY_KEY} milliseconds have passed, or once no further
+     * messages arrive after the first ones. Surplus messages are left for the next batch, and the offsets of the batch
+     * are only committed in {@link #onBatchCompleted()}.
+     *
+     * @param configuration provides the batch settings
+     * @return the values of the messages in the batch
+     */
+    public List<String> pollBatch(Configuration configuration) {
+        final Consumer<String, String> consumer = this.getConsumer();
+        final long maxRecords = configuration.getLongProperty(MAX_RECORDS_KEY, 10000L);
+        final long deadline = System.currentTimeMillis() + configuration.getLongProperty(MAX_LATENCY_KEY, 15000L);
+        if (this.pendingOffsets == null) this.pendingOffsets = new HashMap<>();
+
+        final List<String> batch = new ArrayList<>();
+        final Map<TopicPartition, Long> rewinds = new HashMap<>();
+        long remainingMillis;
+        while (batch.size() < maxRecords && (remainingMillis = deadline - System.currentTimeMillis()) > 0) {
+            final ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(
+                    batch.isEmpty() ? remainingMillis : Math.min(remainingMillis, FOLLOW_UP_POLL_MILLIS)
+            ));
+            if (records.isEmpty() && !batch.isEmpty()) break;
+            for (ConsumerRecord<String, String> record : records) {
+                final TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                if (batch.size() < maxRecords && !rewinds.containsKey(partition)) {
+                    batch.add(record.value());
+                    this.pendingOffsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                } else {
+                    rewinds.putIfAbsent(partition, record.offset());
+                }
+            }
+        }
+
+        // Deliver the surplus messages again in the next batch.
+        rewinds.forEach(consumer::seek);
+        this.batchSize = batch.size();
+        return batch;
+    }
+
+    @Override
+    public void onBatchCompleted() {
+        if (this.consumer != null && this.pendingOffsets != null && !this.pendingOffsets.isEmpty()) {
+            this.consumer.commitSync(this.pendingOffsets);
+            this.pendingOffsets.clear();
+        }
+    }
+
+    @Override
+    public long getBatchSize() {
+        return this.batchSize;
+    }
+
+    @Override
+    public void release() {
+        if (this.consumer != null) {
+            this.consumer.close();
+            this.consumer = null;
+            this.isInitialized = false;
+        }
+    }
+
     public void startConsuming() {
         System.out.println(">>> Start consuming ... " + topicName);
         if( !isInitialized ) {
@@ -22,6 +22,10 @@ import org.apache.commons.lang3.Validate;
 import org.apache.hadoop.fs.Path;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.wayang.basic.data.Record;
@@ -49,6 +53,8 @@ public class ParquetSource extends UnarySource<Record> {
 
     private final String[] projection;
 
+    private final FilterPredicate filter;
+
     /**
      * Creates a new instance.
      *
@@ -61,16 +67,37 @@ public class ParquetSource extends UnarySource<Record> {
         this(inputUrl, projection, createOutputDataSetType(columnNames));
     }
 
+    /**
+     * Creates a new instance.
+     *
+     * @param inputUrl    name of the file to be read
+     * @param projection  names of the columns to filter; can be omitted but allows for an early projection
+     * @param filter      only rows satisfying this predicate are read; can be {@code null} but allows to skip whole
+     *                    row groups based on their statistics
+     * @param columnNames names of the columns in the tables; can be omitted but allows to inject schema information
+     *                    into Wayang, so as to allow specific optimizations
+     */
+    public ParquetSource(String inputUrl, String[] projection, FilterPredicate filter, String... columnNames) {
+        this(inputUrl, projection, filter, createOutputDataSetType(columnNames));
+    }
+
     public ParquetSource(String inputUrl, String[] projection, DataSetType<Record> type) {
+        this(inputUrl, projection, null, type);
+    }
+
+    public ParquetSource(String inputUrl, String[] projection, FilterPredicate filter, DataSetType<Record> type) {
         super(type);
         this.inputUrl = inputUrl;
         this.projection = projection;
+        this.filter = filter;
     }
 
     public String getInputUrl() { return this.inputUrl; }
 
     public String[] getProjection() { return this.projection; }
 
+    public FilterPredicate getFilter() { return this.filter; }
+
     private static DataSetType<Record> createOutputDataSetType(String[] columnNames) {
         return columnNames.length == 0 ?
                 DataSetType.createDefault(Record.class) :
@@ -86,6 +113,7 @@ public class ParquetSource extends UnarySource<Record> {
         super(that);
         this.inputUrl = that.getInputUrl();
         this.projection = that.getProjection();
+        this.filter = that.getFilter();
     }
 
     @Override
@@ -113,7 +141,8 @@ public class ParquetSource extends UnarySource<Record> {
             );
 
             // Query the job cache first to see if there is already an estimate.
-            String jobCacheKey = String.format("%s.estimate(%s)", this.getClass().getCanonicalName(), ParquetSource.this.inputUrl);
+            String jobCacheKey = String.format("%s.estimate(%s, %s)",
+                    this.getClass().getCanonicalName(), ParquetSource.this.inputUrl, ParquetSource.this.filter);
             CardinalityEstimate cardinalityEstimate = optimizationContext.queryJobCache(jobCacheKey, CardinalityEstimate.class);
             if (cardinalityEstimate != null) return cardinalityEstimate;
 
@@ -139,9 +168,12 @@ public class ParquetSource extends UnarySource<Record> {
                 return this.FALLBACK_ESTIMATE;
             }
 
-            // Create an exact cardinality estimate for the complete file.
+            // Create an exact cardinality estimate for the complete file or bound it by the rows in the row groups
+            // that the filter cannot rule out.
             long rowCount = numberRows.getAsLong();
-            cardinalityEstimate = new CardinalityEstimate(rowCount, rowCount, 1d);
+            cardinalityEstimate = ParquetSource.this.filter == null ?
+                    new CardinalityEstimate(rowCount, rowCount, 1d) :
+                    new CardinalityEstimate(0L, rowCount, 0.9d);
 
             // Cache the result, so that it will not be recalculated again.
             optimizationContext.putIntoJobCache(jobCacheKey, cardinalityEstimate);
@@ -151,18 +183,22 @@ public class ParquetSource extends UnarySource<Record> {
         }
 
         /**
-         * Extract the number of rows in the file
+         * Extract the number of rows in the file (in the row groups that are not ruled out by the filter, if any)
          *
          * @return the number of rows in the file
          */
         private OptionalLong extractNumberRows() {
             Path path = new Path(ParquetSource.this.inputUrl);
+            final org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+            final ParquetReadOptions options = HadoopReadOptions.builder(conf)
+                    .withRecordFilter(ParquetSource.this.filter == null ? FilterCompat.NOOP : FilterCompat.get(ParquetSource.this.filter))
+                    .build();
 
-            try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(path, new org.apache.hadoop.conf.Configuration()))) {
+            try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(path, conf), options)) {
 
                 long rowCount = reader.getRecordCount();
 
-                if (rowCount == 0) {
+                if (rowCount == 0 && ParquetSource.this.filter == null) {
                     ParquetSource.this.logger.warn("Could not find any row in {}.", ParquetSource.this.inputUrl);
                         return OptionalLong.empty();
                 }
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.channels.serialization;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Date;
+
+/**
+ * Tests for the {@link ObjectFileSerializers}.
+ */
+public class ObjectFileSerializersTest {
+
+    @Test
+    public void testBinaryRoundTripOfMixedValues() throws IOException {
+        Object[] chunk = new Object[]{
+                null, 42, -7L, 1.5d, 2.5f, "wayang", true, (short) 3, (byte) 4, 'x',
+                new Tuple2<>("a", new Tuple2<>(1, 2L)),
+                new Record("b", null, 3),
+                new Date(0L)
+        };
+        final byte[] bytes = ObjectFileSerializers.serialize(new BinaryObjectFileSerializer(), chunk, chunk.length);
+        Assert.assertEquals(ObjectFileSerializers.MAGIC, bytes[0]);
+        Assert.assertArrayEquals(chunk, ObjectFileSerializers.deserialize(new JavaObjectFileSerializer(), bytes, bytes.length));
+    }
+
+    @Test
+    public void testBinaryChunksShareJavaSerialization() throws IOException {
+        Object[] chunk = new Object[10];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = i % 2 == 0 ? new Date(i) : new Tuple2<>(i, new Record(new Date(-i), "x"));
+        }
+        final byte[] bytes = ObjectFileSerializers.serialize(new BinaryObjectFileSerializer(), chunk, chunk.length);
+        Assert.assertArrayEquals(chunk, ObjectFileSerializers.deserialize(new BinaryObjectFileSerializer(), bytes, bytes.length));
+
+        // The class descriptor of Date should be written only once rather than once per value.
+        final Date[] dates = new Date[10];
+        Arrays.setAll(dates, Date::new);
+        final byte[] dateBytes = ObjectFileSerializers.serialize(new BinaryObjectFileSerializer(), dates, dates.length);
+        final byte[] singleDateBytes = ObjectFileSerializers.serialize(new BinaryObjectFileSerializer(), dates, 1);
+        Assert.assertTrue(dateBytes.length * 2 < dates.length * singleDateBytes.length);
+    }
+
+    @Test
+    public void testBinaryRecordChunksAreCompact() throws IOException {
+        Record[] chunk = new Record[10];
+        for (int i = 0; i < chunk.length; i++) {
+            chunk[i] = new Record("key" + i, i, i * 1000L, i / 2d);
+        }
+        final byte[] binaryBytes = ObjectFileSerializers.serialize(new BinaryObjectFileSerializer(), chunk, chunk.length);
+        final byte[] javaBytes = ObjectFileSerializers.serialize(new JavaObjectFileSerializer(), chunk, chunk.length);
+        Assert.assertTrue(binaryBytes.length * 3 < javaBytes.length);
+        Assert.assertArrayEquals(chunk, ObjectFileSerializers.deserialize(new BinaryObjectFileSerializer(), binaryBytes, binaryBytes.length));
+        Assert.assertArrayEquals(chunk, ObjectFileSerializers.deserialize(new BinaryObjectFileSerializer(), javaBytes, javaBytes.length));
+    }
+
+    @Test
+    public void testPartialChunks() throws IOException {
+        Object[] chunk = new Object[]{1, 2, 3, null};
+        for (ObjectFileSerializer serializer : Arrays.asList(new BinaryObjectFileSerializer(), new JavaObjectFileSerializer())) {
+            final byte[] bytes = ObjectFileSerializers.serialize(serializer, chunk, 3);
+            // Hadoop's BytesWritable may provide a larger buffer than the actual content.
+            final byte[] paddedBytes = Arrays.copyOf(bytes, bytes.length + 5);
+            Assert.assertArrayEquals(new Object[]{1, 2, 3}, ObjectFileSerializers.deserialize(serializer, paddedBytes, bytes.length));
+        }
+    }
+
+    @Test
+    public void testConfiguration() {
+        Configuration configuration = new Configuration();
+        Assert.assertTrue(ObjectFileSerializers.create(configuration) instanceof JavaObjectFileSerializer);
+        configuration.setProperty(ObjectFileSerializers.SERIALIZER_KEY, "binary");
+        Assert.assertTrue(ObjectFileSerializers.create(configuration) instanceof BinaryObjectFileSerializer);
+        configuration.setProperty(ObjectFileSerializers.SERIALIZER_KEY, JavaObjectFileSerializer.class.getName());
+        Assert.assertTrue(ObjectFileSerializers.create(configuration) instanceof JavaObjectFileSerializer);
+    }
+
+}
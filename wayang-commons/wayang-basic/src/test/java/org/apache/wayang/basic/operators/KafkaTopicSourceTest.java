@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.wayang.core.api.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test suite for the micro-batch polling of the {@link KafkaTopicSource}.
+ */
+public class KafkaTopicSourceTest {
+
+    private static final String TOPIC = "topic";
+
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Test
+    public void testPollBatchRewindsSurplusAndCommitsAfterCompletion() {
+        final MockConsumer<String, String> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Collections.singletonList(PARTITION));
+        consumer.updateBeginningOffsets(Collections.singletonMap(PARTITION, 0L));
+        addRecords(consumer, 0, 5);
+
+        final KafkaTopicSource source = new KafkaTopicSource(TOPIC);
+        source.setConsumer(consumer);
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(KafkaTopicSource.MAX_RECORDS_KEY, "3");
+        configuration.setProperty(KafkaTopicSource.MAX_LATENCY_KEY, "1000");
+
+        // The first batch is capped and the surplus messages are rewound, but nothing is committed yet.
+        Assert.assertEquals(Arrays.asList("m0", "m1", "m2"), source.pollBatch(configuration));
+        Assert.assertEquals(3L, source.getBatchSize());
+        Assert.assertEquals(3L, consumer.position(PARTITION));
+        Assert.assertNull(getCommittedOffset(consumer));
+
+        source.onBatchCompleted();
+        Assert.assertEquals(3L, getCommittedOffset(consumer).longValue());
+
+        // The broker delivers the messages again from the rewound position on.
+        addRecords(consumer, 0, 5);
+        Assert.assertEquals(Arrays.asList("m3", "m4"), source.pollBatch(configuration));
+        Assert.assertEquals(3L, getCommittedOffset(consumer).longValue());
+
+        source.onBatchCompleted();
+        Assert.assertEquals(5L, getCommittedOffset(consumer).longValue());
+
+        source.release();
+        Assert.assertTrue(consumer.closed());
+    }
+
+    private static void addRecords(MockConsumer<String, String> consumer, int from, int to) {
+        for (int offset = from; offset < to; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, PARTITION.partition(), offset, null, "m" + offset));
+        }
+    }
+
+    private static Long getCommittedOffset(MockConsumer<String, String> consumer) {
+        final OffsetAndMetadata offset = consumer.committed(Collections.singleton(PARTITION)).get(PARTITION);
+        return offset == null ? null : offset.offset();
+    }
+}
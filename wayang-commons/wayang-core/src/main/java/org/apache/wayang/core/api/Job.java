@@ -31,6 +31,7 @@ import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimatorManager;
+import org.apache.wayang.core.optimizer.channels.ChannelConversionGraph;
 import org.apache.wayang.core.optimizer.costs.TimeEstimate;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.optimizer.enumeration.ExecutionTaskFlow;
@@ -43,6 +44,7 @@ import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
 import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.plan.wayangplan.MicroBatchOperator;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.plan.wayangplan.PlanMetrics;
@@ -62,6 +64,7 @@ import org.apache.wayang.core.profiling.CostMeasurement;
 import org.apache.wayang.core.profiling.ExecutionLog;
 import org.apache.wayang.core.profiling.ExecutionPlanMeasurement;
 import org.apache.wayang.core.profiling.InstrumentationStrategy;
+import org.apache.wayang.core.profiling.MicroBatchMeasurement;
 import org.apache.wayang.core.profiling.PartialExecutionMeasurement;
 import org.apache.wayang.core.util.Formats;
 import org.apache.wayang.core.util.OneTimeExecutable;
@@ -71,7 +74,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -79,6 +84,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -87,6 +93,23 @@ import java.util.stream.Collectors;
  */
 public class Job extends OneTimeExecutable {
 
+    /**
+     * {@link Configuration} key to execute the {@link ExecutionPlan} repeatedly on micro-batches of its sources
+     * (see {@link MicroBatchOperator}) rather than only once.
+     */
+    public static final String MICRO_BATCH_KEY = "wayang.core.microbatch.enabled";
+
+    /**
+     * {@link Configuration} key for the number of micro-batches to execute; {@code 0} stands for no limit, i.e., until
+     * {@link #stopMicroBatches()} is called.
+     */
+    public static final String MICRO_BATCH_MAX_BATCHES_KEY = "wayang.core.microbatch.max-batches";
+
+    /**
+     * {@link Configuration} key for the number of most recent {@link MicroBatchMeasurement}s to retain.
+     */
+    public static final String MICRO_BATCH_RETAINED_MEASUREMENTS_KEY = "wayang.core.microbatch.retained-measurements";
+
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     /**
@@ -184,6 +207,16 @@ public class Job extends OneTimeExecutable {
 
     private final boolean isProactiveReoptimization;
 
+    /**
+     * Tells whether the micro-batch mode should end after the current micro-batch.
+     */
+    private volatile boolean isStopMicroBatchesRequested = false;
+
+    /**
+     * The most recent {@link MicroBatchMeasurement}s.
+     */
+    private final Deque<MicroBatchMeasurement> microBatchMeasurements = new ConcurrentLinkedDeque<>();
+
     /**
      * Creates a new instance.
      *
@@ -276,6 +309,7 @@ public class Job extends OneTimeExecutable {
             throw new WayangException("Job has already been executed.");
         }
 
+        ExecutionPlan executionPlan = null;
         try {
 
             // Prepare the #wayangPlan for the optimization.
@@ -287,7 +321,7 @@ public class Job extends OneTimeExecutable {
 
             // Get an execution plan.
             int executionId = 0;
-            ExecutionPlan executionPlan = this.createInitialExecutionPlan();
+            executionPlan = this.createInitialExecutionPlan();
             this.optimizationRound.stop();
             if (this.experiment != null) {
                 this.experiment.addMeasurement(ExecutionPlanMeasurement.capture(
@@ -306,6 +340,7 @@ public class Job extends OneTimeExecutable {
 
 
             // Take care of the execution.
+            long batchStartMillis = System.currentTimeMillis();
             while (!this.execute(executionPlan, executionId)) {
                 this.optimizationRound.start();
                 if (this.postProcess(executionPlan, executionId)) {
@@ -319,6 +354,13 @@ public class Job extends OneTimeExecutable {
                 }
                 this.optimizationRound.stop();
             }
+            final Collection<MicroBatchOperator> microBatchOperators = collectMicroBatchOperators(executionPlan);
+            this.completeBatch(microBatchOperators, 0L, batchStartMillis);
+
+            // Re-execute the ExecutionPlan on further micro-batches, if requested.
+            if (this.configuration.getBooleanProperty(MICRO_BATCH_KEY, false)) {
+                this.executeMicroBatches(executionPlan, microBatchOperators);
+            }
 
             this.stopWatch.start("Post-processing");
             if (this.configuration.getBooleanProperty("wayang.core.log.enabled")) {
@@ -331,12 +373,118 @@ public class Job extends OneTimeExecutable {
         } finally {
             this.stopWatch.stopAll();
             this.stopWatch.start("Post-processing", "Release Resources");
+            if (executionPlan != null) this.releaseMicroBatchOperators(executionPlan);
             this.releaseResources();
             this.stopWatch.stop("Post-processing");
+            if (this.optimizationContext != null) {
+                final ChannelConversionGraph channelConversionGraph = this.optimizationContext.getChannelConversionGraph();
+                this.logger.info("Channel conversion tree cache: {} hits, {} misses.",
+                        channelConversionGraph.getTreeCacheHits(), channelConversionGraph.getTreeCacheMisses());
+            }
             this.logger.info("StopWatch results:\n{}", this.stopWatch.toPrettyString());
         }
     }
 
+    /**
+     * Executes the (completely optimized) {@code executionPlan} again and again, each time on the next micro-batch of
+     * its sources, until {@value #MICRO_BATCH_MAX_BATCHES_KEY} micro-batches are processed or
+     * {@link #stopMicroBatches()} is called. The {@link ExecutionPlan} is not re-optimized, and the {@link Platform}s
+     * remain running in between the micro-batches. If logging is enabled, the measurements of each micro-batch are
+     * stored before the next one is executed.
+     *
+     * @param executionPlan       that has already processed the first micro-batch
+     * @param microBatchOperators the {@link MicroBatchOperator}s in the {@code executionPlan}
+     */
+    private void executeMicroBatches(ExecutionPlan executionPlan, Collection<MicroBatchOperator> microBatchOperators) {
+        final long maxBatches = this.configuration.getLongProperty(MICRO_BATCH_MAX_BATCHES_KEY, 0L);
+        this.crossPlatformExecutor.setBreakpoint(Breakpoint.NONE);
+        for (long batch = 1L; (maxBatches <= 0L || batch < maxBatches) && !this.isStopMicroBatchesRequested; batch++) {
+            final long batchStartMillis = System.currentTimeMillis();
+            if (this.configuration.getBooleanProperty("wayang.core.log.enabled")) {
+                this.logMicroBatchExecution();
+            }
+            this.crossPlatformExecutor.reset();
+            if (!this.crossPlatformExecutor.executeUntilBreakpoint(executionPlan, this.optimizationContext)) {
+                throw new WayangException(String.format("Micro-batch %d has been suspended.", batch));
+            }
+            this.completeBatch(microBatchOperators, batch, batchStartMillis);
+        }
+        if (this.experiment != null) {
+            this.microBatchMeasurements.forEach(this.experiment::addMeasurement);
+        }
+    }
+
+    /**
+     * Notifies the {@link MicroBatchOperator}s that a batch has been processed and measures the batch.
+     *
+     * @param microBatchOperators that should be notified
+     * @param batch               sequence number of the batch
+     * @param batchStartMillis    start of the batch
+     */
+    private void completeBatch(Collection<MicroBatchOperator> microBatchOperators, long batch, long batchStartMillis) {
+        long numQuanta = 0L;
+        for (MicroBatchOperator microBatchOperator : microBatchOperators) {
+            microBatchOperator.onBatchCompleted();
+            numQuanta += microBatchOperator.getBatchSize();
+        }
+        if (!this.configuration.getBooleanProperty(MICRO_BATCH_KEY, false)) return;
+
+        final MicroBatchMeasurement measurement = new MicroBatchMeasurement(
+                String.format("micro-batch-%d", batch), batch, numQuanta, System.currentTimeMillis() - batchStartMillis
+        );
+        this.logger.info("Processed micro-batch {} with {} data quanta in {} ({} quanta/s).",
+                batch, numQuanta, Formats.formatDuration(measurement.getExecutionMillis(), true),
+                String.format("%,.1f", measurement.getThroughput()));
+        this.microBatchMeasurements.addLast(measurement);
+        final long numRetainedMeasurements =
+                this.configuration.getLongProperty(MICRO_BATCH_RETAINED_MEASUREMENTS_KEY, 1000L);
+        while (this.microBatchMeasurements.size() > numRetainedMeasurements) {
+            this.microBatchMeasurements.pollFirst();
+        }
+    }
+
+    /**
+     * Collects the {@link MicroBatchOperator}s in an {@link ExecutionPlan}.
+     */
+    private static Collection<MicroBatchOperator> collectMicroBatchOperators(ExecutionPlan executionPlan) {
+        return executionPlan.collectAllTasks().stream()
+                .map(ExecutionTask::getOperator)
+                .filter(operator -> operator instanceof MicroBatchOperator)
+                .map(operator -> (MicroBatchOperator) operator)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Releases the {@link MicroBatchOperator}s in an {@link ExecutionPlan}.
+     */
+    private void releaseMicroBatchOperators(ExecutionPlan executionPlan) {
+        for (MicroBatchOperator microBatchOperator : collectMicroBatchOperators(executionPlan)) {
+            try {
+                microBatchOperator.release();
+            } catch (Exception e) {
+                this.logger.error("Could not release {}.", microBatchOperator, e);
+            }
+        }
+    }
+
+    /**
+     * Asks this instance to end the micro-batch mode after the current micro-batch.
+     *
+     * @see #MICRO_BATCH_KEY
+     */
+    public void stopMicroBatches() {
+        this.isStopMicroBatchesRequested = true;
+    }
+
+    /**
+     * Provides the {@link MicroBatchMeasurement}s of the most recent micro-batches.
+     *
+     * @return the {@link MicroBatchMeasurement}s in the order of their micro-batches
+     */
+    public List<MicroBatchMeasurement> getMicroBatchMeasurements() {
+        return new ArrayList<>(this.microBatchMeasurements);
+    }
+
     /**
      * Prepares the {@link #wayangPlan}: prunes unused {@link Operator}s, isolates loops, and applies all available
      * {@link PlanTransformation}s.
@@ -662,6 +810,21 @@ public class Job extends OneTimeExecutable {
         if (this.crossPlatformExecutor != null) this.crossPlatformExecutor.shutdown();
     }
 
+    /**
+     * Stores the cardinalities and {@link PartialExecution}s of the previous micro-batch, because they are discarded
+     * when the {@link #crossPlatformExecutor} is reset. Those of the last micro-batch are stored by
+     * {@link #logExecution()}.
+     */
+    private void logMicroBatchExecution() {
+        this.reestimateCardinalities(this.crossPlatformExecutor);
+        this.wayangContext.getCardinalityRepository().storeAll(this.crossPlatformExecutor, this.optimizationContext);
+        try (ExecutionLog executionLog = ExecutionLog.open(this.configuration)) {
+            executionLog.storeAll(this.crossPlatformExecutor.getPartialExecutions());
+        } catch (Exception e) {
+            this.logger.error("Storing partial executions failed.", e);
+        }
+    }
+
     private void logExecution() {
         this.stopWatch.start("Post-processing", "Log measurements");
 
@@ -706,6 +869,7 @@ public class Job extends OneTimeExecutable {
             final PartialExecutionMeasurement measurement = new PartialExecutionMeasurement(id, partialExecution, this.configuration);
             this.experiment.addMeasurement(measurement);
         }
+        this.crossPlatformExecutor.getStageMeasurements().forEach(this.experiment::addMeasurement);
 
         // Feed the execution log.
         try (ExecutionLog executionLog = ExecutionLog.open(this.configuration)) {
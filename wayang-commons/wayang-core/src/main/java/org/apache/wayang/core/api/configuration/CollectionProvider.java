@@ -24,6 +24,7 @@ import org.apache.wayang.core.api.Configuration;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Provides a {@link Collection} of objects.
@@ -36,6 +37,11 @@ public abstract class CollectionProvider<Value> implements Iterable<Value> {
 
     protected final Configuration configuration;
 
+    /**
+     * Counts the changes to this instance, so that consumers can detect when to refresh derived state.
+     */
+    private final AtomicLong modificationCount = new AtomicLong();
+
     public CollectionProvider(Configuration configuration) {
         this(configuration, null);
     }
@@ -48,6 +54,28 @@ public abstract class CollectionProvider<Value> implements Iterable<Value> {
 
     public void setParent(CollectionProvider<Value> parent) {
         this.parent = parent;
+        this.markModified();
+    }
+
+    /**
+     * Signal that the objects provided by this instance might have changed.
+     */
+    protected void markModified() {
+        this.modificationCount.incrementAndGet();
+    }
+
+    /**
+     * Tells how often this instance and its parents have been modified. Whenever the provided objects may have
+     * changed, the returned value changes as well.
+     *
+     * @return the modification count
+     */
+    public long getModificationCount() {
+        long count = this.modificationCount.get();
+        if (this.parent != null) {
+            count += this.parent.getModificationCount();
+        }
+        return count;
     }
 
     /**
@@ -49,8 +49,11 @@ public class ExplicitCollectionProvider<Value> extends CollectionProvider<Value>
     public boolean addToWhitelist(Value value) {
         if (this.blacklist.remove(value)) {
             logger.warn("{} was in the blacklist, moved it to the whitelist.", value);
+            this.markModified();
         }
-        return this.whitelist.add(value);
+        final boolean isAdded = this.whitelist.add(value);
+        if (isAdded) this.markModified();
+        return isAdded;
     }
 
     public void addAllToWhitelist(Collection<Value> values) {
@@ -60,8 +63,11 @@ public class ExplicitCollectionProvider<Value> extends CollectionProvider<Value>
     public boolean addToBlacklist(Value value) {
         if (this.whitelist.remove(value)) {
             logger.warn("{} was in the whitelist, moved it to the blacklist.", value);
+            this.markModified();
         }
-        return this.blacklist.add(value);
+        final boolean isAdded = this.blacklist.add(value);
+        if (isAdded) this.markModified();
+        return isAdded;
     }
 
     public void addAllToBlacklist(Collection<Value> values) {
@@ -21,6 +21,7 @@ package org.apache.wayang.core.api.configuration;
 import org.apache.commons.lang3.Validate;
 import org.apache.wayang.core.api.Configuration;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,7 +30,7 @@ import java.util.Map;
  */
 public class MapBasedKeyValueProvider<Key, Value> extends KeyValueProvider<Key, Value> {
 
-    private final Map<Key, Value> storedValues = new HashMap<>();
+    private final Map<Key, Value> storedValues = Collections.synchronizedMap(new HashMap<>());
 
     private final boolean isCaching;
 
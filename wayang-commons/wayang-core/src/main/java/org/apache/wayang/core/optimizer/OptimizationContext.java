@@ -538,7 +538,7 @@ public abstract class OptimizationContext {
         /**
          * Update the {@link LoadProfile} and {@link TimeEstimate} of this instance.
          */
-        public void updateCostEstimate() {
+        public synchronized void updateCostEstimate() {
             this.updateCostEstimate(this.getOptimizationContext().getConfiguration());
         }
 
@@ -679,14 +679,14 @@ public abstract class OptimizationContext {
             return this.numExecutions;
         }
 
-        public LoadProfile getLoadProfile() {
+        public synchronized LoadProfile getLoadProfile() {
             if (this.loadProfile == null) {
                 this.updateCostEstimate();
             }
             return this.loadProfile;
         }
 
-        public TimeEstimate getTimeEstimate() {
+        public synchronized TimeEstimate getTimeEstimate() {
             if (this.timeEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -698,7 +698,7 @@ public abstract class OptimizationContext {
          *
          * @return the cost estimate
          */
-        public ProbabilisticDoubleInterval getCostEstimate() {
+        public synchronized ProbabilisticDoubleInterval getCostEstimate() {
             if (this.costEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -710,7 +710,7 @@ public abstract class OptimizationContext {
          *
          * @return the squashed cost estimate
          */
-        public double getSquashedCostEstimate() {
+        public synchronized double getSquashedCostEstimate() {
             if (this.costEstimate == null) {
                 this.updateCostEstimate();
             }
@@ -19,6 +19,7 @@
 package org.apache.wayang.core.optimizer.channels;
 
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.configuration.CollectionProvider;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationUtils;
@@ -35,6 +36,7 @@ import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.Junction;
 import org.apache.wayang.core.util.Bitmask;
+import org.apache.wayang.core.util.LruCache;
 import org.apache.wayang.core.util.OneTimeExecutable;
 import org.apache.wayang.core.util.ReflectionUtils;
 import org.apache.wayang.core.util.WayangCollections;
@@ -52,8 +54,11 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 
@@ -63,9 +68,56 @@ import java.util.stream.Collectors;
 public class ChannelConversionGraph {
 
     /**
-     * Keeps track of the {@link ChannelConversion}s.
+     * Configuration key for the maximum number of solved conversion {@link Tree}s to be cached; {@code 0} (the default)
+     * disables the cache.
      */
-    private final Map<ChannelDescriptor, List<ChannelConversion>> conversions = new HashMap<>();
+    public static final String CACHE_CAPACITY_KEY = "wayang.core.optimizer.channels.cache.capacity";
+
+    /**
+     * Configuration key for the base of the logarithmic buckets, into which {@link CardinalityEstimate}s are sorted
+     * for the {@link Tree} cache. Values {@code <= 1} (the default) require exact matches, while greater values let
+     * similar {@link CardinalityEstimate}s share {@link Tree}s, which might then deviate from the optimal ones.
+     */
+    public static final String CACHE_CARDINALITY_BASE_KEY = "wayang.core.optimizer.channels.cache.cardinality-base";
+
+    /**
+     * Keeps track of the {@link ChannelConversion}s. Replaced as a whole whenever the conversions change.
+     */
+    private volatile Map<ChannelDescriptor, List<ChannelConversion>> conversions = new HashMap<>();
+
+    /**
+     * {@link ChannelConversion}s that have been {@link #add(ChannelConversion) add}ed explicitly rather than via
+     * the {@link #channelConversionProvider}.
+     */
+    private final List<ChannelConversion> addedConversions = new ArrayList<>();
+
+    /**
+     * Provides the {@link ChannelConversion}s of this instance.
+     */
+    private final Configuration configuration;
+
+    /**
+     * The {@link CollectionProvider} (and its modification count), from which the {@link #conversions} were loaded.
+     */
+    private CollectionProvider<ChannelConversion> channelConversionProvider;
+
+    private long channelConversionProviderModificationCount;
+
+    /**
+     * Caches the {@link Tree}s solving the search problems described by {@link TreeCacheKey}s or {@code null}
+     * if caching is disabled. An empty {@link Optional} designates an unsolvable search problem.
+     */
+    private final Map<TreeCacheKey, Optional<Tree>> treeCache;
+
+    /**
+     * Base for the {@link CardinalityEstimate} buckets of the {@link #treeCache}.
+     */
+    private final double cacheCardinalityBase;
+
+    /**
+     * Count the lookups in the {@link #treeCache}.
+     */
+    private final AtomicLong treeCacheHits = new AtomicLong(), treeCacheMisses = new AtomicLong();
 
     /**
      * Caches the {@link Comparator} for {@link ProbabilisticDoubleInterval}s.
@@ -85,31 +137,93 @@ public class ChannelConversionGraph {
      * @param configuration describes how to configure the new instance
      */
     public ChannelConversionGraph(Configuration configuration) {
+        this.configuration = configuration;
         this.costSquasher = configuration.getCostSquasherProvider().provide();
-        configuration.getChannelConversionProvider().provideAll().forEach(this::add);
+        this.loadChannelConversions(configuration.getChannelConversionProvider());
         String treeSelectionStrategyClassName = configuration.getStringProperty(
                 "wayang.core.optimizer.channels.selection",
                 this.getClass().getCanonicalName() + '$' + CostbasedTreeSelectionStrategy.class.getSimpleName()
         );
         this.treeSelectionStrategy = ReflectionUtils.instantiateDefault(treeSelectionStrategyClassName);
+
+        // Cache trees only if they are picked deterministically.
+        final int cacheCapacity = (int) configuration.getLongProperty(CACHE_CAPACITY_KEY, 0);
+        this.treeCache = cacheCapacity > 0 && this.treeSelectionStrategy instanceof CostbasedTreeSelectionStrategy ?
+                Collections.synchronizedMap(new LruCache<>(cacheCapacity)) :
+                null;
+        this.cacheCardinalityBase = configuration.getDoubleProperty(CACHE_CARDINALITY_BASE_KEY, 1d);
     }
 
     /**
      * Register a new {@code channelConversion} in this instance, which effectively adds an edge.
      */
-    public void add(ChannelConversion channelConversion) {
-        final List<ChannelConversion> edges = this.getOrCreateChannelConversions(channelConversion.getSourceChannelDescriptor());
-        edges.add(channelConversion);
+    public synchronized void add(ChannelConversion channelConversion) {
+        this.addedConversions.add(channelConversion);
+        final Map<ChannelDescriptor, List<ChannelConversion>> newConversions = new HashMap<>(this.conversions);
+        newConversions.put(
+                channelConversion.getSourceChannelDescriptor(),
+                new ArrayList<>(newConversions.getOrDefault(channelConversion.getSourceChannelDescriptor(), Collections.emptyList()))
+        );
+        this.addEdge(newConversions, channelConversion);
+        this.conversions = newConversions;
+        this.clearTreeCache();
     }
 
     /**
-     * Return all registered {@link ChannelConversion}s that convert the given {@code channelDescriptor}.
+     * (Re-)load the {@link #conversions} from the given {@link CollectionProvider} and the {@link #addedConversions}.
      *
-     * @param channelDescriptor should be converted
-     * @return the {@link ChannelConversion}s
+     * @param channelConversionProvider provides the {@link ChannelConversion}s
+     */
+    private void loadChannelConversions(CollectionProvider<ChannelConversion> channelConversionProvider) {
+        this.channelConversionProvider = channelConversionProvider;
+        this.channelConversionProviderModificationCount = channelConversionProvider.getModificationCount();
+        final Map<ChannelDescriptor, List<ChannelConversion>> newConversions = new HashMap<>();
+        channelConversionProvider.provideAll().forEach(conversion -> this.addEdge(newConversions, conversion));
+        this.addedConversions.forEach(conversion -> this.addEdge(newConversions, conversion));
+        this.conversions = newConversions;
+    }
+
+    /**
+     * Make sure that the {@link #conversions} reflect the current {@link Configuration#getChannelConversionProvider()}
+     * and drop any cached {@link Tree}s otherwise.
+     */
+    private synchronized void ensureUpToDateChannelConversions() {
+        final CollectionProvider<ChannelConversion> currentProvider = this.configuration.getChannelConversionProvider();
+        if (currentProvider != this.channelConversionProvider
+                || currentProvider.getModificationCount() != this.channelConversionProviderModificationCount) {
+            logger.debug("Channel conversions have changed, reloading them.");
+            this.loadChannelConversions(currentProvider);
+            this.clearTreeCache();
+        }
+    }
+
+    /**
+     * Add an edge to the given {@code conversions}.
+     */
+    private void addEdge(Map<ChannelDescriptor, List<ChannelConversion>> conversions, ChannelConversion channelConversion) {
+        conversions.computeIfAbsent(channelConversion.getSourceChannelDescriptor(), key -> new ArrayList<>())
+                .add(channelConversion);
+    }
+
+    /**
+     * Remove all cached {@link Tree}s.
      */
-    private List<ChannelConversion> getOrCreateChannelConversions(ChannelDescriptor channelDescriptor) {
-        return this.conversions.computeIfAbsent(channelDescriptor, key -> new ArrayList<>());
+    public void clearTreeCache() {
+        if (this.treeCache != null) this.treeCache.clear();
+    }
+
+    /**
+     * @return how often a conversion {@link Tree} could be served from the cache
+     */
+    public long getTreeCacheHits() {
+        return this.treeCacheHits.get();
+    }
+
+    /**
+     * @return how often a conversion {@link Tree} had to be searched although caching was applicable
+     */
+    public long getTreeCacheMisses() {
+        return this.treeCacheMisses.get();
     }
 
     /**
@@ -126,6 +240,7 @@ public class ChannelConversionGraph {
                                             List<InputSlot<?>> destInputSlots,
                                             OptimizationContext optimizationContext,
                                             boolean isRequestBreakpoint) {
+        this.ensureUpToDateChannelConversions();
         return new ShortestTreeSearcher(output, null, destInputSlots, optimizationContext, isRequestBreakpoint).getJunction();
     }
 
@@ -143,6 +258,7 @@ public class ChannelConversionGraph {
                                             Collection<Channel> openChannels,
                                             List<InputSlot<?>> destInputSlots,
                                             OptimizationContext optimizationContext) {
+        this.ensureUpToDateChannelConversions();
         return new ShortestTreeSearcher(output, openChannels, destInputSlots, optimizationContext, false).getJunction();
     }
 
@@ -485,8 +601,22 @@ public class ChannelConversionGraph {
 
         @Override
         protected void doExecute() {
-            // Start from the root vertex.
-            final Tree tree = this.searchTree();
+            // Look for an already solved search problem or otherwise start from the root vertex.
+            final Tree tree;
+            final TreeCacheKey cacheKey = this.createTreeCacheKey();
+            if (cacheKey == null) {
+                tree = this.searchTree();
+            } else {
+                final Optional<Tree> cachedTree = treeCache.get(cacheKey);
+                if (cachedTree != null) {
+                    treeCacheHits.incrementAndGet();
+                    tree = cachedTree.orElse(null);
+                } else {
+                    treeCacheMisses.incrementAndGet();
+                    tree = this.searchTree();
+                    treeCache.put(cacheKey, Optional.ofNullable(tree));
+                }
+            }
             if (tree != null) {
                 this.createJunction(tree);
             } else {
@@ -494,6 +624,27 @@ public class ChannelConversionGraph {
             }
         }
 
+        /**
+         * Describes the search problem of this instance for the {@link #treeCache}. The search result does not depend
+         * on particular {@link Channel}s or {@link ExecutionOperator}s, unless there are {@link #existingChannels}.
+         *
+         * @return the {@link TreeCacheKey} or {@code null} if the search result must not be cached
+         */
+        private TreeCacheKey createTreeCacheKey() {
+            if (treeCache == null || !this.existingChannels.isEmpty() || this.cardinality == null) {
+                return null;
+            }
+            return new TreeCacheKey(
+                    this.sourceChannelDescriptor,
+                    this.destChannelDescriptorSets,
+                    toCardinalityBucket(this.cardinality.getLowerEstimate()),
+                    toCardinalityBucket(this.cardinality.getUpperEstimate()),
+                    this.cardinality.getCorrectnessProbability(),
+                    this.numExecutions,
+                    this.isRequestBreakpoint
+            );
+        }
+
         /**
          * Rule out any non-reusable {@link ChannelDescriptor}s in recurring {@link ChannelDescriptor} sets.
          *
@@ -578,11 +729,12 @@ public class ChannelConversionGraph {
             final HashSet<ChannelDescriptor> visitedChannelDescriptors = new HashSet<>(16);
             visitedChannelDescriptors.add(this.sourceChannelDescriptor);
 
-            // Perform the traversal.
+            // Perform the traversal. NB: The settled indices are altered during the traversal, so we must not pass
+            // the shared Bitmask.EMPTY_BITMASK.
             final Map<Bitmask, Tree> solutions = this.enumerate(
                     visitedChannelDescriptors,
                     this.sourceChannelDescriptor,
-                    Bitmask.EMPTY_BITMASK,
+                    new Bitmask(this.destChannelDescriptorSets.size()),
                     this.sourceChannelDescriptor.isSuitableForBreakpoint()
             );
 
@@ -967,7 +1119,78 @@ public class ChannelConversionGraph {
     }
 
     /**
-     * A tree consisting of {@link TreeVertex}es connected by {@link TreeEdge}s.
+     * Sorts a cardinality into a logarithmic bucket w.r.t. the {@link #cacheCardinalityBase}.
+     *
+     * @param cardinality the cardinality
+     * @return an identifier for the bucket
+     */
+    private long toCardinalityBucket(long cardinality) {
+        if (this.cacheCardinalityBase <= 1d || cardinality <= 1L) return cardinality;
+        return 1L + (long) Math.floor(Math.log(cardinality) / Math.log(this.cacheCardinalityBase));
+    }
+
+    /**
+     * Describes a search problem of a {@link ShortestTreeSearcher} without any existing {@link Channel}s.
+     */
+    private static class TreeCacheKey {
+
+        private final ChannelDescriptor sourceChannelDescriptor;
+
+        private final List<Set<ChannelDescriptor>> destChannelDescriptorSets;
+
+        private final long lowerCardinalityBucket, upperCardinalityBucket;
+
+        private final double cardinalityCorrectnessProbability;
+
+        private final int numExecutions;
+
+        private final boolean isRequestBreakpoint;
+
+        private final int hashCode;
+
+        private TreeCacheKey(ChannelDescriptor sourceChannelDescriptor,
+                             List<Set<ChannelDescriptor>> destChannelDescriptorSets,
+                             long lowerCardinalityBucket,
+                             long upperCardinalityBucket,
+                             double cardinalityCorrectnessProbability,
+                             int numExecutions,
+                             boolean isRequestBreakpoint) {
+            this.sourceChannelDescriptor = sourceChannelDescriptor;
+            this.destChannelDescriptorSets = destChannelDescriptorSets;
+            this.lowerCardinalityBucket = lowerCardinalityBucket;
+            this.upperCardinalityBucket = upperCardinalityBucket;
+            this.cardinalityCorrectnessProbability = cardinalityCorrectnessProbability;
+            this.numExecutions = numExecutions;
+            this.isRequestBreakpoint = isRequestBreakpoint;
+            this.hashCode = Objects.hash(
+                    sourceChannelDescriptor, destChannelDescriptorSets, lowerCardinalityBucket,
+                    upperCardinalityBucket, cardinalityCorrectnessProbability, numExecutions, isRequestBreakpoint
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || this.getClass() != o.getClass()) return false;
+            TreeCacheKey that = (TreeCacheKey) o;
+            return this.lowerCardinalityBucket == that.lowerCardinalityBucket
+                    && this.upperCardinalityBucket == that.upperCardinalityBucket
+                    && Double.compare(this.cardinalityCorrectnessProbability, that.cardinalityCorrectnessProbability) == 0
+                    && this.numExecutions == that.numExecutions
+                    && this.isRequestBreakpoint == that.isRequestBreakpoint
+                    && this.sourceChannelDescriptor.equals(that.sourceChannelDescriptor)
+                    && this.destChannelDescriptorSets.equals(that.destChannelDescriptorSets);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+    }
+
+    /**
+     * A tree consisting of {@link TreeVertex}es connected by {@link TreeEdge}s. Once a search is completed, instances
+     * are not altered anymore and can hence be reused.
      */
     private static class Tree {
 
@@ -126,7 +126,7 @@ public class DefaultEstimatableCost implements EstimatableCost {
      *                          overhead in nested instances)
      * @return the squashed cost estimate
      */
-    @Override public double getSquashedEstimate(final PlanImplementation plan, boolean isIncludeOverhead) {
+    @Override public synchronized double getSquashedEstimate(final PlanImplementation plan, boolean isIncludeOverhead) {
         assert Double.isNaN(this.squashedCostEstimateCache) == Double.isNaN(this.squashedCostEstimateWithoutOverheadCache);
         if (Double.isNaN(this.squashedCostEstimateCache)) {
             final double operatorCosts = plan.getOperators().stream()
@@ -164,7 +164,7 @@ public class DefaultEstimatableCost implements EstimatableCost {
      *                          overhead in nested instances)
      * @return the cost estimate taking into account parallel stage execution
      */
-    @Override public ProbabilisticDoubleInterval getParallelEstimate(PlanImplementation plan, boolean isIncludeOverhead) {
+    @Override public synchronized ProbabilisticDoubleInterval getParallelEstimate(PlanImplementation plan, boolean isIncludeOverhead) {
         ProbabilisticDoubleInterval parallelCostEstimateWithoutOverhead, parallelCostEstimate;
 
         if (this.parallelCostEstimateCache == null) {
@@ -195,7 +195,7 @@ public class DefaultEstimatableCost implements EstimatableCost {
      *                          overhead in nested instances)
      * @return the squashed cost estimate taking into account parallel stage execution
      */
-    public double getSquashedParallelEstimate(final PlanImplementation plan, boolean isIncludeOverhead) {
+    public synchronized double getSquashedParallelEstimate(final PlanImplementation plan, boolean isIncludeOverhead) {
         // Collect sink operators by Removing all operators that have an output
         Set<Operator> sinkOperators;
         sinkOperators = plan.getOperators().stream()
@@ -249,7 +249,7 @@ public class DefaultEstimatableCost implements EstimatableCost {
      */
 
 
-    public Tuple<List<ProbabilisticDoubleInterval>, List<Double>> getParallelOperatorJunctionAllCostEstimate(PlanImplementation plan, Operator operator) {
+    public synchronized Tuple<List<ProbabilisticDoubleInterval>, List<Double>> getParallelOperatorJunctionAllCostEstimate(PlanImplementation plan, Operator operator) {
 
         Set<Operator> inputOperators = new HashSet<>();
         Set<Junction> inputJunction = new HashSet<>();
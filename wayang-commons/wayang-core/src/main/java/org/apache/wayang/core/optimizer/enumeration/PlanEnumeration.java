@@ -47,6 +47,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -201,6 +202,24 @@ public class PlanEnumeration {
                                        Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                        OptimizationContext optimizationContext,
                                        TimeMeasurement enumerationMeasurement) {
+        return this.concatenate(
+                openOutputSlot, openChannels, targetEnumerations, optimizationContext, enumerationMeasurement, null
+        );
+    }
+
+    /**
+     * Concatenates the {@code baseEnumeration} via its {@code openOutputSlot} to the {@code targetEnumerations}.
+     * All {@link PlanEnumeration}s should be distinct.
+     *
+     * @param forkJoinPool on which the {@link PlanImplementation}s should be concatenated or {@code null} to do so
+     *                     sequentially; either way, the resulting {@link PlanImplementation}s are the same
+     */
+    public PlanEnumeration concatenate(OutputSlot<?> openOutputSlot,
+                                       Collection<Channel> openChannels,
+                                       Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
+                                       OptimizationContext optimizationContext,
+                                       TimeMeasurement enumerationMeasurement,
+                                       ForkJoinPool forkJoinPool) {
 
         // Check the parameters' validity.
         assert this.getServingOutputSlots().stream()
@@ -253,7 +272,8 @@ public class PlanEnumeration {
                 targetEnumerations,
                 optimizationContext,
                 result,
-                concatenationMeasurement
+                concatenationMeasurement,
+                forkJoinPool
         ));
 
         logger.debug("Created {} plan implementations.", result.getPlanImplementations().size());
@@ -271,7 +291,8 @@ public class PlanEnumeration {
                                                                    Map<InputSlot<?>, PlanEnumeration> targetEnumerations,
                                                                    OptimizationContext optimizationContext,
                                                                    PlanEnumeration concatenationEnumeration,
-                                                                   TimeMeasurement concatenationMeasurement) {
+                                                                   TimeMeasurement concatenationMeasurement,
+                                                                   ForkJoinPool forkJoinPool) {
         final Job job = optimizationContext.getJob();
         final OptimizationContext.OperatorContext operatorContext = optimizationContext.getOperatorContext(openOutputSlot.getOwner());
         boolean isRequestBreakpoint = job.isRequestBreakpointFor(openOutputSlot, operatorContext);
@@ -282,7 +303,8 @@ public class PlanEnumeration {
                 optimizationContext,
                 isRequestBreakpoint,
                 concatenationEnumeration,
-                concatenationMeasurement
+                concatenationMeasurement,
+                forkJoinPool
         );
     }
 
@@ -297,6 +319,7 @@ public class PlanEnumeration {
      * @param concatenationEnumeration to which the {@link PlanImplementation}s should be added
      * @param concatenationMeasurement
      * @param isRequestBreakpoint      whether a breakpoint-capable {@link Channel} should be inserted
+     * @param forkJoinPool             on which the concatenation groups should be processed or {@code null}
      * @return the concatenated {@link PlanImplementation}s
      */
     private Collection<PlanImplementation> concatenatePartialPlansBatchwise(
@@ -306,7 +329,8 @@ public class PlanEnumeration {
             OptimizationContext optimizationContext,
             boolean isRequestBreakpoint,
             PlanEnumeration concatenationEnumeration,
-            TimeMeasurement concatenationMeasurement) {
+            TimeMeasurement concatenationMeasurement,
+            ForkJoinPool forkJoinPool) {
 
         // Preparatory initializations.
         final ChannelConversionGraph channelConversionGraph = optimizationContext.getChannelConversionGraph();
@@ -371,65 +395,116 @@ public class PlanEnumeration {
         for (PlanEnumeration enumeration : orderedEnumerations) {
             orderedConcatGroups.add(enum2concatGroup.get(enumeration));
         }
+        List<List<PlanImplementation.ConcatenationGroupDescriptor>> concatGroupCombos = new ArrayList<>();
         for (List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo : WayangCollections.streamedCrossProduct(orderedConcatGroups)) {
-            // Determine the execution output along with its OptimizationContext.
-            PlanImplementation.ConcatenationGroupDescriptor baseConcatGroup = concatGroupCombo.get(0);
-            final OutputSlot<?> execOutput = baseConcatGroup.execOutput;
-            Set<PlanImplementation.ConcatenationDescriptor> baseConcatDescriptors = concatGroup2concatDescriptor.get(baseConcatGroup);
-            final PlanImplementation innerPlanImplementation = WayangCollections.getAny(baseConcatDescriptors).execOutputPlanImplementation;
-            // The output should reside in the same OptimizationContext in all PlanImplementations.
-            assert baseConcatDescriptors.stream()
-                    .map(cd -> cd.execOutputPlanImplementation)
-                    .map(PlanImplementation::getOptimizationContext)
-                    .collect(Collectors.toSet()).size() == 1;
-
-            // Determine the execution OutputSlots.
-            List<InputSlot<?>> execInputs = new ArrayList<>(inputs.size());
-            for (PlanImplementation.ConcatenationGroupDescriptor concatGroup : concatGroupCombo) {
-                for (Set<InputSlot<?>> execInputSet : concatGroup.execInputs) {
-                    if (execInputSet != null) execInputs.addAll(execInputSet);
-                }
+            concatGroupCombos.add(concatGroupCombo);
+        }
+        if (forkJoinPool == null || concatGroupCombos.size() < 2) {
+            for (List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo : concatGroupCombos) {
+                result.addAll(this.concatenateGroupCombination(
+                        concatGroupCombo, concatGroup2concatDescriptor, inputs, openChannels, channelConversionGraph,
+                        isRequestBreakpoint, concatenationEnumeration, concatenationMeasurement
+                ));
             }
+        } else {
+            // Process the concatenation groups in parallel, but collect their PlanImplementations in the sequential
+            // order. TimeMeasurements are not thread-safe, so we do not measure the channel conversions here.
+            final List<Collection<PlanImplementation>> partialResults = forkJoinPool.submit(
+                    () -> concatGroupCombos.parallelStream()
+                            .map(concatGroupCombo -> this.concatenateGroupCombination(
+                                    concatGroupCombo, concatGroup2concatDescriptor, inputs, openChannels,
+                                    channelConversionGraph, isRequestBreakpoint, concatenationEnumeration, null
+                            ))
+                            .collect(Collectors.toList())
+            ).join();
+            partialResults.forEach(result::addAll);
+        }
 
-            // Construct a Junction between the ExecutionOperators.
-            final Operator outputOperator = execOutput.getOwner();
-            assert outputOperator.isExecutionOperator() : String.format("Expected execution operator, found %s.", outputOperator);
-            TimeMeasurement channelConversionMeasurement = concatenationMeasurement == null ?
-                    null : concatenationMeasurement.start("Channel Conversion");
-            final Junction junction = openChannels == null || openChannels.isEmpty() ?
-                    channelConversionGraph.findMinimumCostJunction(
-                            execOutput,
-                            execInputs,
-                            innerPlanImplementation.getOptimizationContext(),
-                            isRequestBreakpoint
-                    ) :
-                    channelConversionGraph.findMinimumCostJunction(
-                            execOutput,
-                            openChannels,
-                            execInputs,
-                            innerPlanImplementation.getOptimizationContext());
-            if (channelConversionMeasurement != null) channelConversionMeasurement.stop();
-            if (junction == null) continue;
-
-            // If we found a junction, then we can enumerate all PlanImplementation combinations.
-            final List<Set<PlanImplementation>> groupPlans = WayangCollections.map(
-                    concatGroupCombo,
-                    concatGroup -> {
-                        Set<PlanImplementation.ConcatenationDescriptor> concatDescriptors = concatGroup2concatDescriptor.get(concatGroup);
-                        Set<PlanImplementation> planImplementations = new HashSet<>(concatDescriptors.size());
-                        for (PlanImplementation.ConcatenationDescriptor concatDescriptor : concatDescriptors) {
-                            planImplementations.add(concatDescriptor.getPlanImplementation());
-                        }
-                        return planImplementations;
-                    });
-
-            for (List<PlanImplementation> planCombo : WayangCollections.streamedCrossProduct(groupPlans)) {
-                PlanImplementation basePlan = planCombo.get(0);
-                List<PlanImplementation> targetPlans = planCombo.subList(0, planCombo.size());
-                PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlans, junction, basePlan, concatenationEnumeration);
-                if (concatenatedPlan != null) {
-                    result.add(concatenatedPlan);
-                }
+        return result;
+    }
+
+    /**
+     * Concatenates the {@link PlanImplementation}s of a single combination of concatenation groups, which all share
+     * the same {@link Junction}. Does not alter any shared state, so that several combinations can be processed in
+     * parallel.
+     *
+     * @param concatGroupCombo             the combination of concatenation groups; the first one belongs to this instance
+     * @param concatGroup2concatDescriptor provides the {@link PlanImplementation}s of each concatenation group
+     * @param inputs                       the {@link InputSlot}s to be concatenated in a fixed order
+     * @param openChannels                 existing {@link Channel}s that must be reused or {@code null}
+     * @param channelConversionGraph       to find the {@link Junction}
+     * @param isRequestBreakpoint          whether a breakpoint-capable {@link Channel} should be inserted
+     * @param concatenationEnumeration     to which the {@link PlanImplementation}s should be added
+     * @param concatenationMeasurement     to measure the channel conversion or {@code null}
+     * @return the concatenated {@link PlanImplementation}s
+     */
+    private Collection<PlanImplementation> concatenateGroupCombination(
+            List<PlanImplementation.ConcatenationGroupDescriptor> concatGroupCombo,
+            MultiMap<PlanImplementation.ConcatenationGroupDescriptor, PlanImplementation.ConcatenationDescriptor> concatGroup2concatDescriptor,
+            List<InputSlot<?>> inputs,
+            Collection<Channel> openChannels,
+            ChannelConversionGraph channelConversionGraph,
+            boolean isRequestBreakpoint,
+            PlanEnumeration concatenationEnumeration,
+            TimeMeasurement concatenationMeasurement) {
+        // Determine the execution output along with its OptimizationContext.
+        PlanImplementation.ConcatenationGroupDescriptor baseConcatGroup = concatGroupCombo.get(0);
+        final OutputSlot<?> execOutput = baseConcatGroup.execOutput;
+        Set<PlanImplementation.ConcatenationDescriptor> baseConcatDescriptors = concatGroup2concatDescriptor.get(baseConcatGroup);
+        final PlanImplementation innerPlanImplementation = WayangCollections.getAny(baseConcatDescriptors).execOutputPlanImplementation;
+        // The output should reside in the same OptimizationContext in all PlanImplementations.
+        assert baseConcatDescriptors.stream()
+                .map(cd -> cd.execOutputPlanImplementation)
+                .map(PlanImplementation::getOptimizationContext)
+                .collect(Collectors.toSet()).size() == 1;
+
+        // Determine the execution OutputSlots.
+        List<InputSlot<?>> execInputs = new ArrayList<>(inputs.size());
+        for (PlanImplementation.ConcatenationGroupDescriptor concatGroup : concatGroupCombo) {
+            for (Set<InputSlot<?>> execInputSet : concatGroup.execInputs) {
+                if (execInputSet != null) execInputs.addAll(execInputSet);
+            }
+        }
+
+        // Construct a Junction between the ExecutionOperators.
+        final Operator outputOperator = execOutput.getOwner();
+        assert outputOperator.isExecutionOperator() : String.format("Expected execution operator, found %s.", outputOperator);
+        TimeMeasurement channelConversionMeasurement = concatenationMeasurement == null ?
+                null : concatenationMeasurement.start("Channel Conversion");
+        final Junction junction = openChannels == null || openChannels.isEmpty() ?
+                channelConversionGraph.findMinimumCostJunction(
+                        execOutput,
+                        execInputs,
+                        innerPlanImplementation.getOptimizationContext(),
+                        isRequestBreakpoint
+                ) :
+                channelConversionGraph.findMinimumCostJunction(
+                        execOutput,
+                        openChannels,
+                        execInputs,
+                        innerPlanImplementation.getOptimizationContext());
+        if (channelConversionMeasurement != null) channelConversionMeasurement.stop();
+        if (junction == null) return Collections.emptyList();
+
+        // If we found a junction, then we can enumerate all PlanImplementation combinations.
+        final List<Set<PlanImplementation>> groupPlans = WayangCollections.map(
+                concatGroupCombo,
+                concatGroup -> {
+                    Set<PlanImplementation.ConcatenationDescriptor> concatDescriptors = concatGroup2concatDescriptor.get(concatGroup);
+                    Set<PlanImplementation> planImplementations = new HashSet<>(concatDescriptors.size());
+                    for (PlanImplementation.ConcatenationDescriptor concatDescriptor : concatDescriptors) {
+                        planImplementations.add(concatDescriptor.getPlanImplementation());
+                    }
+                    return planImplementations;
+                });
+
+        Collection<PlanImplementation> result = new LinkedList<>();
+        for (List<PlanImplementation> planCombo : WayangCollections.streamedCrossProduct(groupPlans)) {
+            PlanImplementation basePlan = planCombo.get(0);
+            List<PlanImplementation> targetPlans = planCombo.subList(0, planCombo.size());
+            PlanImplementation concatenatedPlan = basePlan.concatenate(targetPlans, junction, basePlan, concatenationEnumeration);
+            if (concatenatedPlan != null) {
+                result.add(concatenatedPlan);
             }
         }
 
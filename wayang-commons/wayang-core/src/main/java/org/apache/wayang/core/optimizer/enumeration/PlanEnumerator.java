@@ -55,6 +55,7 @@ import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
@@ -63,9 +64,29 @@ import java.util.stream.Stream;
 /**
  * The plan partitioner recursively dissects a {@link WayangPlan} into {@link PlanEnumeration}s and then assembles
  * them.
+ * <p>If {@link #PARALLEL_KEY} is set, the {@link PlanImplementation}s of large concatenations are created and costed
+ * on a {@link ForkJoinPool}. The order in which {@link PlanEnumeration}s are concatenated and pruned is not affected,
+ * so that the enumeration yields the same result as the sequential one.</p>
  */
 public class PlanEnumerator {
 
+    /**
+     * Configuration key to enable the parallel concatenation and pruning of {@link PlanEnumeration}s.
+     */
+    public static final String PARALLEL_KEY = "wayang.core.optimizer.enumeration.parallel";
+
+    /**
+     * Configuration key for the parallelism of the {@link ForkJoinPool} used by the enumeration. Non-positive values
+     * select the common {@link ForkJoinPool}.
+     */
+    public static final String PARALLELISM_KEY = "wayang.core.optimizer.enumeration.parallel.threads";
+
+    /**
+     * Configuration key for the minimum number of {@link PlanImplementation}s that a concatenation or pruning must
+     * involve to be parallelized.
+     */
+    public static final String PARALLEL_THRESHOLD_KEY = "wayang.core.optimizer.enumeration.parallel.threshold";
+
     /**
      * Logger.
      */
@@ -147,6 +168,22 @@ public class PlanEnumerator {
      */
     private boolean isEnumeratingBranchesFirst;
 
+    /**
+     * {@link ForkJoinPool} to concatenate and prune {@link PlanEnumeration}s on or {@code null} if this instance
+     * works sequentially. Forks share the {@link ForkJoinPool} of their top-level instance.
+     */
+    private ForkJoinPool forkJoinPool;
+
+    /**
+     * Tells whether this instance has created the {@link #forkJoinPool} and must shut it down.
+     */
+    private boolean isOwningForkJoinPool;
+
+    /**
+     * Minimum number of {@link PlanImplementation}s to be processed before the {@link #forkJoinPool} is used.
+     */
+    private long parallelThreshold;
+
     /**
      * Creates a new instance.
      *
@@ -271,6 +308,17 @@ public class PlanEnumerator {
                 activator -> -concatenationPriorityFunction.applyAsDouble(activator) :
                 concatenationPriorityFunction;
 
+        // Configure the parallelism. Forks are handed the ForkJoinPool of their parent via #forkFor(...).
+        this.parallelThreshold = configuration.getLongProperty(PARALLEL_THRESHOLD_KEY, 64);
+        if (this.isTopLevel() && configuration.getBooleanProperty(PARALLEL_KEY, false)) {
+            int parallelism = (int) configuration.getLongProperty(PARALLELISM_KEY, 0);
+            if (parallelism <= 0) {
+                this.forkJoinPool = ForkJoinPool.commonPool();
+            } else {
+                this.forkJoinPool = new ForkJoinPool(parallelism);
+                this.isOwningForkJoinPool = true;
+            }
+        }
 
     }
 
@@ -323,30 +371,45 @@ public class PlanEnumerator {
      */
     private synchronized void run() {
         if (this.resultReference == null) {
-            while (!this.activatedEnumerations.isEmpty()) {
-                // Try to enumerate branches.
-                EnumerationActivator enumerationActivator;
-                if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
-                    if (this.isTopLevel()) {
-                        this.logger.debug("Execute {}.", enumerationActivator);
-                    }
-                    this.enumerateBranchStartingFrom(enumerationActivator);
+            try {
+                this.runEnumeration();
+            } finally {
+                if (this.isOwningForkJoinPool) {
+                    this.forkJoinPool.shutdown();
+                    this.forkJoinPool = null;
+                    this.isOwningForkJoinPool = false;
                 }
             }
+        }
+    }
 
-            ConcatenationActivator concatenationActivator;
-            while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+    /**
+     * Carries out the enumeration for {@link #run()}.
+     */
+    private void runEnumeration() {
+        while (!this.activatedEnumerations.isEmpty()) {
+            // Try to enumerate branches.
+            EnumerationActivator enumerationActivator;
+            if ((enumerationActivator = this.activatedEnumerations.poll()) != null) {
                 if (this.isTopLevel()) {
-                    this.logger.debug("Execute {} (open inputs: {}).",
-                            concatenationActivator,
-                            concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
-                    );
+                    this.logger.debug("Execute {}.", enumerationActivator);
                 }
-                this.concatenate(concatenationActivator);
+                this.enumerateBranchStartingFrom(enumerationActivator);
             }
+        }
 
-            this.constructResultEnumeration();
+        ConcatenationActivator concatenationActivator;
+        while ((concatenationActivator = this.activatedConcatenations.poll()) != null) {
+            if (this.isTopLevel()) {
+                this.logger.debug("Execute {} (open inputs: {}).",
+                        concatenationActivator,
+                        concatenationActivator.getBaseEnumeration().getRequestedInputSlots()
+                );
+            }
+            this.concatenate(concatenationActivator);
         }
+
+        this.constructResultEnumeration();
     }
 
     /**
@@ -503,7 +566,9 @@ public class PlanEnumerator {
                         this.openChannels.get(output),
                         Collections.singletonMap(operator.getInput(0), operatorEnumeration),
                         optimizationContext,
-                        this.timeMeasurement);
+                        this.timeMeasurement,
+                        this.getForkJoinPoolFor((long) branchEnumeration.getPlanImplementations().size()
+                                * operatorEnumeration.getPlanImplementations().size()));
 
                 if (branchEnumeration.getPlanImplementations().isEmpty()) {
                     if (this.isTopLevel()) {
@@ -564,6 +629,7 @@ public class PlanEnumerator {
                 this.executedTasks,
                 this.openChannels);
         fork.setTimeMeasurement(this.timeMeasurement);
+        fork.forkJoinPool = this.forkJoinPool;
         return fork;
     }
 
@@ -578,6 +644,7 @@ public class PlanEnumerator {
                 this.executedTasks,
                 this.openChannels);
         fork.setTimeMeasurement(this.timeMeasurement);
+        fork.forkJoinPool = this.forkJoinPool;
         return fork;
     }
 
@@ -598,7 +665,8 @@ public class PlanEnumerator {
                 this.openChannels.get(concatenationActivator.outputSlot),
                 concatenationActivator.getAdjacentEnumerations(),
                 concatenationActivator.getOptimizationContext(),
-                this.timeMeasurement
+                this.timeMeasurement,
+                this.getForkJoinPoolFor((long) concatenationActivator.estimateNumConcatenatedPlanImplementations())
         );
 
         if (concatenatedEnumeration.getPlanImplementations().isEmpty()) {
@@ -801,6 +869,17 @@ public class PlanEnumerator {
         }
 
         int numPlanImplementations = planEnumeration.getPlanImplementations().size();
+
+        // The pruning strategies themselves are sequential, but the bulk of their work is to estimate the costs of
+        // the PlanImplementations. As PlanImplementations cache their estimates, we can calculate them in parallel.
+        final ForkJoinPool forkJoinPool = this.getForkJoinPoolFor(numPlanImplementations);
+        if (forkJoinPool != null) {
+            final Collection<PlanImplementation> planImplementations = planEnumeration.getPlanImplementations();
+            forkJoinPool.submit(
+                    () -> planImplementations.parallelStream().forEach(PlanImplementation::getSquashedCostEstimate)
+            ).join();
+        }
+
         this.optimizationContext.getPruningStrategies().forEach(strategy -> strategy.prune(planEnumeration));
         this.logger.debug("Pruned plan enumeration from {} to {} implementations.",
                 numPlanImplementations,
@@ -810,6 +889,16 @@ public class PlanEnumerator {
         if (pruneMeasurement != null) pruneMeasurement.stop();
     }
 
+    /**
+     * Provides the {@link ForkJoinPool} to process the given amount of {@link PlanImplementation}s on.
+     *
+     * @param numPlanImplementations the number of {@link PlanImplementation}s to be processed
+     * @return the {@link #forkJoinPool} or {@code null} if the work should be done sequentially
+     */
+    private ForkJoinPool getForkJoinPoolFor(long numPlanImplementations) {
+        return numPlanImplementations >= this.parallelThreshold ? this.forkJoinPool : null;
+    }
+
     /**
      * Checks whether this instance is enumerating a top-level plan and is not a recursively invoked enumeration.
      *
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.plan.wayangplan;
+
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
+
+/**
+ * {@link Operator}s that keep state (e.g., clients of external systems) across the repeated executions of an
+ * {@link ExecutionPlan} in the micro-batch mode of a {@link Job} (see {@link Job#MICRO_BATCH_KEY}). Outside of that
+ * mode, the {@link ExecutionPlan} is executed as a single batch.
+ */
+public interface MicroBatchOperator {
+
+    /**
+     * Called once the {@link ExecutionPlan} has successfully processed the current batch, e.g., to commit the
+     * consumed input.
+     */
+    void onBatchCompleted();
+
+    /**
+     * Tells how many data quanta this instance has read in the current batch.
+     *
+     * @return the number of data quanta or {@code 0} if this instance does not read data
+     */
+    default long getBatchSize() {
+        return 0L;
+    }
+
+    /**
+     * Releases all resources of this instance after the last batch.
+     */
+    void release();
+
+}
@@ -20,6 +20,7 @@ package org.apache.wayang.core.platform;
 
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
@@ -31,6 +32,7 @@ import org.apache.wayang.core.plan.wayangplan.LoopHeadOperator;
 import org.apache.wayang.core.plan.wayangplan.LoopSubplan;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.profiling.InstrumentationStrategy;
+import org.apache.wayang.core.profiling.StageExecutionMeasurement;
 import org.apache.wayang.core.util.AbstractReferenceCountable;
 import org.apache.wayang.core.util.Formats;
 import org.apache.logging.log4j.LogManager;
@@ -45,13 +47,34 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 /**
  * Executes a (cross-platform) {@link ExecutionPlan}.
+ * <p>If {@link #PARALLEL_KEY} is set, independent {@link ExecutionStage}s are run on a bounded thread pool and each
+ * {@link ExecutionStage} is submitted as soon as its inputs are available. All bookkeeping on activation and
+ * {@link ChannelInstance}s is done while holding the monitor of this instance, while {@link ExecutionStage}s of the
+ * same {@link Platform} are still executed one after another, because {@link Executor}s are not thread-safe.</p>
  */
 public class CrossPlatformExecutor implements ExecutionState {
 
+    /**
+     * Configuration key to enable the parallel execution of independent {@link ExecutionStage}s.
+     */
+    public static final String PARALLEL_KEY = "wayang.core.executor.parallel-stages";
+
+    /**
+     * Configuration key for the maximum number of {@link ExecutionStage}s executed in parallel. Non-positive values
+     * default to the number of available processors.
+     */
+    public static final String PARALLELISM_KEY = "wayang.core.executor.parallel-stages.threads";
+
     public final Logger logger = LogManager.getLogger(this.getClass());
 
     /**
@@ -72,29 +95,29 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Activated and considered for execution.
      */
-    private final Queue<StageActivator> activatedStageActivators = new LinkedList<>();
+    private final Queue<StageActivator> activatedStageActivators = new ConcurrentLinkedQueue<>();
 
     /**
      * Keeps track of {@link StageActivator}s.
      */
-    private final Map<ExecutionStage, StageActivator> pendingStageActivators = new HashMap<>();
+    private final Map<ExecutionStage, StageActivator> pendingStageActivators = new ConcurrentHashMap<>();
 
     /**
      * Maintains the {@link Executor}s for each {@link Platform}.
      */
-    private final Map<Platform, Executor> executors = new HashMap<>();
+    private final Map<Platform, Executor> executors = new ConcurrentHashMap<>();
 
     /**
      * We keep them around if we want to go on without re-optimization.
      */
-    private final Collection<StageActivator> suspendedStages = new LinkedList<>();
+    private final Collection<StageActivator> suspendedStages = new ConcurrentLinkedQueue<>();
 
     /**
      * When executing an {@link ExecutionStageLoop}, we might need to reuse several {@link ExecutionResource}s
      * among all iterations. If we would go with our normal handling scheme, we might lose them after the first
      * iteration. Therefore, we actively keep track of them via {@link ExecutionStageLoopContext}s.
      */
-    private final Map<ExecutionStageLoop, ExecutionStageLoopContext> loopContexts = new HashMap<>();
+    private final Map<ExecutionStageLoop, ExecutionStageLoopContext> loopContexts = new ConcurrentHashMap<>();
 
     /**
      * Marks {@link Channel}s for instrumentation.
@@ -104,38 +127,49 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Keeps track of {@link ExecutionStage}s that have actually been executed by this instance.
      */
-    private Set<ExecutionStage> completedStages = new HashSet<>();
+    private final Set<ExecutionStage> completedStages = ConcurrentHashMap.newKeySet();
 
     /**
      * Keeps track of {@link ChannelInstance} cardinalities.
      */
-    private final Collection<ChannelInstance> cardinalityMeasurements = new LinkedList<>();
+    private final Collection<ChannelInstance> cardinalityMeasurements = new ConcurrentLinkedQueue<>();
 
     /**
      * Maintains {@link ExecutionResource}s that are "global" w.r.t. to this instance, i.e., they will not be
      * instantly disposed if not currently used.
      */
-    private final Set<ExecutionResource> globalResources = new HashSet<>(2);
+    private final Set<ExecutionResource> globalResources = ConcurrentHashMap.newKeySet(2);
 
     /**
      * Keeps track of {@link ChannelInstance}s so as to reuse them among {@link Executor} runs.
      */
-    private final Map<Channel, ChannelInstance> channelInstances = new HashMap<>();
+    private final Map<Channel, ChannelInstance> channelInstances = new ConcurrentHashMap<>();
 
     /**
      * Gathers {@link PartialExecution}s created during the execution.
      */
-    private final Collection<PartialExecution> partialExecutions = new LinkedList<>();
+    private final Collection<PartialExecution> partialExecutions = new ConcurrentLinkedQueue<>();
 
     /**
-     * Gathers {@link ParallelExecutionThread}s created during parallel execution.
+     * Gathers {@link StageExecutionMeasurement}s created during the execution.
      */
-    private final ArrayList<Thread> parallelExecutionThreads = new ArrayList<>();
+    private final Collection<StageExecutionMeasurement> stageMeasurements = new ConcurrentLinkedQueue<>();
 
     /**
-     * Keeps track of the completed {@link ParallelExecutionThread}s created during parallel execution.
+     * Provides IDs for the {@link #stageMeasurements}.
      */
-    private volatile int completedThreads;
+    private final AtomicInteger nextStageMeasurementId = new AtomicInteger();
+
+    /**
+     * {@link ExecutionStage}s that are currently being executed. Their {@link ChannelInstance}s must not be disposed
+     * before they have been handed over to their consumers.
+     */
+    private final Set<ExecutionStage> runningStages = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Runs {@link ExecutionStage}s in parallel. Created lazily.
+     */
+    private ExecutorService stageExecutorService;
 
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
@@ -237,7 +271,6 @@ public class CrossPlatformExecutor implements ExecutionState {
     /**
      * Execute one single {@link ExecutionStage}
      */
-
     private void executeSingleStage(boolean isBreakpointsDisabled, StageActivator stageActivator) {
         // Check if #breakpoint permits the execution.
         if (!isBreakpointsDisabled && this.suspendIfBreakpointRequest(stageActivator)) {
@@ -246,6 +279,24 @@ public class CrossPlatformExecutor implements ExecutionState {
 
         // Otherwise, execute the stage.
         this.execute(stageActivator);
+        this.completeStage(stageActivator);
+    }
+
+    /**
+     * Book-keeping after an {@link ExecutionStage} has been executed: activate its successors and release
+     * {@link ChannelInstance}s that are not needed anymore.
+     *
+     * @param stageActivator whose {@link ExecutionStage} has been executed
+     */
+    private synchronized void completeStage(StageActivator stageActivator) {
+        final ExecutionStage stage = stageActivator.getStage();
+        this.runningStages.remove(stage);
+
+        // Remember that we have executed the stage.
+        this.completedStages.add(stage);
+        if (stage.isLoopHead()) {
+            this.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
+        }
 
         // Try to activate the successor stages.
         this.tryToActivateSuccessors(stageActivator);
@@ -259,6 +310,9 @@ public class CrossPlatformExecutor implements ExecutionState {
             final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
             final ChannelInstance channelInstance = channelInstanceEntry.getValue();
 
+            // Do not discard what concurrently running stages have just produced.
+            if (this.runningStages.contains(channelInstanceEntry.getKey().getProducer().getStage())) continue;
+
             // If this is instance is the only one to still use this ChannelInstance, discard it.
             if (channelInstance.getNumReferences() == 1) {
                 channelInstance.noteDiscardedReference(true);
@@ -269,32 +323,26 @@ public class CrossPlatformExecutor implements ExecutionState {
 
 
     /**
-     * Run parallel threads executing activated {@link ExecutionStage}s
+     * Execute the activated {@link ExecutionStage}s and all {@link ExecutionStage}s they activate in parallel.
      */
     private void runParallelExecution(boolean isBreakpointsDisabled) {
-        int numActiveStages = this.activatedStageActivators.size();
-
-        // Create execution threads
-        for (int i = 1; i <= numActiveStages; ++i) {
-            // TODO: Better pass the stage to the thread rather than letting the thread retrieve the stage itself (to avoid concurrency issues).
-            Thread thread = new Thread(new ParallelExecutionThread(isBreakpointsDisabled, "T" + String.valueOf(i), this));
-            // Start thread execution
-            thread.start();
-            this.parallelExecutionThreads.add(thread);
-        }
+        new ParallelStageScheduler(this.getOrCreateStageExecutorService(), isBreakpointsDisabled).run();
+        CrossPlatformExecutor.this.logger.info("Parallel execution ended!");
+    }
 
-        //Join all created threads
-        for (Thread t : this.parallelExecutionThreads) {
-            try {
-                t.join();
-            } catch (InterruptedException e) {
-                CrossPlatformExecutor.this.logger.error("Thread Interrupted!", e);
-            }
+    private synchronized ExecutorService getOrCreateStageExecutorService() {
+        if (this.stageExecutorService == null) {
+            int numThreads = (int) this.getConfiguration().getLongProperty(PARALLELISM_KEY, 0);
+            if (numThreads <= 0) numThreads = Runtime.getRuntime().availableProcessors();
+            final AtomicInteger threadCounter = new AtomicInteger();
+            final ThreadFactory threadFactory = runnable -> {
+                final Thread thread = new Thread(runnable, "wayang-stage-" + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            this.stageExecutorService = Executors.newFixedThreadPool(numThreads, threadFactory);
         }
-
-        // Clear the list of created threads
-        parallelExecutionThreads.clear();
-        CrossPlatformExecutor.this.logger.info("Parallel execution ended!");
+        return this.stageExecutorService;
     }
 
     /**
@@ -311,8 +359,8 @@ public class CrossPlatformExecutor implements ExecutionState {
             while (!this.activatedStageActivators.isEmpty()) {
                 // Check if there is multiple activated stages to start parallelization
                 if (this.activatedStageActivators.size() > 1 &&
-                        this.getConfiguration().getBooleanProperty("wayang.core.optimizer.enumeration.parallel-tasks")) {
-                    // Run multiple threads for each independant stage
+                        this.getConfiguration().getBooleanProperty(PARALLEL_KEY)) {
+                    // Run independent stages in parallel
                     this.runParallelExecution(isBreakpointsDisabled);
                 } else {
                     final StageActivator stageActivator = this.activatedStageActivators.poll();
@@ -348,7 +396,7 @@ public class CrossPlatformExecutor implements ExecutionState {
      * @param stageActivator that might be suspended
      * @return whether the {@link ExecutionStage} was suspended
      */
-    private boolean suspendIfBreakpointRequest(StageActivator stageActivator) {
+    private synchronized boolean suspendIfBreakpointRequest(StageActivator stageActivator) {
         if (!this.breakpoint.permitsExecutionOf(stageActivator.getStage(), this, this.job.getOptimizationContext())) {
             this.suspendedStages.add(stageActivator);
             return true;
@@ -357,14 +405,14 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     /**
-     * Tries to execute the given {@link ExecutionStage}.
+     * Executes the given {@link ExecutionStage}. Does not do any book-keeping, see {@link #completeStage(StageActivator)}.
      *
      * @param stageActivator that should be executed
-     * @return whether the {@link ExecutionStage} was really executed
      */
     private void execute(StageActivator stageActivator) {
         final ExecutionStage stage = stageActivator.getStage();
         final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
+        this.runningStages.add(stage);
 
         // Find parts of the stage to instrument.
         this.instrumentationStrategy.applyTo(stage);
@@ -372,19 +420,20 @@ public class CrossPlatformExecutor implements ExecutionState {
         // Obtain an Executor for the stage.
         Executor executor = this.getOrCreateExecutorFor(stage);
 
-        // Have the execution done.
+        // Have the execution done. Executors are not thread-safe, so stages on the same one run one after another.
         CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
-        long startTime = System.currentTimeMillis();
-        executor.execute(stage, optimizationContext, this);
-        long finishTime = System.currentTimeMillis();
-        CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
-
-        // Remember that we have executed the stage.
-        this.completedStages.add(stage);
-
-        if (stage.isLoopHead()) {
-            this.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
+        final long startTime, finishTime;
+        synchronized (executor) {
+            startTime = System.currentTimeMillis();
+            executor.execute(stage, optimizationContext, this);
+            finishTime = System.currentTimeMillis();
         }
+        final long queueMillis = startTime - stageActivator.getActivationTime();
+        CrossPlatformExecutor.this.logger.info("Executed {} in {} (queued for {}).", stage,
+                Formats.formatDuration(finishTime - startTime, true), Formats.formatDuration(queueMillis, true));
+        this.stageMeasurements.add(new StageExecutionMeasurement(
+                String.format("stage-ex-%03d", this.nextStageMeasurementId.getAndIncrement()), stage, queueMillis, finishTime - startTime
+        ));
     }
 
     private Executor getOrCreateExecutorFor(ExecutionStage stage) {
@@ -507,7 +556,7 @@ public class CrossPlatformExecutor implements ExecutionState {
         return this.getChannelInstance(channel, false);
     }
 
-    public ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
+    public synchronized ChannelInstance getChannelInstance(Channel channel, boolean isPeekingToNextTransition) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channel);
         if (loop == null) {
             return this.channelInstances.get(channel);
@@ -536,7 +585,7 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     @Override
-    public void register(ChannelInstance channelInstance) {
+    public synchronized void register(ChannelInstance channelInstance) {
         final ExecutionStageLoop loop = getExecutionStageLoop(channelInstance.getChannel());
         if (loop == null) {
             final ChannelInstance oldChannelInstance = this.channelInstances.put(channelInstance.getChannel(), channelInstance);
@@ -592,6 +641,15 @@ public class CrossPlatformExecutor implements ExecutionState {
         return this.partialExecutions;
     }
 
+    /**
+     * Retrieve the {@link StageExecutionMeasurement}s of all {@link ExecutionStage}s executed so far.
+     *
+     * @return the {@link StageExecutionMeasurement}s
+     */
+    public Collection<StageExecutionMeasurement> getStageMeasurements() {
+        return this.stageMeasurements;
+    }
+
     /**
      * Set a new {@link Breakpoint} for this instance.
      *
@@ -610,7 +668,36 @@ public class CrossPlatformExecutor implements ExecutionState {
         return !this.loopContexts.isEmpty();
     }
 
+    /**
+     * Forgets about all executed {@link ExecutionStage}s and their {@link ChannelInstance}s, so that an
+     * {@link ExecutionPlan} can be executed anew (e.g., on the next micro-batch). In contrast to {@link #shutdown()},
+     * the {@link Executor}s are kept.
+     */
+    public synchronized void reset() {
+        assert this.runningStages.isEmpty();
+        this.allStages.clear();
+        this.activatedStageActivators.clear();
+        this.pendingStageActivators.values().forEach(StageActivator::dispose);
+        this.pendingStageActivators.clear();
+        this.suspendedStages.clear();
+        this.loopContexts.clear();
+        this.completedStages.clear();
+        this.channelInstances.values().forEach(channelInstance -> channelInstance.noteDiscardedReference(true));
+        this.channelInstances.clear();
+        this.cardinalityMeasurements.clear();
+        this.partialExecutions.clear();
+        this.stageMeasurements.clear();
+    }
+
     public void shutdown() {
+        // Stop the worker threads.
+        synchronized (this) {
+            if (this.stageExecutorService != null) {
+                this.stageExecutorService.shutdown();
+                this.stageExecutorService = null;
+            }
+        }
+
         // Release global resources.
         this.globalResources.forEach(resource -> resource.noteDiscardedReference(true));
         this.globalResources.clear();
@@ -681,6 +768,11 @@ public class CrossPlatformExecutor implements ExecutionState {
          */
         private final Map<Channel, ChannelInstance> inputChannelInstances = new HashMap<>(4);
 
+        /**
+         * Time of the latest activation of this instance.
+         */
+        private long activationTime;
+
         /**
          * Creates a new instance.
          *
@@ -845,8 +937,16 @@ public class CrossPlatformExecutor implements ExecutionState {
          * Notifies this instance that it has been activated.
          */
         public void noteActivation() {
+            this.activationTime = System.currentTimeMillis();
             if (this.stage.isLoopHead()) this.loopContext.activateNextIteration();
         }
+
+        /**
+         * @return the time of the latest activation of this instance
+         */
+        public long getActivationTime() {
+            return this.activationTime;
+        }
     }
 
 
@@ -1038,137 +1138,110 @@ public class CrossPlatformExecutor implements ExecutionState {
     }
 
     /**
-     * Executes {@link ExecutionStage}s in parallel threads
-     * It continues to live as long as there is a {@link ExecutionStage} activated after first {@link ExecutionStage} execution and another running {@link ParallelExecutionThread}s,
-     * if multiple {@link ExecutionStage} are activated it will create new threads to execute new {@link ExecutionStage} in recursive manner
+     * Schedules {@link ExecutionStage}s on a thread pool as a DAG: Whenever an {@link ExecutionStage} completes, the
+     * {@link ExecutionStage}s it activates are submitted right away rather than waiting for all other running
+     * {@link ExecutionStage}s. All state of this class is guarded by the monitor of the {@link CrossPlatformExecutor}.
      */
-
-    private class ParallelExecutionThread implements Runnable {
+    private class ParallelStageScheduler {
 
         /**
-         * Thread identifier of {@link ParallelExecutionThread}
+         * Runs the {@link ExecutionStage}s.
          */
-        public String threadId;
+        private final ExecutorService executorService;
 
         /**
-         * Check if #breakpoint permits the execution of {@link ExecutionStage}
+         * Whether the {@link #breakpoint} should be ignored.
          */
-        private boolean thread_isBreakpointDisabled;
+        private final boolean isBreakpointsDisabled;
 
         /**
-         * {@link CrossPlatformExecutor} initiating the running thread
+         * Number of submitted but not yet completed {@link ExecutionStage}s.
          */
-        private final CrossPlatformExecutor crossPlatformExecutor;
+        private int numRunningStages = 0;
 
         /**
-         * Creates a new instance.
+         * The first failure of an {@link ExecutionStage}, if any. No further {@link ExecutionStage}s are submitted then.
          */
-        public ParallelExecutionThread(boolean isBreakpointsDisabled, String id, CrossPlatformExecutor cpe) {
-            this.thread_isBreakpointDisabled = isBreakpointsDisabled;
-            this.threadId = id;
-            this.crossPlatformExecutor = cpe;
+        private Throwable failure;
+
+        private ParallelStageScheduler(ExecutorService executorService, boolean isBreakpointsDisabled) {
+            this.executorService = executorService;
+            this.isBreakpointsDisabled = isBreakpointsDisabled;
         }
 
         /**
-         * Execution code of the thread.
+         * Execute all activated {@link ExecutionStage}s and their activated successors until there are none left.
          */
-        @Override
-        public void run() {
-
-            StageActivator stageActivator;
-            this.crossPlatformExecutor.logger.info("Thread " + String.valueOf(this.threadId) + " started");
-            // Loop until there is no activated stage or only one thread running
-            do {
-                // Get the stageActivator for the stage to execute
-                synchronized (this.crossPlatformExecutor) {
-                    stageActivator = this.crossPlatformExecutor.activatedStageActivators.poll();
-                    if (stageActivator == null)
-                        break;
+        void run() {
+            synchronized (CrossPlatformExecutor.this) {
+                this.submitActivatedStages();
+                while (this.numRunningStages > 0) {
+                    try {
+                        CrossPlatformExecutor.this.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new WayangException("Interrupted while executing stages.", e);
+                    }
                 }
-                this.crossPlatformExecutor.logger.info(this.threadId + " started executing Stage: {}:", stageActivator.getStage());
+            }
+            if (this.failure instanceof RuntimeException) {
+                throw (RuntimeException) this.failure;
+            } else if (this.failure instanceof Error) {
+                throw (Error) this.failure;
+            } else if (this.failure != null) {
+                throw new WayangException("Stage execution failed.", this.failure);
+            }
+        }
 
+        /**
+         * Submit all {@link #activatedStageActivators} unless the {@link #breakpoint} intervenes.
+         */
+        private void submitActivatedStages() {
+            StageActivator stageActivator;
+            while (this.failure == null && (stageActivator = CrossPlatformExecutor.this.activatedStageActivators.poll()) != null) {
                 // Check if #breakpoint permits the execution.
-                if (!this.thread_isBreakpointDisabled && this.crossPlatformExecutor.suspendIfBreakpointRequest(stageActivator)) {
-                    return;
+                if (!this.isBreakpointsDisabled && CrossPlatformExecutor.this.suspendIfBreakpointRequest(stageActivator)) {
+                    continue;
                 }
+                final StageActivator submittedStageActivator = stageActivator;
+                this.numRunningStages++;
+                this.executorService.execute(() -> this.runStage(submittedStageActivator));
+            }
+        }
 
-                // Otherwise, execute the stage.
-
-                final ExecutionStage stage = stageActivator.getStage();
-                final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
-
-                // Find parts of the stage to instrument.
-                this.crossPlatformExecutor.instrumentationStrategy.applyTo(stage);
-
-                // Obtain an Executor for the stage.
-                final Executor executor = this.crossPlatformExecutor.getOrCreateExecutorFor(stage);
-
-                // Have the execution done.
-                CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
-                long startTime = System.currentTimeMillis();
-
-                // synchronize(this.crossplateform) can be used here to avoid error when we have two stages running same operators even on the same platform but still with different executors
-                synchronized (executor) {
-                    executor.execute(stage, optimizationContext, this.crossPlatformExecutor);
-                    long finishTime = System.currentTimeMillis();
-
-                    CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
-
-                    // Remember that we have executed the stage.
-                    this.crossPlatformExecutor.completedStages.add(stage);
-                    if (stage.isLoopHead()) {
-                        this.crossPlatformExecutor.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
-                    }
-
-                    // Try to activate the successor stages.
-                    this.crossPlatformExecutor.tryToActivateSuccessors(stageActivator);
-                }
-                // We can now dispose the stageActivator that collected the input ChannelInstances.
-                stageActivator.dispose();
-
-                // Dispose obsolete ChannelInstances.
-                final Iterator<Map.Entry<Channel, ChannelInstance>> iterator = this.crossPlatformExecutor.channelInstances.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    final Map.Entry<Channel, ChannelInstance> channelInstanceEntry = iterator.next();
-                    final ChannelInstance channelInstance = channelInstanceEntry.getValue();
-
-                    // If this is instance is the only one to still use this ChannelInstance, discard it.
-                    if (channelInstance.getNumReferences() == 1) {
-                        channelInstance.noteDiscardedReference(true);
-                        iterator.remove();
-                    }
-
-                }
+        /**
+         * Execute a single {@link ExecutionStage} and submit the {@link ExecutionStage}s that become activated thereby.
+         */
+        private void runStage(StageActivator stageActivator) {
+            Throwable stageFailure = null;
+            try {
+                CrossPlatformExecutor.this.execute(stageActivator);
+            } catch (Throwable t) {
+                stageFailure = t;
+            }
 
-                this.crossPlatformExecutor.logger.info(this.threadId + " completed executing Stage : {}:", stageActivator.getStage());
-
-                // Create new threads for more than one activated stages recursively
-                if (CrossPlatformExecutor.this.activatedStageActivators.size() > 1) {
-                    // Create new threads other than the existing thread
-                    for (int i = 1; i <= CrossPlatformExecutor.this.activatedStageActivators.size() - 1; i++) {
-                        // TODO: Better use Java's ForkJoinPool to reduce thread creation overhead and control concurrency.
-                        // Create parallel stage execution thread
-                        Thread thread = new Thread(new ParallelExecutionThread(this.thread_isBreakpointDisabled, "T" + String.valueOf(i) + "@" + this.threadId, this.crossPlatformExecutor));
-                        thread.start();
-                        synchronized (this.crossPlatformExecutor) {
-                            //Add the created thread to {@link #parallelExecutionThreads}
-                            CrossPlatformExecutor.this.parallelExecutionThreads.add(thread);
-                        }
+            synchronized (CrossPlatformExecutor.this) {
+                try {
+                    if (stageFailure == null) {
+                        CrossPlatformExecutor.this.completeStage(stageActivator);
+                        this.submitActivatedStages();
+                    } else {
+                        CrossPlatformExecutor.this.runningStages.remove(stageActivator.getStage());
+                        this.noteFailure(stageFailure);
                     }
+                } catch (Throwable t) {
+                    this.noteFailure(t);
+                } finally {
+                    this.numRunningStages--;
+                    CrossPlatformExecutor.this.notifyAll();
                 }
-
             }
+        }
 
-            // TODO: Do not busy-wait (could be solved with the ForkJoinPool as well).
-            while (CrossPlatformExecutor.this.activatedStageActivators.size() >= 1 &&
-                    CrossPlatformExecutor.this.parallelExecutionThreads.size() - CrossPlatformExecutor.this.completedThreads > 1);
-
-            // Increment a global variable of completed threads
-            // As long as the variable is volatile so there is no concern of race condition
-            CrossPlatformExecutor.this.completedThreads++;
-
-            // Notify thread ended
-            CrossPlatformExecutor.this.logger.info(this.threadId + " ended");
+        private void noteFailure(Throwable t) {
+            CrossPlatformExecutor.this.logger.error("Stage execution failed.", t);
+            if (this.failure == null) this.failure = t;
+            else this.failure.addSuppressed(t);
         }
     }
 
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.profiling;
+
+import org.apache.wayang.commons.util.profiledb.model.Measurement;
+import org.apache.wayang.commons.util.profiledb.model.Type;
+import org.apache.wayang.core.api.Job;
+
+/**
+ * This {@link Measurement} captures the size, latency, and throughput of a micro-batch of a {@link Job}.
+ */
+@Type("micro-batch")
+public class MicroBatchMeasurement extends Measurement {
+
+    /**
+     * Sequence number of the micro-batch.
+     */
+    private long batch;
+
+    /**
+     * Number of data quanta read by the sources in the micro-batch.
+     */
+    private long numQuanta;
+
+    /**
+     * Milliseconds taken by the micro-batch from reading the input until committing it.
+     */
+    private long executionMillis;
+
+    /**
+     * Serialization constructor.
+     */
+    private MicroBatchMeasurement() {
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id              the ID of the new instance
+     * @param batch           sequence number of the micro-batch
+     * @param numQuanta       number of data quanta read by the sources in the micro-batch
+     * @param executionMillis milliseconds taken by the micro-batch
+     */
+    public MicroBatchMeasurement(String id, long batch, long numQuanta, long executionMillis) {
+        super(id);
+        this.batch = batch;
+        this.numQuanta = numQuanta;
+        this.executionMillis = executionMillis;
+    }
+
+    /**
+     * @return the data quanta per second processed in the micro-batch
+     */
+    public double getThroughput() {
+        return this.numQuanta * 1000d / Math.max(1L, this.executionMillis);
+    }
+
+    public long getBatch() {
+        return batch;
+    }
+
+    public void setBatch(long batch) {
+        this.batch = batch;
+    }
+
+    public long getNumQuanta() {
+        return numQuanta;
+    }
+
+    public void setNumQuanta(long numQuanta) {
+        this.numQuanta = numQuanta;
+    }
+
+    public long getExecutionMillis() {
+        return executionMillis;
+    }
+
+    public void setExecutionMillis(long executionMillis) {
+        this.executionMillis = executionMillis;
+    }
+}
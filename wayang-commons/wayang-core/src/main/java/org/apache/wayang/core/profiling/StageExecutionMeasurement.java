@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.profiling;
+
+import org.apache.wayang.commons.util.profiledb.model.Measurement;
+import org.apache.wayang.commons.util.profiledb.model.Type;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+
+/**
+ * This {@link Measurement} captures how long an {@link ExecutionStage} waited after its activation until the
+ * {@link CrossPlatformExecutor} started it and how long its execution took.
+ */
+@Type("stage-execution")
+public class StageExecutionMeasurement extends Measurement {
+
+    /**
+     * Describes the executed {@link ExecutionStage} and its platform.
+     */
+    private String stage, platform;
+
+    /**
+     * Milliseconds between the activation and the start of the {@link ExecutionStage}.
+     */
+    private long queueMillis;
+
+    /**
+     * Milliseconds taken by the execution of the {@link ExecutionStage}.
+     */
+    private long executionMillis;
+
+    /**
+     * Serialization constructor.
+     */
+    private StageExecutionMeasurement() {
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id              the ID of the new instance
+     * @param stage           the executed {@link ExecutionStage}
+     * @param queueMillis     milliseconds between the activation and the start of the {@code stage}
+     * @param executionMillis milliseconds taken by the execution of the {@code stage}
+     */
+    public StageExecutionMeasurement(String id, ExecutionStage stage, long queueMillis, long executionMillis) {
+        super(id);
+        this.stage = stage.toString();
+        this.platform = stage.getPlatformExecution().getPlatform().getName();
+        this.queueMillis = queueMillis;
+        this.executionMillis = executionMillis;
+    }
+
+    public String getStage() {
+        return stage;
+    }
+
+    public void setStage(String stage) {
+        this.stage = stage;
+    }
+
+    public String getPlatform() {
+        return platform;
+    }
+
+    public void setPlatform(String platform) {
+        this.platform = platform;
+    }
+
+    public long getQueueMillis() {
+        return queueMillis;
+    }
+
+    public void setQueueMillis(long queueMillis) {
+        this.queueMillis = queueMillis;
+    }
+
+    public long getExecutionMillis() {
+        return executionMillis;
+    }
+
+    public void setExecutionMillis(long executionMillis) {
+        this.executionMillis = executionMillis;
+    }
+}
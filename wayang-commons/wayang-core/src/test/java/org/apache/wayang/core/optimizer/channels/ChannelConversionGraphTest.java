@@ -40,6 +40,7 @@ import org.apache.wayang.core.test.MockFactory;
 import org.apache.wayang.core.util.WayangCollections;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.function.Supplier;
 
 /**
@@ -319,5 +320,80 @@ public class ChannelConversionGraphTest {
         Assert.assertTrue(junction.getTargetChannel(1).isCopy() && junction.getTargetChannel(1).getOriginal() == nextChannel);
     }
 
+    @Test
+    public void reuseCachedConversionTrees() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(ChannelConversionGraph.CACHE_CAPACITY_KEY, "1024");
+        configuration.setProperty(ChannelConversionGraph.CACHE_CARDINALITY_BASE_KEY, "2");
+        configuration.getChannelConversionProvider().addToWhitelist(reusableToNonReusableChannelConversion);
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(configuration);
+
+        final Junction junction1 = this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000, 10000, 0.8d));
+        Assert.assertNotNull(junction1);
+        Assert.assertEquals(0, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheMisses());
+
+        // A similar cardinality should hit the cache but still yield a new Junction.
+        final Junction junction2 = this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1010, 10100, 0.8d));
+        Assert.assertNotNull(junction2);
+        Assert.assertNotSame(junction1, junction2);
+        Assert.assertNotSame(junction1.getTargetChannel(0), junction2.getTargetChannel(0));
+        Assert.assertEquals(junction1.getConversionTasks().size(), junction2.getConversionTasks().size());
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheMisses());
+
+        // A different cardinality should not.
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000000, 10000000, 0.8d));
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(2, channelConversionGraph.getTreeCacheMisses());
+
+        // Changing the channel conversions should invalidate the cache.
+        configuration.getChannelConversionProvider().addToWhitelist(reusableToExternalChannelConversion);
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000, 10000, 0.8d));
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(3, channelConversionGraph.getTreeCacheMisses());
+    }
+
+    @Test
+    public void reuseCachedConversionTreesOnlyForExactCardinalities() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.getChannelConversionProvider().addToWhitelist(reusableToNonReusableChannelConversion);
+
+        // The cache should be disabled by default.
+        this.findNonReusableJunction(new ChannelConversionGraph(configuration), new CardinalityEstimate(1000, 10000, 0.8d));
+        ChannelConversionGraph channelConversionGraph = new ChannelConversionGraph(configuration);
+        Assert.assertEquals(0, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(0, channelConversionGraph.getTreeCacheMisses());
+
+        // Once enabled, it should require exact cardinalities by default.
+        configuration.setProperty(ChannelConversionGraph.CACHE_CAPACITY_KEY, "1024");
+        channelConversionGraph = new ChannelConversionGraph(configuration);
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000, 10000, 0.8d));
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1010, 10100, 0.8d));
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000, 10000, 0.9d));
+        Assert.assertEquals(0, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(3, channelConversionGraph.getTreeCacheMisses());
+        this.findNonReusableJunction(channelConversionGraph, new CardinalityEstimate(1000, 10000, 0.8d));
+        Assert.assertEquals(1, channelConversionGraph.getTreeCacheHits());
+        Assert.assertEquals(3, channelConversionGraph.getTreeCacheMisses());
+    }
+
+    private Junction findNonReusableJunction(ChannelConversionGraph channelConversionGraph, CardinalityEstimate cardinality) {
+        ExecutionOperator sourceOperator = new DummyExecutionOperator(0, 1, false);
+        sourceOperator.getSupportedOutputChannels(0).add(DummyReusableChannel.DESCRIPTOR);
+
+        ExecutionOperator destOperator = new DummyExecutionOperator(1, 1, false);
+        destOperator.getSupportedInputChannels(0).add(DummyNonReusableChannel.DESCRIPTOR);
+
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        optimizationContext.addOneTimeOperator(sourceOperator).setOutputCardinality(0, cardinality);
+
+        return channelConversionGraph.findMinimumCostJunction(
+                sourceOperator.getOutput(0),
+                Collections.singletonList(destOperator.getInput(0)),
+                optimizationContext,
+                false
+        );
+    }
 
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.plan.executionplan.PlatformExecution;
+import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
+import org.apache.wayang.core.profiling.StageExecutionMeasurement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for the parallel {@link ExecutionStage} execution of the {@link CrossPlatformExecutor}.
+ */
+public class CrossPlatformExecutorTest {
+
+    @Test
+    public void testExecutesIndependentStagesConcurrently() throws Exception {
+        // Both stages can only pass the barrier if they run at the same time.
+        final CyclicBarrier barrier = new CyclicBarrier(2);
+        final Executor executor1 = mock(Executor.class);
+        doAnswer(invocation -> barrier.await(10, TimeUnit.SECONDS)).when(executor1).execute(any(), any(), any());
+        final Executor executor2 = mock(Executor.class);
+        doAnswer(invocation -> barrier.await(10, TimeUnit.SECONDS)).when(executor2).execute(any(), any(), any());
+
+        final ExecutionStage stage1 = createStage("platform1", executor1);
+        final ExecutionStage stage2 = createStage("platform2", executor2);
+        final ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.addStartingStage(stage1);
+        executionPlan.addStartingStage(stage2);
+
+        final CrossPlatformExecutor crossPlatformExecutor = createCrossPlatformExecutor();
+        try {
+            Assert.assertTrue(crossPlatformExecutor.executeUntilBreakpoint(executionPlan, mock(OptimizationContext.class)));
+        } finally {
+            crossPlatformExecutor.shutdown();
+        }
+
+        Assert.assertEquals(new HashSet<>(Arrays.asList(stage1, stage2)), crossPlatformExecutor.getCompletedStages());
+
+        // Every stage should have been measured.
+        final Collection<StageExecutionMeasurement> measurements = crossPlatformExecutor.getStageMeasurements();
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList("platform1", "platform2")),
+                measurements.stream().map(StageExecutionMeasurement::getPlatform).collect(Collectors.toSet())
+        );
+        Assert.assertEquals(2, measurements.stream().map(StageExecutionMeasurement::getId).distinct().count());
+        for (StageExecutionMeasurement measurement : measurements) {
+            Assert.assertTrue(measurement.getQueueMillis() >= 0);
+            Assert.assertTrue(measurement.getExecutionMillis() >= 0);
+        }
+    }
+
+    @Test
+    public void testFailingStageAbortsExecution() {
+        final Executor executor1 = mock(Executor.class);
+        doThrow(new WayangException("Stage failed on purpose.")).when(executor1).execute(any(), any(), any());
+        final Executor executor2 = mock(Executor.class);
+
+        final ExecutionStage stage1 = createStage("platform1", executor1);
+        final ExecutionStage stage2 = createStage("platform2", executor2);
+        final ExecutionPlan executionPlan = new ExecutionPlan();
+        executionPlan.addStartingStage(stage1);
+        executionPlan.addStartingStage(stage2);
+
+        final CrossPlatformExecutor crossPlatformExecutor = createCrossPlatformExecutor();
+        try {
+            crossPlatformExecutor.executeUntilBreakpoint(executionPlan, mock(OptimizationContext.class));
+            Assert.fail("The failing stage should have aborted the execution.");
+        } catch (WayangException e) {
+            Assert.assertEquals("Stage failed on purpose.", e.getMessage());
+        } finally {
+            crossPlatformExecutor.shutdown();
+        }
+
+        Assert.assertFalse(crossPlatformExecutor.getCompletedStages().contains(stage1));
+        Assert.assertTrue(crossPlatformExecutor.getStageMeasurements().stream()
+                .noneMatch(measurement -> "platform1".equals(measurement.getPlatform())));
+    }
+
+    private static ExecutionStage createStage(String platformName, Executor executor) {
+        final Platform platform = mock(Platform.class);
+        when(platform.getName()).thenReturn(platformName);
+        when(platform.getExecutorFactory()).thenReturn(job -> executor);
+        return new PlatformExecution(platform).createStage(null, 0);
+    }
+
+    private static CrossPlatformExecutor createCrossPlatformExecutor() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(CrossPlatformExecutor.PARALLEL_KEY, "true");
+        configuration.setProperty(CrossPlatformExecutor.PARALLELISM_KEY, "2");
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        return new CrossPlatformExecutor(job, new NoInstrumentationStrategy());
+    }
+}
@@ -32,15 +32,16 @@ import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.SequenceFile;
+import org.apache.wayang.basic.channels.serialization.JavaObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
 import java.io.FilterOutputStream;
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.net.URI;
 
@@ -102,6 +103,23 @@ public class WayangFileOutputFormat<IT> extends FileOutputFormat<IT> implements
     private FileOutputFormat.OutputDirectoryMode outputDirectoryMode;
 
     SequenceFile.Writer writer;
+
+    /**
+     * Encodes the chunks of records.
+     */
+    private ObjectFileSerializer serializer = new JavaObjectFileSerializer();
+
+    /**
+     * Number of records per chunk; consistent with Spark's object files.
+     */
+    private static final int CHUNK_SIZE = 10;
+
+    /**
+     * Collects the records of the current chunk.
+     */
+    private transient Object[] chunk;
+
+    private transient int chunkFillLevel;
     // --------------------------------------------------------------------------------------------
 
     /** The stream to which the data is written; */
@@ -137,6 +155,11 @@ public class WayangFileOutputFormat<IT> extends FileOutputFormat<IT> implements
         this.outputFilePath = outputPath;
     }
 
+    public WayangFileOutputFormat(String path, ObjectFileSerializer serializer) {
+        this(path);
+        this.serializer = serializer;
+    }
+
     public void setOutputFilePath(Path path) {
         if (path == null) {
             throw new IllegalArgumentException("Output file path may not be null.");
@@ -250,6 +273,8 @@ public class WayangFileOutputFormat<IT> extends FileOutputFormat<IT> implements
             final SequenceFile.Writer.Option keyClassOption = SequenceFile.Writer.keyClass(NullWritable.class);
             final SequenceFile.Writer.Option valueClassOption = SequenceFile.Writer.valueClass(BytesWritable.class);
             writer = SequenceFile.createWriter(new org.apache.hadoop.conf.Configuration(true), fileOption, keyClassOption, valueClassOption);
+            this.chunk = new Object[CHUNK_SIZE];
+            this.chunkFillLevel = 0;
         }catch (Exception e){
             e.printStackTrace();
         }
@@ -258,14 +283,20 @@ public class WayangFileOutputFormat<IT> extends FileOutputFormat<IT> implements
     @Override
     public void writeRecord(IT record) throws IOException {
         //this.blockBasedOutput.startRecord();
-        try{
-            ByteArrayOutputStream b = new ByteArrayOutputStream();
-            ObjectOutputStream objStream = new ObjectOutputStream(b);
-            objStream.writeObject(record);
-            BytesWritable bytesWritable = new BytesWritable(b.toByteArray());
-            writer.append(NullWritable.get(), bytesWritable);
-        }catch (Exception e){
-            e.printStackTrace();
+        this.chunk[this.chunkFillLevel++] = record;
+        if (this.chunkFillLevel == CHUNK_SIZE) {
+            this.writeChunk();
+        }
+    }
+
+    /**
+     * Append the current chunk of records to the sequence file.
+     */
+    private void writeChunk() throws IOException {
+        if (this.chunkFillLevel > 0) {
+            final byte[] bytes = ObjectFileSerializers.serialize(this.serializer, this.chunk, this.chunkFillLevel);
+            this.writer.append(NullWritable.get(), new BytesWritable(bytes));
+            this.chunkFillLevel = 0;
         }
     }
 
@@ -276,6 +307,7 @@ public class WayangFileOutputFormat<IT> extends FileOutputFormat<IT> implements
     @Override
     public void close() throws IOException {
         try {
+            this.writeChunk();
             this.writer.close();
             DataOutputViewStreamWrapper o = this.outView;
             if (o != null) {
@@ -21,6 +21,7 @@ package org.apache.wayang.flink.operators;
 import org.apache.flink.api.java.operators.DataSink;
 import org.apache.flink.core.fs.FileSystem;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSink;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -81,7 +82,11 @@ public class FlinkObjectFileSink<Type> extends ObjectFileSink<Type> implements F
         //TODO: remove the set parallelism 1
         DataSetChannel.Instance input = (DataSetChannel.Instance) inputs[0];
         final DataSink<Type> tDataSink = input.<Type>provideDataSet()
-                .write(new WayangFileOutputFormat<Type>(targetPath), targetPath, FileSystem.WriteMode.OVERWRITE)
+                .write(
+                        new WayangFileOutputFormat<Type>(targetPath, ObjectFileSerializers.create(flinkExecutor.getConfiguration())),
+                        targetPath,
+                        FileSystem.WriteMode.OVERWRITE
+                )
                 .setParallelism(1);
 
 
@@ -26,7 +26,8 @@ import org.apache.flink.util.Collector;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.wayang.basic.channels.FileChannel;
-import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSource;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -41,8 +42,6 @@ import org.apache.wayang.flink.channels.DataSetChannel;
 import org.apache.wayang.flink.execution.FlinkExecutor;
 import org.apache.wayang.flink.platform.FlinkPlatform;
 
-import java.io.ByteArrayInputStream;
-import java.io.ObjectInputStream;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -89,20 +88,11 @@ public class FlinkObjectFileSource<Type> extends ObjectFileSource<Type> implemen
         flinkExecutor.fee.setParallelism(flinkExecutor.getNumDefaultPartitions());
 
         HadoopInputFormat<NullWritable, BytesWritable> _file = HadoopInputs.readSequenceFile(NullWritable.class, BytesWritable.class, path);
-        final DataSet<Tuple2> dataSet =
+        final DataSet<Object> dataSet =
                 flinkExecutor
                         .fee.createInput(_file)
                         .setParallelism(flinkExecutor.getNumDefaultPartitions())
-                        .flatMap(new FlatMapFunction<org.apache.flink.api.java.tuple.Tuple2<NullWritable,BytesWritable>, Tuple2>() {
-                            @Override
-                            public void flatMap(org.apache.flink.api.java.tuple.Tuple2<NullWritable, BytesWritable> value, Collector<Tuple2> out) throws Exception {
-                                Object tmp = new ObjectInputStream(new ByteArrayInputStream(value.f1.getBytes())).readObject();
-                                for(Object element: (Iterable)tmp){
-                                    out.collect((Tuple2) element);
-                                }
-                            }
-
-                        });
+                        .flatMap(new ChunkDecoder(ObjectFileSerializers.create(flinkExecutor.getConfiguration())));
 
         output.accept(dataSet, flinkExecutor);
 
@@ -135,4 +125,24 @@ public class FlinkObjectFileSource<Type> extends ObjectFileSource<Type> implemen
     public boolean containsAction() {
         return true;
     }
+
+    /**
+     * Decodes the chunks of data quanta in object files.
+     */
+    private static class ChunkDecoder
+            implements FlatMapFunction<org.apache.flink.api.java.tuple.Tuple2<NullWritable, BytesWritable>, Object> {
+
+        private final ObjectFileSerializer serializer;
+
+        private ChunkDecoder(ObjectFileSerializer serializer) {
+            this.serializer = serializer;
+        }
+
+        @Override
+        public void flatMap(org.apache.flink.api.java.tuple.Tuple2<NullWritable, BytesWritable> value, Collector<Object> out) throws Exception {
+            for (Object element : ObjectFileSerializers.deserialize(this.serializer, value.f1.getBytes(), value.f1.getLength())) {
+                out.collect(element);
+            }
+        }
+    }
 }
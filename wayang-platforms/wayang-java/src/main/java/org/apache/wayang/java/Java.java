@@ -21,6 +21,7 @@ package org.apache.wayang.java;
 import org.apache.wayang.java.platform.JavaPlatform;
 import org.apache.wayang.java.plugin.JavaBasicPlugin;
 import org.apache.wayang.java.plugin.JavaChannelConversionPlugin;
+import org.apache.wayang.java.plugin.JavaColumnarPlugin;
 import org.apache.wayang.java.plugin.JavaGraphPlugin;
 
 /**
@@ -34,6 +35,8 @@ public class Java {
 
     private final static JavaChannelConversionPlugin CONVERSION_PLUGIN = new JavaChannelConversionPlugin();
 
+    private final static JavaColumnarPlugin COLUMNAR_PLUGIN = new JavaColumnarPlugin();
+
     /**
      * Retrieve the {@link JavaBasicPlugin}.
      *
@@ -61,6 +64,15 @@ public class Java {
         return CONVERSION_PLUGIN;
     }
 
+    /**
+     * Retrieve the {@link JavaColumnarPlugin}.
+     *
+     * @return the {@link JavaColumnarPlugin}
+     */
+    public static JavaColumnarPlugin columnarPlugin() {
+        return COLUMNAR_PLUGIN;
+    }
+
     /**
      * Retrieve the {@link JavaPlatform}.
      *
@@ -19,11 +19,14 @@
 package org.apache.wayang.java.channels;
 
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.core.optimizer.channels.ChannelConversion;
 import org.apache.wayang.core.optimizer.channels.DefaultChannelConversion;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.operators.JavaCollectOperator;
+import org.apache.wayang.java.operators.JavaColumnarizeOperator;
+import org.apache.wayang.java.operators.JavaDecolumnarizeOperator;
 import org.apache.wayang.java.operators.JavaObjectFileSink;
 import org.apache.wayang.java.operators.JavaObjectFileSource;
 import org.apache.wayang.java.operators.JavaTsvFileSink;
@@ -82,6 +85,24 @@ public class ChannelConversions {
             () -> new JavaObjectFileSource<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion STREAM_TO_COLUMNAR = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            ColumnarChannel.DESCRIPTOR,
+            () -> new JavaColumnarizeOperator<>(DataSetType.createDefault(Record.class))
+    );
+
+    public static final ChannelConversion COLLECTION_TO_COLUMNAR = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            ColumnarChannel.DESCRIPTOR,
+            () -> new JavaColumnarizeOperator<>(DataSetType.createDefault(Record.class))
+    );
+
+    public static final ChannelConversion COLUMNAR_TO_STREAM = new DefaultChannelConversion(
+            ColumnarChannel.DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            () -> new JavaDecolumnarizeOperator<>(DataSetType.createDefault(Record.class))
+    );
+
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             STREAM_TO_COLLECTION,
             STREAM_TO_HDFS_OBJECT_FILE,
@@ -91,4 +112,14 @@ public class ChannelConversions {
             STREAM_TO_HDFS_TSV,
             COLLECTION_TO_HDFS_TSV
     );
+
+    /**
+     * {@link ChannelConversion}s from and to the {@link ColumnarChannel}. A {@link ColumnarChannel} can be converted
+     * into a {@link CollectionChannel} via a {@link StreamChannel}.
+     */
+    public static Collection<ChannelConversion> COLUMNAR = Arrays.asList(
+            STREAM_TO_COLUMNAR,
+            COLLECTION_TO_COLUMNAR,
+            COLUMNAR_TO_STREAM
+    );
 }
@@ -24,6 +24,7 @@ import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.platform.AbstractChannelInstance;
 import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.core.util.ReferenceCountable;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
@@ -69,6 +70,10 @@ public class CollectionChannel extends Channel {
         }
 
         public void accept(Collection<?> collection) {
+            if (collection instanceof ReferenceCountable) {
+                ((ReferenceCountable) collection).noteObtainedReference();
+            }
+            this.releaseCollection();
             this.collection = collection;
             this.setMeasuredCardinality(this.collection.size());
         }
@@ -92,8 +97,18 @@ public class CollectionChannel extends Channel {
         @Override
         protected void doDispose() {
             logger.debug("Free {}.", this);
+            this.releaseCollection();
             this.collection = null;
         }
 
+        /**
+         * Discards the reference on the current {@link #collection} if it manages external resources, e.g., spill files.
+         */
+        private void releaseCollection() {
+            if (this.collection instanceof ReferenceCountable) {
+                ((ReferenceCountable) this.collection).noteDiscardedReference(true);
+            }
+        }
+
     }
 }
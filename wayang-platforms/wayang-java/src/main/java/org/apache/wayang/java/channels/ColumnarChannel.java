@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.channels;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.platform.AbstractChannelInstance;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * {@link Channel} between two {@link JavaExecutionOperator}s that stores {@link Record}s column-wise in a
+ * {@link RecordBatch}.
+ */
+public class ColumnarChannel extends Channel {
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(ColumnarChannel.class, true, true);
+
+    public ColumnarChannel(ChannelDescriptor channelDescriptor, OutputSlot<?> outputSlot) {
+        super(channelDescriptor, outputSlot);
+        assert channelDescriptor == DESCRIPTOR;
+    }
+
+    private ColumnarChannel(ColumnarChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public ColumnarChannel copy() {
+        return new ColumnarChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor,
+                                   OptimizationContext.OperatorContext producerOperatorContext,
+                                   int producerOutputIndex) {
+        return new Instance(executor, producerOperatorContext, producerOutputIndex);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for the {@link ColumnarChannel}.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        private RecordBatch batch;
+
+        /**
+         * Keeps data quanta that are not {@link Record}s, which can end up here via {@link ChannelConversions}.
+         */
+        private Collection<?> rows;
+
+        public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
+            super(executor, producerOperatorContext, producerOutputIndex);
+        }
+
+        public void accept(RecordBatch batch) {
+            this.batch = batch;
+            this.setMeasuredCardinality(batch.getNumRows());
+        }
+
+        /**
+         * Accepts data quanta that cannot be stored column-wise. They are only available via {@link #provideStream()}
+         * and {@link #provideRecords()}.
+         *
+         * @param rows the data quanta
+         */
+        public void acceptRows(Collection<?> rows) {
+            this.rows = rows;
+            this.setMeasuredCardinality(rows.size());
+        }
+
+        /**
+         * Tells whether this instance holds a {@link RecordBatch}.
+         *
+         * @return whether {@link #provideBatch()} can be called
+         */
+        public boolean isColumnar() {
+            return this.batch != null;
+        }
+
+        public RecordBatch provideBatch() {
+            if (this.batch == null) {
+                throw new WayangException(String.format("%s does not contain a record batch.", this));
+            }
+            return this.batch;
+        }
+
+        /**
+         * Provides random access to the data quanta of this instance regardless of whether they are stored
+         * column-wise. {@link Record}s of a {@link RecordBatch} are materialized on each access.
+         *
+         * @return the data quanta
+         */
+        @SuppressWarnings("unchecked")
+        public List<Record> provideRecords() {
+            if (this.batch == null) {
+                return this.rows instanceof List ? (List<Record>) this.rows : new ArrayList<>((Collection<Record>) this.rows);
+            }
+            final RecordBatch batch = this.batch;
+            return new AbstractList<Record>() {
+
+                @Override
+                public Record get(int row) {
+                    return batch.getRecord(row);
+                }
+
+                @Override
+                public int size() {
+                    return batch.getNumRows();
+                }
+            };
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream() {
+            return this.batch == null ? (Stream<T>) this.rows.stream() : (Stream<T>) this.batch.stream();
+        }
+
+        @Override
+        public Channel getChannel() {
+            return ColumnarChannel.this;
+        }
+
+        @Override
+        protected void doDispose() {
+            logger.debug("Free {}.", this);
+            this.batch = null;
+            this.rows = null;
+        }
+
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.columnar;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+/**
+ * Immutable column of a {@link RecordBatch}. {@code int}, {@code long}, and {@code double} columns keep their values
+ * in off-heap buffers along with a validity bitmap that marks {@code null}s, while all other values stay on the heap.
+ */
+public abstract class ColumnVector {
+
+    /**
+     * Physical types of {@link ColumnVector}s.
+     */
+    public enum Type {
+        INT, LONG, DOUBLE, OBJECT
+    }
+
+    /**
+     * Number of values in this instance.
+     */
+    protected final int size;
+
+    protected ColumnVector(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Creates a new instance for a field of the given {@link Record}s. Its {@link Type} is derived from the
+     * non-{@code null} values, which must all be {@link Integer}s, {@link Long}s, or {@link Double}s to yield a
+     * primitive column.
+     *
+     * @param records the {@link Record}s
+     * @param field   the index of the field
+     * @return the new instance
+     */
+    public static ColumnVector of(List<Record> records, int field) {
+        Class<?> valueClass = null;
+        for (Record record : records) {
+            final Object value = record.getField(field);
+            if (value == null) continue;
+            if (valueClass == null) {
+                valueClass = value.getClass();
+            } else if (valueClass != value.getClass()) {
+                valueClass = Object.class;
+                break;
+            }
+        }
+        final int size = records.size();
+        if (valueClass == Integer.class) {
+            final OfInts vector = new OfInts(size);
+            for (int row = 0; row < size; row++) {
+                final Object value = records.get(row).getField(field);
+                if (value == null) vector.setNull(row);
+                else vector.data.putInt(row << 2, (Integer) value);
+            }
+            return vector;
+        } else if (valueClass == Long.class) {
+            final OfLongs vector = new OfLongs(size);
+            for (int row = 0; row < size; row++) {
+                final Object value = records.get(row).getField(field);
+                if (value == null) vector.setNull(row);
+                else vector.data.putLong(row << 3, (Long) value);
+            }
+            return vector;
+        } else if (valueClass == Double.class) {
+            final OfDoubles vector = new OfDoubles(size);
+            for (int row = 0; row < size; row++) {
+                final Object value = records.get(row).getField(field);
+                if (value == null) vector.setNull(row);
+                else vector.data.putDouble(row << 3, (Double) value);
+            }
+            return vector;
+        }
+        final Object[] values = new Object[size];
+        for (int row = 0; row < size; row++) {
+            values[row] = records.get(row).getField(field);
+        }
+        return new OfObjects(values);
+    }
+
+    public abstract Type getType();
+
+    public int size() {
+        return this.size;
+    }
+
+    public abstract boolean isNull(int row);
+
+    /**
+     * Retrieves a value as it was contained in the original {@link Record}s.
+     *
+     * @param row the index of the value
+     * @return the (boxed) value or {@code null}
+     */
+    public abstract Object getObject(int row);
+
+    /**
+     * Retrieves a non-{@code null} value of an {@link Type#INT} or {@link Type#LONG} column without boxing it.
+     *
+     * @param row the index of the value
+     * @return the value
+     */
+    public long getLong(int row) {
+        throw new UnsupportedOperationException(String.format("Cannot read longs from %s.", this));
+    }
+
+    /**
+     * Retrieves a non-{@code null} value of a primitive column without boxing it.
+     *
+     * @param row the index of the value
+     * @return the value
+     */
+    public double getDouble(int row) {
+        throw new UnsupportedOperationException(String.format("Cannot read doubles from %s.", this));
+    }
+
+    /**
+     * Creates a new instance with the values at the given rows.
+     *
+     * @param rows    indices of the values to copy
+     * @param numRows number of valid entries in {@code rows}
+     * @return the new instance
+     */
+    public abstract ColumnVector gather(int[] rows, int numRows);
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d rows]", this.getClass().getSimpleName(), this.getType(), this.size);
+    }
+
+    /**
+     * Base class for {@link ColumnVector}s whose values reside in an off-heap {@link ByteBuffer}.
+     */
+    abstract static class OffHeap extends ColumnVector {
+
+        protected final ByteBuffer data;
+
+        /**
+         * Bitmap with a set bit for each {@code null} value; {@code null} as long as there are no {@code null}s.
+         */
+        private ByteBuffer nulls;
+
+        protected OffHeap(int size, int valueWidth) {
+            super(size);
+            final long capacity = (long) size * valueWidth;
+            if (capacity > Integer.MAX_VALUE) {
+                throw new WayangException(String.format(
+                        "Cannot store %d values of %d bytes in a single column.", size, valueWidth
+                ));
+            }
+            this.data = ByteBuffer.allocateDirect((int) capacity).order(ByteOrder.nativeOrder());
+        }
+
+        protected void setNull(int row) {
+            if (this.nulls == null) {
+                this.nulls = ByteBuffer.allocateDirect((this.size + 7) >>> 3);
+            }
+            this.nulls.put(row >>> 3, (byte) (this.nulls.get(row >>> 3) | (1 << (row & 7))));
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return this.nulls != null && (this.nulls.get(row >>> 3) & (1 << (row & 7))) != 0;
+        }
+
+        @Override
+        public ColumnVector gather(int[] rows, int numRows) {
+            final OffHeap gathered = this.createEmpty(numRows);
+            for (int i = 0; i < numRows; i++) {
+                if (this.isNull(rows[i])) gathered.setNull(i);
+                else this.copyValue(rows[i], gathered, i);
+            }
+            return gathered;
+        }
+
+        protected abstract OffHeap createEmpty(int size);
+
+        protected abstract void copyValue(int row, OffHeap target, int targetRow);
+
+    }
+
+    /**
+     * {@link ColumnVector} of {@link Type#INT}.
+     */
+    public static final class OfInts extends OffHeap {
+
+        private OfInts(int size) {
+            super(size, Integer.BYTES);
+        }
+
+        @Override
+        public Type getType() {
+            return Type.INT;
+        }
+
+        public int getInt(int row) {
+            return this.data.getInt(row << 2);
+        }
+
+        @Override
+        public long getLong(int row) {
+            return this.getInt(row);
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.getInt(row);
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return this.isNull(row) ? null : this.getInt(row);
+        }
+
+        @Override
+        protected OffHeap createEmpty(int size) {
+            return new OfInts(size);
+        }
+
+        @Override
+        protected void copyValue(int row, OffHeap target, int targetRow) {
+            target.data.putInt(targetRow << 2, this.getInt(row));
+        }
+
+    }
+
+    /**
+     * {@link ColumnVector} of {@link Type#LONG}.
+     */
+    public static final class OfLongs extends OffHeap {
+
+        private OfLongs(int size) {
+            super(size, Long.BYTES);
+        }
+
+        @Override
+        public Type getType() {
+            return Type.LONG;
+        }
+
+        @Override
+        public long getLong(int row) {
+            return this.data.getLong(row << 3);
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.getLong(row);
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return this.isNull(row) ? null : this.getLong(row);
+        }
+
+        @Override
+        protected OffHeap createEmpty(int size) {
+            return new OfLongs(size);
+        }
+
+        @Override
+        protected void copyValue(int row, OffHeap target, int targetRow) {
+            target.data.putLong(targetRow << 3, this.getLong(row));
+        }
+
+    }
+
+    /**
+     * {@link ColumnVector} of {@link Type#DOUBLE}.
+     */
+    public static final class OfDoubles extends OffHeap {
+
+        private OfDoubles(int size) {
+            super(size, Double.BYTES);
+        }
+
+        @Override
+        public Type getType() {
+            return Type.DOUBLE;
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.data.getDouble(row << 3);
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return this.isNull(row) ? null : this.getDouble(row);
+        }
+
+        @Override
+        protected OffHeap createEmpty(int size) {
+            return new OfDoubles(size);
+        }
+
+        @Override
+        protected void copyValue(int row, OffHeap target, int targetRow) {
+            target.data.putDouble(targetRow << 3, this.getDouble(row));
+        }
+
+    }
+
+    /**
+     * {@link ColumnVector} of {@link Type#OBJECT}, which keeps its values on the heap.
+     */
+    public static final class OfObjects extends ColumnVector {
+
+        private final Object[] values;
+
+        private OfObjects(Object[] values) {
+            super(values.length);
+            this.values = values;
+        }
+
+        @Override
+        public Type getType() {
+            return Type.OBJECT;
+        }
+
+        @Override
+        public boolean isNull(int row) {
+            return this.values[row] == null;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        public ColumnVector gather(int[] rows, int numRows) {
+            final Object[] gathered = new Object[numRows];
+            for (int i = 0; i < numRows; i++) {
+                gathered[i] = this.values[rows[i]];
+            }
+            return new OfObjects(gathered);
+        }
+
+    }
+
+}
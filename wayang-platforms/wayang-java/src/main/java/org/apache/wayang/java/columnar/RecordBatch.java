@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.columnar;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, column-wise representation of a dataset of {@link Record}s that all have the same number of fields.
+ * <p>Empty instances need not know the number of fields: they provide an empty {@link ColumnVector} for any column
+ * index, so that operators on empty inputs do not depend on how the instance was created.</p>
+ *
+ * @see ColumnVector
+ */
+public class RecordBatch {
+
+    private static final ColumnVector EMPTY_COLUMN = ColumnVector.of(Collections.emptyList(), 0);
+
+    private final ColumnVector[] columns;
+
+    private final int numRows;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param columns the {@link ColumnVector}s, which must all be of size {@code numRows}
+     * @param numRows the number of rows
+     */
+    public RecordBatch(ColumnVector[] columns, int numRows) {
+        for (ColumnVector column : columns) {
+            if (column.size() != numRows) {
+                throw new WayangException(String.format("%s does not provide %d rows.", column, numRows));
+            }
+        }
+        this.columns = columns;
+        this.numRows = numRows;
+    }
+
+    /**
+     * Creates an instance without rows.
+     *
+     * @param numColumns the number of columns
+     * @return the new instance
+     */
+    public static RecordBatch empty(int numColumns) {
+        final ColumnVector[] columns = new ColumnVector[numColumns];
+        Arrays.fill(columns, EMPTY_COLUMN);
+        return new RecordBatch(columns, 0);
+    }
+
+    /**
+     * Transposes the given {@link Record}s into a new instance. For an empty list, prefer {@link #empty(int)} if
+     * the number of fields is known.
+     *
+     * @param records the {@link Record}s
+     * @return the new instance
+     */
+    public static RecordBatch of(List<Record> records) {
+        final int numColumns = records.isEmpty() ? 0 : records.get(0).size();
+        for (Record record : records) {
+            if (record.size() != numColumns) {
+                throw new WayangException(String.format("Cannot store %s in a batch with %d columns.", record, numColumns));
+            }
+        }
+        final ColumnVector[] columns = new ColumnVector[numColumns];
+        for (int field = 0; field < numColumns; field++) {
+            columns[field] = ColumnVector.of(records, field);
+        }
+        return new RecordBatch(columns, records.size());
+    }
+
+    public int getNumRows() {
+        return this.numRows;
+    }
+
+    public int getNumColumns() {
+        return this.columns.length;
+    }
+
+    public ColumnVector getColumn(int index) {
+        if (index >= this.columns.length && this.numRows == 0) {
+            return EMPTY_COLUMN;
+        }
+        return this.columns[index];
+    }
+
+    /**
+     * Materializes a row of this instance.
+     *
+     * @param row the index of the row
+     * @return a new {@link Record} with the values of the row
+     */
+    public Record getRecord(int row) {
+        final Object[] values = new Object[this.columns.length];
+        for (int field = 0; field < values.length; field++) {
+            values[field] = this.columns[field].getObject(row);
+        }
+        return new Record(values);
+    }
+
+    /**
+     * Materializes the rows of this instance lazily.
+     *
+     * @return a {@link Stream} of the rows
+     */
+    public Stream<Record> stream() {
+        return IntStream.range(0, this.numRows).mapToObj(this::getRecord);
+    }
+
+    /**
+     * Creates a new instance that retains only the given rows.
+     *
+     * @param rows    ascending indices of the rows to retain
+     * @param numRows the number of valid entries in {@code rows}
+     * @return the new instance
+     */
+    public RecordBatch select(int[] rows, int numRows) {
+        if (numRows == this.numRows) return this;
+        final ColumnVector[] selectedColumns = new ColumnVector[this.columns.length];
+        for (int field = 0; field < selectedColumns.length; field++) {
+            selectedColumns[field] = this.columns[field].gather(rows, numRows);
+        }
+        return new RecordBatch(selectedColumns, numRows);
+    }
+
+    /**
+     * Creates a new instance with the given columns. The {@link ColumnVector}s are shared rather than copied.
+     *
+     * @param fields indices of the columns to retain in their new order
+     * @return the new instance
+     */
+    public RecordBatch project(int[] fields) {
+        final ColumnVector[] projectedColumns = new ColumnVector[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            projectedColumns[i] = this.getColumn(fields[i]);
+        }
+        return new RecordBatch(projectedColumns, this.numRows);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d columns, %d rows]", this.getClass().getSimpleName(), this.columns.length, this.numRows);
+    }
+
+}
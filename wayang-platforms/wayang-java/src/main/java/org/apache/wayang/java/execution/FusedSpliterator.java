@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.wayang.java.operators.JavaFusibleOperator;
+
+import java.util.ArrayDeque;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link Spliterator} that pushes the data quanta of a source {@link Spliterator} through a fused chain of
+ * {@link JavaFusibleOperator}s. Bulk traversal runs the whole chain in a single loop; only single-step traversal
+ * needs to buffer the output of a single input data quantum.
+ */
+class FusedSpliterator implements Spliterator<Object> {
+
+    /**
+     * Provides the input data quanta.
+     */
+    private final Spliterator<Object> source;
+
+    /**
+     * Wraps a downstream {@link Consumer} with the fused operator chain.
+     */
+    private final Function<Consumer<Object>, Consumer<Object>> pipeline;
+
+    /**
+     * Output data quanta that have not yet been passed on in {@link #tryAdvance(Consumer)}. Created lazily.
+     */
+    private ArrayDeque<Object> buffer;
+
+    /**
+     * {@link #pipeline} applied to the {@link #buffer}. Created lazily.
+     */
+    private Consumer<Object> bufferingConsumer;
+
+    FusedSpliterator(Spliterator<Object> source, Function<Consumer<Object>, Consumer<Object>> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+        if (this.buffer == null) {
+            this.buffer = new ArrayDeque<>();
+            this.bufferingConsumer = this.pipeline.apply(this.buffer::add);
+        }
+        while (this.buffer.isEmpty()) {
+            if (!this.source.tryAdvance(this.bufferingConsumer)) return false;
+        }
+        action.accept(this.buffer.poll());
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super Object> action) {
+        if (this.buffer != null) {
+            while (!this.buffer.isEmpty()) action.accept(this.buffer.poll());
+        }
+        this.source.forEachRemaining(this.pipeline.apply((Consumer<Object>) action));
+    }
+
+    @Override
+    public Spliterator<Object> trySplit() {
+        final Spliterator<Object> prefix = this.source.trySplit();
+        return prefix == null ? null : new FusedSpliterator(prefix, this.pipeline);
+    }
+
+    @Override
+    public long estimateSize() {
+        // Filters and flat maps change the number of data quanta, so we cannot tell.
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & Spliterator.ORDERED;
+    }
+}
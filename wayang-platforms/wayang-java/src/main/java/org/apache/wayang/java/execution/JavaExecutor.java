@@ -22,6 +22,7 @@ import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.ExtendedFunction;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelInstance;
@@ -29,29 +30,49 @@ import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.PartialExecution;
 import org.apache.wayang.core.platform.PushExecutorTemplate;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.platform.lineage.LazyExecutionLineageNode;
 import org.apache.wayang.core.util.Formats;
 import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.compiler.FunctionCompiler;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
+import org.apache.wayang.java.operators.JavaFusibleOperator;
 import org.apache.wayang.java.platform.JavaPlatform;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link Executor} implementation for the {@link JavaPlatform}.
+ * <p>Chains of {@link JavaFusibleOperator}s within an {@link org.apache.wayang.core.plan.executionplan.ExecutionStage}
+ * are executed as a single loop over the input of the chain, i.e., without intermediate {@link ChannelInstance}s.</p>
  */
 public class JavaExecutor extends PushExecutorTemplate {
 
+    /**
+     * Configuration key to enable the fusion of {@link JavaFusibleOperator} chains.
+     */
+    public static final String FUSION_KEY = "wayang.java.fusion";
+
     private final JavaPlatform platform;
 
     private final FunctionCompiler compiler;
 
+    private final boolean isFusionEnabled;
+
     public JavaExecutor(JavaPlatform javaPlatform, Job job) {
         super(job);
         this.platform = javaPlatform;
         this.compiler = new FunctionCompiler(job.getConfiguration());
+        this.isFusionEnabled = job.getConfiguration().getBooleanProperty(FUSION_KEY, true);
     }
 
     @Override
@@ -66,9 +87,16 @@ public class JavaExecutor extends PushExecutorTemplate {
             OptimizationContext.OperatorContext producerOperatorContext,
             boolean isRequestEagerExecution
     ) {
+        // Fuse the task with its successors, if possible. The fused chain produces the outputs of its last task.
+        final List<ExecutionTask> fusedTasks = this.collectFusedTasks(task, producerOperatorContext);
+        final ExecutionTask lastTask = fusedTasks.get(fusedTasks.size() - 1);
+        final OptimizationContext.OperatorContext lastOperatorContext = lastTask == task ?
+                producerOperatorContext :
+                producerOperatorContext.getOptimizationContext().getOperatorContext(lastTask.getOperator());
+
         // Provide the ChannelInstances for the output of the task.
-        final ChannelInstance[] outputChannelInstances = task.getOperator().createOutputChannelInstances(
-                this, task, producerOperatorContext, inputChannelInstances
+        final ChannelInstance[] outputChannelInstances = lastTask.getOperator().createOutputChannelInstances(
+                this, lastTask, lastOperatorContext, inputChannelInstances
         );
 
         // Execute.
@@ -78,12 +106,18 @@ public class JavaExecutor extends PushExecutorTemplate {
         this.job.reportProgress(task.getOperator().getName(), 50);
         long startTime = System.currentTimeMillis();
         try {
-            final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
+            final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results = fusedTasks.size() == 1 ?
                     cast(task.getOperator()).evaluate(
                             toArray(inputChannelInstances),
                             outputChannelInstances,
                             this,
                             producerOperatorContext
+                    ) :
+                    this.evaluateFused(
+                            fusedTasks,
+                            toArray(inputChannelInstances),
+                            outputChannelInstances,
+                            producerOperatorContext.getOptimizationContext()
                     );
             //Thread.sleep(1000);
             executionLineageNodes = results.getField0();
@@ -115,6 +149,94 @@ public class JavaExecutor extends PushExecutorTemplate {
     }
 
 
+    /**
+     * Collects the chain of {@link ExecutionTask}s that can be fused, starting with the given {@code task}. Besides
+     * being {@link JavaFusibleOperator}s without broadcasts, the {@link ExecutionTask}s must be connected via
+     * {@link StreamChannel}s that have no other consumers, do not leave the
+     * {@link org.apache.wayang.core.plan.executionplan.ExecutionStage}, and are not instrumented.
+     *
+     * @param task                    the first {@link ExecutionTask} of the chain
+     * @param producerOperatorContext context information for the {@code task}
+     * @return the {@link ExecutionTask}s, at least the given {@code task}
+     */
+    private List<ExecutionTask> collectFusedTasks(ExecutionTask task,
+                                                  OptimizationContext.OperatorContext producerOperatorContext) {
+        if (!this.isFusionEnabled || producerOperatorContext == null || !isFusible(task)) {
+            return Collections.singletonList(task);
+        }
+
+        final List<ExecutionTask> fusedTasks = new ArrayList<>(4);
+        fusedTasks.add(task);
+        ExecutionTask lastTask = task;
+        while (true) {
+            final Channel channel = lastTask.getOutputChannel(0);
+            if (channel == null
+                    || channel.getDescriptor() != StreamChannel.DESCRIPTOR
+                    || channel.getConsumers().size() != 1
+                    || channel.withSiblings().count() != 1
+                    || channel.isBetweenStages()
+                    || channel.isMarkedForInstrumentation()) {
+                break;
+            }
+            final ExecutionTask consumer = channel.getConsumers().get(0);
+            if (consumer.getStage() != task.getStage() || !isFusible(consumer)) break;
+            fusedTasks.add(consumer);
+            lastTask = consumer;
+        }
+        return fusedTasks;
+    }
+
+    private static boolean isFusible(ExecutionTask task) {
+        final ExecutionOperator operator = task.getOperator();
+        return operator instanceof JavaFusibleOperator
+                && operator.getNumInputs() == 1
+                && operator.getNumOutputs() == 1
+                && !operator.isLoopHead()
+                && task.getNumOuputChannels() == 1;
+    }
+
+    /**
+     * Evaluates a chain of fused {@link JavaFusibleOperator}s lazily. The lineage still contains an
+     * {@link ExecutionLineageNode} for each of the {@link JavaFusibleOperator}s, so that their costs can be learned.
+     *
+     * @param fusedTasks          the fused {@link ExecutionTask}s
+     * @param inputs              the input {@link ChannelInstance}s of the first {@link ExecutionTask}
+     * @param outputs             the output {@link ChannelInstance}s of the last {@link ExecutionTask}
+     * @param optimizationContext provides the {@link OptimizationContext.OperatorContext}s of the {@code fusedTasks}
+     * @return the executed {@link ExecutionLineageNode}s and produced {@link ChannelInstance}s
+     */
+    private Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluateFused(
+            List<ExecutionTask> fusedTasks,
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            OptimizationContext optimizationContext) {
+        Function<Consumer<Object>, Consumer<Object>> pipeline = Function.identity();
+        LazyExecutionLineageNode lineage = null;
+        for (ExecutionTask fusedTask : fusedTasks) {
+            final JavaFusibleOperator operator = (JavaFusibleOperator) fusedTask.getOperator();
+            final OptimizationContext.OperatorContext operatorContext = optimizationContext.getOperatorContext(operator);
+            pipeline = pipeline.compose(operator.createFusedStep(this, inputs, operatorContext));
+
+            final ExecutionLineageNode executionLineageNode = new ExecutionLineageNode(operatorContext);
+            executionLineageNode.addAtomicExecutionFromOperatorContext();
+            if (lineage == null) {
+                LazyExecutionLineageNode.connectAll(inputs, executionLineageNode, new ChannelInstance[0]);
+            } else {
+                executionLineageNode.addPredecessor(lineage);
+            }
+            lineage = executionLineageNode;
+        }
+        outputs[0].getLineage().addPredecessor(lineage);
+
+        final Stream<Object> source = ((JavaChannelInstance) inputs[0]).provideStream();
+        final Stream<Object> fusedStream = StreamSupport.stream(
+                new FusedSpliterator(source.spliterator(), pipeline), source.isParallel()
+        ).onClose(source::close);
+        ((StreamChannel.Instance) outputs[0]).accept(fusedStream);
+
+        return new Tuple<>(Collections.emptyList(), Collections.emptyList());
+    }
+
     private static JavaExecutionOperator cast(ExecutionOperator executionOperator) {
         return (JavaExecutionOperator) executionOperator;
     }
@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.util.ReferenceCountable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Local temporary file that data quanta are appended to while a memory-budgeted operator spills and that can
+ * afterwards be read back (repeatedly) as a {@link Stream}.
+ *
+ * @see SpillSettings
+ */
+public class SpillFile<T> {
+
+    /**
+     * Number of written data quanta after which the {@link ObjectOutputStream} forgets its back references, so that
+     * neither the writer nor the reader accumulate the spilled data quanta.
+     */
+    private static final int RESET_INTERVAL = 1024;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final File file;
+
+    private ObjectOutputStream writer;
+
+    private long size = 0;
+
+    SpillFile(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Appends a data quantum to this instance. Must not be called after {@link #close()}.
+     *
+     * @param dataQuantum the data quantum; must be {@link java.io.Serializable}
+     */
+    public void write(T dataQuantum) {
+        try {
+            if (this.writer == null) {
+                this.writer = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(this.file), BUFFER_SIZE));
+            }
+            this.writer.writeObject(dataQuantum);
+            if (++this.size % RESET_INTERVAL == 0) {
+                this.writer.reset();
+            }
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not spill to %s.", this.file), e);
+        }
+    }
+
+    /**
+     * Finishes writing to this instance.
+     */
+    public void close() {
+        if (this.writer == null) return;
+        try {
+            this.writer.close();
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not close %s.", this.file), e);
+        }
+    }
+
+    /**
+     * @return the number of data quanta written to this instance
+     */
+    public long size() {
+        return this.size;
+    }
+
+    /**
+     * Reads the spilled data quanta. This instance must be {@link #close()}d before.
+     *
+     * @return a {@link Stream} of the data quanta that should be closed after use
+     */
+    public Stream<T> stream() {
+        final Reader reader = new Reader();
+        return StreamSupport.stream(
+                Spliterators.spliterator(reader, this.size, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(reader::close);
+    }
+
+    /**
+     * Provides the spilled data quanta as a read-only {@link Collection} that reads this instance on every iteration.
+     * The {@link Collection} is {@link ReferenceCountable}: it {@link #delete()}s this instance once its last
+     * reference is discarded, e.g., when the last {@link org.apache.wayang.java.channels.CollectionChannel.Instance}
+     * holding it is disposed.
+     *
+     * @return the {@link Collection}
+     */
+    public Collection<T> asCollection() {
+        return new SpilledCollection();
+    }
+
+    /**
+     * Removes the underlying file.
+     */
+    public void delete() {
+        this.close();
+        if (!this.file.delete() && this.file.exists()) {
+            throw new WayangException(String.format("Could not delete %s.", this.file));
+        }
+    }
+
+    /**
+     * Read-only {@link Collection} view of a {@link SpillFile} that deletes the file once it is not referenced anymore.
+     */
+    private class SpilledCollection extends AbstractCollection<T> implements ReferenceCountable {
+
+        private int numReferences = 0;
+
+        private boolean isDisposed = false;
+
+        @Override
+        public Iterator<T> iterator() {
+            return SpillFile.this.new Reader();
+        }
+
+        @Override
+        public Stream<T> stream() {
+            return SpillFile.this.stream();
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.min(Integer.MAX_VALUE, SpillFile.this.size);
+        }
+
+        @Override
+        public synchronized int getNumReferences() {
+            return this.numReferences;
+        }
+
+        @Override
+        public synchronized void noteObtainedReference() {
+            assert !this.isDisposed : String.format("%s should not be resurrected.", SpillFile.this.file);
+            this.numReferences++;
+        }
+
+        @Override
+        public synchronized void noteDiscardedReference(boolean isDisposeIfUnreferenced) {
+            assert this.numReferences > 0 : String.format("Reference on %s discarded, although the reference counter is 0.", SpillFile.this.file);
+            this.numReferences--;
+            if (isDisposeIfUnreferenced) {
+                this.disposeIfUnreferenced();
+            }
+        }
+
+        @Override
+        public synchronized boolean disposeIfUnreferenced() {
+            if (this.numReferences > 0) return false;
+            if (!this.isDisposed) {
+                SpillFile.this.delete();
+                this.isDisposed = true;
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized boolean isDisposed() {
+            return this.isDisposed;
+        }
+
+    }
+
+    /**
+     * {@link Iterator} over the data quanta in a {@link SpillFile}.
+     */
+    private class Reader implements Iterator<T> {
+
+        private ObjectInputStream reader;
+
+        private long numRead = 0;
+
+        @Override
+        public boolean hasNext() {
+            if (this.numRead < SpillFile.this.size) return true;
+            this.close();
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            try {
+                if (this.reader == null) {
+                    this.reader = new ObjectInputStream(new BufferedInputStream(new FileInputStream(SpillFile.this.file), BUFFER_SIZE));
+                }
+                this.numRead++;
+                return (T) this.reader.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new WayangException(String.format("Could not read from %s.", SpillFile.this.file), e);
+            }
+        }
+
+        void close() {
+            if (this.reader == null) return;
+            try {
+                this.reader.close();
+                this.reader = null;
+            } catch (IOException e) {
+                throw new WayangException(String.format("Could not close %s.", SpillFile.this.file), e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Describes if and how memory-intensive Java operators (joins, groupings, sorts) spill hash partitions or sorted runs
+ * to local disk once they exceed their memory budget.
+ */
+public class SpillSettings {
+
+    /**
+     * {@link Configuration} key to enable spilling.
+     */
+    public static final String ENABLED_KEY = "wayang.java.spill.enabled";
+
+    /**
+     * {@link Configuration} key for the heap bytes that a single operator may use for its in-memory data quanta.
+     */
+    public static final String MEMORY_BUDGET_KEY = "wayang.java.spill.memory-budget";
+
+    /**
+     * {@link Configuration} key for the estimated heap bytes of a data quantum held in memory.
+     */
+    public static final String BYTES_PER_QUANTUM_KEY = "wayang.java.spill.bytes-per-quantum";
+
+    /**
+     * {@link Configuration} key for the number of hash partitions to spill into.
+     */
+    public static final String PARTITIONS_KEY = "wayang.java.spill.partitions";
+
+    /**
+     * {@link Configuration} key for the directory of the spill files; defaults to {@code java.io.tmpdir}.
+     */
+    public static final String DIRECTORY_KEY = "wayang.java.spill.directory";
+
+    private final boolean isEnabled;
+
+    private final long maxInMemoryQuanta;
+
+    private final int numPartitions;
+
+    private final File directory;
+
+    /**
+     * Creates a new instance from the given {@link Configuration}.
+     *
+     * @param configuration provides the spill settings
+     * @return the new instance
+     */
+    public static SpillSettings from(Configuration configuration) {
+        return new SpillSettings(
+                configuration.getBooleanProperty(ENABLED_KEY, false),
+                configuration.getLongProperty(MEMORY_BUDGET_KEY, 256L << 20)
+                        / Math.max(1L, configuration.getLongProperty(BYTES_PER_QUANTUM_KEY, 200L)),
+                (int) configuration.getLongProperty(PARTITIONS_KEY, 64L),
+                new File(configuration.getStringProperty(DIRECTORY_KEY, System.getProperty("java.io.tmpdir")))
+        );
+    }
+
+    public SpillSettings(boolean isEnabled, long maxInMemoryQuanta, int numPartitions, File directory) {
+        this.isEnabled = isEnabled;
+        this.maxInMemoryQuanta = Math.max(1L, maxInMemoryQuanta);
+        this.numPartitions = Math.max(2, numPartitions);
+        this.directory = directory;
+    }
+
+    public boolean isEnabled() {
+        return this.isEnabled;
+    }
+
+    /**
+     * @return the number of data quanta that an operator may keep in its hash table before spilling
+     */
+    public long getMaxInMemoryQuanta() {
+        return this.maxInMemoryQuanta;
+    }
+
+    public int getNumPartitions() {
+        return this.numPartitions;
+    }
+
+    /**
+     * Determines the spill partition for a key. The partitioning is independent of the bucketing in
+     * {@link java.util.HashMap}s, so that the hash tables of the single partitions do not degenerate.
+     *
+     * @param key the key; may be {@code null}
+     * @return the partition index
+     */
+    public int getPartition(Object key) {
+        if (key == null) return 0;
+        final int hash = key.hashCode() * 0x9E3779B9;
+        return (int) (((hash >>> 16) * (long) this.numPartitions) >>> 16);
+    }
+
+    /**
+     * Creates a new, empty {@link SpillFile}.
+     *
+     * @return the {@link SpillFile}
+     */
+    public <T> SpillFile<T> createSpillFile() {
+        try {
+            if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+                throw new IOException(String.format("Could not create %s.", this.directory));
+            }
+            return new SpillFile<>(File.createTempFile("wayang-spill", ".bin", this.directory));
+        } catch (IOException e) {
+            throw new WayangException("Could not create spill file.", e);
+        }
+    }
+
+    /**
+     * Creates a new, empty {@link SpillFile} for each spill partition.
+     *
+     * @return the {@link SpillFile}s indexed by their partition
+     */
+    public <T> List<SpillFile<T>> createPartitionedSpillFiles() {
+        final List<SpillFile<T>> spillFiles = new ArrayList<>(this.numPartitions);
+        for (int partition = 0; partition < this.numPartitions; partition++) {
+            spillFiles.add(this.createSpillFile());
+        }
+        return spillFiles;
+    }
+
+}
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.CompressionCodec;
+import org.apache.hadoop.io.compress.CompressionCodecFactory;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.util.fs.FileSystem;
+import org.apache.wayang.core.util.fs.FileSystems;
+import org.apache.wayang.core.util.fs.LocalFileSystem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Byte range of a text file that provides all lines that start within that range. Local files are read with
+ * positional reads, so that a split touches only its own bytes and the remainder of its last line.
+ * Compressed files (as recognized by Hadoop's {@link CompressionCodecFactory}, e.g., {@code .gz}) are decompressed,
+ * but cannot be split.
+ */
+public class TextFileSplit {
+
+    private static final Logger logger = LoggerFactory.getLogger(TextFileSplit.class);
+
+    /**
+     * Maximum split size.
+     */
+    public static final long MAX_SPLIT_SIZE = 1L << 30;
+
+    private static final CompressionCodecFactory compressionCodecFactory =
+            new CompressionCodecFactory(new org.apache.hadoop.conf.Configuration());
+
+    private final String path;
+
+    /**
+     * The byte range of this instance; if {@link #end} is negative, this instance comprises the whole file.
+     */
+    private final long start, end;
+
+    private TextFileSplit(String path, long start, long end) {
+        this.path = path;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Splits the input file(s) into instances.
+     *
+     * @param url       the input file or a directory of part files
+     * @param splitSize the number of bytes per instance; capped at {@link #MAX_SPLIT_SIZE}
+     * @return the instances in the order of the file(s)
+     */
+    public static List<TextFileSplit> createSplits(String url, long splitSize) throws IOException {
+        splitSize = Math.max(1L, Math.min(splitSize, MAX_SPLIT_SIZE));
+        final List<TextFileSplit> splits = new ArrayList<>();
+        for (String path : FileSystems.findActualInputPaths(url)) {
+            if (compressionCodecFactory.getCodec(new Path(path)) != null) {
+                splits.add(new TextFileSplit(path, 0, -1));
+                continue;
+            }
+            final long fileSize = FileSystems.requireFileSystem(path).getFileSize(path);
+            for (long start = 0; start < fileSize; start += splitSize) {
+                splits.add(new TextFileSplit(path, start, Math.min(fileSize, start + splitSize)));
+            }
+        }
+        logger.info("Split {} into {} splits.", url, splits.size());
+        return splits;
+    }
+
+    /**
+     * Tells whether line breaks can be detected on the byte level in the given {@link Charset}, which is required to
+     * read a file in instances.
+     *
+     * @param charset the {@link Charset}
+     * @return whether files in the {@link Charset} can be split
+     */
+    public static boolean isSplittable(Charset charset) {
+        return charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Wraps the given {@link InputStream} in a decompressing one if the file extension indicates a compression.
+     *
+     * @param inputStream the {@link InputStream}
+     * @param url         the URL of the file being read
+     * @return the possibly decompressing {@link InputStream}
+     */
+    public static InputStream decompress(InputStream inputStream, String url) throws IOException {
+        final CompressionCodec codec = compressionCodecFactory.getCodec(new Path(url));
+        return codec == null ? inputStream : codec.createInputStream(inputStream);
+    }
+
+    /**
+     * Reads the lines of this instance.
+     *
+     * @param charset      the {@link Charset} of the file
+     * @param isSkipHeader whether to skip the first line of the file if it belongs to this instance
+     * @return a {@link Stream} of the lines that should be closed after use
+     */
+    public Stream<String> lines(Charset charset, boolean isSkipHeader) throws IOException, URISyntaxException {
+        final FileSystem fs = FileSystems.requireFileSystem(this.path);
+        if (this.end < 0) {
+            final BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(decompress(fs.open(this.path), this.path), charset)
+            );
+            return reader.lines().skip(isSkipHeader ? 1 : 0).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close {}.", this.path, e);
+                }
+            });
+        }
+
+        // Start one byte early: if that byte is a line break, the first line starts exactly at this split.
+        final long readStart = this.start == 0 ? 0 : this.start - 1;
+        final InputStream inputStream;
+        if (fs instanceof LocalFileSystem) {
+            inputStream = new FileChannelInputStream(
+                    FileChannel.open(Paths.get(new URL(this.path).toURI()), StandardOpenOption.READ), readStart
+            );
+        } else {
+            inputStream = fs.open(this.path);
+            long toSkip = readStart;
+            while (toSkip > 0) {
+                final long skipped = inputStream.skip(toSkip);
+                if (skipped <= 0) throw new IOException(String.format("Could not seek to %d in %s.", readStart, this.path));
+                toSkip -= skipped;
+            }
+        }
+        final LineIterator lineIterator = new LineIterator(
+                inputStream, charset, this.start != 0 || isSkipHeader, this.end - readStart
+        );
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(lineIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(lineIterator::close);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d..%d]", this.getClass().getSimpleName(), this.path, this.start, this.end);
+    }
+
+    /**
+     * Provides the lines from an {@link InputStream} that start before a given offset. Lines are terminated by
+     * {@code \n} or {@code \r\n}.
+     */
+    private static class LineIterator implements Iterator<String> {
+
+        private final InputStream inputStream;
+
+        private final Charset charset;
+
+        /**
+         * Offset in the {@link #inputStream} before which a line must start to be provided.
+         */
+        private final long limit;
+
+        private final byte[] buffer = new byte[1 << 16];
+
+        private int bufferPos = 0, bufferEnd = 0;
+
+        /**
+         * Offset of {@link #bufferPos} in the {@link #inputStream}.
+         */
+        private long pos = 0;
+
+        private byte[] line = new byte[256];
+
+        private String next;
+
+        private boolean isExhausted = false;
+
+        private LineIterator(InputStream inputStream, Charset charset, boolean isSkipFirstLine, long limit) {
+            this.inputStream = inputStream;
+            this.charset = charset;
+            this.limit = limit;
+            if (isSkipFirstLine) {
+                this.readLine(false);
+            }
+        }
+
+        /**
+         * Reads the bytes until the next line break.
+         *
+         * @param isKeep whether to keep the bytes in {@link #line}
+         * @return the number of bytes of the line (without the line break) or {@code -1} if there was no more line
+         */
+        private int readLine(boolean isKeep) {
+            int length = 0;
+            while (true) {
+                if (this.bufferPos == this.bufferEnd && !this.fillBuffer()) {
+                    return length == 0 ? -1 : length;
+                }
+                final byte b = this.buffer[this.bufferPos++];
+                this.pos++;
+                if (b == '\n') {
+                    if (length > 0 && isKeep && this.line[length - 1] == '\r') length--;
+                    return length;
+                }
+                if (isKeep) {
+                    if (length == this.line.length) this.line = Arrays.copyOf(this.line, 2 * length);
+                    this.line[length] = b;
+                }
+                length++;
+            }
+        }
+
+        private boolean fillBuffer() {
+            try {
+                this.bufferEnd = this.inputStream.read(this.buffer);
+                this.bufferPos = 0;
+                if (this.bufferEnd > 0) return true;
+                this.bufferEnd = 0;
+                return false;
+            } catch (IOException e) {
+                throw new WayangException("Reading lines failed.", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next == null && !this.isExhausted) {
+                final int length = this.pos < this.limit ? this.readLine(true) : -1;
+                if (length < 0) {
+                    this.isExhausted = true;
+                    this.close();
+                } else {
+                    this.next = new String(this.line, 0, length, this.charset);
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final String result = this.next;
+            this.next = null;
+            return result;
+        }
+
+        void close() {
+            try {
+                this.inputStream.close();
+            } catch (IOException e) {
+                logger.warn("Could not close input stream.", e);
+            }
+        }
+
+    }
+
+    /**
+     * {@link InputStream} that reads a {@link FileChannel} from a given position on with positional reads, so that
+     * several instances can share a file without seeking or mapping it.
+     */
+    private static class FileChannelInputStream extends InputStream {
+
+        private final FileChannel channel;
+
+        private long position;
+
+        private FileChannelInputStream(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final byte[] bytes = new byte[1];
+            return this.read(bytes, 0, 1) < 0 ? -1 : bytes[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) throws IOException {
+            if (length == 0) return 0;
+            final int numBytes = this.channel.read(ByteBuffer.wrap(bytes, offset, length), this.position);
+            if (numBytes > 0) this.position += numBytes;
+            return numBytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.channel.close();
+        }
+
+    }
+
+}
@@ -19,6 +19,10 @@
 package org.apache.wayang.java.mapping;
 
 import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.java.mapping.columnar.ColumnarFilterMapping;
+import org.apache.wayang.java.mapping.columnar.ColumnarJoinMapping;
+import org.apache.wayang.java.mapping.columnar.ColumnarProjectionMapping;
+import org.apache.wayang.java.mapping.columnar.ColumnarReduceByMapping;
 import org.apache.wayang.java.mapping.graph.PageRankMapping;
 
 import java.util.Arrays;
@@ -38,6 +42,7 @@ public class Mappings {
             new MapMapping(),
             new MapPartitionsMapping(),
             new ReduceByMapping(),
+            new AggregateMapping(),
             new CollectionSourceMapping(),
             new LocalCallbackSinkMapping(),
             new GlobalReduceMapping(),
@@ -66,4 +71,11 @@ public class Mappings {
             new PageRankMapping()
     );
 
+    public static Collection<Mapping> COLUMNAR_MAPPINGS = Arrays.asList(
+            new ColumnarFilterMapping(),
+            new ColumnarProjectionMapping(),
+            new ColumnarJoinMapping(),
+            new ColumnarReduceByMapping()
+    );
+
 }
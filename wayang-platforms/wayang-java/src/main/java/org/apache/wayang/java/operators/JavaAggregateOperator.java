@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.basic.operators.AggregateOperator;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.columnar.ColumnVector;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Java implementation of the {@link AggregateOperator}. It keeps one {@link AggregateDescriptor.Accumulator} per group
+ * in a hash table. Inputs from a {@link ColumnarChannel} are aggregated column by column.
+ */
+public class JavaAggregateOperator extends AggregateOperator implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param aggregateDescriptor describes the grouping and the aggregates
+     */
+    public JavaAggregateOperator(AggregateDescriptor aggregateDescriptor) {
+        super(aggregateDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaAggregateOperator(AggregateOperator that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final AggregateDescriptor descriptor = this.aggregateDescriptor;
+        final Collection<Record> result;
+        if (inputs[0] instanceof ColumnarChannel.Instance && ((ColumnarChannel.Instance) inputs[0]).isColumnar()) {
+            result = this.aggregate(((ColumnarChannel.Instance) inputs[0]).provideBatch());
+        } else {
+            try (Stream<Record> stream = ((JavaChannelInstance) inputs[0]).provideStream()) {
+                if (descriptor.isGlobal()) {
+                    final AggregateDescriptor.Accumulator accumulator = descriptor.createAccumulator();
+                    stream.forEach(record -> descriptor.accumulate(accumulator, record));
+                    result = Collections.singletonList(descriptor.createOutput(null, accumulator));
+                } else {
+                    final Map<Object, AggregateDescriptor.Accumulator> accumulators = new HashMap<>();
+                    stream.forEach(record -> descriptor.accumulate(
+                            accumulators.computeIfAbsent(descriptor.extractKey(record), key -> descriptor.createAccumulator()),
+                            record
+                    ));
+                    result = new ArrayList<>(accumulators.size());
+                    accumulators.forEach((key, accumulator) -> result.add(descriptor.createOutput(key, accumulator)));
+                }
+            }
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(result);
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Aggregates a {@link RecordBatch} column by column: after assigning each row to its group, every
+     * {@link AggregateDescriptor.Aggregate} scans only its own {@link ColumnVector} and reads primitive values
+     * without boxing them.
+     *
+     * @param batch the {@link RecordBatch}
+     * @return the output {@link Record}s
+     */
+    private Collection<Record> aggregate(RecordBatch batch) {
+        final AggregateDescriptor descriptor = this.aggregateDescriptor;
+        final int numRows = batch.getNumRows();
+
+        // Assign the rows to the accumulators of their groups.
+        final AggregateDescriptor.Accumulator[] rowAccumulators = new AggregateDescriptor.Accumulator[numRows];
+        final Map<Object, AggregateDescriptor.Accumulator> accumulators = new LinkedHashMap<>();
+        final int[] groupFields = descriptor.getGroupFields();
+        if (descriptor.isGlobal()) {
+            accumulators.put(null, descriptor.createAccumulator());
+            Arrays.fill(rowAccumulators, accumulators.get(null));
+        } else {
+            for (int row = 0; row < numRows; row++) {
+                final Object key;
+                if (groupFields.length == 1) {
+                    key = batch.getColumn(groupFields[0]).getObject(row);
+                } else {
+                    final Object[] values = new Object[groupFields.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = batch.getColumn(groupFields[i]).getObject(row);
+                    }
+                    key = new Record(values);
+                }
+                rowAccumulators[row] = accumulators.computeIfAbsent(key, k -> descriptor.createAccumulator());
+            }
+        }
+
+        // Accumulate one aggregate at a time.
+        final List<AggregateDescriptor.Aggregate> aggregates = descriptor.getAggregates();
+        for (int index = 0; index < aggregates.size(); index++) {
+            final int field = aggregates.get(index).getField();
+            final ColumnVector column = field < 0 ? null : batch.getColumn(field);
+            final ColumnVector.Type type = column == null ? ColumnVector.Type.OBJECT : column.getType();
+            for (int row = 0; row < numRows; row++) {
+                if (column == null) {
+                    descriptor.accumulate(rowAccumulators[row], index, null);
+                } else if (column.isNull(row)) {
+                    continue;
+                } else if (type == ColumnVector.Type.INT || type == ColumnVector.Type.LONG) {
+                    descriptor.accumulateLong(rowAccumulators[row], index, column.getLong(row));
+                } else if (type == ColumnVector.Type.DOUBLE) {
+                    descriptor.accumulateDouble(rowAccumulators[row], index, column.getDouble(row));
+                } else {
+                    descriptor.accumulate(rowAccumulators[row], index, column.getObject(row));
+                }
+            }
+        }
+
+        final List<Record> result = new ArrayList<>(accumulators.size());
+        accumulators.forEach((key, accumulator) -> result.add(descriptor.createOutput(key, accumulator)));
+        return result;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaAggregateOperator(this.getAggregateDescriptor());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.aggregate.load";
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR, ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+}
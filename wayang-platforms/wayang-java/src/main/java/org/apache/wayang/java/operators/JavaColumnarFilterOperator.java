@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Java implementation of the {@link FilterOperator} for {@link Record}s in {@link ColumnarChannel}s. It determines
+ * the qualifying rows first and then copies them column by column.
+ */
+public class JavaColumnarFilterOperator extends FilterOperator<Record> implements JavaExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaColumnarFilterOperator(FilterOperator<Record> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Predicate<Record> filterFunction = javaExecutor.getCompiler().compile(this.predicateDescriptor);
+        JavaExecutor.openFunction(this, filterFunction, inputs, operatorContext);
+
+        final ColumnarChannel.Instance input = (ColumnarChannel.Instance) inputs[0];
+        if (!input.isColumnar()) {
+            ((ColumnarChannel.Instance) outputs[0]).acceptRows(
+                    input.provideRecords().stream().filter(filterFunction).collect(Collectors.toList())
+            );
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        }
+
+        final RecordBatch batch = input.provideBatch();
+        final int[] selection = new int[batch.getNumRows()];
+        int numSelectedRows = 0;
+        for (int row = 0; row < batch.getNumRows(); row++) {
+            if (filterFunction.test(batch.getRecord(row))) {
+                selection[numSelectedRows++] = row;
+            }
+        }
+        ((ColumnarChannel.Instance) outputs[0]).accept(batch.select(selection, numSelectedRows));
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.columnarfilter.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.predicateDescriptor, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaColumnarFilterOperator(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.columnar.ColumnVector;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Java implementation of the {@link JoinOperator} for {@link Record}s in {@link ColumnarChannel}s. The smaller input
+ * is indexed by row numbers. If both keys are projections onto {@code int} or {@code long} columns of the same
+ * {@link ColumnVector.Type}, the index is built on the primitive values without evaluating the key UDFs. Inputs that
+ * hold their data quanta row-wise (see {@link ColumnarChannel.Instance#acceptRows(Collection)}) are joined via the key
+ * UDFs.
+ */
+public class JavaColumnarJoinOperator<Key> extends JoinOperator<Record, Record, Key> implements JavaExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaColumnarJoinOperator(JoinOperator<Record, Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final ColumnarChannel.Instance input0 = (ColumnarChannel.Instance) inputs[0];
+        final ColumnarChannel.Instance input1 = (ColumnarChannel.Instance) inputs[1];
+        final List<Record> records0 = input0.provideRecords();
+        final List<Record> records1 = input1.provideRecords();
+        final boolean isBuild0 = records0.size() <= records1.size();
+        final int buildIndex = isBuild0 ? 0 : 1;
+        final ColumnarChannel.Instance buildInput = isBuild0 ? input0 : input1;
+        final ColumnarChannel.Instance probeInput = isBuild0 ? input1 : input0;
+        final List<Record> build = isBuild0 ? records0 : records1;
+        final List<Record> probe = isBuild0 ? records1 : records0;
+
+        ExecutionLineageNode indexingExecutionLineageNode = new ExecutionLineageNode(operatorContext);
+        indexingExecutionLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                "wayang.java.columnarjoin.load.indexing", javaExecutor.getConfiguration()
+        ));
+        ExecutionLineageNode probingExecutionLineageNode = new ExecutionLineageNode(operatorContext);
+        probingExecutionLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                "wayang.java.columnarjoin.load.probing", javaExecutor.getConfiguration()
+        ));
+
+        // Index the build rows. Each build row links to the next one with the same key.
+        final int[] nextRows = new int[build.size()];
+        final Record[] buildRecords = new Record[build.size()];
+        final IntUnaryOperator probeLookup;
+        final ColumnVector buildKeys = this.getPrimitiveKeyColumn(buildInput, buildIndex);
+        final ColumnVector probeKeys = this.getPrimitiveKeyColumn(probeInput, 1 - buildIndex);
+        if (buildKeys != null && probeKeys != null && buildKeys.getType() == probeKeys.getType()) {
+            final LongIndex index = new LongIndex(build.size());
+            for (int row = build.size() - 1; row >= 0; row--) {
+                nextRows[row] = buildKeys.isNull(row) ?
+                        index.putNull(row) :
+                        index.put(buildKeys.getLong(row), row);
+            }
+            probeLookup = row -> probeKeys.isNull(row) ? index.getNull() : index.get(probeKeys.getLong(row));
+        } else {
+            final Function<Record, Key> buildKeyExtractor = this.compileKeyExtractor(javaExecutor, buildIndex);
+            final Function<Record, Key> probeKeyExtractor = this.compileKeyExtractor(javaExecutor, 1 - buildIndex);
+            final Map<Key, Integer> index = new HashMap<>(build.size() * 4 / 3 + 1);
+            for (int row = build.size() - 1; row >= 0; row--) {
+                buildRecords[row] = build.get(row);
+                final Integer nextRow = index.put(buildKeyExtractor.apply(buildRecords[row]), row);
+                nextRows[row] = nextRow == null ? -1 : nextRow;
+            }
+            probeLookup = row -> index.getOrDefault(probeKeyExtractor.apply(probe.get(row)), -1);
+        }
+
+        // Probe the index lazily.
+        final Stream<Tuple2<Record, Record>> joinStream = IntStream.range(0, probe.size())
+                .mapToObj(probeRow -> {
+                    final int firstBuildRow = probeLookup.applyAsInt(probeRow);
+                    if (firstBuildRow == -1) return Stream.<Tuple2<Record, Record>>empty();
+                    final Record probeRecord = probe.get(probeRow);
+                    final Stream.Builder<Tuple2<Record, Record>> joinProducts = Stream.builder();
+                    for (int buildRow = firstBuildRow; buildRow != -1; buildRow = nextRows[buildRow]) {
+                        if (buildRecords[buildRow] == null) buildRecords[buildRow] = build.get(buildRow);
+                        joinProducts.add(isBuild0 ?
+                                new Tuple2<>(buildRecords[buildRow], probeRecord) :
+                                new Tuple2<>(probeRecord, buildRecords[buildRow]));
+                    }
+                    return joinProducts.build();
+                })
+                .flatMap(Function.identity());
+
+        Collection<ExecutionLineageNode> executionLineageNodes = new LinkedList<>();
+        Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
+        indexingExecutionLineageNode.addPredecessor(inputs[buildIndex].getLineage());
+        indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
+        probingExecutionLineageNode.addPredecessor(inputs[1 - buildIndex].getLineage());
+
+        ((StreamChannel.Instance) outputs[0]).accept(joinStream);
+        outputs[0].getLineage().addPredecessor(probingExecutionLineageNode);
+
+        return new Tuple<>(executionLineageNodes, producedChannelInstances);
+    }
+
+    /**
+     * Provides the {@code int} or {@code long} key column of an input if its key is a projection onto that column.
+     *
+     * @param channelInstance provides the input
+     * @param input           the index of the input
+     * @return the {@link ColumnVector} of the key or {@code null} if there is none
+     */
+    private ColumnVector getPrimitiveKeyColumn(ColumnarChannel.Instance channelInstance, int input) {
+        if (!channelInstance.isColumnar()) return null;
+        final RecordBatch batch = channelInstance.provideBatch();
+        final TransformationDescriptor<Record, Key> keyDescriptor = input == 0 ? this.keyDescriptor0 : this.keyDescriptor1;
+        if (!(keyDescriptor instanceof ProjectionDescriptor) || !(keyDescriptor.getInputType() instanceof RecordType)) {
+            return null;
+        }
+        final List<String> fieldNames = ((ProjectionDescriptor<Record, Key>) keyDescriptor).getFieldNames();
+        if (fieldNames.size() != 1) return null;
+        final ColumnVector column = batch.getColumn(((RecordType) keyDescriptor.getInputType()).getIndex(fieldNames.get(0)));
+        return column.getType() == ColumnVector.Type.INT || column.getType() == ColumnVector.Type.LONG ? column : null;
+    }
+
+    private Function<Record, Key> compileKeyExtractor(JavaExecutor javaExecutor, int input) {
+        return javaExecutor.getCompiler().compile(input == 0 ? this.keyDescriptor0 : this.keyDescriptor1);
+    }
+
+    /**
+     * Open-addressing hash table from {@code long} keys to the first row with that key.
+     */
+    private static final class LongIndex {
+
+        private final long[] keys;
+
+        private final int[] firstRows;
+
+        private final int mask;
+
+        private int nullRow = -1;
+
+        LongIndex(int numRows) {
+            final int capacity = Integer.highestOneBit(Math.max(2, numRows) * 2 - 1) * 2;
+            this.keys = new long[capacity];
+            this.firstRows = new int[capacity];
+            Arrays.fill(this.firstRows, -1);
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Registers a row for a key.
+         *
+         * @return the previously registered row for the key or {@code -1}
+         */
+        int put(long key, int row) {
+            final int slot = this.findSlot(key);
+            final int previousRow = this.firstRows[slot];
+            this.keys[slot] = key;
+            this.firstRows[slot] = row;
+            return previousRow;
+        }
+
+        int putNull(int row) {
+            final int previousRow = this.nullRow;
+            this.nullRow = row;
+            return previousRow;
+        }
+
+        int get(long key) {
+            return this.firstRows[this.findSlot(key)];
+        }
+
+        int getNull() {
+            return this.nullRow;
+        }
+
+        private int findSlot(long key) {
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & this.mask;
+            while (this.firstRows[slot] != -1 && this.keys[slot] != key) {
+                slot = (slot + 1) & this.mask;
+            }
+            return slot;
+        }
+
+    }
+
+    @Override
+    public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
+        return Arrays.asList("wayang.java.columnarjoin.load.indexing", "wayang.java.columnarjoin.load.probing");
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaColumnarJoinOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Java implementation of a {@link MapOperator} with a {@link ProjectionDescriptor} for {@link Record}s in
+ * {@link ColumnarChannel}s. The projected columns are shared with the input rather than copied.
+ */
+public class JavaColumnarProjectionOperator extends MapOperator<Record, Record> implements JavaExecutionOperator {
+
+    /**
+     * Indices of the projected fields.
+     */
+    private final int[] fields;
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied; must be a projection as checked by {@link #isProjection(MapOperator)}
+     */
+    @SuppressWarnings("unchecked")
+    public JavaColumnarProjectionOperator(MapOperator<Record, Record> that) {
+        super(that);
+        assert isProjection(that) : String.format("%s is not a projection of records.", that);
+        final ProjectionDescriptor<Record, Record> projectionDescriptor =
+                (ProjectionDescriptor<Record, Record>) this.functionDescriptor;
+        final RecordType inputType = (RecordType) projectionDescriptor.getInputType();
+        this.fields = projectionDescriptor.getFieldNames().stream().mapToInt(inputType::getIndex).toArray();
+    }
+
+    /**
+     * Tells whether the given {@link MapOperator} projects {@link Record}s with a known {@link RecordType}.
+     *
+     * @param mapOperator the {@link MapOperator}
+     * @return whether it can be implemented by an instance of this class
+     */
+    public static boolean isProjection(MapOperator<?, ?> mapOperator) {
+        final TransformationDescriptor<?, ?> functionDescriptor = mapOperator.getFunctionDescriptor();
+        return functionDescriptor instanceof ProjectionDescriptor
+                && functionDescriptor.getInputType() instanceof RecordType
+                && functionDescriptor.getOutputType() instanceof RecordType;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final ColumnarChannel.Instance input = (ColumnarChannel.Instance) inputs[0];
+        if (input.isColumnar()) {
+            final RecordBatch batch = input.provideBatch();
+            ((ColumnarChannel.Instance) outputs[0]).accept(batch.project(this.fields));
+        } else {
+            final Function<Record, Record> projection = javaExecutor.getCompiler().compile(this.functionDescriptor);
+            ((ColumnarChannel.Instance) outputs[0]).acceptRows(
+                    input.provideRecords().stream().map(projection).collect(Collectors.toList())
+            );
+        }
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.columnarprojection.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaColumnarProjectionOperator(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.columnar.ColumnVector;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * Java implementation of the {@link ReduceByOperator} for {@link Record}s in {@link ColumnarChannel}s. If the key
+ * is a single field, it is read straight from its column; otherwise, the key UDF is applied to each row.
+ */
+public class JavaColumnarReduceByOperator<Key> extends ReduceByOperator<Record, Key> implements JavaExecutionOperator {
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaColumnarReduceByOperator(ReduceByOperator<Record, Key> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<Record, Key> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
+        final BinaryOperator<Record> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
+        JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
+
+        final ColumnarChannel.Instance input = (ColumnarChannel.Instance) inputs[0];
+        final List<Record> records = input.provideRecords();
+        final ColumnVector keyColumn = this.getKeyColumn(input);
+        final Map<Key, Record> reductions = new LinkedHashMap<>();
+        for (int row = 0; row < records.size(); row++) {
+            @SuppressWarnings("unchecked")
+            final Key key = keyColumn == null ? keyExtractor.apply(records.get(row)) : (Key) keyColumn.getObject(row);
+            // Do not use Map#merge, as the reduce function may yield null.
+            final Record record = records.get(row);
+            reductions.put(key, reductions.containsKey(key) ? reduceFunction.apply(reductions.get(key), record) : record);
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(reductions.values());
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Retrieves the column holding the key if the key is a single field of a columnar input.
+     *
+     * @return the key {@link ColumnVector} or {@code null} if the key UDF must be applied
+     */
+    private ColumnVector getKeyColumn(ColumnarChannel.Instance channelInstance) {
+        if (!channelInstance.isColumnar()) return null;
+        if (!(this.keyDescriptor instanceof ProjectionDescriptor) || !(this.keyDescriptor.getInputType() instanceof RecordType)) {
+            return null;
+        }
+        final List<String> fieldNames = ((ProjectionDescriptor<Record, Key>) this.keyDescriptor).getFieldNames();
+        if (fieldNames.size() != 1) return null;
+        final RecordBatch batch = channelInstance.provideBatch();
+        return batch.getColumn(((RecordType) this.keyDescriptor.getInputType()).getIndex(fieldNames.get(0)));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.columnarreduceby.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaColumnarReduceByOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+}
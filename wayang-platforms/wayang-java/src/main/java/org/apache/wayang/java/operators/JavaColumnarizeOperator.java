@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Converts a {@link StreamChannel} or {@link CollectionChannel} into a {@link ColumnarChannel}. Data quanta other
+ * than {@link Record}s are passed on row-wise.
+ */
+public class JavaColumnarizeOperator<Type> extends UnaryToUnaryOperator<Type, Type> implements JavaExecutionOperator {
+
+    public JavaColumnarizeOperator(DataSetType<Type> type) {
+        super(type, type, false);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final ColumnarChannel.Instance output = (ColumnarChannel.Instance) outputs[0];
+
+        final List<Object> dataQuanta = inputs[0] instanceof CollectionChannel.Instance ?
+                new ArrayList<>(((CollectionChannel.Instance) inputs[0]).provideCollection()) :
+                ((JavaChannelInstance) inputs[0]).provideStream().collect(Collectors.toList());
+        final DataUnitType<Type> dataUnitType = this.getOutputType().getDataUnitType();
+        if (dataQuanta.isEmpty() && dataUnitType instanceof RecordType) {
+            output.accept(RecordBatch.empty(((RecordType) dataUnitType).getFieldNames().length));
+        } else if (dataQuanta.stream().allMatch(dataQuantum -> dataQuantum instanceof Record)) {
+            output.accept(RecordBatch.of((List<Record>) (List<?>) dataQuanta));
+        } else {
+            output.acceptRows(dataQuanta);
+        }
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(ColumnarChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, 0, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(1d, 1, this.isSupportingBroadcastInputs(),
+                inputCards -> inputCards[0]));
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.columnarize.load";
+    }
+
+}
@@ -40,6 +40,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -47,7 +49,7 @@ import java.util.function.Predicate;
  */
 public class JavaFilterOperator<Type>
         extends FilterOperator<Type>
-        implements JavaExecutionOperator {
+        implements JavaFusibleOperator {
 
 
     /**
@@ -97,11 +99,24 @@ public class JavaFilterOperator<Type>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaFusibleOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.predicateDescriptor, configuration);
         return optEstimator;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Consumer<Object>, Consumer<Object>> createFusedStep(
+            JavaExecutor javaExecutor,
+            ChannelInstance[] inputs,
+            OptimizationContext.OperatorContext operatorContext) {
+        final Predicate<Type> filterFunction = javaExecutor.getCompiler().compile(this.predicateDescriptor);
+        JavaExecutor.openFunction(this, filterFunction, inputs, operatorContext);
+        return downstream -> dataQuantum -> {
+            if (filterFunction.test((Type) dataQuantum)) downstream.accept(dataQuantum);
+        };
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaFilterOperator<>(this.getInputType(), this.getPredicateDescriptor());
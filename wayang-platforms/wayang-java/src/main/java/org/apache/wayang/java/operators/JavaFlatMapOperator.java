@@ -42,6 +42,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.StreamSupport;
 
@@ -50,7 +51,7 @@ import java.util.stream.StreamSupport;
  */
 public class JavaFlatMapOperator<InputType, OutputType>
         extends FlatMapOperator<InputType, OutputType>
-        implements JavaExecutionOperator {
+        implements JavaFusibleOperator {
 
     /**
      * Creates a new instance.
@@ -98,6 +99,22 @@ public class JavaFlatMapOperator<InputType, OutputType>
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Consumer<Object>, Consumer<Object>> createFusedStep(
+            JavaExecutor javaExecutor,
+            ChannelInstance[] inputs,
+            OptimizationContext.OperatorContext operatorContext) {
+        final Function<InputType, Iterable<OutputType>> flatmapFunction =
+                javaExecutor.getCompiler().compile(this.functionDescriptor);
+        JavaExecutor.openFunction(this, flatmapFunction, inputs, operatorContext);
+        return downstream -> dataQuantum -> {
+            for (OutputType outputQuantum : flatmapFunction.apply((InputType) dataQuantum)) {
+                downstream.accept(outputQuantum);
+            }
+        };
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaFlatMapOperator<>(this.getInputType(), this.getOutputType(), this.getFunctionDescriptor());
@@ -112,7 +129,7 @@ public class JavaFlatMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaFusibleOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
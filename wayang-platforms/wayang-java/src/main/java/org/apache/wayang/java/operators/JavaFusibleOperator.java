@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link JavaExecutionOperator} that processes each data quantum of its only input independently of all others.
+ * The {@link JavaExecutor} fuses chains of such operators within an {@link ExecutionStage} into a single loop.
+ */
+public interface JavaFusibleOperator extends JavaExecutionOperator {
+
+    /**
+     * Prepares the per-data-quantum logic of this instance, e.g., compiles and opens its UDF.
+     *
+     * @param javaExecutor    that executes this instance
+     * @param inputs          the input {@link ChannelInstance}s of the fused operator chain
+     * @param operatorContext context information for this instance
+     * @return a function that wraps a downstream {@link Consumer}, such that the returned {@link Consumer} accepts
+     * the input data quanta of this instance and pushes its output data quanta to the downstream {@link Consumer}
+     */
+    Function<Consumer<Object>, Consumer<Object>> createFusedStep(JavaExecutor javaExecutor,
+                                                                 ChannelInstance[] inputs,
+                                                                 OptimizationContext.OperatorContext operatorContext);
+
+}
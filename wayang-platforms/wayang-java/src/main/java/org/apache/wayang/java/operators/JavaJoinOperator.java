@@ -36,25 +36,48 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.SpillFile;
+import org.apache.wayang.java.execution.SpillSettings;
+import org.apache.logging.log4j.LogManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link JoinOperator}.
+ * <p>By default, the smaller input is indexed in a single hash table that is then probed with the other input. If
+ * {@value #PARTITIONED_KEY} is set, both inputs are instead radix-partitioned by their key hashes and the partitions
+ * are joined in parallel, which requires the key extractors to be thread-safe. Otherwise, if spilling is enabled via
+ * {@link SpillSettings}, the hash table is spilled to disk once it exceeds the memory budget and the join continues
+ * as a grace hash join, i.e., partition by partition.</p>
  */
 public class JavaJoinOperator<InputType0, InputType1, KeyType>
         extends JoinOperator<InputType0, InputType1, KeyType>
         implements JavaExecutionOperator {
 
+    /**
+     * {@link Configuration} key to enable the partitioned, multi-threaded join.
+     */
+    public static final String PARTITIONED_KEY = "wayang.java.join.partitioned";
+
+    /**
+     * {@link Configuration} key for the number of partitions of the partitioned join; non-positive values derive it
+     * from the number of available processors.
+     */
+    public static final String PARTITIONS_KEY = "wayang.java.join.partitions";
+
     /**
      * Creates a new instance.
      */
@@ -107,7 +130,35 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
                 cardinalityEstimate1 != null &&
                 cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
 
-        if (isMaterialize0) {
+        final SpillSettings spillSettings = SpillSettings.from(javaExecutor.getConfiguration());
+        if (javaExecutor.getConfiguration().getBooleanProperty(PARTITIONED_KEY, false)) {
+            final int numPartitions = this.getNumPartitions(javaExecutor.getConfiguration());
+            final Partitioning<InputType0, KeyType> partitioning0 = Partitioning.create(
+                    ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0, numPartitions
+            );
+            final Partitioning<InputType1, KeyType> partitioning1 = Partitioning.create(
+                    ((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1, numPartitions
+            );
+            joinStream = isMaterialize0 ?
+                    joinPartitions(partitioning0, partitioning1, Tuple2::new) :
+                    joinPartitions(partitioning1, partitioning0, (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1));
+            final int buildIndex = isMaterialize0 ? 0 : 1;
+            indexingExecutionLineageNode.addPredecessor(inputs[buildIndex].getLineage());
+            indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
+            probingExecutionLineageNode.addPredecessor(inputs[1 - buildIndex].getLineage());
+        } else if (spillSettings.isEnabled()) {
+            joinStream = isMaterialize0 ?
+                    graceJoin(((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0,
+                            ((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1,
+                            Tuple2::new, spillSettings) :
+                    graceJoin(((JavaChannelInstance) inputs[1]).provideStream(), keyExtractor1,
+                            ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor0,
+                            (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1), spillSettings);
+            final int buildIndex = isMaterialize0 ? 0 : 1;
+            indexingExecutionLineageNode.addPredecessor(inputs[buildIndex].getLineage());
+            indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
+            probingExecutionLineageNode.addPredecessor(inputs[1 - buildIndex].getLineage());
+        } else if (isMaterialize0) {
             final int expectedNumElements =
                     (int) cardinalityEstimate0.getGeometricMeanEstimate();
             Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
@@ -154,6 +205,246 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
         return new Tuple<>(executionLineageNodes, producedChannelInstances);
     }
 
+    /**
+     * Determines the number of partitions for the partitioned join, which is always a power of two.
+     *
+     * @param configuration provides the {@value #PARTITIONS_KEY} setting
+     * @return the number of partitions
+     */
+    private int getNumPartitions(Configuration configuration) {
+        int numPartitions = (int) configuration.getLongProperty(PARTITIONS_KEY, 0);
+        if (numPartitions <= 0) {
+            numPartitions = 4 * Runtime.getRuntime().availableProcessors();
+        }
+        return Integer.highestOneBit(Math.min(numPartitions, 1 << 16) * 2 - 1);
+    }
+
+    /**
+     * Joins two {@link Partitioning}s partition by partition in parallel.
+     *
+     * @param build    the {@link Partitioning} whose partitions are indexed in hash tables
+     * @param probe    the {@link Partitioning} whose partitions probe the hash tables
+     * @param combiner creates a join product from a build and a probe data quantum
+     * @return a {@link Stream} of the join products
+     */
+    private static <Build, Probe, Key, Out> Stream<Out> joinPartitions(Partitioning<Build, Key> build,
+                                                                       Partitioning<Probe, Key> probe,
+                                                                       JoinCombiner<Build, Probe, Out> combiner) {
+        final int numPartitions = build.getNumPartitions();
+        @SuppressWarnings("unchecked")
+        final List<Out>[] results = new List[numPartitions];
+        IntStream.range(0, numPartitions).parallel().forEach(partition -> {
+            final List<Out> result = new ArrayList<>();
+            if (build.getSize(partition) > 0 && probe.getSize(partition) > 0) {
+                Map<Key, List<Build>> hashTable = new HashMap<>(build.getSize(partition) * 4 / 3 + 1);
+                build.forEach(partition, (key, dataQuantum) ->
+                        hashTable.computeIfAbsent(key, k -> new ArrayList<>(2)).add(dataQuantum)
+                );
+                probe.forEach(partition, (key, dataQuantum) -> {
+                    final List<Build> matches = hashTable.get(key);
+                    if (matches != null) {
+                        for (Build match : matches) {
+                            result.add(combiner.combine(match, dataQuantum));
+                        }
+                    }
+                });
+            }
+            results[partition] = result;
+        });
+        return Arrays.stream(results).flatMap(List::stream);
+    }
+
+    /**
+     * Joins two inputs with a hash table that is spilled to disk once it exceeds the memory budget. In that case, the
+     * probe side is spilled, too, and the spill partitions are joined one after another.
+     *
+     * @param buildStream        the data quanta to be indexed
+     * @param buildKeyExtractor  extracts the keys of the {@code buildStream}
+     * @param probeStream        the data quanta to probe the index with
+     * @param probeKeyExtractor  extracts the keys of the {@code probeStream}
+     * @param combiner           creates a join product from a build and a probe data quantum
+     * @param spillSettings      describe the memory budget and the spill partitions
+     * @return a {@link Stream} of the join products
+     */
+    private static <Build, Probe, Key, Out> Stream<Out> graceJoin(Stream<Build> buildStream,
+                                                                  Function<Build, Key> buildKeyExtractor,
+                                                                  Stream<Probe> probeStream,
+                                                                  Function<Probe, Key> probeKeyExtractor,
+                                                                  JoinCombiner<Build, Probe, Out> combiner,
+                                                                  SpillSettings spillSettings) {
+        final Map<Key, List<Build>> hashTable = new HashMap<>();
+        long numIndexedDataQuanta = 0;
+        List<SpillFile<Build>> buildPartitions = null;
+        for (Iterator<Build> iterator = buildStream.iterator(); iterator.hasNext(); ) {
+            final Build dataQuantum = iterator.next();
+            final Key key = buildKeyExtractor.apply(dataQuantum);
+            if (buildPartitions != null) {
+                buildPartitions.get(spillSettings.getPartition(key)).write(dataQuantum);
+            } else {
+                hashTable.computeIfAbsent(key, k -> new ArrayList<>(2)).add(dataQuantum);
+                if (++numIndexedDataQuanta >= spillSettings.getMaxInMemoryQuanta()) {
+                    LogManager.getLogger(JavaJoinOperator.class).info(
+                            "Spilling join hash table with {} data quanta.", numIndexedDataQuanta
+                    );
+                    final List<SpillFile<Build>> spillFiles = spillSettings.createPartitionedSpillFiles();
+                    hashTable.forEach((indexedKey, dataQuanta) -> {
+                        final SpillFile<Build> spillFile = spillFiles.get(spillSettings.getPartition(indexedKey));
+                        dataQuanta.forEach(spillFile::write);
+                    });
+                    hashTable.clear();
+                    buildPartitions = spillFiles;
+                }
+            }
+        }
+
+        if (buildPartitions == null) {
+            return probeStream.flatMap(dataQuantum ->
+                    hashTable.getOrDefault(probeKeyExtractor.apply(dataQuantum), Collections.emptyList()).stream()
+                            .map(buildDataQuantum -> combiner.combine(buildDataQuantum, dataQuantum))
+            );
+        }
+
+        final List<SpillFile<Probe>> probePartitions = spillSettings.createPartitionedSpillFiles();
+        probeStream.forEach(dataQuantum ->
+                probePartitions.get(spillSettings.getPartition(probeKeyExtractor.apply(dataQuantum))).write(dataQuantum)
+        );
+        buildPartitions.forEach(SpillFile::close);
+        probePartitions.forEach(SpillFile::close);
+        final List<SpillFile<Build>> finalBuildPartitions = buildPartitions;
+        return IntStream.range(0, spillSettings.getNumPartitions()).boxed().flatMap(partition -> joinSpillPartition(
+                finalBuildPartitions.get(partition), buildKeyExtractor,
+                probePartitions.get(partition), probeKeyExtractor,
+                combiner
+        ));
+    }
+
+    /**
+     * Joins a single pair of spill partitions and deletes them after they have been consumed.
+     */
+    private static <Build, Probe, Key, Out> Stream<Out> joinSpillPartition(SpillFile<Build> buildPartition,
+                                                                           Function<Build, Key> buildKeyExtractor,
+                                                                           SpillFile<Probe> probePartition,
+                                                                           Function<Probe, Key> probeKeyExtractor,
+                                                                           JoinCombiner<Build, Probe, Out> combiner) {
+        if (buildPartition.size() == 0 || probePartition.size() == 0) {
+            buildPartition.delete();
+            probePartition.delete();
+            return Stream.empty();
+        }
+        final Map<Key, List<Build>> hashTable = new HashMap<>((int) (buildPartition.size() * 4 / 3 + 1));
+        try (Stream<Build> buildStream = buildPartition.stream()) {
+            buildStream.forEach(dataQuantum -> hashTable
+                    .computeIfAbsent(buildKeyExtractor.apply(dataQuantum), k -> new ArrayList<>(2))
+                    .add(dataQuantum)
+            );
+        }
+        buildPartition.delete();
+        return probePartition.stream()
+                .onClose(probePartition::delete)
+                .flatMap(dataQuantum ->
+                        hashTable.getOrDefault(probeKeyExtractor.apply(dataQuantum), Collections.emptyList()).stream()
+                                .map(buildDataQuantum -> combiner.combine(buildDataQuantum, dataQuantum))
+                );
+    }
+
+    /**
+     * Creates join products from a build-side and a probe-side data quantum.
+     */
+    @FunctionalInterface
+    private interface JoinCombiner<Build, Probe, Out> {
+
+        Out combine(Build buildDataQuantum, Probe probeDataQuantum);
+
+    }
+
+    /**
+     * Materialized data quanta along with their keys, ordered by the hash partition of the keys.
+     */
+    private static class Partitioning<T, Key> {
+
+        /**
+         * The data quanta and their keys.
+         */
+        private final Object[] dataQuanta, keys;
+
+        /**
+         * Indices into {@link #dataQuanta} grouped by partition.
+         */
+        private final int[] order;
+
+        /**
+         * Offsets of the partitions within {@link #order}; has one more entry than there are partitions.
+         */
+        private final int[] offsets;
+
+        private Partitioning(Object[] dataQuanta, Object[] keys, int[] order, int[] offsets) {
+            this.dataQuanta = dataQuanta;
+            this.keys = keys;
+            this.order = order;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Materializes and partitions the given data quanta.
+         *
+         * @param stream        the data quanta
+         * @param keyExtractor  extracts the join keys; is applied in parallel
+         * @param numPartitions the number of partitions; must be a power of two
+         * @return the {@link Partitioning}
+         */
+        @SuppressWarnings("unchecked")
+        static <T, Key> Partitioning<T, Key> create(Stream<T> stream, Function<T, Key> keyExtractor, int numPartitions) {
+            final Object[] dataQuanta = stream.toArray();
+            final Object[] keys = new Object[dataQuanta.length];
+            final int[] partitions = new int[dataQuanta.length];
+            final int mask = numPartitions - 1;
+            IntStream.range(0, dataQuanta.length).parallel().forEach(i -> {
+                final Key key = keyExtractor.apply((T) dataQuanta[i]);
+                keys[i] = key;
+                partitions[i] = partitionOf(key, mask);
+            });
+
+            // Radix-sort the indices by partition.
+            final int[] offsets = new int[numPartitions + 1];
+            for (int partition : partitions) {
+                offsets[partition + 1]++;
+            }
+            for (int partition = 0; partition < numPartitions; partition++) {
+                offsets[partition + 1] += offsets[partition];
+            }
+            final int[] cursors = Arrays.copyOf(offsets, numPartitions);
+            final int[] order = new int[dataQuanta.length];
+            for (int i = 0; i < partitions.length; i++) {
+                order[cursors[partitions[i]]++] = i;
+            }
+            return new Partitioning<>(dataQuanta, keys, order, offsets);
+        }
+
+        private static int partitionOf(Object key, int mask) {
+            if (key == null) return 0;
+            final int hash = key.hashCode();
+            // Spread the high bits, because HashMap uses the low bits within each partition, too.
+            return (hash ^ (hash >>> 16) ^ (hash >>> 24)) & mask;
+        }
+
+        int getNumPartitions() {
+            return this.offsets.length - 1;
+        }
+
+        int getSize(int partition) {
+            return this.offsets[partition + 1] - this.offsets[partition];
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(int partition, BiConsumer<Key, T> consumer) {
+            for (int i = this.offsets[partition]; i < this.offsets[partition + 1]; i++) {
+                final int index = this.order[i];
+                consumer.accept((Key) this.keys[index], (T) this.dataQuanta[index]);
+            }
+        }
+
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Arrays.asList("wayang.java.join.load.indexing", "wayang.java.join.load.probing");
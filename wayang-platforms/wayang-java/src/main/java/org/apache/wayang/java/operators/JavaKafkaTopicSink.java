@@ -46,6 +46,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import org.slf4j.Logger;
@@ -83,13 +84,14 @@ public class JavaKafkaTopicSink<T> extends KafkaTopicSink<T> implements JavaExec
 
         JavaChannelInstance input = (JavaChannelInstance) inputs[0];
 
-        initProducer( (KafkaTopicSink<T>) this );
-
         final Function<T, String> formatter = javaExecutor.getCompiler().compile(this.formattingDescriptor);
 
         logger.info("### 10 ... ");
 
-        try ( KafkaProducer<String,String> producer = getProducer() ) {
+        // The producer is kept open for further (micro-)batches until #release().
+        final KafkaProducer<String, String> producer = getProducer();
+        final AtomicReference<Exception> sendFailure = new AtomicReference<>();
+        try {
             input.<T>provideStream().forEach(
                     dataQuantum -> {
                         try {
@@ -107,6 +109,7 @@ public class JavaKafkaTopicSink<T> extends KafkaTopicSink<T> implements JavaExec
                                 if (exception != null) {
                                     // Handle any exceptions thrown during send
                                     logger.error("Failed to send message: " + exception.getMessage());
+                                    sendFailure.compareAndSet(null, exception);
                                 } else {
                                     // Optionally handle successful send, log metadata, etc.
                                     logger.info("Message sent successfully to " + metadata.topic() + " partition " + metadata.partition());
@@ -117,9 +120,15 @@ public class JavaKafkaTopicSink<T> extends KafkaTopicSink<T> implements JavaExec
                         }
                     }
             );
+
+            // Make sure that the messages are delivered before the batch is considered complete.
+            producer.flush();
         } catch (Exception e) {
             throw new WayangException("Writing to Kafka topic failed.", e);
         }
+        if (sendFailure.get() != null) {
+            throw new WayangException("Writing to Kafka topic failed.", sendFailure.get());
+        }
 
         logger.info("### 11 ... ");
 
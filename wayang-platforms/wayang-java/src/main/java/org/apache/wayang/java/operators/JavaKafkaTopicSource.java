@@ -30,15 +30,8 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
-import java.io.IOException;
 import java.util.*;
-import java.util.stream.Stream;
-import java.time.Duration;
 import java.util.Collections;
-import java.util.stream.StreamSupport;
-
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 
 public class JavaKafkaTopicSource extends KafkaTopicSource implements JavaExecutionOperator {
 
@@ -88,29 +81,15 @@ public class JavaKafkaTopicSource extends KafkaTopicSource implements JavaExecut
 
         try {
 
-            // Poll messages from the topic
-            System.out.println("### 7 ... ");
-
-            this.initConsumer( (KafkaTopicSource) this );
-
-            ConsumerRecords<String, String> records = getConsumer().poll(Duration.ofMillis(15000));
-
-            System.out.println("### 8 ... ");
-
-            // Convert the records into a Stream<String>
-            Stream<String> messageStream = StreamSupport.stream(records.spliterator(), false)
-                    .map(ConsumerRecord::value); // Extract the message value
-
-            // Use the message stream as needed
-            // For example, you can print each message
-            // => messageStream.forEach(System.out::println);
+            // Poll the next batch of messages from the topic (reusing the consumer of previous batches).
+            List<String> messages = this.pollBatch(javaExecutor.getConfiguration());
 
-            ((StreamChannel.Instance) outputs[0]).accept(messageStream);
+            ((StreamChannel.Instance) outputs[0]).accept(messages);
 
         }
         catch (Exception ioException) {
             ioException.printStackTrace();
-            throw new WayangException(String.format("ERROR WHILE READING FROM KAFKA TOPIC in JavaKafkaTopicSource [%s].", getTopicName() ));
+            throw new WayangException(String.format("ERROR WHILE READING FROM KAFKA TOPIC in JavaKafkaTopicSource [%s].", getTopicName() ), ioException);
         }
 
 
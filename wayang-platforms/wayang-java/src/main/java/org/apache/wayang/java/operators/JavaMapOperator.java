@@ -40,6 +40,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 /**
@@ -47,7 +48,7 @@ import java.util.function.Function;
  */
 public class JavaMapOperator<InputType, OutputType>
         extends MapOperator<InputType, OutputType>
-        implements JavaExecutionOperator {
+        implements JavaFusibleOperator {
 
     /**
      * Creates a new instance.
@@ -85,6 +86,17 @@ public class JavaMapOperator<InputType, OutputType>
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Function<Consumer<Object>, Consumer<Object>> createFusedStep(
+            JavaExecutor javaExecutor,
+            ChannelInstance[] inputs,
+            OptimizationContext.OperatorContext operatorContext) {
+        final Function<InputType, OutputType> function = javaExecutor.getCompiler().compile(this.functionDescriptor);
+        JavaExecutor.openFunction(this, function, inputs, operatorContext);
+        return downstream -> dataQuantum -> downstream.accept(function.apply((InputType) dataQuantum));
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new JavaMapOperator<>(this.getInputType(), this.getOutputType(), this.getFunctionDescriptor());
@@ -99,7 +111,7 @@ public class JavaMapOperator<InputType, OutputType>
     @Override
     public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
         final Optional<LoadProfileEstimator> optEstimator =
-                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+                JavaFusibleOperator.super.createLoadProfileEstimator(configuration);
         LoadProfileEstimators.nestUdfEstimator(optEstimator, this.functionDescriptor, configuration);
         return optEstimator;
     }
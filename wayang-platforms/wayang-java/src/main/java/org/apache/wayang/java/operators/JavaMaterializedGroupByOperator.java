@@ -34,18 +34,26 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.SpillFile;
+import org.apache.wayang.java.execution.SpillSettings;
+import org.apache.logging.log4j.LogManager;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Java implementation of the {@link MaterializedGroupByOperator}.
+ * Java implementation of the {@link MaterializedGroupByOperator}. If spilling is enabled via {@link SpillSettings},
+ * the grouping hash table is spilled to disk once it exceeds the memory budget.
  */
 public class JavaMaterializedGroupByOperator<Type, KeyType>
         extends MaterializedGroupByOperator<Type, KeyType>
@@ -77,16 +85,79 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(
-                        keyExtractor,
-                        Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
-
-        ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
+        final SpillSettings spillSettings = SpillSettings.from(javaExecutor.getConfiguration());
+        if (spillSettings.isEnabled()) {
+            ((CollectionChannel.Instance) outputs[0]).accept(groupWithSpilling(
+                    ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor, spillSettings
+            ));
+        } else {
+            final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
+                    Collectors.groupingBy(
+                            keyExtractor,
+                            Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
+
+            ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
+        }
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Groups the data quanta in a hash table. Once the hash table exceeds the memory budget, it is spilled to disk
+     * along with all remaining data quanta, and the spilled partitions are grouped one after another into a spill file.
+     *
+     * @param stream        the data quanta to group
+     * @param keyExtractor  extracts the grouping keys
+     * @param spillSettings describe the memory budget and the spill partitions
+     * @return the groups
+     */
+    private static <T, K> Collection<List<T>> groupWithSpilling(Stream<T> stream,
+                                                               Function<T, K> keyExtractor,
+                                                               SpillSettings spillSettings) {
+        final Map<K, List<T>> groups = new HashMap<>();
+        long numGroupedDataQuanta = 0;
+        List<SpillFile<T>> partitions = null;
+        for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+            final T dataQuantum = iterator.next();
+            final K key = keyExtractor.apply(dataQuantum);
+            if (partitions != null) {
+                partitions.get(spillSettings.getPartition(key)).write(dataQuantum);
+            } else {
+                groups.computeIfAbsent(key, k -> new ArrayList<>()).add(dataQuantum);
+                if (++numGroupedDataQuanta >= spillSettings.getMaxInMemoryQuanta()) {
+                    LogManager.getLogger(JavaMaterializedGroupByOperator.class).info(
+                            "Spilling grouping hash table with {} data quanta.", numGroupedDataQuanta
+                    );
+                    final List<SpillFile<T>> spillFiles = spillSettings.createPartitionedSpillFiles();
+                    groups.forEach((groupKey, group) -> {
+                        final SpillFile<T> spillFile = spillFiles.get(spillSettings.getPartition(groupKey));
+                        group.forEach(spillFile::write);
+                    });
+                    groups.clear();
+                    partitions = spillFiles;
+                }
+            }
+        }
+        if (partitions == null) {
+            return groups.values();
+        }
+
+        partitions.forEach(SpillFile::close);
+        final SpillFile<List<T>> result = spillSettings.createSpillFile();
+        for (SpillFile<T> partition : partitions) {
+            try (Stream<T> partitionStream = partition.stream()) {
+                partitionStream.forEach(dataQuantum ->
+                        groups.computeIfAbsent(keyExtractor.apply(dataQuantum), k -> new ArrayList<>()).add(dataQuantum)
+                );
+            }
+            partition.delete();
+            groups.values().forEach(result::write);
+            groups.clear();
+        }
+        result.close();
+        return result.asCollection();
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "wayang.java.groupby.load";
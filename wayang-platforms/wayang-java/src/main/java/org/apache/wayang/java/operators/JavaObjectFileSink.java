@@ -18,13 +18,14 @@
 
 package org.apache.wayang.java.operators;
 
-import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSink;
 import org.apache.wayang.basic.operators.TextFileSink;
 import org.apache.wayang.core.api.exception.WayangException;
@@ -45,7 +46,6 @@ import org.apache.wayang.java.platform.JavaPlatform;
 import org.apache.logging.log4j.LogManager;
 
 import java.io.IOException;
-import java.io.ObjectOutputStream;
 import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collection;
@@ -97,18 +97,10 @@ public class JavaObjectFileSink<T> extends ObjectFileSink<T> implements JavaExec
         try (SequenceFile.Writer writer = SequenceFile.createWriter(new Configuration(true), fileOption, keyClassOption, valueClassOption)) {
 
             // Chunk the stream of data quanta and write the chunks into the sequence file.
+            final ObjectFileSerializer serializer = ObjectFileSerializers.create(javaExecutor.getConfiguration());
             StreamChunker streamChunker = new StreamChunker(10, (chunk, size) -> {
-                if (chunk.length != size) {
-                    System.out.println("heer");
-                    System.out.println(chunk.length);
-                    System.out.println(size);
-                    chunk = Arrays.copyOfRange(chunk, 0, size);
-                }
                 try {
-                    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                    final ObjectOutputStream oos = new ObjectOutputStream(bos);
-                    oos.writeObject(chunk);
-                    BytesWritable bytesWritable = new BytesWritable(bos.toByteArray());
+                    BytesWritable bytesWritable = new BytesWritable(ObjectFileSerializers.serialize(serializer, chunk, size));
                     writer.append(NullWritable.get(), bytesWritable);
                 } catch (IOException e) {
                     throw new UncheckedIOException("Writing or serialization failed.", e);
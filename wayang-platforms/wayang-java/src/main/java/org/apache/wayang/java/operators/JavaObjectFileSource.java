@@ -26,6 +26,8 @@ import org.apache.hadoop.io.BytesWritable;
 import org.apache.hadoop.io.NullWritable;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSource;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -43,11 +45,8 @@ import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.platform.JavaPlatform;
 import org.apache.logging.log4j.LogManager;
 
-import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -93,7 +92,9 @@ public class JavaObjectFileSource<T> extends ObjectFileSource<T> implements Java
         }
         try {
             final String actualInputPath = FileSystems.findActualSingleInputPath(path);
-            sequenceFileIterator = new SequenceFileIterator<>(actualInputPath);
+            sequenceFileIterator = new SequenceFileIterator<>(
+                    actualInputPath, ObjectFileSerializers.create(javaExecutor.getConfiguration())
+            );
             Stream<?> sequenceFileStream =
                     StreamSupport.stream(Spliterators.spliteratorUnknownSize(sequenceFileIterator, 0), false);
             ((StreamChannel.Instance) outputs[0]).accept(sequenceFileStream);
@@ -130,17 +131,18 @@ public class JavaObjectFileSource<T> extends ObjectFileSource<T> implements Java
 
         private SequenceFile.Reader sequenceFileReader;
 
+        private final ObjectFileSerializer serializer;
+
         private final NullWritable nullWritable = NullWritable.get();
 
         private final BytesWritable bytesWritable = new BytesWritable();
 
         private Object[] nextElements;
 
-        private ArrayList nextElements_cole;
-
         private int nextIndex;
 
-        SequenceFileIterator(String path) throws IOException {
+        SequenceFileIterator(String path, ObjectFileSerializer serializer) throws IOException {
+            this.serializer = serializer;
             final SequenceFile.Reader.Option fileOption = SequenceFile.Reader.file(new Path(path));
             this.sequenceFileReader = new SequenceFile.Reader(new Configuration(true), fileOption);
             Validate.isTrue(this.sequenceFileReader.getKeyClass().equals(NullWritable.class));
@@ -150,26 +152,18 @@ public class JavaObjectFileSource<T> extends ObjectFileSource<T> implements Java
 
         private void tryAdvance() {
             if (this.nextElements != null && ++this.nextIndex < this.nextElements.length) return;
-            if (this.nextElements_cole != null && ++this.nextIndex < this.nextElements_cole.size()) return;
             try {
-                if (!this.sequenceFileReader.next(this.nullWritable, this.bytesWritable)) {
-                    this.nextElements = null;
-                    return;
-                }
-                Object tmp = new ObjectInputStream(new ByteArrayInputStream(this.bytesWritable.getBytes())).readObject();
-                if(tmp instanceof Collection) {
-                    this.nextElements = null;
-                    this.nextElements_cole = (ArrayList) tmp;
-                }else if(tmp instanceof Object[]){
-                    this.nextElements = (Object[]) tmp;
-                    this.nextElements_cole = null;
-                }else {
-                    this.nextElements = new Object[1];
-                    this.nextElements[0] = tmp;
-
-                }
+                do {
+                    if (!this.sequenceFileReader.next(this.nullWritable, this.bytesWritable)) {
+                        this.nextElements = null;
+                        return;
+                    }
+                    this.nextElements = ObjectFileSerializers.deserialize(
+                            this.serializer, this.bytesWritable.getBytes(), this.bytesWritable.getLength()
+                    );
+                } while (this.nextElements.length == 0);
                 this.nextIndex = 0;
-            } catch (IOException | ClassNotFoundException e) {
+            } catch (IOException e) {
                 this.nextElements = null;
                 IOUtils.closeQuietly(this);
                 throw new WayangException("Reading failed.", e);
@@ -178,22 +172,14 @@ public class JavaObjectFileSource<T> extends ObjectFileSource<T> implements Java
 
         @Override
         public boolean hasNext() {
-            return this.nextElements != null || this.nextElements_cole != null;
+            return this.nextElements != null;
         }
 
         @Override
         public T next() {
             Validate.isTrue(this.hasNext());
             @SuppressWarnings("unchecked")
-            final T result;
-            if(this.nextElements_cole != null){
-                result = (T) this.nextElements_cole.get(this.nextIndex);
-            }else if (this.nextElements != null) {
-                result = (T) this.nextElements[this.nextIndex];
-            }else{
-                result = null;
-            }
-
+            final T result = (T) this.nextElements[this.nextIndex];
             this.tryAdvance();
             return result;
         }
@@ -19,21 +19,41 @@
 package org.apache.wayang.java.operators;
 
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
 import org.apache.avro.generic.GenericRecord;
-import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.fs.Path;
-
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.avro.AvroReadSupport;
 import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.filter2.predicate.UserDefinedPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
-
+import org.apache.parquet.io.ColumnIOFactory;
 import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.io.api.Converter;
+import org.apache.parquet.io.api.GroupConverter;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.io.api.RecordMaterializer;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
 import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.operators.ParquetSource;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
@@ -43,19 +63,62 @@ import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
-
-import java.util.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This is execution operator implements the {@link ParquetSource}.
+ * <p>The file is streamed row group by row group. Row groups that cannot contain rows satisfying the
+ * {@link #getFilter() filter} are skipped based on their statistics, dictionaries and column indexes. Flat schemas are
+ * decoded directly into {@link Record}s, and up to {@value #PARALLELISM_KEY} row groups are decoded concurrently
+ * (the {@link Record}s are still provided sequentially and in file order). Nested schemas are read via Avro.</p>
  */
 public class JavaParquetSource extends ParquetSource implements JavaExecutionOperator {
 
+    private static final Logger logger = LoggerFactory.getLogger(JavaParquetSource.class);
+
+    /**
+     * {@link Configuration} key for the number of row groups that are decoded concurrently; {@code 0} stands for the
+     * number of available processors.
+     */
+    public static final String PARALLELISM_KEY = "wayang.java.parquetsource.parallelism";
+
     public JavaParquetSource(String inputUrl, String[] projection, String... columnNames) {
         super(inputUrl, projection, columnNames);
     }
 
+    public JavaParquetSource(String inputUrl, String[] projection, FilterPredicate filter, String... columnNames) {
+        super(inputUrl, projection, filter, columnNames);
+    }
+
     /**
      * Copies an instance (exclusive of broadcasts).
      *
@@ -76,27 +139,42 @@ public class JavaParquetSource extends ParquetSource implements JavaExecutionOpe
         String urlStr = this.getInputUrl().trim();
         Path filePath = new Path(urlStr);
 
-        Configuration conf = new Configuration();
+        org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+        final FilterCompat.Filter filter = this.getFilter() == null ? FilterCompat.NOOP : FilterCompat.get(this.getFilter());
 
         try {
-            InputFile file = HadoopInputFile.fromPath(filePath, conf);
-
-            // Define a projection schema, if any (uses default schema if no projection defined)
-            Schema schema = createProjectionSchema(file);
-            AvroReadSupport.setRequestedProjection(conf, schema);
-
-            try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(file).build()) {
-                List<Record> records = new ArrayList<>();
-                GenericRecord record;
-
-                while ((record = reader.read()) != null) {
-                    records.add(convertGenericRecordToRecord(record));
+            final InputFile file = HadoopInputFile.fromPath(filePath, conf);
+            final ParquetReadOptions options = HadoopReadOptions.builder(conf).withRecordFilter(filter).build();
+            final ParquetMetadata footer;
+            final int numRowGroups;
+            try (ParquetFileReader reader = ParquetFileReader.open(file, options)) {
+                footer = reader.getFooter();
+                numRowGroups = reader.getRowGroups().size();
+                if (this.getFilter() != null) {
+                    logger.info("Skipping {} of {} row groups in {}.",
+                            footer.getBlocks().size() - numRowGroups, footer.getBlocks().size(), urlStr);
                 }
+            }
 
-                ((StreamChannel.Instance) outputs[0]).accept(records);
-
+            final MessageType fileSchema = footer.getFileMetaData().getSchema();
+            final MessageType requestedSchema = this.createRequestedSchema(fileSchema);
+            final Stream<Record> records;
+            if (isFlat(requestedSchema)) {
+                int parallelism = (int) javaExecutor.getConfiguration().getLongProperty(PARALLELISM_KEY, 0L);
+                if (parallelism <= 0) parallelism = Runtime.getRuntime().availableProcessors();
+                final RowGroupDecoder decoder = new RowGroupDecoder(
+                        file, options, footer.getFileMetaData().getSchema(), requestedSchema,
+                        this.getOutputFields(requestedSchema), filter
+                );
+                records = parallelism == 1 || numRowGroups <= 1 ?
+                        decoder.streamSequentially(numRowGroups) :
+                        decoder.streamConcurrently(numRowGroups, parallelism);
+            } else {
+                records = this.streamViaAvro(conf, file, requestedSchema, filter);
             }
-        } catch (Exception e) {
+            ((StreamChannel.Instance) outputs[0]).accept(records);
+
+        } catch (IOException e) {
             throw new WayangException(String.format("Reading from Parquet file %s failed.", urlStr), e);
         }
 
@@ -114,51 +192,536 @@ public class JavaParquetSource extends ParquetSource implements JavaExecutionOpe
         return prepareLineageNode.collectAndMark();
     }
 
-    private Schema inferSchema(InputFile file) {
-        try (ParquetFileReader reader = ParquetFileReader.open(file)) {
-            MessageType parquetSchema = reader.getFileMetaData().getSchema();
+    /**
+     * Creates the schema of the columns to be read, i.e., the projected columns and the ones needed by the
+     * {@link #getFilter() filter}, in the order of the file.
+     */
+    private MessageType createRequestedSchema(MessageType fileSchema) {
+        String[] projection = this.getProjection();
+        if (projection == null || projection.length == 0) {
+            return fileSchema;
+        }
 
-            reader.setRequestedSchema(parquetSchema);
-            return new AvroSchemaConverter().convert(parquetSchema);
-        } catch (Exception e) {
-            throw new WayangException("Could not infer schema.", e);
+        Set<String> requestedFields = new HashSet<>(Arrays.asList(projection));
+        if (this.getFilter() != null) {
+            this.getFilter().accept(new FilterColumnCollector(requestedFields));
         }
+        List<Type> fields = fileSchema.getFields().stream()
+                .filter(field -> requestedFields.contains(field.getName()))
+                .collect(Collectors.toList());
+        return new MessageType(fileSchema.getName(), fields);
     }
 
-    private Schema createProjectionSchema(InputFile file) {
+    /**
+     * Determines which fields of the {@code requestedSchema} belong to the output {@link Record}s.
+     *
+     * @return the indices of the output fields within the {@code requestedSchema}
+     */
+    private int[] getOutputFields(MessageType requestedSchema) {
         String[] projection = this.getProjection();
-        Schema originalSchema = inferSchema(file);
-
         if (projection == null || projection.length == 0) {
-            return originalSchema;
+            return IntStream.range(0, requestedSchema.getFieldCount()).toArray();
         }
-
         Set<String> projectionSet = Set.of(projection);
-        List<Schema.Field> filteredFields = originalSchema.getFields().stream()
-                .filter(field -> projectionSet.contains(field.name()))
-                .map(field -> new Schema.Field(
-                        field.name(),
-                        field.schema(),
-                        field.doc(),
-                        field.defaultVal()
-                ))
+        return IntStream.range(0, requestedSchema.getFieldCount())
+                .filter(i -> projectionSet.contains(requestedSchema.getFieldName(i)))
+                .toArray();
+    }
+
+    /**
+     * Tells whether the given schema consists of non-repeated primitive columns only, so that it can be decoded
+     * by a {@link RowGroupDecoder}.
+     */
+    private static boolean isFlat(MessageType schema) {
+        return schema.getFields().stream()
+                .allMatch(field -> field.isPrimitive() && !field.isRepetition(Type.Repetition.REPEATED));
+    }
+
+    /**
+     * Reads (nested) files via Avro.
+     */
+    private Stream<Record> streamViaAvro(org.apache.hadoop.conf.Configuration conf,
+                                         InputFile file,
+                                         MessageType requestedSchema,
+                                         FilterCompat.Filter filter) throws IOException {
+        final Schema schema = new AvroSchemaConverter(conf).convert(requestedSchema);
+        AvroReadSupport.setRequestedProjection(conf, schema);
+        final Set<String> projectionSet = this.getProjection() == null || this.getProjection().length == 0 ?
+                null : Set.of(this.getProjection());
+        final List<String> outputFields = schema.getFields().stream()
+                .map(Schema.Field::name)
+                .filter(name -> projectionSet == null || projectionSet.contains(name))
                 .collect(Collectors.toList());
 
-        return Schema.createRecord(
-                originalSchema.getName() + "_Projection",
-                originalSchema.getDoc(),
-                originalSchema.getNamespace(),
-                false,
-                filteredFields
-        );
+        final ParquetReader<GenericRecord> reader = AvroParquetReader
+                .<GenericRecord>builder(file)
+                .withConf(conf)
+                .withFilter(filter)
+                .build();
+        final Iterator<Record> iterator = new Iterator<Record>() {
+
+            private GenericRecord next = this.read();
+
+            private GenericRecord read() {
+                try {
+                    final GenericRecord record = reader.read();
+                    if (record == null) reader.close();
+                    return record;
+                } catch (IOException e) {
+                    throw new WayangException(String.format("Reading from Parquet file %s failed.", file), e);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return this.next != null;
+            }
+
+            @Override
+            public Record next() {
+                if (this.next == null) throw new NoSuchElementException();
+                final GenericRecord record = this.next;
+                this.next = this.read();
+                return new Record(outputFields.stream().map(field -> fromAvro(record.get(field))).toArray());
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        logger.warn("Could not close {}.", file, e);
+                    }
+                });
     }
 
-    private Record convertGenericRecordToRecord(GenericRecord record) {
-        List<Object> values = new ArrayList<>();
-        for (int i = 0; i < record.getSchema().getFields().size(); i++) {
-            values.add(record.get(i));
+    /**
+     * Converts an Avro value to the Java type that the {@link ColumnConverter} provides for the same Parquet type,
+     * e.g., {@link String}s rather than {@link org.apache.avro.util.Utf8}s and {@code byte[]}s rather than
+     * {@link ByteBuffer}s.
+     */
+    private static Object fromAvro(Object value) {
+        if (value instanceof CharSequence || value instanceof GenericEnumSymbol) {
+            return value.toString();
+        } else if (value instanceof ByteBuffer) {
+            final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        } else if (value instanceof GenericFixed) {
+            return ((GenericFixed) value).bytes().clone();
+        } else if (value instanceof List) {
+            final List<?> list = (List<?>) value;
+            final List<Object> converted = new ArrayList<>(list.size());
+            for (Object element : list) {
+                converted.add(fromAvro(element));
+            }
+            return converted;
+        } else if (value instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<Object, Object> converted = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            map.forEach((key, element) -> converted.put(fromAvro(key), fromAvro(element)));
+            return converted;
         }
-        return new Record(values);
+        return value;
+    }
+
+    /**
+     * Decodes row groups of a flat Parquet file directly into {@link Record}s.
+     */
+    private static class RowGroupDecoder {
+
+        private final InputFile file;
+
+        private final ParquetReadOptions options;
+
+        private final MessageType fileSchema;
+
+        private final MessageType requestedSchema;
+
+        private final int[] outputFields;
+
+        private final FilterCompat.Filter filter;
+
+        private RowGroupDecoder(InputFile file,
+                                ParquetReadOptions options,
+                                MessageType fileSchema,
+                                MessageType requestedSchema,
+                                int[] outputFields,
+                                FilterCompat.Filter filter) {
+            this.file = file;
+            this.options = options;
+            this.fileSchema = fileSchema;
+            this.requestedSchema = requestedSchema;
+            this.outputFields = outputFields;
+            this.filter = filter;
+        }
+
+        private ParquetFileReader openReader() throws IOException {
+            // The reader prunes the row groups deterministically, so that their indices are the same for all readers.
+            final ParquetFileReader reader = ParquetFileReader.open(this.file, this.options);
+            reader.setRequestedSchema(this.requestedSchema);
+            return reader;
+        }
+
+        /**
+         * Decodes the given (non-pruned) row group.
+         */
+        private List<Record> decode(ParquetFileReader reader, int rowGroup) throws IOException {
+            final PageReadStore pages = reader.readFilteredRowGroup(rowGroup);
+            final MessageColumnIO columnIO = new ColumnIOFactory()
+                    .getColumnIO(this.requestedSchema, this.fileSchema);
+            final RecordReader<Record> recordReader = columnIO.getRecordReader(
+                    pages, new RecordMaterializerImpl(this.requestedSchema, this.outputFields), this.filter
+            );
+            final long numRows = pages.getRowCount();
+            final List<Record> records = new ArrayList<>((int) Math.min(numRows, Integer.MAX_VALUE));
+            for (long i = 0; i < numRows; i++) {
+                final Record record = recordReader.read();
+                if (record != null && !recordReader.shouldSkipCurrentRecord()) {
+                    records.add(record);
+                }
+            }
+            return records;
+        }
+
+        /**
+         * Decodes one row group at a time, when it is requested.
+         */
+        private Stream<Record> streamSequentially(int numRowGroups) throws IOException {
+            final ParquetFileReader reader = this.openReader();
+            final Iterator<List<Record>> rowGroups = new Iterator<List<Record>>() {
+
+                private int nextRowGroup = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.nextRowGroup < numRowGroups;
+                }
+
+                @Override
+                public List<Record> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    try {
+                        final List<Record> records = RowGroupDecoder.this.decode(reader, this.nextRowGroup++);
+                        if (!this.hasNext()) reader.close();
+                        return records;
+                    } catch (IOException e) {
+                        throw new WayangException(String.format("Reading from Parquet file %s failed.", file), e);
+                    }
+                }
+            };
+            return flatten(rowGroups).onClose(() -> {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close {}.", this.file, e);
+                }
+            });
+        }
+
+        /**
+         * Decodes up to {@code parallelism} row groups ahead of time. Each worker thread opens its own
+         * {@link ParquetFileReader} only once, so that the footer is not read and pruned anew for every row group.
+         */
+        private Stream<Record> streamConcurrently(int numRowGroups, int parallelism) {
+            final Queue<ParquetFileReader> readers = new ConcurrentLinkedQueue<>();
+            final ThreadLocal<ParquetFileReader> workerReader = new ThreadLocal<>();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                    parallelism, parallelism, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "parquet-row-group-decoder");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+            );
+            executor.allowCoreThreadTimeOut(true);
+
+            final Iterator<List<Record>> rowGroups = new Iterator<List<Record>>() {
+
+                private final Queue<Future<List<Record>>> pending = new ArrayDeque<>(parallelism);
+
+                private int nextRowGroup = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return !this.pending.isEmpty() || this.nextRowGroup < numRowGroups;
+                }
+
+                @Override
+                public List<Record> next() {
+                    if (!this.hasNext()) throw new NoSuchElementException();
+                    while (this.pending.size() < parallelism && this.nextRowGroup < numRowGroups) {
+                        final int rowGroup = this.nextRowGroup++;
+                        this.pending.add(executor.submit(() -> {
+                            ParquetFileReader reader = workerReader.get();
+                            if (reader == null) {
+                                reader = RowGroupDecoder.this.openReader();
+                                readers.add(reader);
+                                workerReader.set(reader);
+                            }
+                            return RowGroupDecoder.this.decode(reader, rowGroup);
+                        }));
+                    }
+                    try {
+                        final List<Record> records = this.pending.remove().get();
+                        if (!this.hasNext()) {
+                            executor.shutdown();
+                            RowGroupDecoder.this.closeAll(readers);
+                        }
+                        return records;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        executor.shutdownNow();
+                        RowGroupDecoder.this.closeAll(readers);
+                        throw new WayangException("Interrupted while reading a Parquet file.", e);
+                    } catch (ExecutionException e) {
+                        executor.shutdownNow();
+                        RowGroupDecoder.this.closeAll(readers);
+                        throw new WayangException(String.format("Reading from Parquet file %s failed.", file), e.getCause());
+                    }
+                }
+            };
+            return flatten(rowGroups).onClose(() -> {
+                executor.shutdownNow();
+                this.closeAll(readers);
+            });
+        }
+
+        private void closeAll(Queue<ParquetFileReader> readers) {
+            ParquetFileReader reader;
+            while ((reader = readers.poll()) != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.warn("Could not close {}.", this.file, e);
+                }
+            }
+        }
+
+        private static Stream<Record> flatten(Iterator<List<Record>> rowGroups) {
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rowGroups, Spliterator.ORDERED), false)
+                    .flatMap(List::stream);
+        }
+
+    }
+
+    /**
+     * Materializes flat Parquet records as {@link Record}s.
+     */
+    private static class RecordMaterializerImpl extends RecordMaterializer<Record> {
+
+        private final RecordConverter root;
+
+        private RecordMaterializerImpl(MessageType schema, int[] outputFields) {
+            this.root = new RecordConverter(schema, outputFields);
+        }
+
+        @Override
+        public Record getCurrentRecord() {
+            return new Record(this.root.values);
+        }
+
+        @Override
+        public GroupConverter getRootConverter() {
+            return this.root;
+        }
+
+    }
+
+    /**
+     * Collects the values of a flat Parquet record.
+     */
+    private static class RecordConverter extends GroupConverter {
+
+        private final Converter[] converters;
+
+        private final int numOutputFields;
+
+        private Object[] values;
+
+        private RecordConverter(MessageType schema, int[] outputFields) {
+            this.numOutputFields = outputFields.length;
+            this.converters = new Converter[schema.getFieldCount()];
+            for (int i = 0; i < this.converters.length; i++) {
+                this.converters[i] = new ColumnConverter(this, -1, schema.getType(i).asPrimitiveType());
+            }
+            for (int pos = 0; pos < outputFields.length; pos++) {
+                int field = outputFields[pos];
+                this.converters[field] = new ColumnConverter(this, pos, schema.getType(field).asPrimitiveType());
+            }
+        }
+
+        @Override
+        public Converter getConverter(int fieldIndex) {
+            return this.converters[fieldIndex];
+        }
+
+        @Override
+        public void start() {
+            this.values = new Object[this.numOutputFields];
+        }
+
+        @Override
+        public void end() {
+        }
+
+    }
+
+    /**
+     * Puts the values of a primitive column into a {@link RecordConverter}; {@link Binary} values are converted to
+     * {@link String}s for textual columns and to {@code byte[]}s otherwise.
+     */
+    private static class ColumnConverter extends PrimitiveConverter {
+
+        private final RecordConverter parent;
+
+        /**
+         * Position in the output {@link Record} or {@code -1} if the column is only read for filtering.
+         */
+        private final int pos;
+
+        private final boolean isText;
+
+        private Object[] dictionary;
+
+        private ColumnConverter(RecordConverter parent, int pos, PrimitiveType type) {
+            this.parent = parent;
+            this.pos = pos;
+            LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+            this.isText = annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation
+                    || annotation instanceof LogicalTypeAnnotation.EnumLogicalTypeAnnotation
+                    || annotation instanceof LogicalTypeAnnotation.JsonLogicalTypeAnnotation;
+        }
+
+        private void set(Object value) {
+            if (this.pos >= 0) this.parent.values[this.pos] = value;
+        }
+
+        private Object convert(Binary value) {
+            return this.isText ? value.toStringUsingUTF8() : value.getBytes();
+        }
+
+        @Override
+        public boolean hasDictionarySupport() {
+            // Decode each dictionary entry only once rather than once per value (Strings are immutable, so they can be
+            // shared among the Records).
+            return this.isText && this.pos >= 0;
+        }
+
+        @Override
+        public void setDictionary(Dictionary dictionary) {
+            this.dictionary = new Object[dictionary.getMaxId() + 1];
+            for (int id = 0; id < this.dictionary.length; id++) {
+                this.dictionary[id] = this.convert(dictionary.decodeToBinary(id));
+            }
+        }
+
+        @Override
+        public void addValueFromDictionary(int dictionaryId) {
+            this.set(this.dictionary[dictionaryId]);
+        }
+
+        @Override
+        public void addBinary(Binary value) {
+            this.set(this.convert(value));
+        }
+
+        @Override
+        public void addBoolean(boolean value) {
+            this.set(value);
+        }
+
+        @Override
+        public void addDouble(double value) {
+            this.set(value);
+        }
+
+        @Override
+        public void addFloat(float value) {
+            this.set(value);
+        }
+
+        @Override
+        public void addInt(int value) {
+            this.set(value);
+        }
+
+        @Override
+        public void addLong(long value) {
+            this.set(value);
+        }
+
+    }
+
+    /**
+     * Collects the names of the top-level fields referenced by a {@link FilterPredicate}.
+     */
+    private static class FilterColumnCollector implements FilterPredicate.Visitor<Void> {
+
+        private final Set<String> fields;
+
+        private FilterColumnCollector(Set<String> fields) {
+            this.fields = fields;
+        }
+
+        private Void collect(Operators.Column<?> column) {
+            this.fields.add(column.getColumnPath().toArray()[0]);
+            return null;
+        }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Eq<T> eq) { return this.collect(eq.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.NotEq<T> notEq) { return this.collect(notEq.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Lt<T> lt) { return this.collect(lt.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.LtEq<T> ltEq) { return this.collect(ltEq.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.Gt<T> gt) { return this.collect(gt.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.GtEq<T> gtEq) { return this.collect(gtEq.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.In<T> in) { return this.collect(in.getColumn()); }
+
+        @Override
+        public <T extends Comparable<T>> Void visit(Operators.NotIn<T> notIn) { return this.collect(notIn.getColumn()); }
+
+        @Override
+        public Void visit(Operators.And and) {
+            and.getLeft().accept(this);
+            return and.getRight().accept(this);
+        }
+
+        @Override
+        public Void visit(Operators.Or or) {
+            or.getLeft().accept(this);
+            return or.getRight().accept(this);
+        }
+
+        @Override
+        public Void visit(Operators.Not not) {
+            return not.getPredicate().accept(this);
+        }
+
+        @Override
+        public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Void visit(Operators.UserDefined<T, U> udp) {
+            return this.collect(udp.getColumn());
+        }
+
+        @Override
+        public <T extends Comparable<T>, U extends UserDefinedPredicate<T>> Void visit(
+                Operators.LogicalNotUserDefined<T, U> udp) {
+            return udp.getUserDefined().accept(this);
+        }
+
     }
 
     @Override
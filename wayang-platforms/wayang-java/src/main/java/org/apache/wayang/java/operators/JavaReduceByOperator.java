@@ -35,29 +35,38 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.SpillFile;
+import org.apache.wayang.java.execution.SpillSettings;
+import org.apache.logging.log4j.LogManager;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * Java implementation of the {@link ReduceByOperator}.
+ * Java implementation of the {@link ReduceByOperator}. Data quanta are folded into their running reduction result
+ * right away. If {@value #PARALLEL_KEY} is set, the reduction runs on the fork-join pool with per-thread partial
+ * results that are combined eventually, which requires the UDFs to be thread-safe. If spilling is enabled via
+ * {@link SpillSettings}, partial reduction results are spilled to disk once they exceed the memory budget. The
+ * reduce function may yield {@code null}, except when spilling, as the key of a spilled data quantum is re-extracted.
  */
 public class JavaReduceByOperator<Type, KeyType>
         extends ReduceByOperator<Type, KeyType>
         implements JavaExecutionOperator {
 
+    /**
+     * {@link Configuration} key to enable the parallel reduction.
+     */
+    public static final String PARALLEL_KEY = "wayang.java.reduceby.parallel";
 
     /**
      * Creates a new instance.
@@ -93,14 +102,102 @@ public class JavaReduceByOperator<Type, KeyType>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction))
-        );
-        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
+        final SpillSettings spillSettings = SpillSettings.from(javaExecutor.getConfiguration());
+        if (spillSettings.isEnabled()) {
+            ((CollectionChannel.Instance) outputs[0]).accept(reduceWithSpilling(
+                    ((JavaChannelInstance) inputs[0]).provideStream(), keyExtractor, reduceFunction, spillSettings
+            ));
+        } else {
+            Stream<Type> stream = ((JavaChannelInstance) inputs[0]).provideStream();
+            if (javaExecutor.getConfiguration().getBooleanProperty(PARALLEL_KEY, false)) {
+                stream = stream.parallel();
+            }
+            final Map<KeyType, Type> reductionResult = stream.collect(Collector.of(
+                    HashMap::new,
+                    (partialResults, dataQuantum) ->
+                            fold(partialResults, keyExtractor.apply(dataQuantum), dataQuantum, reduceFunction),
+                    (partialResults1, partialResults2) -> {
+                        partialResults2.forEach((key, dataQuantum) ->
+                                fold(partialResults1, key, dataQuantum, reduceFunction)
+                        );
+                        return partialResults1;
+                    }
+            ));
+            ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
+        }
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Reduces the data quanta in a hash table that spills its partial reduction results to disk whenever it exceeds
+     * the memory budget. The spilled partitions are then reduced one after another into a spill file.
+     *
+     * @param stream         the data quanta to reduce
+     * @param keyExtractor   extracts the grouping keys
+     * @param reduceFunction reduces two data quanta with the same key
+     * @param spillSettings  describe the memory budget and the spill partitions
+     * @return the reduced data quanta
+     */
+    private static <T, K> Collection<T> reduceWithSpilling(Stream<T> stream,
+                                                           Function<T, K> keyExtractor,
+                                                           BinaryOperator<T> reduceFunction,
+                                                           SpillSettings spillSettings) {
+        final Map<K, T> partialResults = new HashMap<>();
+        List<SpillFile<T>> partitions = null;
+        for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+            final T dataQuantum = iterator.next();
+            fold(partialResults, keyExtractor.apply(dataQuantum), dataQuantum, reduceFunction);
+            if (partialResults.size() >= spillSettings.getMaxInMemoryQuanta()) {
+                if (partitions == null) {
+                    LogManager.getLogger(JavaReduceByOperator.class).info(
+                            "Spilling reduction hash table with {} keys.", partialResults.size()
+                    );
+                    partitions = spillSettings.createPartitionedSpillFiles();
+                }
+                spill(partialResults, partitions, spillSettings);
+            }
+        }
+        if (partitions == null) {
+            return partialResults.values();
+        }
+
+        spill(partialResults, partitions, spillSettings);
+        partitions.forEach(SpillFile::close);
+        final SpillFile<T> result = spillSettings.createSpillFile();
+        for (SpillFile<T> partition : partitions) {
+            try (Stream<T> partitionStream = partition.stream()) {
+                partitionStream.forEach(dataQuantum ->
+                        fold(partialResults, keyExtractor.apply(dataQuantum), dataQuantum, reduceFunction)
+                );
+            }
+            partition.delete();
+            partialResults.values().forEach(result::write);
+            partialResults.clear();
+        }
+        result.close();
+        return result.asCollection();
+    }
+
+    /**
+     * Folds a data quantum into the partial reduction result for its key. Other than {@link Map#merge}, this keeps
+     * the key when the reduce function yields {@code null}.
+     */
+    private static <T, K> void fold(Map<K, T> partialResults, K key, T dataQuantum, BinaryOperator<T> reduceFunction) {
+        partialResults.put(
+                key,
+                partialResults.containsKey(key) ? reduceFunction.apply(partialResults.get(key), dataQuantum) : dataQuantum
+        );
+    }
+
+    /**
+     * Moves partial reduction results to their spill partitions.
+     */
+    private static <T, K> void spill(Map<K, T> partialResults, List<SpillFile<T>> partitions, SpillSettings spillSettings) {
+        partialResults.forEach((key, dataQuantum) -> partitions.get(spillSettings.getPartition(key)).write(dataQuantum));
+        partialResults.clear();
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "wayang.java.reduceby.load";
@@ -132,60 +229,4 @@ public class JavaReduceByOperator<Type, KeyType>
         assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
         return Collections.singletonList(CollectionChannel.DESCRIPTOR);
     }
-
-    /**
-     * Immitates {@link Collectors#reducing(BinaryOperator)} but assumes that there is always at least one element
-     * in each reduction.
-     */
-    private static class ReducingCollector<T> implements Collector<T, List<T>, T> {
-
-        private final BinaryOperator<T> reduceFunction;
-
-        ReducingCollector(BinaryOperator<T> reduceFunction) {
-            this.reduceFunction = reduceFunction;
-        }
-
-        @Override
-        public Supplier<List<T>> supplier() {
-            return () -> new ArrayList<>(1);
-        }
-
-        @Override
-        public BiConsumer<List<T>, T> accumulator() {
-            return (list, element) -> {
-                if (list.isEmpty()) {
-                    list.add(element);
-                } else {
-                    list.set(0, this.reduceFunction.apply(list.get(0), element));
-                }
-            };
-        }
-
-        @Override
-        public BinaryOperator<List<T>> combiner() {
-            return (list1, list2) -> {
-                if (list1.isEmpty()) {
-                    return list2;
-                } else if (list2.isEmpty()) {
-                    return list2;
-                } else {
-                    list1.set(0, this.reduceFunction.apply(list1.get(0), list2.get(0)));
-                    return list1;
-                }
-            };
-        }
-
-        @Override
-        public Function<List<T>, T> finisher() {
-            return list -> {
-                assert !list.isEmpty();
-                return list.get(0);
-            };
-        }
-
-        @Override
-        public Set<Characteristics> characteristics() {
-            return Collections.emptySet();
-        }
-    }
 }
@@ -31,15 +31,29 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.SpillFile;
+import org.apache.wayang.java.execution.SpillSettings;
+import org.apache.logging.log4j.LogManager;
 
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
- * Java implementation of the {@link SortOperator}.
+ * Java implementation of the {@link SortOperator}. The sort keys are extracted only once per data quantum. If
+ * spilling is enabled via {@link SpillSettings}, the data quanta are sorted externally, i.e., in sorted runs that
+ * fit the memory budget and are spilled to disk and merged eventually.
  */
 public class JavaSortOperator<Type, Key>
         extends SortOperator<Type, Key>
@@ -75,12 +89,161 @@ public class JavaSortOperator<Type, Key>
 
         final Function<Type, Key> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream()
-                .sorted((e1, e2) -> ((Comparable)keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2))));
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        final SpillSettings spillSettings = SpillSettings.from(javaExecutor.getConfiguration());
+        if (spillSettings.isEnabled()) {
+            // The input is drained and the sorted runs are written right away; only the merge is lazy.
+            ((StreamChannel.Instance) outputs[0]).accept(externalSort(inputStream, keyExtractor, spillSettings));
+            return ExecutionOperator.modelQuasiEagerExecution(inputs, outputs, operatorContext);
+        } else {
+            ((StreamChannel.Instance) outputs[0]).accept(inputStream
+                    .map(dataQuantum -> new KeyedDataQuantum<>(keyExtractor.apply(dataQuantum), dataQuantum))
+                    .sorted()
+                    .map(keyedDataQuantum -> keyedDataQuantum.dataQuantum));
+        }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Sorts the data quanta in runs that fit the memory budget, spills the sorted runs to disk, and merges them
+     * lazily. If all data quanta fit into a single run, nothing is spilled.
+     *
+     * @param stream        the data quanta to sort
+     * @param keyExtractor  extracts the sort keys
+     * @param spillSettings describe the memory budget
+     * @return a {@link Stream} of the sorted data quanta
+     */
+    private static <T, K> Stream<T> externalSort(Stream<T> stream, Function<T, K> keyExtractor, SpillSettings spillSettings) {
+        final int runSize = (int) Math.min(spillSettings.getMaxInMemoryQuanta(), Integer.MAX_VALUE - 8);
+        final List<SpillFile<KeyedDataQuantum<K, T>>> runs = new ArrayList<>();
+        List<KeyedDataQuantum<K, T>> run = new ArrayList<>();
+        for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); ) {
+            final T dataQuantum = iterator.next();
+            run.add(new KeyedDataQuantum<>(keyExtractor.apply(dataQuantum), dataQuantum));
+            if (run.size() >= runSize) {
+                runs.add(spillRun(run, spillSettings));
+                run = new ArrayList<>();
+            }
+        }
+        if (runs.isEmpty()) {
+            return sortRun(run).stream().map(keyedDataQuantum -> keyedDataQuantum.dataQuantum);
+        }
+        if (!run.isEmpty()) {
+            runs.add(spillRun(run, spillSettings));
+        }
+        LogManager.getLogger(JavaSortOperator.class).info("Merging {} sorted runs.", runs.size());
+
+        final RunMerger<K, T> runMerger = new RunMerger<>(runs);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(runMerger, Spliterator.ORDERED), false)
+                .onClose(runMerger::close);
+    }
+
+    /**
+     * Sorts a run in parallel.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, T> List<KeyedDataQuantum<K, T>> sortRun(List<KeyedDataQuantum<K, T>> run) {
+        final KeyedDataQuantum<K, T>[] array = run.toArray(new KeyedDataQuantum[0]);
+        Arrays.parallelSort(array);
+        return Arrays.asList(array);
+    }
+
+    /**
+     * Sorts a run and writes it to a new {@link SpillFile}.
+     */
+    private static <K, T> SpillFile<KeyedDataQuantum<K, T>> spillRun(List<KeyedDataQuantum<K, T>> run,
+                                                                   SpillSettings spillSettings) {
+        final SpillFile<KeyedDataQuantum<K, T>> spillFile = spillSettings.createSpillFile();
+        sortRun(run).forEach(spillFile::write);
+        spillFile.close();
+        return spillFile;
+    }
+
+    /**
+     * A data quantum along with its sort key, so that the key needs to be extracted only once.
+     */
+    private static class KeyedDataQuantum<K, T> implements Comparable<KeyedDataQuantum<K, T>>, Serializable {
+
+        private final K key;
+
+        private final T dataQuantum;
+
+        private KeyedDataQuantum(K key, T dataQuantum) {
+            this.key = key;
+            this.dataQuantum = dataQuantum;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compareTo(KeyedDataQuantum<K, T> that) {
+            return ((Comparable<K>) this.key).compareTo(that.key);
+        }
+
+    }
+
+    /**
+     * Merges sorted runs with a k-way merge. Equal keys are emitted in the order of their runs to keep the sort
+     * stable.
+     */
+    private static class RunMerger<K, T> implements Iterator<T> {
+
+        private final List<SpillFile<KeyedDataQuantum<K, T>>> runs;
+
+        private final List<Stream<KeyedDataQuantum<K, T>>> runStreams = new ArrayList<>();
+
+        /**
+         * Holds the next data quantum of each non-exhausted run along with the index of that run.
+         */
+        private final PriorityQueue<Tuple<KeyedDataQuantum<K, T>, Integer>> heads;
+
+        private final List<Iterator<KeyedDataQuantum<K, T>>> runIterators = new ArrayList<>();
+
+        private RunMerger(List<SpillFile<KeyedDataQuantum<K, T>>> runs) {
+            this.runs = runs;
+            this.heads = new PriorityQueue<>(Math.max(1, runs.size()), (head1, head2) -> {
+                int cmp = head1.field0.compareTo(head2.field0);
+                return cmp != 0 ? cmp : Integer.compare(head1.field1, head2.field1);
+            });
+            for (int i = 0; i < runs.size(); i++) {
+                final Stream<KeyedDataQuantum<K, T>> runStream = runs.get(i).stream();
+                this.runStreams.add(runStream);
+                this.runIterators.add(runStream.iterator());
+                this.advance(i);
+            }
+        }
+
+        private void advance(int runIndex) {
+            final Iterator<KeyedDataQuantum<K, T>> runIterator = this.runIterators.get(runIndex);
+            if (runIterator.hasNext()) {
+                this.heads.add(new Tuple<>(runIterator.next(), runIndex));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!this.heads.isEmpty()) return true;
+            this.close();
+            return false;
+        }
+
+        @Override
+        public T next() {
+            final Tuple<KeyedDataQuantum<K, T>, Integer> head = this.heads.poll();
+            if (head == null) throw new NoSuchElementException();
+            this.advance(head.field1);
+            return head.field0.dataQuantum;
+        }
+
+        private void close() {
+            this.runStreams.forEach(Stream::close);
+            this.runStreams.clear();
+            this.runs.forEach(SpillFile::delete);
+            this.runs.clear();
+        }
+
+    }
+
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
         return "wayang.java.sort.load";
@@ -30,13 +30,17 @@ import org.apache.wayang.core.util.fs.FileSystem;
 import org.apache.wayang.core.util.fs.FileSystems;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.execution.TextFileSplit;
+import org.apache.wayang.core.api.Configuration;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.ProtocolException;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -54,11 +58,25 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This is execution operator implements the {@link TextFileSource}.
+ * <p>If {@value #PARALLEL_KEY} is set, files are split into byte ranges that are aligned to line boundaries and read
+ * concurrently (memory-mapped for local files), and the lines are provided as a parallel {@link Stream}, which
+ * requires the UDFs of the downstream operators to be thread-safe. Compressed files are decompressed, but cannot be
+ * split (see {@link TextFileSplit}).</p>
  */
 public class JavaTextFileSource extends TextFileSource implements JavaExecutionOperator {
 
     private static final Logger logger = LoggerFactory.getLogger(JavaTextFileSource.class);
 
+    /**
+     * {@link Configuration} key to enable reading files in parallel splits.
+     */
+    public static final String PARALLEL_KEY = "wayang.java.textfilesource.parallel";
+
+    /**
+     * {@link Configuration} key for the number of bytes per split when reading in parallel.
+     */
+    public static final String SPLIT_SIZE_KEY = "wayang.java.textfilesource.split-size";
+
     public JavaTextFileSource(String inputUrl) {
         super(inputUrl);
     }
@@ -83,14 +101,23 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
         assert outputs.length == this.getNumOutputs();
 
         String urlStr = this.getInputUrl().trim();
+        final Configuration configuration = javaExecutor.getConfiguration();
 
-        try {
+        if (configuration.getBooleanProperty(PARALLEL_KEY, false) && this.isSplittableEncoding()
+                && FileSystems.getFileSystem(urlStr).isPresent()) {
+            final long splitSize = configuration.getLongProperty(SPLIT_SIZE_KEY, 64L << 20);
+            try {
+                ((StreamChannel.Instance) outputs[0]).accept(this.createSplitLineStream(urlStr, splitSize));
+            } catch (IOException e) {
+                throw new WayangException(String.format("Reading %s failed.", urlStr), e);
+            }
+        } else try {
 
             FileSystem fs = FileSystems.getFileSystem(urlStr).get(); //.orElseThrow(
                     //() -> new WayangException(String.format("FileSystems.getFileSystem( urlStr ).get() => Cannot access file system of %s. ", urlStr))
             //);
 
-            final InputStream inputStream = fs.open(urlStr);
+            final InputStream inputStream = TextFileSplit.decompress(fs.open(urlStr), urlStr);
             Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream)).lines();
             ((StreamChannel.Instance) outputs[0]).accept(lines);
 
@@ -134,6 +161,31 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
         return prepareLineageNode.collectAndMark();
     }
 
+    /**
+     * Tells whether line breaks can be detected on the byte level in the encoding of this instance.
+     */
+    private boolean isSplittableEncoding() {
+        return TextFileSplit.isSplittable(Charset.forName(this.getEncoding()));
+    }
+
+    /**
+     * Splits the input file(s) into {@link TextFileSplit}s and reads them in parallel.
+     *
+     * @param url       the input file or a directory of part files
+     * @param splitSize the number of bytes per {@link TextFileSplit}
+     * @return a parallel {@link Stream} of the lines
+     */
+    private Stream<String> createSplitLineStream(String url, long splitSize) throws IOException {
+        final Charset charset = Charset.forName(this.getEncoding());
+        return TextFileSplit.createSplits(url, splitSize).parallelStream().flatMap(split -> {
+            try {
+                return split.lines(charset, false);
+            } catch (IOException | URISyntaxException e) {
+                throw new WayangException(String.format("Reading %s failed.", split), e);
+            }
+        });
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Arrays.asList("wayang.java.textfilesource.load.prepare", "wayang.java.textfilesource.load.main");
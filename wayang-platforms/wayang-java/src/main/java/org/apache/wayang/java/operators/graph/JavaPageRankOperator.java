@@ -18,11 +18,9 @@
 
 package org.apache.wayang.java.operators.graph;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiFunction;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.PageRankOperator;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -33,20 +31,38 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Spliterators;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link PageRankOperator}.
+ * <p>The vertex IDs are remapped to dense {@code int}s and the incoming edges are kept in compressed sparse row (CSR)
+ * format, so that the ranks can be computed on primitive arrays. Each vertex pulls the ranks of its predecessors, which
+ * allows to process the vertices in parallel (see {@value #PARALLEL_KEY}). If {@value #TOLERANCE_KEY} is set, the
+ * computation ends as soon as the ranks change by less than that in total.</p>
  */
 public class JavaPageRankOperator extends PageRankOperator implements JavaExecutionOperator {
 
+    private static final Logger logger = LoggerFactory.getLogger(JavaPageRankOperator.class);
+
+    /**
+     * {@link Configuration} key to compute the ranks of the vertices in parallel.
+     */
+    public static final String PARALLEL_KEY = "wayang.java.pagerank.parallel";
+
+    /**
+     * {@link Configuration} key for the sum of absolute rank changes below which the iterations stop early;
+     * {@code 0} disables the early stop.
+     */
+    public static final String TOLERANCE_KEY = "wayang.java.pagerank.tolerance";
+
     public JavaPageRankOperator(int numIterations) {
         super(numIterations);
     }
@@ -64,9 +80,15 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
         CollectionChannel.Instance input = (CollectionChannel.Instance) inputs[0];
         StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
+        final Configuration configuration = javaExecutor.getConfiguration();
+        final boolean isParallel = configuration.getBooleanProperty(PARALLEL_KEY, true);
+        final double tolerance = configuration.getDoubleProperty(TOLERANCE_KEY, 0d);
+
         final Collection<Tuple2<Long, Long>> edges = input.provideCollection();
-        final Map<Long, Float> pageRanks = this.pageRank(edges);
-        final Stream<Tuple2<Long, Float>> pageRankStream = pageRanks.entrySet().stream().map(entry -> new Tuple2<>(entry.getKey(), entry.getValue()));
+        final CsrGraph graph = CsrGraph.fromEdges(edges, isParallel);
+        final float[] pageRanks = this.pageRank(graph, isParallel, tolerance);
+        final Stream<Tuple2<Long, Float>> pageRankStream = IntStream.range(0, pageRanks.length)
+                .mapToObj(vertex -> new Tuple2<>(graph.vertexIds[vertex], pageRanks[vertex]));
 
         output.accept(pageRankStream);
 
@@ -76,67 +98,143 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
     /**
      * Execute the PageRank algorithm.
      *
-     * @param edgeDataSet edges of a graph
-     * @return the page ranks
+     * @param graph      the graph
+     * @param isParallel whether the vertices should be processed in parallel
+     * @param tolerance  the sum of absolute rank changes below which the iterations stop early or {@code 0}
+     * @return the page ranks, indexed by the dense vertex IDs
      */
-    //TODO: change for efficient map
-    private Map<Long, Float> pageRank(Collection<Tuple2<Long, Long>> edgeDataSet) {
-        // Get the degress of all vertices and make sure we collect *all* vertices.
-        //TODO: change for efficient map
-        HashMap<Long, Integer> degrees = new HashMap<>();
-        for (Tuple2<Long, Long> edge : edgeDataSet) {
-            this.adjustOrPutValue(degrees, edge.field0, 1, 1, Integer::sum);
-            this.adjustOrPutValue(degrees, edge.field0, 0, 0, Integer::sum);
-        }
-        int numVertices = degrees.size();
-        float initialRank = 1f / numVertices;
-        float dampingRank = (1 - this.dampingFactor) / numVertices;
-
-        // Initialize the rank map.
-        //TODO: change for efficient map
-        HashMap<Long, Float> initialRanks = new HashMap<>();
-        degrees.forEach( (k, v) -> {
-            initialRanks.putIfAbsent(k, initialRank);
-        });
-
-        HashMap<Long, Float> currentRanks = initialRanks;
+    private float[] pageRank(CsrGraph graph, boolean isParallel, double tolerance) {
+        final int numVertices = graph.vertexIds.length;
+        if (numVertices == 0) return new float[0];
+        final float dampingFactor = this.dampingFactor;
+        final float dampingRank = (1 - dampingFactor) / numVertices;
+
+        float[] ranks = new float[numVertices];
+        Arrays.fill(ranks, 1f / numVertices);
+        float[] newRanks = new float[numVertices];
+        final float[] contributions = new float[numVertices];
+
         for (int iteration = 0; iteration < this.getNumIterations(); iteration++) {
-            // Add the damping first.
-            //TODO: change for efficient map
-            HashMap<Long, Float> newRanks = new HashMap<Long, Float>(currentRanks.size());
-            degrees.forEach( (k, v) -> {
-                newRanks.putIfAbsent(k, dampingRank);
+            final float[] currentRanks = ranks, nextRanks = newRanks;
+
+            // Determine what each vertex passes on to each of its successors.
+            vertices(numVertices, isParallel).forEach(vertex -> {
+                final int degree = graph.outDegrees[vertex];
+                contributions[vertex] = degree == 0 ? 0f : dampingFactor * currentRanks[vertex] / degree;
             });
 
-            // Now add the other ranks.
-            for (Tuple2<Long, Long> edge : edgeDataSet) {
-                final long sourceVertex = edge.field0;
-                final long targetVertex = edge.field1;
-                final int degree = degrees.get(sourceVertex);
-                final float currentRank = currentRanks.get(sourceVertex);
-                final float partialRank = this.dampingFactor * currentRank / degree;
-                this.adjustOrPutValue(newRanks, targetVertex, partialRank, partialRank, Float::sum);
-            }
+            // Collect the contributions of the predecessors.
+            final double change = vertices(numVertices, isParallel).mapToDouble(vertex -> {
+                float rank = dampingRank;
+                for (int edge = graph.inOffsets[vertex]; edge < graph.inOffsets[vertex + 1]; edge++) {
+                    rank += contributions[graph.inSources[edge]];
+                }
+                nextRanks[vertex] = rank;
+                return Math.abs(rank - currentRanks[vertex]);
+            }).sum();
 
-            currentRanks = newRanks;
+            ranks = nextRanks;
+            newRanks = currentRanks;
+            if (change < tolerance) {
+                logger.info("PageRank converged after {} iterations (change: {}).", iteration + 1, change);
+                break;
+            }
         }
 
-        return currentRanks;
+        return ranks;
+    }
+
+    private static IntStream vertices(int numVertices, boolean isParallel) {
+        final IntStream vertices = IntStream.range(0, numVertices);
+        return isParallel ? vertices.parallel() : vertices;
     }
 
     /**
-     * simulate the process on the Trove4j library
-     * @param key key to modify on the map
-     * @param default_value default value in the case of not key
-     * @param correction element to add the array in the case of the key exist
+     * Graph with dense vertex IDs, whose incoming edges are stored in compressed sparse row format.
      */
-    private <T> void adjustOrPutValue(Map<Long, T> map, Long key, T default_value, T correction, BiFunction<T, T, T> update){
-        if(map.containsKey(key)){
-            T value = map.get(key);
-            map.replace(key, update.apply(value, correction) );
-        }else{
-            map.put(key, default_value);
+    private static class CsrGraph {
+
+        /**
+         * Original vertex IDs in ascending order, indexed by the dense vertex IDs.
+         */
+        private final long[] vertexIds;
+
+        /**
+         * The incoming edges of the vertex {@code v} are stored from {@code inOffsets[v]} (inclusive) to
+         * {@code inOffsets[v + 1]} (exclusive) in {@link #inSources}.
+         */
+        private final int[] inOffsets;
+
+        /**
+         * Source vertices of the incoming edges.
+         */
+        private final int[] inSources;
+
+        /**
+         * Number of outgoing edges per vertex.
+         */
+        private final int[] outDegrees;
+
+        private CsrGraph(long[] vertexIds, int[] inOffsets, int[] inSources, int[] outDegrees) {
+            this.vertexIds = vertexIds;
+            this.inOffsets = inOffsets;
+            this.inSources = inSources;
+            this.outDegrees = outDegrees;
+        }
+
+        /**
+         * Builds a new instance.
+         *
+         * @param edges      {@code (source vertex ID, target vertex ID)} tuples
+         * @param isParallel whether the vertex IDs should be remapped in parallel
+         * @return the new instance
+         */
+        private static CsrGraph fromEdges(Collection<Tuple2<Long, Long>> edges, boolean isParallel) {
+            final int numEdges = edges.size();
+            final long[] sourceIds = new long[numEdges], targetIds = new long[numEdges];
+            int i = 0;
+            for (Tuple2<Long, Long> edge : edges) {
+                sourceIds[i] = edge.field0;
+                targetIds[i] = edge.field1;
+                i++;
+            }
+
+            // Collect *all* vertices, including those without outgoing edges, and number them densely.
+            long[] vertexIds = new long[2 * numEdges];
+            System.arraycopy(sourceIds, 0, vertexIds, 0, numEdges);
+            System.arraycopy(targetIds, 0, vertexIds, numEdges, numEdges);
+            if (isParallel) Arrays.parallelSort(vertexIds);
+            else Arrays.sort(vertexIds);
+            int numVertices = 0;
+            for (int j = 0; j < vertexIds.length; j++) {
+                if (j == 0 || vertexIds[j] != vertexIds[j - 1]) vertexIds[numVertices++] = vertexIds[j];
+            }
+            final long[] denseVertexIds = Arrays.copyOf(vertexIds, numVertices);
+            final int[] sources = new int[numEdges], targets = new int[numEdges];
+            vertices(numEdges, isParallel).forEach(edge -> {
+                sources[edge] = Arrays.binarySearch(denseVertexIds, sourceIds[edge]);
+                targets[edge] = Arrays.binarySearch(denseVertexIds, targetIds[edge]);
+            });
+
+            // Build the CSR representation of the incoming edges.
+            final int[] outDegrees = new int[numVertices];
+            final int[] inOffsets = new int[numVertices + 1];
+            for (int edge = 0; edge < numEdges; edge++) {
+                outDegrees[sources[edge]]++;
+                inOffsets[targets[edge] + 1]++;
+            }
+            for (int vertex = 0; vertex < numVertices; vertex++) {
+                inOffsets[vertex + 1] += inOffsets[vertex];
+            }
+            final int[] inSources = new int[numEdges];
+            final int[] nextPositions = Arrays.copyOf(inOffsets, numVertices);
+            for (int edge = 0; edge < numEdges; edge++) {
+                inSources[nextPositions[targets[edge]]++] = sources[edge];
+            }
+
+            return new CsrGraph(denseVertexIds, inOffsets, inSources, outDegrees);
         }
+
     }
 
     @Override
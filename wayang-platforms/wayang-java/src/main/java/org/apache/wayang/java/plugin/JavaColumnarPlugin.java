@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.plugin;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.optimizer.channels.ChannelConversion;
+import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.plugin.Plugin;
+import org.apache.wayang.java.channels.ChannelConversions;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.mapping.Mappings;
+import org.apache.wayang.java.platform.JavaPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Plugin} enables the {@link JavaPlatform} to process {@link Record}s column-wise via
+ * {@link ColumnarChannel}s. It is meant to be used in addition to the {@link JavaBasicPlugin}.
+ */
+public class JavaColumnarPlugin implements Plugin {
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return Mappings.COLUMNAR_MAPPINGS;
+    }
+
+    @Override
+    public Collection<ChannelConversion> getChannelConversions() {
+        return ChannelConversions.COLUMNAR;
+    }
+
+    @Override
+    public Collection<Platform> getRequiredPlatforms() {
+        return Collections.singleton(JavaPlatform.getInstance());
+    }
+
+    @Override
+    public void setProperties(Configuration configuration) {
+        // Nothing to do, because we already configured the properties in #configureDefaults(...).
+    }
+
+}
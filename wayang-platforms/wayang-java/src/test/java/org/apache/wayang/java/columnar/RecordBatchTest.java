@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.columnar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link RecordBatch}.
+ */
+public class RecordBatchTest {
+
+    private static final List<Record> RECORDS = Arrays.asList(
+            new Record(1, 10L, 1.5, "a"),
+            new Record(2, null, 2.5, "b"),
+            new Record(null, 30L, null, null),
+            new Record(4, 40L, 4.5, 4)
+    );
+
+    @Test
+    public void testRoundTrip() {
+        final RecordBatch batch = RecordBatch.of(RECORDS);
+
+        Assert.assertEquals(4, batch.getNumRows());
+        Assert.assertEquals(4, batch.getNumColumns());
+        Assert.assertEquals(ColumnVector.Type.INT, batch.getColumn(0).getType());
+        Assert.assertEquals(ColumnVector.Type.LONG, batch.getColumn(1).getType());
+        Assert.assertEquals(ColumnVector.Type.DOUBLE, batch.getColumn(2).getType());
+        Assert.assertEquals(ColumnVector.Type.OBJECT, batch.getColumn(3).getType());
+        Assert.assertTrue(batch.getColumn(1).isNull(1));
+        Assert.assertEquals(30L, batch.getColumn(1).getLong(2));
+        Assert.assertEquals(RECORDS, batch.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSelectAndProject() {
+        final RecordBatch batch = RecordBatch.of(RECORDS).select(new int[]{1, 2, 3}, 2).project(new int[]{3, 0});
+
+        Assert.assertEquals(
+                Arrays.asList(new Record("b", 2), new Record(null, null)),
+                batch.stream().collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testEmptyBatch() {
+        final RecordBatch batch = RecordBatch.of(Arrays.asList());
+
+        Assert.assertEquals(0, batch.getNumRows());
+        Assert.assertEquals(0, batch.stream().count());
+
+        // Columns can be accessed even though the number of fields is unknown.
+        final RecordBatch projection = batch.project(new int[]{2, 0});
+        Assert.assertEquals(2, projection.getNumColumns());
+        Assert.assertEquals(0, projection.getColumn(1).size());
+        Assert.assertEquals(3, RecordBatch.empty(3).getNumColumns());
+    }
+
+}
@@ -20,23 +20,51 @@ package org.apache.wayang.java.execution;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.CollectionSource;
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.WayangContext;
 import org.apache.wayang.core.function.ExecutionContext;
+import org.apache.wayang.core.function.FlatMapDescriptor;
 import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.PredicateDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.MicroBatchOperator;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.profiling.ExecutionLog;
+import org.apache.wayang.core.profiling.MicroBatchMeasurement;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.WayangArrays;
 import org.apache.wayang.core.util.WayangCollections;
 import org.apache.wayang.java.Java;
 import org.apache.wayang.java.operators.JavaCollectionSource;
+import org.apache.wayang.java.operators.JavaColumnarFilterOperator;
 import org.apache.wayang.java.operators.JavaDoWhileOperator;
+import org.apache.wayang.java.operators.JavaFilterOperator;
+import org.apache.wayang.java.operators.JavaFlatMapOperator;
 import org.apache.wayang.java.operators.JavaLocalCallbackSink;
 import org.apache.wayang.java.operators.JavaMapOperator;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Test suite for the {@link JavaExecutor}.
@@ -128,4 +156,245 @@ public class JavaExecutorTest {
         Assert.assertEquals(WayangArrays.asList(6, 7, 8), collector);
     }
 
+    @Test
+    public void testFusedExecution() {
+        for (boolean isFusionEnabled : new boolean[]{true, false}) {
+            JavaCollectionSource<Integer> source = new JavaCollectionSource<>(
+                    WayangArrays.asList(1, 2, 3, 4, 5, 6),
+                    DataSetType.createDefault(Integer.class)
+            );
+            source.setName("source");
+
+            JavaMapOperator<Integer, Integer> doubling = new JavaMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(v -> 2 * v, Integer.class, Integer.class)
+            );
+            doubling.setName("doubling");
+
+            JavaFilterOperator<Integer> filter = new JavaFilterOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    new PredicateDescriptor<>(v -> v % 3 != 0, Integer.class)
+            );
+            filter.setName("filter");
+
+            JavaFlatMapOperator<Integer, Integer> duplicate = new JavaFlatMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new FlatMapDescriptor<>(v -> Arrays.asList(v, -v), Integer.class, Integer.class)
+            );
+            duplicate.setName("duplicate");
+
+            JavaMapOperator<Integer, Integer> increment = new JavaMapOperator<>(
+                    DataSetType.createDefault(Integer.class),
+                    DataSetType.createDefault(Integer.class),
+                    new TransformationDescriptor<>(v -> v + 1, Integer.class, Integer.class)
+            );
+            increment.setName("increment");
+
+            List<Integer> collector = new LinkedList<>();
+            JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(collector::add, DataSetType.createDefault(Integer.class));
+            sink.setName("sink");
+
+            source.connectTo(0, doubling, 0);
+            doubling.connectTo(0, filter, 0);
+            filter.connectTo(0, duplicate, 0);
+            duplicate.connectTo(0, increment, 0);
+            increment.connectTo(0, sink, 0);
+
+            final Configuration configuration = new Configuration();
+            configuration.setProperty(JavaExecutor.FUSION_KEY, String.valueOf(isFusionEnabled));
+            final WayangContext wayangContext = new WayangContext(configuration).with(Java.basicPlugin());
+            final Job job = wayangContext.createJob("fusion", new WayangPlan(sink));
+            job.execute();
+
+            Assert.assertEquals(WayangArrays.asList(3, -1, 5, -3, 9, -7, 11, -9), collector);
+
+            // The fused operators must still be reported for cost learning.
+            final Set<String> executedOperators = job.getCrossPlatformExecutor().getPartialExecutions().stream()
+                    .flatMap(partialExecution -> partialExecution.getAtomicExecutionGroups().stream())
+                    .map(group -> group.getEstimationContext())
+                    .filter(context -> context instanceof OptimizationContext.OperatorContext)
+                    .map(context -> ((OptimizationContext.OperatorContext) context).getOperator().getName())
+                    .collect(Collectors.toSet());
+            Assert.assertTrue(executedOperators.toString(),
+                    executedOperators.containsAll(Arrays.asList("doubling", "filter", "duplicate", "increment")));
+        }
+    }
+
+    @Test
+    public void testColumnarExecution() {
+        final RecordType lineItemType = new RecordType("orderKey", "quantity", "comment");
+        final RecordType orderType = new RecordType("orderKey", "priority");
+
+        CollectionSource<Record> lineItems = new CollectionSource<>(Arrays.asList(
+                new Record(1L, 5, "a"), new Record(1L, 20, "b"), new Record(2L, 30, "c"), new Record(3L, 40, "d")
+        ), DataSetType.createDefault(lineItemType));
+
+        FilterOperator<Record> filter = new FilterOperator<>(
+                new PredicateDescriptor<>(record -> record.getInt(1) > 10, Record.class),
+                DataSetType.createDefault(lineItemType)
+        );
+
+        MapOperator<Record, Record> projection = MapOperator.createProjection(lineItemType, "orderKey", "quantity");
+
+        CollectionSource<Record> orders = new CollectionSource<>(Arrays.asList(
+                new Record(1L, "high"), new Record(2L, "low"), new Record(4L, "low")
+        ), DataSetType.createDefault(orderType));
+
+        final RecordType projectedType = (RecordType) projection.getFunctionDescriptor().getOutputType();
+        JoinOperator<Record, Record, Record> join = new JoinOperator<>(
+                ProjectionDescriptor.createForRecords(projectedType, "orderKey"),
+                ProjectionDescriptor.createForRecords(orderType, "orderKey"),
+                DataSetType.createDefault(projectedType),
+                DataSetType.createDefault(orderType)
+        );
+
+        List<Tuple2<Record, Record>> collector = new LinkedList<>();
+        LocalCallbackSink<Tuple2<Record, Record>> sink = LocalCallbackSink.createCollectingSink(
+                collector, DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+
+        lineItems.connectTo(0, filter, 0);
+        filter.connectTo(0, projection, 0);
+        projection.connectTo(0, join, 0);
+        orders.connectTo(0, join, 1);
+        join.connectTo(0, sink, 0);
+
+        // Make the row-wise filter prohibitively expensive, so that the columnar operators are picked.
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.java.filter.load",
+                "{\"in\":1, \"out\":1, \"cpu\":\"${1000000000*in0}\", \"ram\":\"0\", \"p\":0.9}");
+        final WayangContext wayangContext = new WayangContext(configuration)
+                .with(Java.basicPlugin())
+                .with(Java.columnarPlugin());
+        final Job job = wayangContext.createJob("columnar", new WayangPlan(sink));
+        job.execute();
+
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(
+                        new Tuple2<>(new Record(1L, 20), new Record(1L, "high")),
+                        new Tuple2<>(new Record(2L, 30), new Record(2L, "low"))
+                )),
+                new HashSet<>(collector)
+        );
+        final Set<Class<?>> executedOperatorClasses = job.getCrossPlatformExecutor().getPartialExecutions().stream()
+                .flatMap(partialExecution -> partialExecution.getAtomicExecutionGroups().stream())
+                .map(group -> group.getEstimationContext())
+                .filter(context -> context instanceof OptimizationContext.OperatorContext)
+                .map(context -> ((OptimizationContext.OperatorContext) context).getOperator().getClass())
+                .collect(Collectors.toSet());
+        Assert.assertTrue(executedOperatorClasses.toString(),
+                executedOperatorClasses.contains(JavaColumnarFilterOperator.class));
+    }
+
+    @Test
+    public void testMicroBatchExecution() {
+        MicroBatchCollectionSource source = new MicroBatchCollectionSource(WayangArrays.asList(1, 2, 3));
+        source.setName("source");
+
+        JavaMapOperator<Integer, Integer> increment = new JavaMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(v -> v + 1, Integer.class, Integer.class)
+        );
+        increment.setName("increment");
+
+        List<Integer> collector = new LinkedList<>();
+        JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(collector::add, DataSetType.createDefault(Integer.class));
+        sink.setName("sink");
+
+        source.connectTo(0, increment, 0);
+        increment.connectTo(0, sink, 0);
+
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(Job.MICRO_BATCH_KEY, "true");
+        configuration.setProperty(Job.MICRO_BATCH_MAX_BATCHES_KEY, "3");
+        final WayangContext wayangContext = new WayangContext(configuration).with(Java.basicPlugin());
+        final Job job = wayangContext.createJob("micro-batches", new WayangPlan(sink));
+        job.execute();
+
+        // The same ExecutionPlan should have processed all batches.
+        Assert.assertEquals(WayangArrays.asList(2, 3, 4, 2, 3, 4, 2, 3, 4), collector);
+        Assert.assertEquals(3, source.numCompletedBatches);
+        Assert.assertEquals(1, source.numReleases);
+        final List<MicroBatchMeasurement> measurements = job.getMicroBatchMeasurements();
+        Assert.assertEquals(3, measurements.size());
+        for (int batch = 0; batch < measurements.size(); batch++) {
+            Assert.assertEquals(batch, measurements.get(batch).getBatch());
+            Assert.assertEquals(3L, measurements.get(batch).getNumQuanta());
+        }
+    }
+
+    @Test
+    public void testMicroBatchExecutionLog() throws IOException {
+        final long numSingleBatchExecutions = this.countLoggedPartialExecutions(1);
+        Assert.assertTrue(numSingleBatchExecutions > 0);
+        Assert.assertEquals(3 * numSingleBatchExecutions, this.countLoggedPartialExecutions(3));
+    }
+
+    /**
+     * Executes a simple plan on micro-batches and counts the {@link ExecutionLog} entries.
+     */
+    private long countLoggedPartialExecutions(int numBatches) throws IOException {
+        final File logDirectory = Files.createTempDirectory("wayang-micro-batch-log").toFile();
+        logDirectory.deleteOnExit();
+        final File executionLogFile = new File(logDirectory, "executions.json");
+        executionLogFile.deleteOnExit();
+        final File cardinalityLogFile = new File(logDirectory, "cardinalities.json");
+        cardinalityLogFile.deleteOnExit();
+
+        MicroBatchCollectionSource source = new MicroBatchCollectionSource(WayangArrays.asList(1, 2, 3));
+        JavaLocalCallbackSink<Integer> sink = new JavaLocalCallbackSink<>(
+                v -> { }, DataSetType.createDefault(Integer.class)
+        );
+        source.connectTo(0, sink, 0);
+
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(Job.MICRO_BATCH_KEY, "true");
+        configuration.setProperty(Job.MICRO_BATCH_MAX_BATCHES_KEY, Integer.toString(numBatches));
+        configuration.setProperty("wayang.core.log.enabled", "true");
+        configuration.setProperty("wayang.core.log.executions", executionLogFile.getPath());
+        configuration.setProperty("wayang.core.log.cardinalities", cardinalityLogFile.getPath());
+        new WayangContext(configuration).with(Java.basicPlugin())
+                .createJob("micro-batch-log", new WayangPlan(sink))
+                .execute();
+
+        try (ExecutionLog executionLog = ExecutionLog.open(configuration)) {
+            return executionLog.stream().count();
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * {@link JavaCollectionSource} that counts its micro-batches.
+     */
+    private static class MicroBatchCollectionSource extends JavaCollectionSource<Integer> implements MicroBatchOperator {
+
+        private int numCompletedBatches = 0, numReleases = 0;
+
+        private MicroBatchCollectionSource(Collection<Integer> collection) {
+            super(collection, DataSetType.createDefault(Integer.class));
+        }
+
+        @Override
+        public void onBatchCompleted() {
+            this.numCompletedBatches++;
+        }
+
+        @Override
+        public long getBatchSize() {
+            return this.getCollection().size();
+        }
+
+        @Override
+        public void release() {
+            this.numReleases++;
+        }
+
+    }
+
 }
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.basic.function.AggregateDescriptor.Aggregate;
+import org.apache.wayang.basic.function.AggregateDescriptor.Function;
+import org.apache.wayang.basic.function.AggregateDescriptor.ValueType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.columnar.RecordBatch;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaAggregateOperator}.
+ */
+public class JavaAggregateOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testGroupedExecution() {
+        // Prepare test data.
+        Stream<Record> inputStream = Stream.of(
+                new Record("a", 1, 1.5),
+                new Record("b", 2, 2.0),
+                new Record("a", 3, null),
+                new Record("b", 4, 4.0),
+                new Record("c", null, null)
+        );
+
+        // Build the aggregate operator.
+        JavaAggregateOperator aggregateOperator = new JavaAggregateOperator(new AggregateDescriptor(
+                new int[]{0},
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, -1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 1, ValueType.LONG),
+                        new Aggregate(Function.MAX, 2, ValueType.DOUBLE),
+                        new Aggregate(Function.AVG, 1, ValueType.DOUBLE)
+                )
+        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the aggregate operator.
+        evaluate(aggregateOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final Set<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toSet());
+        Assert.assertEquals(
+                Stream.of(
+                        new Record("a", 2L, 4L, 1.5, 2.0),
+                        new Record("b", 2L, 6L, 4.0, 3.0),
+                        new Record("c", 1L, null, null, null)
+                ).collect(Collectors.toSet()),
+                result
+        );
+    }
+
+    @Test
+    public void testGlobalExecutionOnEmptyInput() {
+        JavaAggregateOperator aggregateOperator = new JavaAggregateOperator(new AggregateDescriptor(
+                new int[0],
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, -1, ValueType.LONG),
+                        new Aggregate(Function.MIN, 0, ValueType.OBJECT)
+                )
+        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(Stream.empty())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        evaluate(aggregateOperator, inputs, outputs);
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Collections.singletonList(new Record(0L, null)), result);
+    }
+
+    @Test
+    public void testSum0AndDecimalSum() {
+        Stream<Record> inputStream = Stream.of(
+                new Record("a", 1, new BigDecimal("0.1")),
+                new Record("a", 2, new BigDecimal("0.2")),
+                new Record("b", null, null)
+        );
+
+        JavaAggregateOperator aggregateOperator = new JavaAggregateOperator(new AggregateDescriptor(
+                new int[]{0},
+                Arrays.asList(
+                        new Aggregate(Function.SUM0, 1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 2, ValueType.DECIMAL),
+                        new Aggregate(Function.SUM0, 2, ValueType.DECIMAL)
+                )
+        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        evaluate(aggregateOperator, inputs, outputs);
+
+        final Set<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toSet());
+        Assert.assertEquals(
+                Stream.of(
+                        new Record("a", 3L, new BigDecimal("0.3"), new BigDecimal("0.3")),
+                        new Record("b", 0L, null, BigDecimal.ZERO)
+                ).collect(Collectors.toSet()),
+                result
+        );
+    }
+
+    @Test
+    public void testColumnarGlobalExecutionOnEmptyInput() {
+        JavaAggregateOperator aggregateOperator = new JavaAggregateOperator(new AggregateDescriptor(
+                new int[0],
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, -1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 1, ValueType.LONG)
+                )
+        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createColumnarChannelInstance(RecordBatch.of(Collections.emptyList()))
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        evaluate(aggregateOperator, inputs, outputs);
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Collections.singletonList(new Record(0L, null)), result);
+    }
+
+    @Test
+    public void testColumnarExecution() {
+        // Prepare test data.
+        RecordBatch batch = RecordBatch.of(Arrays.asList(
+                new Record("a", 1, 1.5),
+                new Record("b", 2, 2.0),
+                new Record("a", 3, null),
+                new Record("b", 4, 4.0),
+                new Record("c", null, null)
+        ));
+
+        // Build the aggregate operator.
+        JavaAggregateOperator aggregateOperator = new JavaAggregateOperator(new AggregateDescriptor(
+                new int[]{0},
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, -1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 1, ValueType.LONG),
+                        new Aggregate(Function.MAX, 2, ValueType.DOUBLE),
+                        new Aggregate(Function.AVG, 1, ValueType.DOUBLE),
+                        new Aggregate(Function.MIN, 0, ValueType.OBJECT)
+                )
+        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createColumnarChannelInstance(batch)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the aggregate operator.
+        evaluate(aggregateOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final Set<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toSet());
+        Assert.assertEquals(
+                Stream.of(
+                        new Record("a", 2L, 4L, 1.5, 2.0, "a"),
+                        new Record("b", 2L, 6L, 4.0, 3.0, "b"),
+                        new Record("c", 1L, null, null, null, "c")
+                ).collect(Collectors.toSet()),
+                result
+        );
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaColumnarFilterOperator}.
+ */
+public class JavaColumnarFilterOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        RecordBatch batch = RecordBatch.of(Arrays.asList(
+                new Record(1L, "a"), new Record(2L, "b"), new Record(3L, null), new Record(4L, "d")
+        ));
+
+        // Build the filter operator.
+        JavaColumnarFilterOperator filterOperator = new JavaColumnarFilterOperator(new FilterOperator<>(
+                new PredicateDescriptor<>(record -> record.getLong(0) % 2 == 0, Record.class)
+        ));
+
+        ColumnarChannel.Instance[] inputs = new ColumnarChannel.Instance[]{createColumnarChannelInstance(batch)};
+        ColumnarChannel.Instance[] outputs = new ColumnarChannel.Instance[]{createColumnarChannelInstance()};
+
+        // Execute the filter operator.
+        evaluate(filterOperator, inputs, outputs);
+
+        // Verify the outcome.
+        Assert.assertEquals(2, outputs[0].provideBatch().getNumRows());
+        Assert.assertEquals(
+                Arrays.asList(new Record(2L, "b"), new Record(4L, "d")),
+                outputs[0].<Record>provideStream().collect(Collectors.toList())
+        );
+    }
+
+}
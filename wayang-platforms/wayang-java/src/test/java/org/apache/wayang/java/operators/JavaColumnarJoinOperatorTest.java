@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.columnar.RecordBatch;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaColumnarJoinOperator}.
+ */
+public class JavaColumnarJoinOperatorTest extends JavaExecutionOperatorTestBase {
+
+    private static final RecordType TYPE0 = new RecordType("key", "name");
+
+    private static final RecordType TYPE1 = new RecordType("value", "key");
+
+    private static final RecordBatch BATCH0 = RecordBatch.of(Arrays.asList(
+            new Record(1L, "b"), new Record(1L, "c"), new Record(2L, "d"), new Record(3L, "e"), new Record(null, "f")
+    ));
+
+    private static final RecordBatch BATCH1 = RecordBatch.of(Arrays.asList(
+            new Record("x", 1L), new Record("y", 1L), new Record("z", 2L), new Record("w", 4L)
+    ));
+
+    private static final Set<Tuple2<Record, Record>> EXPECTED_RESULT = new HashSet<>(Arrays.asList(
+            new Tuple2<>(new Record(1L, "b"), new Record("x", 1L)),
+            new Tuple2<>(new Record(1L, "b"), new Record("y", 1L)),
+            new Tuple2<>(new Record(1L, "c"), new Record("x", 1L)),
+            new Tuple2<>(new Record(1L, "c"), new Record("y", 1L)),
+            new Tuple2<>(new Record(2L, "d"), new Record("z", 2L))
+    ));
+
+    @Test
+    public void testExecutionWithPrimitiveKeys() {
+        final JoinOperator<Record, Record, Record> join = new JoinOperator<>(
+                ProjectionDescriptor.createForRecords(TYPE0, "key"),
+                ProjectionDescriptor.createForRecords(TYPE1, "key"),
+                DataSetType.createDefault(TYPE0),
+                DataSetType.createDefault(TYPE1)
+        );
+        Assert.assertEquals(EXPECTED_RESULT, this.execute(join));
+    }
+
+    @Test
+    public void testExecutionWithKeyFunctions() {
+        final JoinOperator<Record, Record, Object> join = new JoinOperator<>(
+                new TransformationDescriptor<>(record -> record.getField(0), Record.class, Object.class),
+                new TransformationDescriptor<>(record -> record.getField(1), Record.class, Object.class),
+                DataSetType.createDefault(Record.class),
+                DataSetType.createDefault(Record.class)
+        );
+        Assert.assertEquals(EXPECTED_RESULT, this.execute(join));
+    }
+
+    @Test
+    public void testExecutionOnEmptyInput() {
+        final JoinOperator<Record, Record, Record> join = new JoinOperator<>(
+                ProjectionDescriptor.createForRecords(TYPE0, "key"),
+                ProjectionDescriptor.createForRecords(TYPE1, "key"),
+                DataSetType.createDefault(TYPE0),
+                DataSetType.createDefault(TYPE1)
+        );
+        final RecordBatch emptyBatch = RecordBatch.of(Collections.emptyList());
+        Assert.assertTrue(this.execute(new JavaColumnarJoinOperator<>(join), BATCH0, emptyBatch).isEmpty());
+        Assert.assertTrue(this.execute(new JavaColumnarJoinOperator<>(join), emptyBatch, BATCH1).isEmpty());
+    }
+
+    @Test
+    public void testExecutionWithRowWiseInput() {
+        final JavaColumnarJoinOperator<Record> join = new JavaColumnarJoinOperator<>(new JoinOperator<>(
+                ProjectionDescriptor.createForRecords(TYPE0, "key"),
+                ProjectionDescriptor.createForRecords(TYPE1, "key"),
+                DataSetType.createDefault(TYPE0),
+                DataSetType.createDefault(TYPE1)
+        ));
+        final ColumnarChannel.Instance rowInput = createColumnarChannelInstance();
+        rowInput.acceptRows(BATCH0.stream().collect(Collectors.toList()));
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{rowInput, createColumnarChannelInstance(BATCH1)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(join, inputs, outputs);
+        Assert.assertEquals(
+                EXPECTED_RESULT,
+                outputs[0].<Tuple2<Record, Record>>provideStream().collect(Collectors.toSet())
+        );
+    }
+
+    private <Key> Set<Tuple2<Record, Record>> execute(JoinOperator<Record, Record, Key> join) {
+        // Swap the inputs to exercise both build sides.
+        final Set<Tuple2<Record, Record>> result = this.execute(new JavaColumnarJoinOperator<>(join), BATCH0, BATCH1);
+        final Set<Tuple2<Record, Record>> swappedResult = this.execute(
+                new JavaColumnarJoinOperator<>(new JoinOperator<>(
+                        join.getKeyDescriptor1(), join.getKeyDescriptor0(), join.getInputType1(), join.getInputType0()
+                )),
+                BATCH1,
+                BATCH0
+        ).stream().map(Tuple2::swap).collect(Collectors.toSet());
+        Assert.assertEquals(result, swappedResult);
+        return result;
+    }
+
+    private <Key> Set<Tuple2<Record, Record>> execute(JavaColumnarJoinOperator<Key> join,
+                                                     RecordBatch batch0,
+                                                     RecordBatch batch1) {
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createColumnarChannelInstance(batch0),
+                createColumnarChannelInstance(batch1)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(join, inputs, outputs);
+        return outputs[0].<Tuple2<Record, Record>>provideStream().collect(Collectors.toSet());
+    }
+
+}
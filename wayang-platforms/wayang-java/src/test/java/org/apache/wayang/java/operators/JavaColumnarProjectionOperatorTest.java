@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaColumnarProjectionOperator}.
+ */
+public class JavaColumnarProjectionOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data.
+        RecordBatch batch = RecordBatch.of(Arrays.asList(
+                new Record(1L, "a", 1.5), new Record(2L, "b", null)
+        ));
+
+        // Build the projection operator.
+        final MapOperator<Record, Record> projection = MapOperator.createProjection(
+                new RecordType("id", "name", "score"), "score", "id"
+        );
+        Assert.assertTrue(JavaColumnarProjectionOperator.isProjection(projection));
+        JavaColumnarProjectionOperator projectionOperator = new JavaColumnarProjectionOperator(projection);
+
+        ColumnarChannel.Instance[] inputs = new ColumnarChannel.Instance[]{createColumnarChannelInstance(batch)};
+        ColumnarChannel.Instance[] outputs = new ColumnarChannel.Instance[]{createColumnarChannelInstance()};
+
+        // Execute the projection operator.
+        evaluate(projectionOperator, inputs, outputs);
+
+        // Verify the outcome.
+        Assert.assertSame(batch.getColumn(0), outputs[0].provideBatch().getColumn(1));
+        Assert.assertEquals(
+                Arrays.asList(new Record(1.5, 1L), new Record(null, 2L)),
+                outputs[0].<Record>provideStream().collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testExecutionOnEmptyInput() {
+        final MapOperator<Record, Record> projection = MapOperator.createProjection(
+                new RecordType("id", "name", "score"), "score", "id"
+        );
+        JavaColumnarProjectionOperator projectionOperator = new JavaColumnarProjectionOperator(projection);
+
+        ColumnarChannel.Instance[] inputs = new ColumnarChannel.Instance[]{
+                createColumnarChannelInstance(RecordBatch.of(Collections.emptyList()))
+        };
+        ColumnarChannel.Instance[] outputs = new ColumnarChannel.Instance[]{createColumnarChannelInstance()};
+
+        evaluate(projectionOperator, inputs, outputs);
+
+        Assert.assertEquals(2, outputs[0].provideBatch().getNumColumns());
+        Assert.assertEquals(0, outputs[0].provideBatch().getNumRows());
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.ColumnarChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.columnar.RecordBatch;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaColumnarReduceByOperator}.
+ */
+public class JavaColumnarReduceByOperatorTest extends JavaExecutionOperatorTestBase {
+
+    private static final RecordType TYPE = new RecordType("key", "count");
+
+    private static final List<Record> RECORDS = Arrays.asList(
+            new Record("a", 1L), new Record("b", 2L), new Record("a", 3L), new Record(null, 4L), new Record("b", 5L)
+    );
+
+    private static final Set<Record> EXPECTED_RESULT = new HashSet<>(Arrays.asList(
+            new Record("a", 4L), new Record("b", 7L), new Record(null, 4L)
+    ));
+
+    @Test
+    public void testExecutionWithKeyColumn() {
+        final ReduceByOperator<Record, Record> reduceBy = new ReduceByOperator<>(
+                ProjectionDescriptor.createForRecords(TYPE, "key"),
+                new ReduceDescriptor<>(JavaColumnarReduceByOperatorTest::sumCounts, Record.class),
+                DataSetType.createDefault(TYPE)
+        );
+        Assert.assertEquals(EXPECTED_RESULT, this.execute(reduceBy, createColumnarChannelInstance(RecordBatch.of(RECORDS))));
+    }
+
+    @Test
+    public void testExecutionWithKeyFunction() {
+        final ReduceByOperator<Record, Object> reduceBy = new ReduceByOperator<>(
+                new TransformationDescriptor<>(record -> record.getField(0), Record.class, Object.class),
+                new ReduceDescriptor<>(JavaColumnarReduceByOperatorTest::sumCounts, Record.class),
+                DataSetType.createDefault(Record.class)
+        );
+        Assert.assertEquals(EXPECTED_RESULT, this.execute(reduceBy, createColumnarChannelInstance(RecordBatch.of(RECORDS))));
+    }
+
+    @Test
+    public void testExecutionWithRowWiseInput() {
+        final ReduceByOperator<Record, Record> reduceBy = new ReduceByOperator<>(
+                ProjectionDescriptor.createForRecords(TYPE, "key"),
+                new ReduceDescriptor<>(JavaColumnarReduceByOperatorTest::sumCounts, Record.class),
+                DataSetType.createDefault(TYPE)
+        );
+        final ColumnarChannel.Instance input = createColumnarChannelInstance();
+        input.acceptRows(RECORDS);
+        Assert.assertEquals(EXPECTED_RESULT, this.execute(reduceBy, input));
+    }
+
+    private <Key> Set<Record> execute(ReduceByOperator<Record, Key> reduceBy, ColumnarChannel.Instance input) {
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{input};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        evaluate(new JavaColumnarReduceByOperator<>(reduceBy), inputs, outputs);
+        return outputs[0].<Record>provideStream().collect(Collectors.toSet());
+    }
+
+    private static Record sumCounts(Record record1, Record record2) {
+        return new Record(record1.getField(0), record1.getLong(1) + record2.getLong(1));
+    }
+
+}
@@ -29,7 +29,9 @@ import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.platform.JavaPlatform;
 import org.apache.wayang.java.test.ChannelFactory;
@@ -97,4 +99,12 @@ public class JavaExecutionOperatorTestBase {
         return ChannelFactory.createCollectionChannelInstance(collection, configuration);
     }
 
+    protected static ColumnarChannel.Instance createColumnarChannelInstance() {
+        return ChannelFactory.createColumnarChannelInstance(configuration);
+    }
+
+    protected static ColumnarChannel.Instance createColumnarChannelInstance(RecordBatch batch) {
+        return ChannelFactory.createColumnarChannelInstance(batch, configuration);
+    }
+
 }
@@ -25,9 +25,12 @@ import org.apache.wayang.basic.function.ProjectionDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.SpillSettings;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -99,4 +102,116 @@ public class JavaJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testPartitionedExecution() {
+        // Prepare test data.
+        final List<Tuple2<Integer, String>> input0 = new ArrayList<>();
+        final List<Tuple2<String, Integer>> input1 = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            input0.add(new Tuple2<>(i % 100, "a" + i));
+            if (i % 3 == 0) input1.add(new Tuple2<>("b" + i, i));
+        }
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(input0.stream()),
+                createStreamChannelInstance(input1.stream())
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        configuration.setProperty(JavaJoinOperator.PARTITIONED_KEY, "true");
+        configuration.setProperty(JavaJoinOperator.PARTITIONS_KEY, "5");
+        try {
+            evaluate(join, inputs, outputs);
+        } finally {
+            configuration.setProperty(JavaJoinOperator.PARTITIONED_KEY, "false");
+            configuration.setProperty(JavaJoinOperator.PARTITIONS_KEY, "0");
+        }
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                        .collect(Collectors.toList());
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = new ArrayList<>();
+        for (Tuple2<Integer, String> dataQuantum0 : input0) {
+            for (Tuple2<String, Integer> dataQuantum1 : input1) {
+                if (dataQuantum0.getField0().equals(dataQuantum1.getField1())) {
+                    expectedResult.add(new Tuple2<>(dataQuantum0, dataQuantum1));
+                }
+            }
+        }
+        Assert.assertEquals(expectedResult.size(), result.size());
+        Assert.assertEquals(new HashSet<>(expectedResult), new HashSet<>(result));
+    }
+
+
+    @Test
+    public void testExecutionWithSpilling() {
+        // Prepare test data.
+        final List<Tuple2<Integer, String>> input0 = new ArrayList<>();
+        final List<Tuple2<String, Integer>> input1 = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            input0.add(new Tuple2<>(i % 100, "a" + i));
+            if (i % 3 == 0) input1.add(new Tuple2<>("b" + i, i));
+        }
+
+        // Build the join operator.
+        JavaJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> join =
+                new JavaJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(input0.stream()),
+                createStreamChannelInstance(input1.stream())
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        configuration.setProperty(SpillSettings.ENABLED_KEY, "true");
+        configuration.setProperty(SpillSettings.MEMORY_BUDGET_KEY, "100");
+        configuration.setProperty(SpillSettings.BYTES_PER_QUANTUM_KEY, "1");
+        configuration.setProperty(SpillSettings.PARTITIONS_KEY, "4");
+        try {
+            evaluate(join, inputs, outputs);
+        } finally {
+            configuration.setProperty(SpillSettings.ENABLED_KEY, "false");
+        }
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                        .collect(Collectors.toList());
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = new ArrayList<>();
+        for (Tuple2<Integer, String> dataQuantum0 : input0) {
+            for (Tuple2<String, Integer> dataQuantum1 : input1) {
+                if (dataQuantum0.getField0().equals(dataQuantum1.getField1())) {
+                    expectedResult.add(new Tuple2<>(dataQuantum0, dataQuantum1));
+                }
+            }
+        }
+        Assert.assertEquals(expectedResult.size(), result.size());
+        Assert.assertEquals(new HashSet<>(expectedResult), new HashSet<>(result));
+    }
+
 }
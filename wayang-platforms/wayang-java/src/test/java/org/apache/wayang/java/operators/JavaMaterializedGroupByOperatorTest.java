@@ -25,11 +25,16 @@ import org.apache.wayang.basic.function.ProjectionDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.SpillSettings;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -73,4 +78,54 @@ public class JavaMaterializedGroupByOperatorTest extends JavaExecutionOperatorTe
         Assert.assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    public void testExecutionWithSpilling() throws IOException {
+        // Prepare test data.
+        Stream<Tuple2<Integer, Integer>> inputStream = IntStream.range(0, 1000)
+                .mapToObj(i -> new Tuple2<>(i % 10, i));
+
+        // Build the reduce operator.
+        JavaMaterializedGroupByOperator<Tuple2<Integer, Integer>, Integer> collocateByOperator =
+                new JavaMaterializedGroupByOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createGroupedUnchecked(Tuple2.class)
+                );
+
+        // Execute with a hash table of at most 100 data quanta.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        configuration.setProperty(SpillSettings.ENABLED_KEY, "true");
+        configuration.setProperty(SpillSettings.MEMORY_BUDGET_KEY, "100");
+        configuration.setProperty(SpillSettings.BYTES_PER_QUANTUM_KEY, "1");
+        configuration.setProperty(SpillSettings.PARTITIONS_KEY, "4");
+        final File spillDirectory = Files.createTempDirectory("wayang-spill-test").toFile();
+        configuration.setProperty(SpillSettings.DIRECTORY_KEY, spillDirectory.getPath());
+        try {
+            evaluate(collocateByOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty(SpillSettings.ENABLED_KEY, "false");
+            configuration.setProperty(SpillSettings.DIRECTORY_KEY, System.getProperty("java.io.tmpdir"));
+        }
+        Assert.assertEquals(1, spillDirectory.list().length);
+
+        // Verify the outcome.
+        final List<List<Tuple2<Integer, Integer>>> result = outputs[0].<List<Tuple2<Integer, Integer>>>provideStream()
+                .collect(Collectors.toList());
+        Assert.assertEquals(10, result.size());
+        for (List<Tuple2<Integer, Integer>> group : result) {
+            Assert.assertEquals(100, group.size());
+            final Integer key = group.get(0).field0;
+            group.forEach(dataQuantum -> Assert.assertEquals(key.intValue(), dataQuantum.field1 % 10));
+        }
+
+        // Disposing the output should remove the spilled result.
+        outputs[0].disposeIfUnreferenced();
+        Assert.assertEquals(0, spillDirectory.list().length);
+        Assert.assertTrue(spillDirectory.delete());
+    }
 }
@@ -19,16 +19,20 @@
 package org.apache.wayang.java.operators;
 
 import org.apache.commons.lang3.Validate;
+import org.junit.Assert;
 import org.junit.Test;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.StreamChannel;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -59,6 +63,30 @@ public class JavaObjectFileSinkTest extends JavaExecutionOperatorTestBase {
         evaluate(sink, inputs, outputs);
     }
 
+    @Test
+    public void testWritingAndReadingRecords() throws IOException {
+        Path tempDir = Files.createTempDirectory("wayang-java");
+        tempDir.toFile().deleteOnExit();
+        final String targetUrl = tempDir.resolve("testWritingAndReadingRecords").toUri().toString();
+        List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 1234; i++) {
+            records.add(new Record("key" + i, i, i * 0.5d));
+        }
+
+        // Write the records.
+        final JavaObjectFileSink<Record> sink = new JavaObjectFileSink<>(targetUrl, DataSetType.createDefault(Record.class));
+        final ChannelInstance outputChannel = FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(null, null, -1);
+        evaluate(sink, new ChannelInstance[]{createStreamChannelInstance(records.stream())}, new ChannelInstance[]{outputChannel});
+
+        // Read them back.
+        final JavaObjectFileSource<Record> source = new JavaObjectFileSource<>(targetUrl, DataSetType.createDefault(Record.class));
+        final StreamChannel.Instance sourceOutput = createStreamChannelInstance();
+        evaluate(source, new ChannelInstance[]{}, new ChannelInstance[]{sourceOutput});
+        Assert.assertEquals(records, sourceOutput.<Record>provideStream().collect(Collectors.toList()));
+    }
+
     static List<Integer> enumerateRange(int to) {
         Validate.isTrue(to >= 0);
         List<Integer> range = new ArrayList<>(to);
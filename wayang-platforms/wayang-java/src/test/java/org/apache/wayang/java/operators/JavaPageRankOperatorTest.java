@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.operators.graph.JavaPageRankOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaPageRankOperator}.
+ */
+public class JavaPageRankOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Vertex 4 has only incoming edges.
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(0L, 1L), new Tuple2<>(0L, 2L), new Tuple2<>(0L, 3L),
+                new Tuple2<>(1L, 2L), new Tuple2<>(1L, 3L),
+                new Tuple2<>(2L, 3L),
+                new Tuple2<>(3L, 0L), new Tuple2<>(3L, 4L)
+        );
+
+        Map<Long, Float> result = this.runPageRank(edges, 20);
+
+        assertRanks(this.computeReferenceRanks(edges, 20), result);
+    }
+
+    @Test
+    public void testSequentialAndParallelExecutionAgree() {
+        final Random random = new Random(42);
+        List<Tuple2<Long, Long>> edges = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            edges.add(new Tuple2<>((long) random.nextInt(1000) * 7, (long) random.nextInt(1000) * 7));
+        }
+
+        configuration.setProperty(JavaPageRankOperator.PARALLEL_KEY, "false");
+        final Map<Long, Float> sequentialResult;
+        try {
+            sequentialResult = this.runPageRank(edges, 10);
+        } finally {
+            configuration.setProperty(JavaPageRankOperator.PARALLEL_KEY, "true");
+        }
+        final Map<Long, Float> parallelResult = this.runPageRank(edges, 10);
+
+        Assert.assertEquals(sequentialResult.keySet(), parallelResult.keySet());
+        assertRanks(this.computeReferenceRanks(edges, 10), parallelResult);
+        sequentialResult.forEach((vertex, rank) -> Assert.assertEquals(rank, parallelResult.get(vertex), 1e-6f));
+    }
+
+    @Test
+    public void testConvergenceTolerance() {
+        List<Tuple2<Long, Long>> edges = Arrays.asList(
+                new Tuple2<>(0L, 1L), new Tuple2<>(1L, 2L), new Tuple2<>(2L, 0L), new Tuple2<>(2L, 1L)
+        );
+
+        // With a huge tolerance, the computation should stop after the first iteration.
+        configuration.setProperty(JavaPageRankOperator.TOLERANCE_KEY, "10");
+        final Map<Long, Float> result;
+        try {
+            result = this.runPageRank(edges, 50);
+        } finally {
+            configuration.setProperty(JavaPageRankOperator.TOLERANCE_KEY, "0");
+        }
+
+        assertRanks(this.computeReferenceRanks(edges, 1), result);
+    }
+
+    private Map<Long, Float> runPageRank(List<Tuple2<Long, Long>> edges, int numIterations) {
+        JavaPageRankOperator pageRankOperator = new JavaPageRankOperator(numIterations);
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(edges)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(pageRankOperator, inputs, outputs);
+
+        return outputs[0].<Tuple2<Long, Float>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+    }
+
+    /**
+     * Straight-forward PageRank implementation to compare against.
+     */
+    private Map<Long, Double> computeReferenceRanks(List<Tuple2<Long, Long>> edges, int numIterations) {
+        final double dampingFactor = 0.85;
+        TreeSet<Long> vertices = new TreeSet<>();
+        Map<Long, Integer> outDegrees = new HashMap<>();
+        for (Tuple2<Long, Long> edge : edges) {
+            vertices.add(edge.field0);
+            vertices.add(edge.field1);
+            outDegrees.merge(edge.field0, 1, Integer::sum);
+        }
+
+        Map<Long, Double> ranks = new HashMap<>();
+        vertices.forEach(vertex -> ranks.put(vertex, 1d / vertices.size()));
+        for (int iteration = 0; iteration < numIterations; iteration++) {
+            Map<Long, Double> newRanks = new HashMap<>();
+            vertices.forEach(vertex -> newRanks.put(vertex, (1 - dampingFactor) / vertices.size()));
+            for (Tuple2<Long, Long> edge : edges) {
+                newRanks.merge(edge.field1, dampingFactor * ranks.get(edge.field0) / outDegrees.get(edge.field0), Double::sum);
+            }
+            ranks.putAll(newRanks);
+        }
+        return ranks;
+    }
+
+    private static void assertRanks(Map<Long, Double> expectedRanks, Map<Long, Float> ranks) {
+        Assert.assertEquals(expectedRanks.keySet(), ranks.keySet());
+        expectedRanks.forEach((vertex, rank) -> Assert.assertEquals(rank, ranks.get(vertex), 1e-5));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaParquetSource}.
+ */
+public class JavaParquetSourceTest extends JavaExecutionOperatorTestBase {
+
+    private static final int NUM_ROWS = 10000;
+
+    private static File directory;
+
+    private static String inputUrl;
+
+    @BeforeClass
+    public static void writeParquetFile() throws IOException {
+        directory = Files.createTempDirectory("wayang-parquet").toFile();
+        final File file = new File(directory, "test.parquet");
+        inputUrl = file.toURI().toString();
+
+        final Schema schema = SchemaBuilder.record("test").fields()
+                .requiredLong("id")
+                .requiredString("name")
+                .optionalDouble("score")
+                .endRecord();
+        // Use tiny row groups, so that the file consists of many of them.
+        try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new Path(inputUrl))
+                .withSchema(schema)
+                .withRowGroupSize(1024)
+                .withPageSize(512)
+                .build()) {
+            for (long id = 0; id < NUM_ROWS; id++) {
+                final GenericRecord record = new GenericData.Record(schema);
+                record.put("id", id);
+                record.put("name", "name-" + (id % 10));
+                record.put("score", id % 2 == 0 ? null : id / 2d);
+                writer.write(record);
+            }
+        }
+    }
+
+    @AfterClass
+    public static void deleteParquetFile() {
+        final File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) file.delete();
+        }
+        directory.delete();
+    }
+
+    @Test
+    public void testReadingWithProjection() {
+        configuration.setProperty(JavaParquetSource.PARALLELISM_KEY, "1");
+        try {
+            final List<Record> result = this.read(new JavaParquetSource(inputUrl, new String[]{"score", "id"}));
+
+            Assert.assertEquals(NUM_ROWS, result.size());
+            for (int id = 0; id < NUM_ROWS; id++) {
+                // The columns are provided in the order of the file.
+                Assert.assertEquals(new Record((long) id, id % 2 == 0 ? null : id / 2d), result.get(id));
+            }
+        } finally {
+            configuration.setProperty(JavaParquetSource.PARALLELISM_KEY, "0");
+        }
+    }
+
+    @Test
+    public void testReadingWithFilterInParallel() {
+        configuration.setProperty(JavaParquetSource.PARALLELISM_KEY, "4");
+        try {
+            final JavaParquetSource source = new JavaParquetSource(
+                    inputUrl,
+                    new String[]{"name"},
+                    FilterApi.and(
+                            FilterApi.gtEq(FilterApi.longColumn("id"), 9000L),
+                            FilterApi.notEq(FilterApi.longColumn("id"), 9500L)
+                    )
+            );
+            final List<Record> result = this.read(source);
+
+            Assert.assertEquals(999, result.size());
+            for (int i = 0; i < result.size(); i++) {
+                final long id = i < 500 ? 9000 + i : 9001 + i;
+                Assert.assertEquals(new Record("name-" + (id % 10)), result.get(i));
+            }
+        } finally {
+            configuration.setProperty(JavaParquetSource.PARALLELISM_KEY, "0");
+        }
+    }
+
+    @Test
+    public void testReadingAllColumns() {
+        final List<Record> result = this.read(new JavaParquetSource(inputUrl, null));
+
+        Assert.assertEquals(NUM_ROWS, result.size());
+        Assert.assertEquals(new Record(7L, "name-7", 3.5d), result.get(7));
+    }
+
+    @Test
+    public void testReadingNestedColumns() throws IOException {
+        final String nestedInputUrl = new File(directory, "nested.parquet").toURI().toString();
+        final Schema schema = SchemaBuilder.record("nested").fields()
+                .requiredString("name")
+                .requiredBytes("payload")
+                .name("tags").type().array().items().stringType().noDefault()
+                .endRecord();
+        try (ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new Path(nestedInputUrl))
+                .withSchema(schema)
+                .build()) {
+            final GenericRecord record = new GenericData.Record(schema);
+            record.put("name", "a");
+            record.put("payload", ByteBuffer.wrap(new byte[]{1, 2}));
+            record.put("tags", Arrays.asList("x", "y"));
+            writer.write(record);
+        }
+
+        // Flat and nested schemas should yield the same Java types.
+        final Record flatRecord = this.read(new JavaParquetSource(nestedInputUrl, new String[]{"name", "payload"})).get(0);
+        final Record nestedRecord = this.read(new JavaParquetSource(nestedInputUrl, null)).get(0);
+        for (Record record : Arrays.asList(flatRecord, nestedRecord)) {
+            Assert.assertEquals("a", record.getField(0));
+            Assert.assertArrayEquals(new byte[]{1, 2}, (byte[]) record.getField(1));
+        }
+        Assert.assertEquals(Arrays.asList("x", "y"), nestedRecord.getField(2));
+    }
+
+    private List<Record> read(JavaParquetSource source) {
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, inputs, outputs);
+        return outputs[0].<Record>provideStream().collect(Collectors.toList());
+    }
+
+}
@@ -26,10 +26,17 @@ import org.apache.wayang.core.function.ReduceDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.SpillSettings;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -81,4 +88,127 @@ public class JavaReduceByOperatorTest extends JavaExecutionOperatorTestBase {
         Assert.assertEquals(expectedResults.length, result.size());
 
     }
+
+    @Test
+    public void testExecutionWithSpilling() throws IOException {
+        // Prepare test data.
+        Stream<Tuple2<Integer, Integer>> inputStream = IntStream.range(0, 10000)
+                .mapToObj(i -> new Tuple2<>(i % 1000, 1));
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator with a hash table of at most 100 entries.
+        configuration.setProperty(SpillSettings.ENABLED_KEY, "true");
+        configuration.setProperty(SpillSettings.MEMORY_BUDGET_KEY, "100");
+        configuration.setProperty(SpillSettings.BYTES_PER_QUANTUM_KEY, "1");
+        configuration.setProperty(SpillSettings.PARTITIONS_KEY, "4");
+        final File spillDirectory = Files.createTempDirectory("wayang-spill-test").toFile();
+        configuration.setProperty(SpillSettings.DIRECTORY_KEY, spillDirectory.getPath());
+        try {
+            evaluate(reduceByOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty(SpillSettings.ENABLED_KEY, "false");
+            configuration.setProperty(SpillSettings.DIRECTORY_KEY, System.getProperty("java.io.tmpdir"));
+        }
+        Assert.assertEquals(1, spillDirectory.list().length);
+
+        // Verify the outcome.
+        final List<Tuple2<Integer, Integer>> result =
+                outputs[0].<Tuple2<Integer, Integer>>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(1000, result.size());
+        Assert.assertEquals(1000, new HashSet<>(result).size());
+        result.forEach(tuple -> Assert.assertEquals(Integer.valueOf(10), tuple.field1));
+
+        // Disposing the output should remove the spilled result.
+        outputs[0].disposeIfUnreferenced();
+        Assert.assertEquals(0, spillDirectory.list().length);
+        Assert.assertTrue(spillDirectory.delete());
+    }
+
+    @Test
+    public void testExecutionWithNullReductions() {
+        // Prepare test data.
+        Stream<Tuple2<String, Integer>> inputStream = Arrays.stream("aabb".split(""))
+                .map(string -> new Tuple2<>(string, 1));
+
+        // Build the reduce operator, which yields null for the key "a".
+        JavaReduceByOperator<Tuple2<String, Integer>, String> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(String.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> a.field0.equals("a") ? null : new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator.
+        evaluate(reduceByOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Tuple2<String, Integer>> result =
+                outputs[0].<Tuple2<String, Integer>>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(2, result.size());
+        Assert.assertTrue(result.contains(null));
+        Assert.assertTrue(result.contains(new Tuple2<>("b", 2)));
+    }
+
+    @Test
+    public void testParallelExecution() {
+        // Prepare test data.
+        Stream<Tuple2<Integer, Integer>> inputStream = IntStream.range(0, 100000)
+                .mapToObj(i -> new Tuple2<>(i % 100, 1));
+
+        // Build the reduce operator.
+        JavaReduceByOperator<Tuple2<Integer, Integer>, Integer> reduceByOperator =
+                new JavaReduceByOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ReduceDescriptor<>(
+                                (a, b) -> new Tuple2<>(a.field0, a.field1 + b.field1),
+                                DataUnitType.createGroupedUnchecked(Tuple2.class),
+                                DataUnitType.createBasicUnchecked(Tuple2.class)
+                        ));
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute the reduce operator.
+        configuration.setProperty(JavaReduceByOperator.PARALLEL_KEY, "true");
+        try {
+            evaluate(reduceByOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty(JavaReduceByOperator.PARALLEL_KEY, "false");
+        }
+
+        // Verify the outcome.
+        final List<Tuple2<Integer, Integer>> result =
+                outputs[0].<Tuple2<Integer, Integer>>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(100, result.size());
+        result.forEach(tuple -> Assert.assertEquals(Integer.valueOf(1000), tuple.field1));
+    }
 }
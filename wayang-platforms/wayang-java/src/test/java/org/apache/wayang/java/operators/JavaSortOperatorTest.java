@@ -23,10 +23,15 @@ import org.junit.Test;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.SpillSettings;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -59,4 +64,37 @@ public class JavaSortOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExternalExecution() {
+        // Prepare test data.
+        final Random random = new Random(42);
+        final List<Integer> input = IntStream.range(0, 1000).mapToObj(i -> random.nextInt(500)).collect(Collectors.toList());
+
+        // Build the sort operator.
+        JavaSortOperator<Integer, Integer> sortOperator =
+                new JavaSortOperator<>(new TransformationDescriptor<Integer, Integer>(
+                        r->r,
+                        Integer.class, Integer.class),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute with runs of 64 data quanta.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(input.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        configuration.setProperty(SpillSettings.ENABLED_KEY, "true");
+        configuration.setProperty(SpillSettings.MEMORY_BUDGET_KEY, "64");
+        configuration.setProperty(SpillSettings.BYTES_PER_QUANTUM_KEY, "1");
+        try {
+            evaluate(sortOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty(SpillSettings.ENABLED_KEY, "false");
+        }
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        final List<Integer> expectedResult = new ArrayList<>(input);
+        Collections.sort(expectedResult);
+        Assert.assertEquals(expectedResult, result);
+    }
+
 }
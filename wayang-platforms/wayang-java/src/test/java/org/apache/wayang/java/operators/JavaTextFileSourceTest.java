@@ -36,15 +36,19 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -97,6 +101,51 @@ public class JavaTextFileSourceTest extends JavaExecutionOperatorTestBase {
         }
     }
 
+    @Test
+    public void testReadLocalFileInParallelSplits() throws IOException {
+        // Prepare a file with lines of varying lengths, CRLF line breaks, and no trailing line break.
+        final List<String> expectedLines = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            final String line = String.join("", Collections.nCopies(i % 17, "ä")) + i;
+            expectedLines.add(line);
+            sb.append(line).append(i % 5 == 0 ? "\r\n" : "\n");
+        }
+        sb.setLength(sb.length() - 1);
+        final File file = File.createTempFile("wayang-lines", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+
+        final List<String> plainLines = this.readInParallelSplits(LocalFileSystem.toURL(file));
+        Collections.sort(expectedLines);
+        Collections.sort(plainLines);
+        Assert.assertEquals(expectedLines, plainLines);
+
+        // Read the same file gzipped.
+        final File gzFile = File.createTempFile("wayang-lines", ".txt.gz");
+        gzFile.deleteOnExit();
+        try (OutputStream out = new GZIPOutputStream(new FileOutputStream(gzFile))) {
+            out.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        final List<String> gzLines = this.readInParallelSplits(LocalFileSystem.toURL(gzFile));
+        Collections.sort(gzLines);
+        Assert.assertEquals(expectedLines, gzLines);
+    }
+
+    private List<String> readInParallelSplits(String url) {
+        JavaTextFileSource source = new JavaTextFileSource(url);
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        configuration.setProperty(JavaTextFileSource.PARALLEL_KEY, "true");
+        configuration.setProperty(JavaTextFileSource.SPLIT_SIZE_KEY, "97");
+        try {
+            evaluate(source, inputs, outputs);
+        } finally {
+            configuration.setProperty(JavaTextFileSource.PARALLEL_KEY, "false");
+        }
+        return outputs[0].<String>provideStream().collect(Collectors.toList());
+    }
+
     // @Test
     /**
      * Requires a local HTTP Server running, in the project root ...
@@ -22,7 +22,9 @@ import org.junit.Before;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.ColumnarChannel;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.columnar.RecordBatch;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Collection;
@@ -66,4 +68,16 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static ColumnarChannel.Instance createColumnarChannelInstance(Configuration configuration) {
+        return (ColumnarChannel.Instance) ColumnarChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(executor, null, -1);
+    }
+
+    public static ColumnarChannel.Instance createColumnarChannelInstance(RecordBatch batch, Configuration configuration) {
+        ColumnarChannel.Instance instance = createColumnarChannelInstance(configuration);
+        instance.accept(batch);
+        return instance;
+    }
+
 }
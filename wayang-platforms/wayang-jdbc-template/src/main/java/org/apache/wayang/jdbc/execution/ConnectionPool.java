@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pools the {@link Connection}s to a database described by a {@link DatabaseDescriptor}. Instances are shared
+ * JVM-wide, i.e., across all {@link org.apache.wayang.core.api.Job}s, so that short queries do not have to pay for
+ * establishing a new connection each time.
+ * <p>The pool hands out proxies of its physical {@link Connection}s. Closing such a proxy returns the physical
+ * {@link Connection} to the pool (after rolling back open transactions and closing any {@link Statement}s that the
+ * borrower left open). Furthermore, each physical {@link Connection} keeps a bounded LRU cache of
+ * {@link PreparedStatement}s.</p>
+ * <p>All instances are {@link #closeAll() closed} when the JVM shuts down.</p>
+ */
+public class ConnectionPool {
+
+    /**
+     * Shared instances by their {@link DatabaseDescriptor}s.
+     */
+    private static final Map<DatabaseDescriptor, ConnectionPool> instances = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ConnectionPool::closeAll, "wayang-connection-pool-shutdown"));
+    }
+
+    /**
+     * Timeout in seconds to validate idle {@link Connection}s before handing them out again.
+     */
+    private static final int VALIDATION_TIMEOUT = 1;
+
+    private static final Logger logger = LogManager.getLogger(ConnectionPool.class);
+
+    /**
+     * Describes the database to which this instance connects.
+     */
+    private final DatabaseDescriptor databaseDescriptor;
+
+    /**
+     * Physical {@link Connection}s that are currently not in use.
+     */
+    private final Deque<PooledConnection> idleConnections = new ArrayDeque<>();
+
+    /**
+     * Tells whether this instance has been {@link #close() closed}, so that it must not take back any
+     * {@link Connection}s.
+     */
+    private boolean isClosed = false;
+
+    private final AtomicLong numCreatedConnections = new AtomicLong(),
+            numReusedConnections = new AtomicLong(),
+            numDiscardedConnections = new AtomicLong(),
+            numActiveConnections = new AtomicLong(),
+            numStatementCacheHits = new AtomicLong(),
+            numStatementCacheMisses = new AtomicLong();
+
+    /**
+     * Provides the shared instance for the given {@link DatabaseDescriptor}.
+     *
+     * @param databaseDescriptor describes the database and the pool settings
+     * @return the {@link ConnectionPool}
+     */
+    public static ConnectionPool of(DatabaseDescriptor databaseDescriptor) {
+        return instances.computeIfAbsent(databaseDescriptor, ConnectionPool::new);
+    }
+
+    /**
+     * Closes all idle {@link Connection}s of all shared instances and forgets about the instances.
+     */
+    public static void closeAll() {
+        for (DatabaseDescriptor databaseDescriptor : instances.keySet()) {
+            final ConnectionPool connectionPool = instances.remove(databaseDescriptor);
+            if (connectionPool != null) connectionPool.close();
+        }
+    }
+
+    private ConnectionPool(DatabaseDescriptor databaseDescriptor) {
+        this.databaseDescriptor = databaseDescriptor;
+    }
+
+    /**
+     * Provides a {@link Connection} from this pool. Once it is not needed anymore, it should be
+     * {@link Connection#close() closed}, which returns it to this pool.
+     *
+     * @return the {@link Connection}
+     */
+    public Connection getConnection() {
+        PooledConnection pooledConnection;
+        while ((pooledConnection = this.pollIdleConnection()) != null) {
+            if (pooledConnection.isValid()) {
+                this.numReusedConnections.incrementAndGet();
+                break;
+            }
+            this.numDiscardedConnections.incrementAndGet();
+            pooledConnection.closePhysically();
+        }
+        if (pooledConnection == null) {
+            pooledConnection = new PooledConnection(this.databaseDescriptor.createJdbcConnection());
+            this.numCreatedConnections.incrementAndGet();
+        }
+        this.numActiveConnections.incrementAndGet();
+        return pooledConnection.lease();
+    }
+
+    private synchronized PooledConnection pollIdleConnection() {
+        return this.idleConnections.pollLast();
+    }
+
+    /**
+     * Takes back a {@link PooledConnection} after its lease has ended.
+     *
+     * @param pooledConnection the {@link PooledConnection}
+     */
+    private void release(PooledConnection pooledConnection) {
+        this.numActiveConnections.decrementAndGet();
+        if (pooledConnection.reset()) {
+            synchronized (this) {
+                if (!this.isClosed && this.idleConnections.size() < this.databaseDescriptor.getMaxIdleConnections()) {
+                    this.idleConnections.addLast(pooledConnection);
+                    return;
+                }
+            }
+        }
+        this.numDiscardedConnections.incrementAndGet();
+        pooledConnection.closePhysically();
+    }
+
+    /**
+     * Closes all idle {@link Connection}s. Active {@link Connection}s are closed once they are returned.
+     */
+    private void close() {
+        final Collection<PooledConnection> connections;
+        synchronized (this) {
+            this.isClosed = true;
+            connections = new ArrayList<>(this.idleConnections);
+            this.idleConnections.clear();
+        }
+        connections.forEach(PooledConnection::closePhysically);
+    }
+
+    /**
+     * Captures the current state of this instance.
+     *
+     * @param id the ID for the {@link ConnectionPoolMeasurement}
+     * @return the {@link ConnectionPoolMeasurement}
+     */
+    public ConnectionPoolMeasurement measure(String id) {
+        final int numIdleConnections;
+        synchronized (this) {
+            numIdleConnections = this.idleConnections.size();
+        }
+        return new ConnectionPoolMeasurement(
+                id,
+                this.numCreatedConnections.get(),
+                this.numReusedConnections.get(),
+                this.numDiscardedConnections.get(),
+                this.numActiveConnections.get(),
+                numIdleConnections,
+                this.numStatementCacheHits.get(),
+                this.numStatementCacheMisses.get()
+        );
+    }
+
+    /**
+     * Wraps a physical {@link Connection} along with its {@link PreparedStatement} cache.
+     */
+    private class PooledConnection {
+
+        private final Connection connection;
+
+        /**
+         * Caches {@link PreparedStatement}s by their SQL and result set settings in LRU order.
+         */
+        private final LinkedHashMap<String, CachedStatement> statementCache;
+
+        private PooledConnection(Connection connection) {
+            this.connection = connection;
+            final int statementCacheSize = ConnectionPool.this.databaseDescriptor.getStatementCacheSize();
+            this.statementCache = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                    if (this.size() <= statementCacheSize) return false;
+                    if (!eldest.getValue().isInUse) closeQuietly(eldest.getValue().statement);
+                    else eldest.getValue().isEvicted = true;
+                    return true;
+                }
+            };
+        }
+
+        /**
+         * Hands out a new proxy for the {@link #connection}.
+         */
+        private Connection lease() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new Lease(this)
+            );
+        }
+
+        /**
+         * Provides a {@link PreparedStatement}, preferably from the {@link #statementCache}.
+         */
+        private PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency)
+                throws SQLException {
+            if (ConnectionPool.this.databaseDescriptor.getStatementCacheSize() <= 0) {
+                return null;
+            }
+            final String key = resultSetType + ":" + resultSetConcurrency + ":" + sql;
+            CachedStatement cachedStatement = this.statementCache.get(key);
+            if (cachedStatement != null && cachedStatement.isInUse) {
+                // The statement is still in use, so do not share it.
+                return null;
+            }
+            if (cachedStatement == null) {
+                ConnectionPool.this.numStatementCacheMisses.incrementAndGet();
+                cachedStatement = new CachedStatement(
+                        this.connection.prepareStatement(sql, resultSetType, resultSetConcurrency)
+                );
+                this.statementCache.put(key, cachedStatement);
+            } else {
+                ConnectionPool.this.numStatementCacheHits.incrementAndGet();
+            }
+            cachedStatement.isInUse = true;
+            return cachedStatement.createProxy();
+        }
+
+        private boolean isValid() {
+            try {
+                return this.connection.isValid(VALIDATION_TIMEOUT);
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Prepares the {@link #connection} for its next lease.
+         *
+         * @return whether the {@link #connection} can be reused
+         */
+        private boolean reset() {
+            try {
+                if (this.connection.isClosed()) return false;
+                if (!this.connection.getAutoCommit()) {
+                    this.connection.rollback();
+                    this.connection.setAutoCommit(true);
+                }
+                this.connection.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                logger.warn("Could not reset pooled connection to {}.", ConnectionPool.this.databaseDescriptor, e);
+                return false;
+            }
+        }
+
+        private void closePhysically() {
+            this.statementCache.values().forEach(cachedStatement -> closeQuietly(cachedStatement.statement));
+            this.statementCache.clear();
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                logger.warn("Could not close pooled connection to {}.", ConnectionPool.this.databaseDescriptor, e);
+            }
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} in the {@link PooledConnection#statementCache}.
+     */
+    private static class CachedStatement {
+
+        private final PreparedStatement statement;
+
+        /**
+         * Tells whether the {@link #statement} is currently handed out and whether it has been evicted meanwhile.
+         */
+        private boolean isInUse, isEvicted;
+
+        private CachedStatement(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        /**
+         * Creates a proxy for the {@link #statement} that, when being closed, returns it to the cache.
+         */
+        private PreparedStatement createProxy() {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new InvocationHandler() {
+
+                        private boolean isClosed = false;
+
+                        @Override
+                        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                            switch (method.getName()) {
+                                case "close":
+                                    if (!this.isClosed) {
+                                        this.isClosed = true;
+                                        CachedStatement.this.release();
+                                    }
+                                    return null;
+                                case "isClosed":
+                                    return this.isClosed || CachedStatement.this.statement.isClosed();
+                                case "equals":
+                                    return proxy == args[0];
+                                case "hashCode":
+                                    return System.identityHashCode(proxy);
+                                default:
+                                    if (this.isClosed) throw new SQLException("Statement has been closed.");
+                                    return invokeOn(CachedStatement.this.statement, method, args);
+                            }
+                        }
+                    }
+            );
+        }
+
+        private void release() throws SQLException {
+            this.isInUse = false;
+            if (this.isEvicted) {
+                this.statement.close();
+            } else {
+                this.statement.clearParameters();
+            }
+        }
+    }
+
+    /**
+     * Handles a single lease of a {@link PooledConnection}.
+     */
+    private class Lease implements InvocationHandler {
+
+        private final PooledConnection pooledConnection;
+
+        /**
+         * Keeps track of the {@link Statement}s that are not cached, so as to close them along with this instance.
+         */
+        private final Collection<Statement> statements = new ArrayList<>();
+
+        private boolean isClosed = false;
+
+        private Lease(PooledConnection pooledConnection) {
+            this.pooledConnection = pooledConnection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    this.close();
+                    return null;
+                case "isClosed":
+                    return this.isClosed || this.pooledConnection.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return String.format("%s[%s]", ConnectionPool.class.getSimpleName(), this.pooledConnection.connection);
+            }
+            if (this.isClosed) throw new SQLException("Connection has been returned to the pool.");
+
+            if (method.getName().equals("prepareStatement") && args[0] instanceof String
+                    && (args.length == 1 || args.length == 3 && args[1] instanceof Integer && args[2] instanceof Integer)) {
+                final PreparedStatement cachedStatement = this.pooledConnection.prepareStatement(
+                        (String) args[0],
+                        args.length == 1 ? ResultSet.TYPE_FORWARD_ONLY : (Integer) args[1],
+                        args.length == 1 ? ResultSet.CONCUR_READ_ONLY : (Integer) args[2]
+                );
+                if (cachedStatement != null) {
+                    this.statements.add(cachedStatement);
+                    return cachedStatement;
+                }
+            }
+
+            final Object result = invokeOn(this.pooledConnection.connection, method, args);
+            if (result instanceof Statement) {
+                this.statements.add((Statement) result);
+            }
+            return result;
+        }
+
+        private void close() {
+            if (this.isClosed) return;
+            this.isClosed = true;
+            this.statements.forEach(ConnectionPool::closeQuietly);
+            this.statements.clear();
+            ConnectionPool.this.release(this.pooledConnection);
+        }
+    }
+
+    /**
+     * Invokes a reflective {@link Method} call and unwraps any {@link InvocationTargetException}.
+     */
+    private static Object invokeOn(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            logger.debug("Could not close statement.", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.databaseDescriptor);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.wayang.commons.util.profiledb.model.Measurement;
+import org.apache.wayang.commons.util.profiledb.model.Type;
+
+/**
+ * This measurement captures the state of a {@link ConnectionPool}.
+ */
+@Type("jdbc-connection-pool")
+public class ConnectionPoolMeasurement extends Measurement {
+
+    /**
+     * Number of physical connections that have been established and number of times a pooled connection was reused.
+     */
+    private long numCreatedConnections, numReusedConnections;
+
+    /**
+     * Number of physical connections that have been closed because they were broken or exceeded the idle limit.
+     */
+    private long numDiscardedConnections;
+
+    /**
+     * Number of connections that are currently leased and idle, respectively.
+     */
+    private long numActiveConnections, numIdleConnections;
+
+    /**
+     * Number of prepared statements that were served from and added to the statement caches, respectively.
+     */
+    private long numStatementCacheHits, numStatementCacheMisses;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param id                      the ID of the instance
+     * @param numCreatedConnections   number of established physical connections
+     * @param numReusedConnections    number of reused pooled connections
+     * @param numDiscardedConnections number of closed physical connections
+     * @param numActiveConnections    number of currently leased connections
+     * @param numIdleConnections      number of currently idle connections
+     * @param numStatementCacheHits   number of prepared statements served from the caches
+     * @param numStatementCacheMisses number of prepared statements added to the caches
+     */
+    public ConnectionPoolMeasurement(String id,
+                                     long numCreatedConnections,
+                                     long numReusedConnections,
+                                     long numDiscardedConnections,
+                                     long numActiveConnections,
+                                     long numIdleConnections,
+                                     long numStatementCacheHits,
+                                     long numStatementCacheMisses) {
+        super(id);
+        this.numCreatedConnections = numCreatedConnections;
+        this.numReusedConnections = numReusedConnections;
+        this.numDiscardedConnections = numDiscardedConnections;
+        this.numActiveConnections = numActiveConnections;
+        this.numIdleConnections = numIdleConnections;
+        this.numStatementCacheHits = numStatementCacheHits;
+        this.numStatementCacheMisses = numStatementCacheMisses;
+    }
+
+    /**
+     * Deserialization constructor.
+     */
+    protected ConnectionPoolMeasurement() {
+    }
+
+    public long getNumCreatedConnections() {
+        return this.numCreatedConnections;
+    }
+
+    public long getNumReusedConnections() {
+        return this.numReusedConnections;
+    }
+
+    public long getNumDiscardedConnections() {
+        return this.numDiscardedConnections;
+    }
+
+    public long getNumActiveConnections() {
+        return this.numActiveConnections;
+    }
+
+    public long getNumIdleConnections() {
+        return this.numIdleConnections;
+    }
+
+    public long getNumStatementCacheHits() {
+        return this.numStatementCacheHits;
+    }
+
+    public long getNumStatementCacheMisses() {
+        return this.numStatementCacheMisses;
+    }
+}
@@ -20,18 +20,25 @@ package org.apache.wayang.jdbc.execution;
 
 import org.apache.wayang.core.api.exception.WayangException;
 
+import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.util.Objects;
 
 /**
  * This class describes a database.
  */
-public class DatabaseDescriptor {
+public class DatabaseDescriptor implements Serializable {
 
     private final String jdbcUrl, user, password, jdbcDriverClassName;
 
     /**
-     * Creates a new instance.
+     * Settings for the {@link ConnectionPool}; a non-positive {@link #maxIdleConnections} disables pooling.
+     */
+    private final int maxIdleConnections, statementCacheSize;
+
+    /**
+     * Creates a new instance without connection pooling.
      *
      * @param jdbcUrl             JDBC URL to the database
      * @param user                <i>optional</i> user name or {@code null}
@@ -40,10 +47,42 @@ public class DatabaseDescriptor {
      *                            required for {@link #createJdbcConnection()}
      */
     public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName) {
+        this(jdbcUrl, user, password, jdbcDriverClassName, 0, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param jdbcUrl             JDBC URL to the database
+     * @param user                <i>optional</i> user name or {@code null}
+     * @param password            <i>optional</i> password or {@code null}
+     * @param jdbcDriverClassName name of the JDBC driver {@link Class} to access the database;
+     *                            required for {@link #createJdbcConnection()}
+     * @param maxIdleConnections  maximum number of idle {@link Connection}s to keep in the {@link ConnectionPool} or
+     *                            {@code 0} to disable pooling
+     * @param statementCacheSize  maximum number of prepared statements to cache per pooled {@link Connection}
+     */
+    public DatabaseDescriptor(String jdbcUrl, String user, String password, String jdbcDriverClassName,
+                              int maxIdleConnections, int statementCacheSize) {
         this.jdbcUrl = jdbcUrl;
         this.user = user;
         this.password = password;
         this.jdbcDriverClassName = jdbcDriverClassName;
+        this.maxIdleConnections = maxIdleConnections;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Provides a {@link Connection} to the database described by this instance. If pooling is enabled, the
+     * {@link Connection} is taken from the shared {@link ConnectionPool} and returned to it when being closed.
+     * Otherwise, a new {@link Connection} is created.
+     *
+     * @return the {@link Connection}
+     */
+    public Connection getConnection() {
+        return this.maxIdleConnections > 0 ?
+                ConnectionPool.of(this).getConnection() :
+                this.createJdbcConnection();
     }
 
     /**
@@ -66,4 +105,36 @@ public class DatabaseDescriptor {
             ), e);
         }
     }
+
+    public int getMaxIdleConnections() {
+        return this.maxIdleConnections;
+    }
+
+    public int getStatementCacheSize() {
+        return this.statementCacheSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        DatabaseDescriptor that = (DatabaseDescriptor) o;
+        return this.maxIdleConnections == that.maxIdleConnections &&
+                this.statementCacheSize == that.statementCacheSize &&
+                Objects.equals(this.jdbcUrl, that.jdbcUrl) &&
+                Objects.equals(this.user, that.user) &&
+                Objects.equals(this.password, that.password) &&
+                Objects.equals(this.jdbcDriverClassName, that.jdbcDriverClassName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.jdbcUrl, this.user, this.password, this.jdbcDriverClassName,
+                this.maxIdleConnections, this.statementCacheSize);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s as %s]", this.getClass().getSimpleName(), this.jdbcUrl, this.user);
+    }
 }
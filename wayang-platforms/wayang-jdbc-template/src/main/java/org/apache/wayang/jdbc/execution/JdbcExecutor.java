@@ -63,6 +63,10 @@ public class JdbcExecutor extends ExecutorTemplate {
 
     private final JdbcPlatformTemplate platform;
 
+    private final Job job;
+
+    private final DatabaseDescriptor databaseDescriptor;
+
     private final Connection connection;
 
     private final Logger logger = LogManager.getLogger(this.getClass());
@@ -72,7 +76,9 @@ public class JdbcExecutor extends ExecutorTemplate {
     public JdbcExecutor(JdbcPlatformTemplate platform, Job job) {
         super(job.getCrossPlatformExecutor());
         this.platform = platform;
-        this.connection = this.platform.createDatabaseDescriptor(job.getConfiguration()).createJdbcConnection();
+        this.job = job;
+        this.databaseDescriptor = this.platform.createDatabaseDescriptor(job.getConfiguration());
+        this.connection = this.databaseDescriptor.getConnection();
     }
 
     @Override
@@ -232,6 +238,13 @@ public class JdbcExecutor extends ExecutorTemplate {
         } catch (SQLException e) {
             this.logger.error("Could not close JDBC connection to PostgreSQL correctly.", e);
         }
+
+        // Report the state of the connection pool, if any.
+        if (this.databaseDescriptor.getMaxIdleConnections() > 0 && this.job.getExperiment() != null) {
+            this.job.getExperiment().addMeasurement(
+                    ConnectionPool.of(this.databaseDescriptor).measure(this.platform.getPlatformId() + "-connection-pool")
+            );
+        }
     }
 
     @Override
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Splits a SQL query into sub-queries that select disjoint ranges of a numeric column, so that the query result can
+ * be extracted via multiple connections in parallel.
+ */
+public class QueryPartitioner {
+
+    /**
+     * Detects queries with an {@code ORDER BY} clause, whose order would be lost when splitting them.
+     */
+    private static final Pattern ORDER_BY_PATTERN = Pattern.compile("\\bORDER\\s+BY\\b", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * Numeric column of the query results to partition by or {@code null} if partitioning is disabled.
+     */
+    private final String column;
+
+    private final long rowsPerPartition;
+
+    private final int maxPartitions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param platform      whose queries should be partitioned
+     * @param configuration provides the partitioning settings of the {@code platform}
+     */
+    public QueryPartitioner(JdbcPlatformTemplate platform, Configuration configuration) {
+        this.column = configuration.getStringProperty(platform.jdbcPartitionColumnProperty, null);
+        this.rowsPerPartition = Math.max(1L, configuration.getLongProperty(platform.jdbcRowsPerPartitionProperty, 1000000L));
+        this.maxPartitions = (int) Math.max(1L, configuration.getLongProperty(platform.jdbcMaxPartitionsProperty, 8L));
+    }
+
+    /**
+     * Determines the number of partitions for a query result.
+     *
+     * @param cardinality the estimated number of result rows or {@code null} if unknown
+     * @return the number of partitions
+     */
+    public int getNumPartitions(CardinalityEstimate cardinality) {
+        if (this.column == null || cardinality == null) return 1;
+        final long numPartitions = (cardinality.getGeometricMeanEstimate() + this.rowsPerPartition - 1) / this.rowsPerPartition;
+        return (int) Math.max(1L, Math.min(this.maxPartitions, numPartitions));
+    }
+
+    /**
+     * Splits a SQL query into range-bounded sub-queries. The bounds are determined by querying the minimum and
+     * maximum value of the partitioning column. The first and last sub-query are open-ended, so that the sub-queries
+     * always cover the complete query result (including {@code NULL}s). Queries with an {@code ORDER BY} clause are
+     * not split.
+     *
+     * @param sqlQuery      the SQL query
+     * @param numPartitions the desired number of sub-queries
+     * @param connection    to query the bounds of the partitioning column
+     * @return the sub-queries
+     */
+    public List<String> partition(String sqlQuery, int numPartitions, Connection connection) {
+        if (this.column == null || numPartitions <= 1 || ORDER_BY_PATTERN.matcher(sqlQuery).find()) {
+            return Collections.singletonList(sqlQuery);
+        }
+
+        final String subquery = stripSemicolon(sqlQuery);
+        final long min, max;
+        try (PreparedStatement statement = connection.prepareStatement(String.format(
+                "SELECT MIN(%s), MAX(%s) FROM (%s) wayang_bounds;", this.column, this.column, subquery
+        )); ResultSet resultSet = statement.executeQuery()) {
+            if (!resultSet.next()) return Collections.singletonList(sqlQuery);
+            min = resultSet.getLong(1);
+            if (resultSet.wasNull()) return Collections.singletonList(sqlQuery);
+            max = resultSet.getLong(2);
+        } catch (SQLException e) {
+            throw new WayangException(String.format("Could not determine the bounds of %s in %s.", this.column, sqlQuery), e);
+        }
+
+        final long width = Math.max(1L, (max - min) / numPartitions + 1);
+        final List<String> partitionQueries = new ArrayList<>(numPartitions);
+        for (long lowerBound = min; lowerBound <= max; lowerBound += width) {
+            final boolean isFirst = lowerBound == min, isLast = max - lowerBound < width;
+            final String predicate;
+            if (isFirst && isLast) {
+                return Collections.singletonList(sqlQuery);
+            } else if (isFirst) {
+                predicate = String.format("%s < %d OR %s IS NULL", this.column, lowerBound + width, this.column);
+            } else if (isLast) {
+                predicate = String.format("%s >= %d", this.column, lowerBound);
+            } else {
+                predicate = String.format("%s >= %d AND %s < %d", this.column, lowerBound, this.column, lowerBound + width);
+            }
+            partitionQueries.add(String.format("SELECT * FROM (%s) wayang_partition WHERE %s;", subquery, predicate));
+            if (isLast) break;
+        }
+        LogManager.getLogger(this.getClass()).info("Split {} into {} partitions by {}.", sqlQuery, partitionQueries.size(), this.column);
+        return partitionQueries;
+    }
+
+    private static String stripSemicolon(String sqlQuery) {
+        String query = sqlQuery.trim();
+        while (query.endsWith(";")) {
+            query = query.substring(0, query.length() - 1).trim();
+        }
+        return query;
+    }
+
+}
@@ -78,7 +78,7 @@ public abstract class JdbcTableSource extends TableSource implements JdbcExecuti
                 // Establish a DB connection.
                 try (Connection connection = JdbcTableSource.this.getPlatform()
                         .createDatabaseDescriptor(optimizationContext.getConfiguration())
-                        .createJdbcConnection()) {
+                        .getConnection()) {
 
                     // Query the table cardinality.
                     final String sql = String.format("SELECT count(*) FROM %s;", JdbcTableSource.this.getTableName());
@@ -18,6 +18,7 @@
 
 package org.apache.wayang.jdbc.operators;
 
+import org.apache.logging.log4j.LogManager;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -30,12 +31,15 @@ import org.apache.wayang.core.util.JsonSerializable;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.core.util.json.WayangJsonObj;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
+import org.apache.wayang.jdbc.execution.DatabaseDescriptor;
+import org.apache.wayang.jdbc.execution.QueryPartitioner;
 import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 import org.apache.wayang.spark.operators.SparkExecutionOperator;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -79,19 +83,41 @@ public class SqlToRddOperator extends UnaryToUnaryOperator<Record, Record> imple
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
-                .createJdbcConnection();
-
-        Iterator<Record> resultSetIterator = new SqlToStreamOperator.ResultSetIterator(connection, input.getSqlQuery());
-        Iterable<Record> resultSetIterable = () -> resultSetIterator;
-
-        // Convert the ResultSet to a JavaRDD.
-        JavaRDD<Record> resultSetRDD = executor.sc.parallelize(
-                StreamSupport.stream(resultSetIterable.spliterator(), false).collect(Collectors.toList()),
-                executor.getNumDefaultPartitions()
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(executor.getConfiguration());
+        final int fetchSize = producerPlatform.getFetchSize(executor.getConfiguration());
+        final Connection connection = databaseDescriptor.getConnection();
+
+        // Split the query if the result is expected to be large enough.
+        final QueryPartitioner queryPartitioner = new QueryPartitioner(producerPlatform, executor.getConfiguration());
+        final List<String> sqlQueries = queryPartitioner.partition(
+                input.getSqlQuery(), queryPartitioner.getNumPartitions(operatorContext.getInputCardinality(0)), connection
         );
 
+        final JavaRDD<Record> resultSetRDD;
+        if (sqlQueries.size() == 1) {
+            Iterator<Record> resultSetIterator = new SqlToStreamOperator.ResultSetIterator(
+                    connection, sqlQueries.get(0), fetchSize
+            );
+            Iterable<Record> resultSetIterable = () -> resultSetIterator;
+
+            // Convert the ResultSet to a JavaRDD.
+            resultSetRDD = executor.sc.parallelize(
+                    StreamSupport.stream(resultSetIterable.spliterator(), false).collect(Collectors.toList()),
+                    executor.getNumDefaultPartitions()
+            );
+        } else {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LogManager.getLogger(this.getClass()).warn("Could not close connection.", e);
+            }
+
+            // Let each RDD partition extract its sub-query on its own connection.
+            resultSetRDD = executor.sc.parallelize(sqlQueries, sqlQueries.size()).flatMap(sqlQuery ->
+                    new SqlToStreamOperator.ResultSetIterator(databaseDescriptor.getConnection(), sqlQuery, fetchSize)
+            );
+        }
+
         output.accept(resultSetRDD, executor);
 
         // TODO: Add load profile estimators
@@ -37,25 +37,39 @@ import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 import org.apache.wayang.jdbc.channels.SqlQueryChannel;
+import org.apache.wayang.jdbc.execution.DatabaseDescriptor;
+import org.apache.wayang.jdbc.execution.QueryPartitioner;
 import org.apache.wayang.jdbc.platform.JdbcPlatformTemplate;
 import org.apache.logging.log4j.LogManager;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
- * This {@link Operator} converts {@link SqlQueryChannel}s to {@link StreamChannel}s.
+ * This {@link Operator} converts {@link SqlQueryChannel}s to {@link StreamChannel}s. If the producing
+ * {@link JdbcPlatformTemplate} is configured with a partitioning column, large query results are split via the
+ * {@link QueryPartitioner} and extracted via multiple connections. The sub-queries are executed concurrently in the
+ * background, but their results are provided sequentially in a single {@link Stream}.
  */
 public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> implements JavaExecutionOperator, JsonSerializable {
 
@@ -97,13 +111,27 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         final StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         JdbcPlatformTemplate producerPlatform = (JdbcPlatformTemplate) input.getChannel().getProducer().getPlatform();
-        final Connection connection = producerPlatform
-                .createDatabaseDescriptor(executor.getConfiguration())
-                .createJdbcConnection();
+        final DatabaseDescriptor databaseDescriptor = producerPlatform.createDatabaseDescriptor(executor.getConfiguration());
+        final int fetchSize = producerPlatform.getFetchSize(executor.getConfiguration());
+        final Connection connection = databaseDescriptor.getConnection();
 
-        Iterator<Record> resultSetIterator = new ResultSetIterator(connection, input.getSqlQuery());
-        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
-        Stream<Record> resultSetStream = StreamSupport.stream(resultSetSpliterator, false);
+        // Split the query if the result is expected to be large enough.
+        final QueryPartitioner queryPartitioner = new QueryPartitioner(producerPlatform, executor.getConfiguration());
+        final List<String> sqlQueries = queryPartitioner.partition(
+                input.getSqlQuery(), queryPartitioner.getNumPartitions(operatorContext.getInputCardinality(0)), connection
+        );
+
+        final Stream<Record> resultSetStream;
+        if (sqlQueries.size() == 1) {
+            resultSetStream = createResultSetStream(connection, sqlQueries.get(0), fetchSize);
+        } else {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LogManager.getLogger(this.getClass()).warn("Could not close connection.", e);
+            }
+            resultSetStream = createPartitionedResultSetStream(databaseDescriptor, sqlQueries, fetchSize);
+        }
 
         output.accept(resultSetStream);
 
@@ -123,6 +151,89 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
         return queryLineageNode.collectAndMark();
     }
 
+    /**
+     * Executes a SQL query and provides its result as a {@link Stream}.
+     *
+     * @param connection on which the query should be executed; is closed along with the {@link Stream}
+     * @param sqlQuery   the SQL query
+     * @param fetchSize  the number of rows to fetch per round trip or {@code 0} for the driver's default
+     * @return the {@link Stream}
+     */
+    private static Stream<Record> createResultSetStream(Connection connection, String sqlQuery, int fetchSize) {
+        ResultSetIterator resultSetIterator = new ResultSetIterator(connection, sqlQuery, fetchSize);
+        Spliterator<Record> resultSetSpliterator = Spliterators.spliteratorUnknownSize(resultSetIterator, 0);
+        return StreamSupport.stream(resultSetSpliterator, false).onClose(resultSetIterator::close);
+    }
+
+    /**
+     * Executes the partitions of a SQL query concurrently and concatenates their results in the order of the
+     * partitions into a sequential {@link Stream}.
+     *
+     * @param databaseDescriptor provides a {@link Connection} for each partition
+     * @param sqlQueries         the partitions of the SQL query
+     * @param fetchSize          the number of rows to fetch per round trip or {@code 0} for the driver's default
+     * @return the {@link Stream}
+     */
+    private static Stream<Record> createPartitionedResultSetStream(DatabaseDescriptor databaseDescriptor,
+                                                                   List<String> sqlQueries,
+                                                                   int fetchSize) {
+        final ExecutorService executor = Executors.newFixedThreadPool(sqlQueries.size(), runnable -> {
+            Thread thread = new Thread(runnable, "sql-partition-query");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final List<Future<ResultSetIterator>> partitions = sqlQueries.stream()
+                .map(sqlQuery -> executor.submit(() ->
+                        new ResultSetIterator(databaseDescriptor.getConnection(), sqlQuery, fetchSize)
+                ))
+                .collect(Collectors.toList());
+        executor.shutdown();
+
+        final Iterator<Record> iterator = new Iterator<Record>() {
+
+            private int nextPartition = 0;
+
+            private ResultSetIterator current;
+
+            @Override
+            public boolean hasNext() {
+                while ((this.current == null || !this.current.hasNext()) && this.nextPartition < partitions.size()) {
+                    this.current = awaitPartition(partitions.get(this.nextPartition++));
+                }
+                return this.current != null && this.current.hasNext();
+            }
+
+            @Override
+            public Record next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return this.current.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> {
+                    // Wait for the pending queries, so that their connections can be closed.
+                    for (Future<ResultSetIterator> partition : partitions) {
+                        try {
+                            awaitPartition(partition).close();
+                        } catch (WayangException e) {
+                            LogManager.getLogger(SqlToStreamOperator.class).warn("Could not close partition.", e);
+                        }
+                    }
+                });
+    }
+
+    private static ResultSetIterator awaitPartition(Future<ResultSetIterator> partition) {
+        try {
+            return partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WayangException("Interrupted while executing SQL.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof WayangException) throw (WayangException) e.getCause();
+            throw new WayangException("Could not execute SQL.", e.getCause());
+        }
+    }
+
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         return Collections.singletonList(this.jdbcPlatform.getSqlQueryChannelDescriptor());
@@ -142,32 +253,69 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
     }
 
     /**
-     * Exposes a {@link ResultSet} as an {@link Iterator}.
+     * Exposes a {@link ResultSet} as an {@link Iterator}. The {@link ResultSetMetaData} are resolved only once to set up
+     * typed readers for the single columns. With a positive fetch size, the query is run in a transaction, so that
+     * drivers such as PostgreSQL's stream the result via a cursor rather than materializing it client-side.
      */
     public static class ResultSetIterator implements Iterator<Record>, AutoCloseable {
 
+        /**
+         * The {@link Connection} on which the query is executed. It is closed along with this instance.
+         */
+        private Connection connection;
+
+        /**
+         * Keeps around the {@link Statement} of the SQL query.
+         */
+        private Statement statement;
+
         /**
          * Keeps around the {@link ResultSet} of the SQL query.
          */
         private ResultSet resultSet;
 
+        /**
+         * Read the columns of the {@link #resultSet}.
+         */
+        private ColumnReader[] columnReaders;
+
         /**
          * The next {@link Record} to be delivered via {@link #next()}.
          */
         private Record next;
 
         /**
-         * Creates a new instance.
+         * Creates a new instance that uses the driver's default fetch size.
          *
          * @param connection the JDBC connection on which to execute a SQL query
          * @param sqlQuery   the SQL query
          */
         ResultSetIterator(Connection connection, String sqlQuery) {
+            this(connection, sqlQuery, 0);
+        }
+
+        /**
+         * Creates a new instance.
+         *
+         * @param connection the JDBC connection on which to execute a SQL query
+         * @param sqlQuery   the SQL query
+         * @param fetchSize  the number of rows to fetch per round trip or {@code 0} for the driver's default
+         */
+        ResultSetIterator(Connection connection, String sqlQuery, int fetchSize) {
+            this.connection = connection;
             try {
-                //connection.setAutoCommit(false);
-                Statement st = connection.createStatement();
-                //st.setFetchSize(100000000);
-                this.resultSet = st.executeQuery(sqlQuery);
+                if (fetchSize > 0) {
+                    connection.setAutoCommit(false);
+                }
+                final PreparedStatement preparedStatement = connection.prepareStatement(
+                        sqlQuery, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY
+                );
+                this.statement = preparedStatement;
+                if (fetchSize > 0) {
+                    preparedStatement.setFetchSize(fetchSize);
+                }
+                this.resultSet = preparedStatement.executeQuery();
+                this.columnReaders = createColumnReaders(this.resultSet.getMetaData());
             } catch (SQLException e) {
                 this.close();
                 throw new WayangException("Could not execute SQL.", e);
@@ -175,6 +323,54 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
             this.moveToNext();
         }
 
+        /**
+         * Creates a {@link ColumnReader} for each column as described by the given {@link ResultSetMetaData}.
+         */
+        private static ColumnReader[] createColumnReaders(ResultSetMetaData metaData) throws SQLException {
+            final ColumnReader[] columnReaders = new ColumnReader[metaData.getColumnCount()];
+            for (int i = 0; i < columnReaders.length; i++) {
+                switch (metaData.getColumnType(i + 1)) {
+                    // Types.INTEGER is read via getObject(...), because some drivers (e.g., SQLite's) report it
+                    // also for 64-bit values.
+                    case Types.BIGINT:
+                        columnReaders[i] = (resultSet, column) -> {
+                            final long value = resultSet.getLong(column);
+                            return resultSet.wasNull() ? null : value;
+                        };
+                        break;
+                    case Types.DOUBLE:
+                    case Types.FLOAT:
+                        columnReaders[i] = (resultSet, column) -> {
+                            final double value = resultSet.getDouble(column);
+                            return resultSet.wasNull() ? null : value;
+                        };
+                        break;
+                    case Types.REAL:
+                        columnReaders[i] = (resultSet, column) -> {
+                            final float value = resultSet.getFloat(column);
+                            return resultSet.wasNull() ? null : value;
+                        };
+                        break;
+                    case Types.BOOLEAN:
+                        columnReaders[i] = (resultSet, column) -> {
+                            final boolean value = resultSet.getBoolean(column);
+                            return resultSet.wasNull() ? null : value;
+                        };
+                        break;
+                    case Types.CHAR:
+                    case Types.VARCHAR:
+                    case Types.LONGVARCHAR:
+                    case Types.NCHAR:
+                    case Types.NVARCHAR:
+                        columnReaders[i] = ResultSet::getString;
+                        break;
+                    default:
+                        columnReaders[i] = ResultSet::getObject;
+                }
+            }
+            return columnReaders;
+        }
+
         /**
          * Moves this instance to the next {@link Record}.
          */
@@ -184,10 +380,9 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
                     this.next = null;
                     this.close();
                 } else {
-                    final int recordWidth = this.resultSet.getMetaData().getColumnCount();
-                    Object[] values = new Object[recordWidth];
-                    for (int i = 0; i < recordWidth; i++) {
-                        values[i] = this.resultSet.getObject(i + 1);
+                    Object[] values = new Object[this.columnReaders.length];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = this.columnReaders[i].read(this.resultSet, i + 1);
                     }
                     this.next = new Record(values);
                 }
@@ -221,6 +416,34 @@ public class SqlToStreamOperator extends UnaryToUnaryOperator<Record, Record> im
                     this.resultSet = null;
                 }
             }
+            if (this.statement != null) {
+                try {
+                    this.statement.close();
+                } catch (Throwable t) {
+                    LogManager.getLogger(this.getClass()).error("Could not close statement.", t);
+                } finally {
+                    this.statement = null;
+                }
+            }
+            if (this.connection != null) {
+                try {
+                    this.connection.close();
+                } catch (Throwable t) {
+                    LogManager.getLogger(this.getClass()).error("Could not close connection.", t);
+                } finally {
+                    this.connection = null;
+                }
+            }
+        }
+
+        /**
+         * Reads a single column value of the current row of a {@link ResultSet}.
+         */
+        @FunctionalInterface
+        private interface ColumnReader {
+
+            Object read(ResultSet resultSet, int column) throws SQLException;
+
         }
     }
 
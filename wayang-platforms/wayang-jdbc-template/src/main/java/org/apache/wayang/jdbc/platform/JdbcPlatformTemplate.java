@@ -47,6 +47,18 @@ public abstract class JdbcPlatformTemplate extends Platform {
 
     public final String jdbcPasswordProperty = String.format("wayang.%s.jdbc.password", this.getPlatformId());
 
+    public final String jdbcFetchSizeProperty = String.format("wayang.%s.jdbc.fetch-size", this.getPlatformId());
+
+    public final String jdbcPartitionColumnProperty = String.format("wayang.%s.jdbc.partition-column", this.getPlatformId());
+
+    public final String jdbcRowsPerPartitionProperty = String.format("wayang.%s.jdbc.rows-per-partition", this.getPlatformId());
+
+    public final String jdbcMaxPartitionsProperty = String.format("wayang.%s.jdbc.max-partitions", this.getPlatformId());
+
+    public final String jdbcPoolMaxIdleProperty = String.format("wayang.%s.jdbc.pool.max-idle", this.getPlatformId());
+
+    public final String jdbcStatementCacheSizeProperty = String.format("wayang.%s.jdbc.pool.statement-cache-size", this.getPlatformId());
+
     private String getDefaultConfigurationFile() {
         return String.format("wayang-%s-defaults.properties", this.getPlatformId());
     }
@@ -121,6 +133,17 @@ public abstract class JdbcPlatformTemplate extends Platform {
         return this.sqlQueryChannelDescriptor;
     }
 
+    /**
+     * Determines the number of rows to fetch per round trip when reading query results from this instance. A positive
+     * value lets the results be streamed through a cursor.
+     *
+     * @param configuration provides the fetch size
+     * @return the fetch size or {@code 0} to use the JDBC driver's default
+     */
+    public int getFetchSize(Configuration configuration) {
+        return (int) configuration.getLongProperty(this.jdbcFetchSizeProperty, 0L);
+    }
+
     /**
      * Creates a new {@link DatabaseDescriptor} for this instance and the given {@link Configuration}.
      *
@@ -132,7 +155,9 @@ public abstract class JdbcPlatformTemplate extends Platform {
                 configuration.getStringProperty(this.jdbcUrlProperty),
                 configuration.getStringProperty(this.jdbcUserProperty, null),
                 configuration.getStringProperty(this.jdbcPasswordProperty, null),
-                this.getJdbcDriverClassName()
+                this.getJdbcDriverClassName(),
+                (int) configuration.getLongProperty(this.jdbcPoolMaxIdleProperty, 8L),
+                (int) configuration.getLongProperty(this.jdbcStatementCacheSizeProperty, 32L)
         );
     }
 }
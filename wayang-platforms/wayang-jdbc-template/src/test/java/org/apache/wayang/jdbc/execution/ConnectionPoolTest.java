@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.jdbc.execution;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Test suite for {@link ConnectionPool}.
+ */
+public class ConnectionPoolTest {
+
+    private final DatabaseDescriptor databaseDescriptor = new DatabaseDescriptor(
+            "jdbc:hsqldb:mem:ConnectionPoolTest", null, null, org.hsqldb.jdbcDriver.class.getName(), 1, 2
+    );
+
+    @After
+    public void tearDown() {
+        ConnectionPool.closeAll();
+    }
+
+    @Test
+    public void testConnectionsAreReused() throws SQLException {
+        try (Connection connection = this.databaseDescriptor.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.createStatement().execute("CREATE TABLE testConnectionsAreReused (a INT);");
+        }
+        try (Connection connection = this.databaseDescriptor.getConnection()) {
+            Assert.assertTrue(connection.getAutoCommit());
+        }
+
+        // Exceed the maximum number of idle connections.
+        Connection connection1 = this.databaseDescriptor.getConnection();
+        Connection connection2 = this.databaseDescriptor.getConnection();
+        connection1.close();
+        connection2.close();
+        Assert.assertTrue(connection1.isClosed());
+
+        final ConnectionPoolMeasurement measurement = ConnectionPool.of(this.databaseDescriptor).measure("test");
+        Assert.assertEquals(2, measurement.getNumCreatedConnections());
+        Assert.assertEquals(2, measurement.getNumReusedConnections());
+        Assert.assertEquals(1, measurement.getNumDiscardedConnections());
+        Assert.assertEquals(0, measurement.getNumActiveConnections());
+        Assert.assertEquals(1, measurement.getNumIdleConnections());
+    }
+
+    @Test
+    public void testConnectionsAreClosedAfterClosingThePool() throws SQLException {
+        final ConnectionPool connectionPool = ConnectionPool.of(this.databaseDescriptor);
+        this.databaseDescriptor.getConnection().close();
+        Connection connection = this.databaseDescriptor.getConnection();
+        ConnectionPool.closeAll();
+
+        // The active connection must not be pooled anymore once it is returned.
+        connection.close();
+        final ConnectionPoolMeasurement measurement = connectionPool.measure("test");
+        Assert.assertEquals(1, measurement.getNumDiscardedConnections());
+        Assert.assertEquals(0, measurement.getNumIdleConnections());
+        Assert.assertNotSame(connectionPool, ConnectionPool.of(this.databaseDescriptor));
+    }
+
+    @Test
+    public void testPreparedStatementsAreCached() throws SQLException {
+        final String sql = "SELECT COUNT(*) FROM INFORMATION_SCHEMA.SYSTEM_USERS WHERE USER_NAME <> ?;";
+        for (int i = 0; i < 3; i++) {
+            try (Connection connection = this.databaseDescriptor.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, "nobody");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    Assert.assertTrue(resultSet.next());
+                }
+
+                // The cached statement is still in use, so this one must be a different one.
+                try (PreparedStatement statement2 = connection.prepareStatement(sql)) {
+                    Assert.assertNotSame(statement, statement2);
+                }
+            }
+        }
+
+        final ConnectionPoolMeasurement measurement = ConnectionPool.of(this.databaseDescriptor).measure("test");
+        Assert.assertEquals(1, measurement.getNumStatementCacheMisses());
+        Assert.assertEquals(2, measurement.getNumStatementCacheHits());
+    }
+}
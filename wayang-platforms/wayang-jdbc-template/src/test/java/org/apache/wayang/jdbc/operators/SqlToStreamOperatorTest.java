@@ -25,6 +25,7 @@ import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.function.PredicateDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
@@ -39,12 +40,21 @@ import org.apache.wayang.jdbc.test.HsqldbFilterOperator;
 import org.apache.wayang.jdbc.test.HsqldbPlatform;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -115,6 +125,213 @@ public class SqlToStreamOperatorTest extends OperatorTestBase {
         Assert.assertEquals(expected, output);
     }
 
+    @Test
+    public void testWithHsqldbAndFetchSize() throws SQLException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(HsqldbPlatform.getInstance().jdbcFetchSizeProperty, "2");
+
+        Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+
+        CrossPlatformExecutor cpe = new CrossPlatformExecutor(job, new FullInstrumentationStrategy());
+        when(job.getCrossPlatformExecutor()).thenReturn(cpe);
+        final JavaExecutor javaExecutor = new JavaExecutor(JavaPlatform.getInstance(), job);
+
+        HsqldbPlatform hsqldbPlatform = new HsqldbPlatform();
+
+        // Create some test data.
+        try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+            final Statement statement = jdbcConnection.createStatement();
+            statement.execute("CREATE TABLE testWithHsqldbAndFetchSize (a INT, b VARCHAR(6), c BIGINT, d DOUBLE);");
+            statement.execute("INSERT INTO testWithHsqldbAndFetchSize VALUES (0, 'zero', 10, 0.5);");
+            statement.execute("INSERT INTO testWithHsqldbAndFetchSize VALUES (1, 'one', NULL, 1.5);");
+            statement.execute("INSERT INTO testWithHsqldbAndFetchSize VALUES (NULL, NULL, 12, NULL);");
+        }
+
+        final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                new PredicateDescriptor<>(x -> false, Record.class)
+        );
+        final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                HsqldbPlatform.getInstance().getSqlQueryChannelDescriptor(),
+                filterOperator.getOutput(0)
+        );
+        SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                hsqldbPlatform.createExecutor(job),
+                mock(OptimizationContext.OperatorContext.class),
+                0
+        );
+        sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testWithHsqldbAndFetchSize;");
+        ExecutionTask producer = new ExecutionTask(filterOperator);
+        producer.setOutputChannel(0, sqlQueryChannel);
+
+        StreamChannel.Instance streamChannelInstance =
+                new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                        javaExecutor,
+                        mock(OptimizationContext.OperatorContext.class),
+                        0
+                );
+
+        SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(HsqldbPlatform.getInstance());
+        evaluate(
+                sqlToStreamOperator,
+                new ChannelInstance[]{sqlQueryChannelInstance},
+                new ChannelInstance[]{streamChannelInstance}
+        );
+
+        List<Record> output = streamChannelInstance.<Record>provideStream().collect(Collectors.toList());
+        List<Record> expected = Arrays.asList(
+                new Record(0, "zero", 10L, 0.5d),
+                new Record(1, "one", null, 1.5d),
+                new Record(null, null, 12L, null)
+        );
+
+        Assert.assertEquals(expected, output);
+    }
+
+    @Test
+    public void testWithHsqldbAndPartitioning() throws SQLException {
+        final HsqldbPlatform hsqldbPlatform = HsqldbPlatform.getInstance();
+        configuration.setProperty(hsqldbPlatform.jdbcPartitionColumnProperty, "a");
+        configuration.setProperty(hsqldbPlatform.jdbcRowsPerPartitionProperty, "3");
+        configuration.setProperty(hsqldbPlatform.jdbcMaxPartitionsProperty, "4");
+        try {
+            final JavaExecutor javaExecutor = createJavaExecutor();
+
+            // Create some test data.
+            try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+                final Statement statement = jdbcConnection.createStatement();
+                statement.execute("CREATE TABLE testWithHsqldbAndPartitioning (a INT, b VARCHAR(6));");
+                for (int i = 0; i < 10; i++) {
+                    statement.execute(String.format("INSERT INTO testWithHsqldbAndPartitioning VALUES (%d, 'r%d');", i, i));
+                }
+                statement.execute("INSERT INTO testWithHsqldbAndPartitioning VALUES (NULL, 'null');");
+            }
+
+            final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                    new PredicateDescriptor<>(x -> false, Record.class)
+            );
+            final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                    hsqldbPlatform.getSqlQueryChannelDescriptor(),
+                    filterOperator.getOutput(0)
+            );
+            SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                    hsqldbPlatform.createExecutor(javaExecutor.getJob()),
+                    mock(OptimizationContext.OperatorContext.class),
+                    0
+            );
+            sqlQueryChannelInstance.setSqlQuery("SELECT * FROM testWithHsqldbAndPartitioning;");
+            ExecutionTask producer = new ExecutionTask(filterOperator);
+            producer.setOutputChannel(0, sqlQueryChannel);
+
+            StreamChannel.Instance streamChannelInstance =
+                    new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                            javaExecutor,
+                            mock(OptimizationContext.OperatorContext.class),
+                            0
+                    );
+
+            // Pretend that the query yields enough rows to be split.
+            final OptimizationContext.OperatorContext operatorContext = mock(OptimizationContext.OperatorContext.class);
+            when(operatorContext.getInputCardinality(0)).thenReturn(new CardinalityEstimate(11, 11, 1d));
+
+            SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(hsqldbPlatform);
+            sqlToStreamOperator.evaluate(
+                    new ChannelInstance[]{sqlQueryChannelInstance},
+                    new ChannelInstance[]{streamChannelInstance},
+                    javaExecutor,
+                    operatorContext
+            );
+
+            List<Record> output;
+            try (Stream<Record> stream = streamChannelInstance.provideStream()) {
+                Assert.assertFalse(stream.isParallel());
+                output = stream.collect(Collectors.toList());
+            }
+            List<Record> expected = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                expected.add(new Record(i, "r" + i));
+            }
+            expected.add(new Record(null, "null"));
+
+            Assert.assertEquals(expected.size(), output.size());
+            Assert.assertEquals(new HashSet<>(expected), new HashSet<>(output));
+        } finally {
+            configuration = new Configuration();
+        }
+    }
+
+    @Test
+    public void testWithHsqldbAndPartitioningOfOrderedQuery() throws SQLException {
+        final HsqldbPlatform hsqldbPlatform = HsqldbPlatform.getInstance();
+        configuration.setProperty(hsqldbPlatform.jdbcPartitionColumnProperty, "a");
+        configuration.setProperty(hsqldbPlatform.jdbcRowsPerPartitionProperty, "3");
+        configuration.setProperty(hsqldbPlatform.jdbcMaxPartitionsProperty, "4");
+        try {
+            final JavaExecutor javaExecutor = createJavaExecutor();
+
+            // Create some test data.
+            try (Connection jdbcConnection = hsqldbPlatform.createDatabaseDescriptor(configuration).createJdbcConnection()) {
+                final Statement statement = jdbcConnection.createStatement();
+                statement.execute("CREATE TABLE testWithHsqldbAndPartitioningOfOrderedQuery (a INT, b VARCHAR(6));");
+                for (int i = 0; i < 10; i++) {
+                    statement.execute(String.format(
+                            "INSERT INTO testWithHsqldbAndPartitioningOfOrderedQuery VALUES (%d, 'r%d');", i, i
+                    ));
+                }
+            }
+
+            final ExecutionOperator filterOperator = new HsqldbFilterOperator(
+                    new PredicateDescriptor<>(x -> false, Record.class)
+            );
+            final SqlQueryChannel sqlQueryChannel = new SqlQueryChannel(
+                    hsqldbPlatform.getSqlQueryChannelDescriptor(),
+                    filterOperator.getOutput(0)
+            );
+            SqlQueryChannel.Instance sqlQueryChannelInstance = sqlQueryChannel.createInstance(
+                    hsqldbPlatform.createExecutor(javaExecutor.getJob()),
+                    mock(OptimizationContext.OperatorContext.class),
+                    0
+            );
+            sqlQueryChannelInstance.setSqlQuery(
+                    "SELECT * FROM testWithHsqldbAndPartitioningOfOrderedQuery ORDER BY a DESC;"
+            );
+            ExecutionTask producer = new ExecutionTask(filterOperator);
+            producer.setOutputChannel(0, sqlQueryChannel);
+
+            StreamChannel.Instance streamChannelInstance =
+                    new StreamChannel(StreamChannel.DESCRIPTOR, mock(OutputSlot.class)).createInstance(
+                            javaExecutor,
+                            mock(OptimizationContext.OperatorContext.class),
+                            0
+                    );
+
+            // Pretend that the query yields enough rows to be split.
+            final OptimizationContext.OperatorContext operatorContext = mock(OptimizationContext.OperatorContext.class);
+            when(operatorContext.getInputCardinality(0)).thenReturn(new CardinalityEstimate(10, 10, 1d));
+
+            SqlToStreamOperator sqlToStreamOperator = new SqlToStreamOperator(hsqldbPlatform);
+            sqlToStreamOperator.evaluate(
+                    new ChannelInstance[]{sqlQueryChannelInstance},
+                    new ChannelInstance[]{streamChannelInstance},
+                    javaExecutor,
+                    operatorContext
+            );
+
+            List<Record> output;
+            try (Stream<Record> stream = streamChannelInstance.provideStream()) {
+                output = stream.collect(Collectors.toList());
+            }
+            List<Record> expected = new ArrayList<>();
+            for (int i = 9; i >= 0; i--) {
+                expected.add(new Record(i, "r" + i));
+            }
+
+            Assert.assertEquals(expected, output);
+        } finally {
+            configuration = new Configuration();
+        }
+    }
+
     @Test
     public void testWithEmptyHsqldb() throws SQLException {
         Configuration configuration = new Configuration();
@@ -168,4 +385,27 @@ public class SqlToStreamOperatorTest extends OperatorTestBase {
         Assert.assertTrue(output.isEmpty());
     }
 
+    @Test
+    public void testReadingWideIntegerColumns() throws SQLException {
+        // Some drivers, e.g., SQLite's, report Types.INTEGER also for 64-bit values.
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        final ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getObject(1)).thenReturn(Long.MAX_VALUE, 1);
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        final Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+
+        final SqlToStreamOperator.ResultSetIterator iterator =
+                new SqlToStreamOperator.ResultSetIterator(connection, "SELECT a FROM wide;");
+        List<Record> output = new ArrayList<>();
+        iterator.forEachRemaining(output::add);
+
+        Assert.assertEquals(Arrays.asList(new Record(Long.MAX_VALUE), new Record(1)), output);
+    }
+
 }
@@ -48,6 +48,24 @@ public class ChannelConversions {
             () -> new SparkCacheOperator<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion UNCACHED_RDD_TO_SERIALIZED_CACHED_RDD = new DefaultChannelConversion(
+            RddChannel.UNCACHED_DESCRIPTOR,
+            RddChannel.SERIALIZED_CACHED_DESCRIPTOR,
+            () -> new SparkCacheOperator<>(DataSetType.createDefault(Void.class), RddChannel.SERIALIZED_CACHED_DESCRIPTOR)
+    );
+
+    public static final ChannelConversion UNCACHED_RDD_TO_MEMORY_AND_DISK_CACHED_RDD = new DefaultChannelConversion(
+            RddChannel.UNCACHED_DESCRIPTOR,
+            RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR,
+            () -> new SparkCacheOperator<>(DataSetType.createDefault(Void.class), RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR)
+    );
+
+    public static final ChannelConversion UNCACHED_RDD_TO_OFF_HEAP_CACHED_RDD = new DefaultChannelConversion(
+            RddChannel.UNCACHED_DESCRIPTOR,
+            RddChannel.OFF_HEAP_CACHED_DESCRIPTOR,
+            () -> new SparkCacheOperator<>(DataSetType.createDefault(Void.class), RddChannel.OFF_HEAP_CACHED_DESCRIPTOR)
+    );
+
     public static final ChannelConversion COLLECTION_TO_BROADCAST = new DefaultChannelConversion(
             CollectionChannel.DESCRIPTOR,
             BroadcastChannel.DESCRIPTOR,
@@ -72,6 +90,24 @@ public class ChannelConversions {
             () -> new SparkCollectOperator<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion SERIALIZED_CACHED_RDD_TO_COLLECTION = new DefaultChannelConversion(
+            RddChannel.SERIALIZED_CACHED_DESCRIPTOR,
+            CollectionChannel.DESCRIPTOR,
+            () -> new SparkCollectOperator<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion MEMORY_AND_DISK_CACHED_RDD_TO_COLLECTION = new DefaultChannelConversion(
+            RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR,
+            CollectionChannel.DESCRIPTOR,
+            () -> new SparkCollectOperator<>(DataSetType.createDefault(Void.class))
+    );
+
+    public static final ChannelConversion OFF_HEAP_CACHED_RDD_TO_COLLECTION = new DefaultChannelConversion(
+            RddChannel.OFF_HEAP_CACHED_DESCRIPTOR,
+            CollectionChannel.DESCRIPTOR,
+            () -> new SparkCollectOperator<>(DataSetType.createDefault(Void.class))
+    );
+
     public static final ChannelConversion CACHED_RDD_TO_HDFS_TSV = new DefaultChannelConversion(
             RddChannel.CACHED_DESCRIPTOR,
             FileChannel.HDFS_TSV_DESCRIPTOR,
@@ -110,10 +146,16 @@ public class ChannelConversions {
 
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             UNCACHED_RDD_TO_CACHED_RDD,
+            UNCACHED_RDD_TO_SERIALIZED_CACHED_RDD,
+            UNCACHED_RDD_TO_MEMORY_AND_DISK_CACHED_RDD,
+            UNCACHED_RDD_TO_OFF_HEAP_CACHED_RDD,
             COLLECTION_TO_BROADCAST,
             COLLECTION_TO_UNCACHED_RDD,
             UNCACHED_RDD_TO_COLLECTION,
             CACHED_RDD_TO_COLLECTION,
+            SERIALIZED_CACHED_RDD_TO_COLLECTION,
+            MEMORY_AND_DISK_CACHED_RDD_TO_COLLECTION,
+            OFF_HEAP_CACHED_RDD_TO_COLLECTION,
             CACHED_RDD_TO_HDFS_OBJECT_FILE,
             UNCACHED_RDD_TO_HDFS_OBJECT_FILE,
             HDFS_OBJECT_FILE_TO_UNCACHED_RDD,
@@ -20,6 +20,7 @@ package org.apache.wayang.spark.channels;
 
 import org.apache.spark.util.AccumulatorV2;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.storage.StorageLevel;
 import org.apache.spark.util.LongAccumulator;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -32,6 +33,9 @@ import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.util.Actions;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.OptionalLong;
 
 /**
@@ -44,13 +48,52 @@ public class RddChannel extends Channel {
             RddChannel.class, false, false
     );
 
-    public static final ChannelDescriptor CACHED_DESCRIPTOR = new ChannelDescriptor(
-            RddChannel.class, true, true
+    /**
+     * Keeps the {@link JavaRDD} deserialized in memory; evicted partitions are recomputed.
+     */
+    public static final CachedDescriptor CACHED_DESCRIPTOR = new CachedDescriptor(
+            StorageLevel.MEMORY_ONLY(), "memory"
+    );
+
+    /**
+     * Keeps the {@link JavaRDD} serialized in memory; evicted partitions are recomputed.
+     */
+    public static final CachedDescriptor SERIALIZED_CACHED_DESCRIPTOR = new CachedDescriptor(
+            StorageLevel.MEMORY_ONLY_SER(), "serialized"
+    );
+
+    /**
+     * Keeps the {@link JavaRDD} serialized in memory and spills partitions that do not fit to disk.
+     */
+    public static final CachedDescriptor MEMORY_AND_DISK_CACHED_DESCRIPTOR = new CachedDescriptor(
+            StorageLevel.MEMORY_AND_DISK_SER(), "memoryanddisk"
+    );
+
+    /**
+     * Keeps the {@link JavaRDD} serialized in off-heap memory and spills partitions that do not fit to disk.
+     */
+    public static final CachedDescriptor OFF_HEAP_CACHED_DESCRIPTOR = new CachedDescriptor(
+            StorageLevel.OFF_HEAP(), "offheap"
+    );
+
+    /**
+     * All {@link CachedDescriptor}s.
+     */
+    public static final List<ChannelDescriptor> CACHED_DESCRIPTORS = Arrays.asList(
+            CACHED_DESCRIPTOR, SERIALIZED_CACHED_DESCRIPTOR, MEMORY_AND_DISK_CACHED_DESCRIPTOR, OFF_HEAP_CACHED_DESCRIPTOR
+    );
+
+    /**
+     * All {@link ChannelDescriptor}s for {@link RddChannel}s, which is what most {@link RddChannel} consumers support.
+     */
+    public static final List<ChannelDescriptor> ALL_DESCRIPTORS = Arrays.asList(
+            UNCACHED_DESCRIPTOR, CACHED_DESCRIPTOR, SERIALIZED_CACHED_DESCRIPTOR,
+            MEMORY_AND_DISK_CACHED_DESCRIPTOR, OFF_HEAP_CACHED_DESCRIPTOR
     );
 
     public RddChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
         super(descriptor, outputSlot);
-        assert descriptor == UNCACHED_DESCRIPTOR || descriptor == CACHED_DESCRIPTOR;
+        assert descriptor == UNCACHED_DESCRIPTOR || CACHED_DESCRIPTORS.contains(descriptor);
     }
 
     private RddChannel(RddChannel parent) {
@@ -112,7 +155,7 @@ public class RddChannel extends Channel {
             }
             if (this.isRddCached() && this.rdd != null) {
                 Actions.doSafe(this.rdd::unpersist);
-                logger.debug("Unpersisted {}.", this.rdd);
+                logger.debug("Unpersisted {} ({}).", this.rdd, this.getChannel().getDescriptor());
                 this.rdd = null;
             }
         }
@@ -135,4 +178,47 @@ public class RddChannel extends Channel {
         }
     }
 
+    /**
+     * {@link ChannelDescriptor} for {@link RddChannel}s whose {@link JavaRDD} is persisted with a certain
+     * {@link StorageLevel}.
+     */
+    public static class CachedDescriptor extends ChannelDescriptor {
+
+        private final StorageLevel storageLevel;
+
+        private final String name;
+
+        private CachedDescriptor(StorageLevel storageLevel, String name) {
+            super(RddChannel.class, true, true);
+            this.storageLevel = storageLevel;
+            this.name = name;
+        }
+
+        public StorageLevel getStorageLevel() {
+            return this.storageLevel;
+        }
+
+        /**
+         * @return a short name for the {@link StorageLevel}, e.g., to be used in configuration keys
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return super.equals(o) && Objects.equals(this.storageLevel, ((CachedDescriptor) o).storageLevel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(super.hashCode(), this.storageLevel);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s,%s]", this.getClass().getSimpleName(), this.getChannelClass().getSimpleName(), this.name);
+        }
+    }
+
 }
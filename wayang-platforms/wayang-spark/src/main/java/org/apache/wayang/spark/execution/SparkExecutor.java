@@ -20,12 +20,16 @@ package org.apache.wayang.spark.execution;
 
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.spark.sql.SparkSession;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.ExecutionState;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.PartialExecution;
 import org.apache.wayang.core.platform.PushExecutorTemplate;
@@ -34,12 +38,14 @@ import org.apache.wayang.core.util.Formats;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.compiler.FunctionCompiler;
+import org.apache.wayang.spark.monitoring.metrics.SparkListener;
 import org.apache.wayang.spark.operators.SparkExecutionOperator;
 import org.apache.wayang.spark.platform.SparkPlatform;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalLong;
 
 /**
  * {@link Executor} implementation for the {@link SparkPlatform}.
@@ -99,6 +105,18 @@ public class SparkExecutor extends PushExecutorTemplate {
         }
     }
 
+    @Override
+    public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
+        // Tag the Spark jobs of the stage, so that SparkListeners can attribute their metrics to it.
+        final String previousStage = this.sc.getLocalProperty(SparkListener.EXECUTION_STAGE_PROPERTY);
+        this.sc.setLocalProperty(SparkListener.EXECUTION_STAGE_PROPERTY, stage.toNameString());
+        try {
+            super.execute(stage, optimizationContext, executionState);
+        } finally {
+            this.sc.setLocalProperty(SparkListener.EXECUTION_STAGE_PROPERTY, previousStage);
+        }
+    }
+
     @Override
     protected Tuple<List<ChannelInstance>, PartialExecution> execute(ExecutionTask task,
                                                                      List<ChannelInstance> inputChannelInstances,
@@ -177,8 +195,7 @@ public class SparkExecutor extends PushExecutorTemplate {
         final RddChannel.Instance rddOutput = (RddChannel.Instance) output;
 
         // Do the forward.
-        assert rddInput.getChannel().getDescriptor() == RddChannel.CACHED_DESCRIPTOR ||
-                rddOutput.getChannel().getDescriptor() != RddChannel.CACHED_DESCRIPTOR;
+        assert rddInput.getChannel().isReusable() || !rddOutput.getChannel().isReusable();
         rddOutput.accept(rddInput.provideRdd(), this);
 
         // Manipulate the lineage.
@@ -199,6 +216,57 @@ public class SparkExecutor extends PushExecutorTemplate {
         return this.numDefaultPartitions;
     }
 
+    /**
+     * Hint to shuffling {@link SparkExecutionOperator}s on how many partitions they should request. The number is
+     * derived from the larger of the total input and output cardinality of the operator, such that each partition
+     * holds roughly {@code wayang.spark.partitions.bytes-per-partition} bytes. Measured cardinalities of the
+     * {@code inputs}, which are available after a breakpoint, take precedence over the estimates of the
+     * {@code operatorContext}. The result is never below {@link #getNumDefaultPartitions()}, so that small or
+     * underestimated inputs do not lose parallelism, and that number is also used if no cardinalities are known.
+     *
+     * @param inputs          the input {@link ChannelInstance}s of the shuffling {@link SparkExecutionOperator}
+     * @param operatorContext the {@link OptimizationContext.OperatorContext} of that operator or {@code null}
+     * @return the number of partitions
+     */
+    public int getNumShufflePartitions(ChannelInstance[] inputs, OptimizationContext.OperatorContext operatorContext) {
+        final Configuration configuration = this.getConfiguration();
+        if (!configuration.getBooleanProperty("wayang.spark.partitions.adaptive")) return this.numDefaultPartitions;
+
+        long inputCardinality = 0L;
+        for (int inputIndex = 0; inputIndex < inputs.length; inputIndex++) {
+            final OptionalLong measuredCardinality = inputs[inputIndex] == null ?
+                    OptionalLong.empty() :
+                    inputs[inputIndex].getMeasuredCardinality();
+            if (measuredCardinality.isPresent()) {
+                inputCardinality += measuredCardinality.getAsLong();
+            } else {
+                final CardinalityEstimate estimate = operatorContext == null ?
+                        null :
+                        operatorContext.getInputCardinality(inputIndex);
+                if (estimate == null) return this.numDefaultPartitions;
+                inputCardinality += estimate.getGeometricMeanEstimate();
+            }
+        }
+
+        long outputCardinality = 0L;
+        if (operatorContext != null) {
+            for (int outputIndex = 0; outputIndex < operatorContext.getOperator().getNumOutputs(); outputIndex++) {
+                final CardinalityEstimate estimate = operatorContext.getOutputCardinality(outputIndex);
+                if (estimate != null) outputCardinality += estimate.getGeometricMeanEstimate();
+            }
+        }
+
+        final double numBytes = (double) Math.max(inputCardinality, outputCardinality)
+                * configuration.getLongProperty("wayang.spark.partitions.bytes-per-quantum");
+        final long numPartitions = (long) Math.ceil(
+                numBytes / configuration.getLongProperty("wayang.spark.partitions.bytes-per-partition")
+        );
+        return (int) Math.max(
+                this.numDefaultPartitions,
+                Math.min(configuration.getLongProperty("wayang.spark.partitions.max"), numPartitions)
+        );
+    }
+
     @Override
     public void dispose() {
         super.dispose();
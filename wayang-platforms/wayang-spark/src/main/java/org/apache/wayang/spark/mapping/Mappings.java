@@ -39,6 +39,7 @@ public class Mappings {
             new MapMapping(),
             new MapPartitionsMapping(),
             new ReduceByMapping(),
+            new AggregateMapping(),
             new CollectionSourceMapping(),
             new LocalCallbackSinkMapping(),
             new GlobalReduceMapping(),
@@ -53,6 +54,7 @@ public class Mappings {
             new IntersectMapping(),
             new CartesianMapping(),
             new JoinMapping(),
+            new BroadcastJoinMapping(),
             new CoGroupMapping(),
             new LoopMapping(),
             new DoWhileMapping(),
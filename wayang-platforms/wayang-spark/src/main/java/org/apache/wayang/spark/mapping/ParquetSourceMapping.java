@@ -47,9 +47,9 @@ public class ParquetSourceMapping implements Mapping {
     }
 
     private SubplanPattern createSubplanPattern() {
-        final OperatorPattern operatorPattern = new OperatorPattern(
+        final OperatorPattern<ParquetSource> operatorPattern = new OperatorPattern<>(
                 "source", new ParquetSource((String) null, (String[]) null), false
-        );
+        ).withAdditionalTest(source -> source.getFilter() == null); // Parquet filter predicates are not pushed into Spark
         return SubplanPattern.createSingleton(operatorPattern);
     }
 
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring.interfaces;
+
+import java.io.Serializable;
+
+/**
+ * The MetricsSink interface defines where the monitoring events and metrics collected by the
+ * {@link org.apache.wayang.spark.monitoring.metrics.SparkListener} are published to.
+ * Implementations are invoked from the Spark listener bus and should therefore return quickly.
+ */
+public interface MetricsSink extends AutoCloseable {
+
+    /**
+     * Publishes a monitoring payload.
+     *
+     * @param key     describes the payload, e.g., {@code "TaskEnd"} or {@code "ExecutionStageMetrics"}
+     * @param payload the event or list of events
+     */
+    void publish(String key, Serializable payload);
+
+    /**
+     * Makes sure that all published payloads have been delivered.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Flushes and releases this sink.
+     */
+    @Override
+    default void close() {
+        this.flush();
+    }
+
+}
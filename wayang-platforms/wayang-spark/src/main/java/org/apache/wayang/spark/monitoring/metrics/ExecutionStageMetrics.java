@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring.metrics;
+
+import org.apache.spark.executor.TaskMetrics;
+import org.apache.wayang.spark.monitoring.interfaces.SerializableObject;
+
+/**
+ * Aggregates the metrics of the tasks of a Spark job and attributes them to the Wayang
+ * {@link org.apache.wayang.core.plan.executionplan.ExecutionStage} that issued the job, so that they can be fed back
+ * into the profiling and cost learning.
+ */
+public class ExecutionStageMetrics implements SerializableObject {
+
+    /**
+     * Identifies the Wayang {@code ExecutionStage} or is {@code null} if the Spark job was not issued by Wayang.
+     */
+    private final String executionStage;
+
+    private final int jobID;
+
+    private int numTasks;
+
+    private long executorCPUTime;
+
+    private long executorRunTime;
+
+    private long jvmGCTime;
+
+    private long memoryBytesSpilled;
+
+    private long diskBytesSpilled;
+
+    private long shuffleBytesRead;
+
+    private long shuffleBytesWritten;
+
+    public ExecutionStageMetrics(String executionStage, int jobID) {
+        this.executionStage = executionStage;
+        this.jobID = jobID;
+    }
+
+    /**
+     * Adds the metrics of a finished task.
+     *
+     * @param taskMetrics the metrics of the task
+     */
+    public void add(TaskMetrics taskMetrics) {
+        this.add(
+                taskMetrics.executorCpuTime(),
+                taskMetrics.executorRunTime(),
+                taskMetrics.jvmGCTime(),
+                taskMetrics.memoryBytesSpilled(),
+                taskMetrics.diskBytesSpilled(),
+                taskMetrics.shuffleReadMetrics().totalBytesRead(),
+                taskMetrics.shuffleWriteMetrics().bytesWritten()
+        );
+    }
+
+    /**
+     * Adds the metrics of a finished task.
+     *
+     * @param executorCPUTime     CPU time in nanoseconds
+     * @param executorRunTime     run time in milliseconds
+     * @param jvmGCTime           garbage collection time in milliseconds
+     * @param memoryBytesSpilled  in-memory size of the spilled data
+     * @param diskBytesSpilled    on-disk size of the spilled data
+     * @param shuffleBytesRead    bytes read in shuffles
+     * @param shuffleBytesWritten bytes written in shuffles
+     */
+    public void add(long executorCPUTime, long executorRunTime, long jvmGCTime,
+                    long memoryBytesSpilled, long diskBytesSpilled,
+                    long shuffleBytesRead, long shuffleBytesWritten) {
+        this.numTasks++;
+        this.executorCPUTime += executorCPUTime;
+        this.executorRunTime += executorRunTime;
+        this.jvmGCTime += jvmGCTime;
+        this.memoryBytesSpilled += memoryBytesSpilled;
+        this.diskBytesSpilled += diskBytesSpilled;
+        this.shuffleBytesRead += shuffleBytesRead;
+        this.shuffleBytesWritten += shuffleBytesWritten;
+    }
+
+    public String getExecutionStage() {
+        return this.executionStage;
+    }
+
+    public int getJobID() {
+        return this.jobID;
+    }
+
+    public int getNumTasks() {
+        return this.numTasks;
+    }
+
+    public long getExecutorCPUTime() {
+        return this.executorCPUTime;
+    }
+
+    public long getExecutorRunTime() {
+        return this.executorRunTime;
+    }
+
+    public long getJvmGCTime() {
+        return this.jvmGCTime;
+    }
+
+    public long getMemoryBytesSpilled() {
+        return this.memoryBytesSpilled;
+    }
+
+    public long getDiskBytesSpilled() {
+        return this.diskBytesSpilled;
+    }
+
+    public long getShuffleBytesRead() {
+        return this.shuffleBytesRead;
+    }
+
+    public long getShuffleBytesWritten() {
+        return this.shuffleBytesWritten;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, job %d, %d tasks, cpu=%dns, gc=%dms, spilled=%dB, shuffled=%dB/%dB]",
+                this.getClass().getSimpleName(), this.executionStage, this.jobID, this.numTasks,
+                this.executorCPUTime, this.jvmGCTime, this.diskBytesSpilled,
+                this.shuffleBytesRead, this.shuffleBytesWritten);
+    }
+}
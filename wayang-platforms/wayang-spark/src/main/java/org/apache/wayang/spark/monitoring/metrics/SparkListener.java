@@ -18,25 +18,39 @@
 
 package org.apache.wayang.spark.monitoring.metrics;
 
-import org.apache.kafka.clients.producer.KafkaProducer;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.spark.SparkConf;
 import org.apache.spark.executor.TaskMetrics;
 import org.apache.spark.scheduler.*;
 import org.apache.spark.scheduler.cluster.ExecutorInfo;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.spark.monitoring.interfaces.Stage;
 import org.apache.wayang.spark.monitoring.interfaces.Task;
 import org.apache.wayang.spark.monitoring.interfaces.*;
+import org.apache.wayang.spark.monitoring.sinks.FileMetricsSink;
+import org.apache.wayang.spark.monitoring.sinks.KafkaMetricsSink;
+import org.apache.wayang.spark.monitoring.sinks.RingBufferMetricsSink;
+import scala.collection.JavaConverters;
 import scala.collection.Seq;
 
-import java.io.*;
+import java.io.Serializable;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 /**
  * A Spark listener implementation that captures events generated during the Spark job execution
- * and sends them to a Kafka topic for further processing.
+ * and publishes them to a {@link MetricsSink} for further processing. Besides the raw events, it aggregates
+ * the task metrics of every Spark job into {@link ExecutionStageMetrics} for the Wayang execution stage that
+ * issued the job.
+ * <p>
+ * When registered via {@code spark.extraListeners}, the sink is chosen with the Spark property
+ * {@value #SINK_PROPERTY}: {@code kafka} (default), {@code memory} (see {@link RingBufferMetricsSink}),
+ * {@code file} (see {@link FileMetricsSink}) or the name of a {@link MetricsSink} class with a default constructor.
+ * </p>
  */
 public class SparkListener extends org.apache.spark.scheduler.SparkListener {
     // Member variables to store various data objects
@@ -47,26 +61,45 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
     private List<SerializableObject> jobObjects;
     private List<SerializableObject> stageObjects;
     private List<SerializableObject> taskObjects;
-    // Kafka producer to send data to Kafka topic
-    private KafkaProducer<String, byte[]> producer;
-    private final static String KAFKA_PROPERTIES = "/wayang-spark-kafka.properties";
-    // Kafka topic name to which the data will be sent
-    private String kafkaTopic;
+    /**
+     * Spark local property that the {@link org.apache.wayang.spark.execution.SparkExecutor} sets to identify the
+     * Wayang execution stage that issues Spark jobs.
+     */
+    public static final String EXECUTION_STAGE_PROPERTY = "wayang.execution.stage";
+    public static final String SINK_PROPERTY = "spark.wayang.monitoring.sink";
+    public static final String FILE_PROPERTY = "spark.wayang.monitoring.file";
+    public static final String BATCH_SIZE_PROPERTY = "spark.wayang.monitoring.batch-size";
+    public static final String CAPACITY_PROPERTY = "spark.wayang.monitoring.capacity";
+    // Sink to publish the data to
+    private final MetricsSink sink;
+    // Aggregated task metrics of the running Spark jobs and the jobs of the running Spark stages
+    private final Map<Integer, ExecutionStageMetrics> jobMetrics = new HashMap<>();
+    private final Map<Integer, Integer> stageJobs = new HashMap<>();
     // Logger instance to log messages
     protected final Logger logger = LogManager.getLogger(this.getClass());
     /**
-     * Default constructor that initializes the Kafka producer and various data lists.
+     * Default constructor that publishes to Kafka.
      */
     public SparkListener(){
-        Properties props = new Properties();
-        try (InputStream inputStream = getClass().getResourceAsStream(KAFKA_PROPERTIES)) {
-            props.load(inputStream);
-        }
-        catch (Exception e){
-            logger.error("This is an error message with an exception.", e);
-        }
-        producer = new KafkaProducer<>(props);
-        this.kafkaTopic = props.getProperty("kafka.topic");
+        this(new KafkaMetricsSink());
+    }
+
+    /**
+     * Constructor that is used by Spark for {@code spark.extraListeners}; the sink is chosen via {@value #SINK_PROPERTY}.
+     *
+     * @param sparkConf configures the sink
+     */
+    public SparkListener(SparkConf sparkConf){
+        this(createSink(sparkConf));
+    }
+
+    /**
+     * Constructor that publishes to the given sink.
+     *
+     * @param sink the {@link MetricsSink} to publish to
+     */
+    public SparkListener(MetricsSink sink){
+        this.sink = sink;
         this.listOfJobs= new ArrayList<>();
         this.listOfStages= new ArrayList<>();
         this.listOfTasks= new ArrayList<>();
@@ -76,6 +109,31 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         this.taskObjects= new ArrayList<>();
     }
 
+    private static MetricsSink createSink(SparkConf sparkConf) {
+        final String sink = sparkConf.get(SINK_PROPERTY, "kafka");
+        switch (sink) {
+            case "kafka":
+                return new KafkaMetricsSink();
+            case "memory":
+                return RingBufferMetricsSink.getSharedInstance(sparkConf.getInt(CAPACITY_PROPERTY, 100000));
+            case "file":
+                return new FileMetricsSink(
+                        Paths.get(sparkConf.get(FILE_PROPERTY, "wayang-spark-metrics.bin")),
+                        sparkConf.getInt(BATCH_SIZE_PROPERTY, 1000)
+                );
+            default:
+                try {
+                    return (MetricsSink) Class.forName(sink).getDeclaredConstructor().newInstance();
+                } catch (Exception e) {
+                    throw new WayangException(String.format("Could not instantiate metrics sink %s.", sink), e);
+                }
+        }
+    }
+
+    public MetricsSink getSink() {
+        return this.sink;
+    }
+
     @Override
     public void onExecutorBlacklisted(SparkListenerExecutorBlacklisted executorBlacklisted) {
         super.onExecutorBlacklisted(executorBlacklisted);
@@ -84,7 +142,7 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
     }
     /**
      * Overridden method that captures the event generated when an executor is added in Spark
-     * and sends it to the Kafka topic for further processing.
+     * and publishes it to the sink for further processing.
      *
      * @param executorAddedSpark The event that occurred when the executor was added
      */
@@ -100,22 +158,14 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         // executorAdded.setResourceInfo(executorInfo.resourceProfileId());
          executorAdded.setExecutorHost(executorInfo.executorHost());
          executorAdded.executorTime(executorAddedSpark.time());
-        try {
-            ByteArrayOutputStream boas = new ByteArrayOutputStream();
-            ObjectOutput out = new ObjectOutputStream(boas);
-            out.writeObject(executorAdded);
-            producer.send(new ProducerRecord(kafkaTopic, "ExecutorAdded", boas.toByteArray()));
-        }
-        catch (Exception e){
-            e.printStackTrace();
-        }
+        this.sink.publish("ExecutorAdded", (SerializableObject) executorAdded);
 
     }
 
     /**
 
-     This method is called when an executor is removed from a Spark application, and it sends information about
-     the removal event to a Kafka topic.
+     This method is called when an executor is removed from a Spark application, and it publishes information about
+     the removal event to the sink.
      @param executorRemovedSpark the SparkListenerExecutorRemoved event containing information about the removed executor
      */
     @Override
@@ -126,20 +176,12 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
          executorRemoved.setExecutorHost(executorRemovedSpark.executorId());
          executorRemoved.setReasonOfRemoval(executorRemovedSpark.reason());
          executorRemoved.executorTime(executorRemovedSpark.time());
-        try {
-            ByteArrayOutputStream boas = new ByteArrayOutputStream();
-            ObjectOutput out = new ObjectOutputStream(boas);
-            out.writeObject(executorRemoved);
-            producer.send(new ProducerRecord(kafkaTopic, "ExecutorRemoved", boas.toByteArray()));
-        }
-        catch (Exception e){
-            this.logger.error("Exception {} for executor added",e);
-        }
+        this.sink.publish("ExecutorRemoved", (SerializableObject) executorRemoved);
     }
     /**
 
-     This method is called when metrics are updated for an executor in a Spark application, and it sends information about
-     the updated executor to a Kafka topic.
+     This method is called when metrics are updated for an executor in a Spark application, and it publishes information about
+     the updated executor to the sink.
      @param executorMetricsUpdateSpark the SparkListenerExecutorMetricsUpdate event containing information about the updated executor's metrics
      */
     @Override
@@ -148,15 +190,7 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         Executor executorUpdated= new ExecutorUpdated();
          executorUpdated.setExecutorID(executorMetricsUpdateSpark.execId());
          executorUpdated.setEventame("ExecutorUpdated");
-        try {
-            ByteArrayOutputStream boas = new ByteArrayOutputStream();
-            ObjectOutput out = new ObjectOutputStream(boas);
-            out.writeObject(executorUpdated);
-            producer.send(new ProducerRecord(kafkaTopic, "ExecutorUpdated", boas.toByteArray()));
-        }
-        catch (Exception e){
-            e.printStackTrace();
-        }
+        this.sink.publish("ExecutorUpdated", (SerializableObject) executorUpdated);
     }
     /**
 
@@ -247,12 +281,18 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
          jobStart.setStageID((Seq<Object>) jobStartSpark.stageIds());
         this.listOfJobs.add(jobStart);
         this.jobObjects.add((SerializableObject) jobStart);
+        final Properties properties = jobStartSpark.properties();
+        final String executionStage = properties == null ? null : properties.getProperty(EXECUTION_STAGE_PROPERTY);
+        this.jobMetrics.put(jobStartSpark.jobId(), new ExecutionStageMetrics(executionStage, jobStartSpark.jobId()));
+        for (Object stageId : JavaConverters.seqAsJavaList(jobStartSpark.stageIds())) {
+            this.stageJobs.put((Integer) stageId, jobStartSpark.jobId());
+        }
     }
 /**
 
  This method is called when a job ends in the Spark application. It creates a new instance of the JobEnd class,
- sets the necessary attributes and adds it to the list of jobs and job objects. Then it serializes the job objects
- and sends them to Kafka. It also resets the job objects and list of stages for the next job.
+ sets the necessary attributes and adds it to the list of jobs and job objects. Then it publishes the job objects
+ to the sink along with the aggregated metrics of the job. It also resets the job objects and list of stages for the next job.
  @param jobEndSpark a SparkListenerJobEnd object representing the end of a job
  */
     @Override
@@ -265,17 +305,14 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
           jobEnd.setListOfStages(this.listOfStages);
         this.listOfJobs.add(jobEnd);
         this.jobObjects.add((SerializableObject) jobEnd);
-        try {
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(this.jobObjects);
-            producer.send(new ProducerRecord(kafkaTopic, "JobObjects", baos.toByteArray()));
-            this.jobObjects= new ArrayList<>();
-            this.listOfStages= new ArrayList<>();
-        } catch (Exception e) {
-            e.printStackTrace();
+        this.sink.publish("JobObjects", (Serializable) this.jobObjects);
+        final ExecutionStageMetrics executionStageMetrics = this.jobMetrics.remove(jobEndSpark.jobId());
+        if (executionStageMetrics != null) {
+            this.stageJobs.values().removeIf(jobId -> jobId == jobEndSpark.jobId());
+            this.sink.publish("ExecutionStageMetrics", executionStageMetrics);
         }
+        this.jobObjects= new ArrayList<>();
+        this.listOfStages= new ArrayList<>();
     }
     /**
 
@@ -284,13 +321,12 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
      This method overrides the onTaskEnd method from the superclass and performs additional actions:
      creates a new TaskEnd object and sets its properties based on the information in the taskEndSpark parameter
      adds the TaskEnd object to the listOfTasks and taskObjects arrays
-     serializes the taskObjects array and sends it to a Kafka producer
+     publishes the taskObjects array to the sink and aggregates the task metrics for its job
      The TaskEnd object represents the end of a task, and includes information such as the task's ID, event name, host IP,
      executor ID, status, task ID, index, launch time, finish time, duration time, getting time, and task status for running.
      The TaskMetric object represents the metrics for the task, and includes information such as the executor CPU time,
      executor deserialize CPU time, executor deserialize time, disk bytes spilled, executor run time, JVM GC time, peak execution memory,
      result size, and result serialization time.
-     This method catches and prints any exceptions that may occur during the serialization and sending of the taskObjects array.
      */
 
     @Override
@@ -346,19 +382,16 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         taskMetric.setResultSize(taskMetrics.resultSize());
         taskMetric.setResultSerializationTime(taskMetrics.resultSerializationTime());
         taskEnd.setTaskMetric(taskMetric);
+        final Integer jobId = this.stageJobs.get(taskEndSpark.stageId());
+        final ExecutionStageMetrics executionStageMetrics = jobId == null ? null : this.jobMetrics.get(jobId);
+        if (executionStageMetrics != null) {
+            executionStageMetrics.add(taskMetrics);
+        }
         this.listOfTasks.add(taskEnd);
         this.taskObjects.add(taskEnd);
-        try {
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(this.taskObjects);
-            producer.send(new ProducerRecord(kafkaTopic, "TaskEnd", baos.toByteArray()));
-            this.taskObjects= new ArrayList<>();
+        this.sink.publish("TaskEnd", (Serializable) this.taskObjects);
+        this.taskObjects= new ArrayList<>();
 
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
 
     }
     /**
@@ -366,7 +399,7 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
      Overrides the onStageCompleted method from SparkListener to customize handling of
      stage completion events. Creates a StageCompleted object and sets its properties based on the
      StageInfo and TaskMetrics of the completed stage. Adds the StageCompleted object to a list of stages
-     and adds it to a list of SerializableObjects to be sent to a Kafka producer.
+     and adds it to a list of SerializableObjects to be published to the sink.
      @param stageCompletedSpark the SparkListenerStageCompleted event to be handled
      */
     @Override
@@ -397,16 +430,9 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         this.listOfStages.add(stageCompleted);
          stageCompleted.setListOfTasks(this.listOfTasks);
         this.stageObjects.add((SerializableObject) stageCompleted);
-        try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(this.stageObjects);
-            producer.send(new ProducerRecord(kafkaTopic, "Stage", baos.toByteArray()));
-            this.stageObjects= new ArrayList<>();
-            this.listOfTasks= new ArrayList<>();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        this.sink.publish("Stage", (Serializable) this.stageObjects);
+        this.stageObjects= new ArrayList<>();
+        this.listOfTasks= new ArrayList<>();
     }
     /**
      * This method is called whenever a new stage is submitted to the Spark engine. It adds the details of the
@@ -447,7 +473,7 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
     /**
      * This method is called when the Spark application ends. It creates a new ApplicationEnd object containing
      * the start time of the application and a list of jobs, and adds the object to a list of application objects.
-     * It then serializes the list of application objects and sends it to a Kafka topic. Finally, it clears the
+     * It then publishes the list of application objects to the sink and flushes it. Finally, it clears the
      * lists of application and job objects to prepare for the next application run.
      *
      * @param applicationEndSpark the SparkListenerApplicationEnd object containing information about the end of the application
@@ -459,17 +485,10 @@ public class SparkListener extends org.apache.spark.scheduler.SparkListener {
         applicationEnd.setStartTime(applicationEndSpark.time());
         applicationEnd.setListOfJobs(this.listOfJobs);
         this.applicationObjects.add((SerializableObject) applicationEnd);
-        try {
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ObjectOutputStream oos = new ObjectOutputStream(baos);
-            oos.writeObject(this.applicationObjects);
-            producer.send(new ProducerRecord(kafkaTopic, "ApplicationObjects", baos.toByteArray()));
-            this.applicationObjects= new ArrayList<>();
-            this.listOfJobs= new ArrayList<>();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        this.sink.publish("ApplicationObjects", (Serializable) this.applicationObjects);
+        this.sink.flush();
+        this.applicationObjects= new ArrayList<>();
+        this.listOfJobs= new ArrayList<>();
 
 
     }
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring.sinks;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.spark.monitoring.interfaces.MetricsSink;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link MetricsSink} that appends payloads to a file in batches. Each batch is Java-serialized as a whole and
+ * prefixed by its length, which amortizes the serialization overhead over the batch.
+ *
+ * @see #read(Path)
+ */
+public class FileMetricsSink implements MetricsSink {
+
+    private final Path path;
+
+    private final int batchSize;
+
+    private ArrayList<Tuple2<String, Serializable>> batch;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param path      the file to append to
+     * @param batchSize the number of payloads per batch
+     */
+    public FileMetricsSink(Path path, int batchSize) {
+        assert batchSize > 0;
+        this.path = path;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public synchronized void publish(String key, Serializable payload) {
+        this.batch.add(new Tuple2<>(key, payload));
+        if (this.batch.size() >= this.batchSize) {
+            this.flush();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (this.batch.isEmpty()) return;
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(this.batch);
+            }
+            try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(
+                    this.path, StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+                out.writeInt(baos.size());
+                baos.writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not write metrics to %s.", this.path), e);
+        } finally {
+            this.batch = new ArrayList<>(this.batchSize);
+        }
+    }
+
+    /**
+     * Reads all payloads from a file written by a {@link FileMetricsSink}.
+     *
+     * @param path the file
+     * @return the payloads along with their keys
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Tuple2<String, Serializable>> read(Path path) {
+        List<Tuple2<String, Serializable>> payloads = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                final int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                byte[] bytes = new byte[length];
+                in.readFully(bytes);
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                    payloads.addAll((List<Tuple2<String, Serializable>>) ois.readObject());
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new WayangException(String.format("Could not read metrics from %s.", path), e);
+        }
+        return payloads;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring.sinks;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.spark.monitoring.interfaces.MetricsSink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Properties;
+
+/**
+ * {@link MetricsSink} that Java-serializes every payload and sends it to a Kafka topic as configured in
+ * {@value #KAFKA_PROPERTIES}.
+ */
+public class KafkaMetricsSink implements MetricsSink {
+
+    public static final String KAFKA_PROPERTIES = "/wayang-spark-kafka.properties";
+
+    private final KafkaProducer<String, byte[]> producer;
+
+    private final String kafkaTopic;
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    public KafkaMetricsSink() {
+        Properties props = new Properties();
+        try (InputStream inputStream = this.getClass().getResourceAsStream(KAFKA_PROPERTIES)) {
+            props.load(inputStream);
+        } catch (Exception e) {
+            this.logger.error("Could not load {}.", KAFKA_PROPERTIES, e);
+        }
+        this.producer = new KafkaProducer<>(props);
+        this.kafkaTopic = props.getProperty("kafka.topic");
+    }
+
+    @Override
+    public void publish(String key, Serializable payload) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+                oos.writeObject(payload);
+            }
+            this.producer.send(new ProducerRecord<>(this.kafkaTopic, key, baos.toByteArray()));
+        } catch (Exception e) {
+            this.logger.error("Could not publish {} to Kafka.", key, e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        this.producer.flush();
+    }
+
+    @Override
+    public void close() {
+        this.producer.close();
+    }
+
+}
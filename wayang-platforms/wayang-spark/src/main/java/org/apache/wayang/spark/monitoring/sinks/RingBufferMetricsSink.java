@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring.sinks;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.spark.monitoring.interfaces.MetricsSink;
+import org.apache.wayang.spark.monitoring.metrics.ExecutionStageMetrics;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory {@link MetricsSink} that retains the most recent payloads in a bounded ring buffer. It does not
+ * serialize the payloads, so that it is suited for in-process consumers.
+ */
+public class RingBufferMetricsSink implements MetricsSink {
+
+    /**
+     * Shared instance for {@link org.apache.wayang.spark.monitoring.metrics.SparkListener}s that are instantiated by
+     * Spark itself.
+     */
+    private static RingBufferMetricsSink sharedInstance;
+
+    private final ArrayDeque<Tuple2<String, Serializable>> buffer;
+
+    private final int capacity;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the maximum number of retained payloads
+     */
+    public RingBufferMetricsSink(int capacity) {
+        assert capacity > 0;
+        this.capacity = capacity;
+        this.buffer = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    /**
+     * Provides the shared instance, creating it if necessary.
+     *
+     * @param capacity the capacity of the shared instance if it is created
+     * @return the shared instance
+     */
+    public static synchronized RingBufferMetricsSink getSharedInstance(int capacity) {
+        if (sharedInstance == null) {
+            sharedInstance = new RingBufferMetricsSink(capacity);
+        }
+        return sharedInstance;
+    }
+
+    @Override
+    public synchronized void publish(String key, Serializable payload) {
+        if (this.buffer.size() == this.capacity) {
+            this.buffer.pollFirst();
+        }
+        this.buffer.addLast(new Tuple2<>(key, payload));
+    }
+
+    /**
+     * @return the retained payloads from oldest to newest along with their keys
+     */
+    public synchronized List<Tuple2<String, Serializable>> snapshot() {
+        return new ArrayList<>(this.buffer);
+    }
+
+    /**
+     * @return the retained {@link ExecutionStageMetrics} from oldest to newest
+     */
+    public synchronized List<ExecutionStageMetrics> getExecutionStageMetrics() {
+        return this.buffer.stream()
+                .map(entry -> entry.field1)
+                .filter(payload -> payload instanceof ExecutionStageMetrics)
+                .map(payload -> (ExecutionStageMetrics) payload)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Discards all retained payloads.
+     */
+    public synchronized void clear() {
+        this.buffer.clear();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+}
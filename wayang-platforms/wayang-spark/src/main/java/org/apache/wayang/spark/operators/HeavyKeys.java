@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.function.PairFlatMapFunction;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * Keys that account for a large share of the data quanta of a {@link JavaPairRDD}, as detected on a Bernoulli sample.
+ * Shuffles can spread such keys over several partitions by salting them, i.e., by extending them with a number in
+ * {@code [0, numSalts)}. The salts are derived from the hash codes of the data quanta rather than drawn randomly, so
+ * that recomputed partitions (e.g., on task retries) are salted just like their original computation.
+ */
+public class HeavyKeys<Key> implements Serializable {
+
+    /**
+     * {@link Configuration} key to enable the skew handling of shuffling {@link SparkExecutionOperator}s.
+     */
+    public static final String ENABLED_KEY = "wayang.spark.skew.enabled";
+
+    /**
+     * {@link Configuration} key for the number of data quanta to sample for detecting heavy keys.
+     */
+    public static final String SAMPLE_SIZE_KEY = "wayang.spark.skew.sample-size";
+
+    /**
+     * {@link Configuration} key for the sample fraction if the input cardinality is not known.
+     */
+    public static final String FALLBACK_FRACTION_KEY = "wayang.spark.skew.fallback-fraction";
+
+    /**
+     * {@link Configuration} key for the minimum share of the sampled data quanta that makes a key heavy.
+     */
+    public static final String MIN_SHARE_KEY = "wayang.spark.skew.min-share";
+
+    /**
+     * {@link Configuration} key for the number of salts to spread a heavy key over.
+     */
+    public static final String NUM_SALTS_KEY = "wayang.spark.skew.salts";
+
+    private static final Logger logger = LoggerFactory.getLogger(HeavyKeys.class);
+
+    /**
+     * Salt for keys that are not heavy.
+     */
+    private static final int NO_SALT = 0;
+
+    /**
+     * Maps heavy keys to their share of the sampled data quanta.
+     */
+    private final Map<Key, Double> shares;
+
+    private final int numSalts;
+
+    private HeavyKeys(Map<Key, Double> shares, int numSalts) {
+        this.shares = shares;
+        this.numSalts = numSalts;
+    }
+
+    /**
+     * Tells whether the skew handling is enabled.
+     *
+     * @param configuration provides the settings
+     * @return whether the skew handling is enabled
+     */
+    public static boolean isEnabled(Configuration configuration) {
+        return configuration.getBooleanProperty(ENABLED_KEY);
+    }
+
+    /**
+     * Samples the given {@link JavaPairRDD} to detect heavy keys.
+     *
+     * @param pairRdd         whose keys should be inspected
+     * @param input           the {@link ChannelInstance} that provides the {@code pairRdd}
+     * @param inputIndex      the index of the {@code input}
+     * @param operatorContext provides cardinality estimates for the {@code input} or {@code null}
+     * @param configuration   provides the settings
+     * @return the detected {@link HeavyKeys}
+     */
+    public static <Key> HeavyKeys<Key> detect(JavaPairRDD<Key, ?> pairRdd,
+                                              ChannelInstance input,
+                                              int inputIndex,
+                                              OptimizationContext.OperatorContext operatorContext,
+                                              Configuration configuration) {
+        final long cardinality = getCardinality(input, inputIndex, operatorContext);
+        final double fraction = cardinality > 0 ?
+                Math.min(1d, (double) configuration.getLongProperty(SAMPLE_SIZE_KEY) / cardinality) :
+                configuration.getDoubleProperty(FALLBACK_FRACTION_KEY);
+        final Map<Key, Long> sampledCounts = pairRdd.keys().sample(false, fraction).countByValue();
+        final long sampleSize = sampledCounts.values().stream().mapToLong(Long::longValue).sum();
+
+        final double minShare = configuration.getDoubleProperty(MIN_SHARE_KEY);
+        final Map<Key, Double> shares = new HashMap<>();
+        sampledCounts.forEach((key, count) -> {
+            final double share = (double) count / sampleSize;
+            if (count > 1 && share >= minShare) shares.put(key, share);
+        });
+        if (!shares.isEmpty()) {
+            logger.info("Detected {} heavy keys in a sample of {} data quanta.", shares.size(), sampleSize);
+        }
+        return new HeavyKeys<>(shares, (int) configuration.getLongProperty(NUM_SALTS_KEY));
+    }
+
+    private static long getCardinality(ChannelInstance input,
+                                       int inputIndex,
+                                       OptimizationContext.OperatorContext operatorContext) {
+        final OptionalLong measuredCardinality = input.getMeasuredCardinality();
+        if (measuredCardinality.isPresent()) return measuredCardinality.getAsLong();
+        if (operatorContext == null) return -1L;
+        final CardinalityEstimate estimate = operatorContext.getInputCardinality(inputIndex);
+        return estimate == null ? -1L : estimate.getGeometricMeanEstimate();
+    }
+
+    public boolean isEmpty() {
+        return this.shares.isEmpty();
+    }
+
+    public boolean contains(Key key) {
+        return this.shares.containsKey(key);
+    }
+
+    public double getShare(Key key) {
+        return this.shares.getOrDefault(key, 0d);
+    }
+
+    public int getNumSalts() {
+        return this.numSalts;
+    }
+
+    /**
+     * Salts a key if it is heavy.
+     *
+     * @param key         that should be salted
+     * @param dataQuantum to which the {@code key} belongs; determines the salt
+     * @return the salted key
+     */
+    public Tuple2<Key, Integer> salt(Key key, Object dataQuantum) {
+        if (!this.contains(key)) return new Tuple2<>(key, NO_SALT);
+        // Spread the bits of the hash code, as the low ones might be poorly distributed.
+        final int hash = Objects.hashCode(dataQuantum) * 0x9E3779B9;
+        return new Tuple2<>(key, Math.floorMod(hash ^ (hash >>> 16), this.numSalts));
+    }
+
+    /**
+     * Creates a {@link PairFlatMapFunction} that salts the heavy keys in {@code salted} and replicates the
+     * data quanta with a heavy key in {@code replicated} for all salts. Salting both join inputs with the
+     * same {@link HeavyKeys} and opposite {@code salted} and {@code replicated} roles preserves the join result.
+     *
+     * @param salted     the heavy keys to salt
+     * @param replicated the heavy keys to replicate
+     * @return the {@link PairFlatMapFunction}
+     */
+    public static <Key, Value> PairFlatMapFunction<scala.Tuple2<Key, Value>, Tuple2<Key, Integer>, Value> createSalter(
+            HeavyKeys<Key> salted, HeavyKeys<Key> replicated) {
+        return keyValue -> {
+            final Key key = keyValue._1;
+            if (salted.contains(key)) {
+                return Collections.singletonList(new scala.Tuple2<>(salted.salt(key, keyValue._2), keyValue._2)).iterator();
+            } else if (replicated.contains(key)) {
+                return new Iterator<scala.Tuple2<Tuple2<Key, Integer>, Value>>() {
+
+                    private int nextSalt = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.nextSalt < replicated.numSalts;
+                    }
+
+                    @Override
+                    public scala.Tuple2<Tuple2<Key, Integer>, Value> next() {
+                        return new scala.Tuple2<>(new Tuple2<>(key, this.nextSalt++), keyValue._2);
+                    }
+                };
+            }
+            return Collections.singletonList(new scala.Tuple2<>(new Tuple2<>(key, NO_SALT), keyValue._2)).iterator();
+        };
+    }
+
+    /**
+     * Splits the heavy keys of two join inputs: Each heavy key is salted on the input where it is heavier and
+     * replicated on the other one.
+     *
+     * @param heavyKeys0 the heavy keys of the first input
+     * @param heavyKeys1 the heavy keys of the second input
+     * @return the heavy keys to salt on the first and on the second input
+     */
+    public static <Key> Tuple2<HeavyKeys<Key>, HeavyKeys<Key>> assignSaltedSides(HeavyKeys<Key> heavyKeys0,
+                                                                                  HeavyKeys<Key> heavyKeys1) {
+        final Map<Key, Double> salted0 = new HashMap<>(), salted1 = new HashMap<>();
+        heavyKeys0.shares.forEach((key, share) -> {
+            if (share >= heavyKeys1.getShare(key)) salted0.put(key, share);
+        });
+        heavyKeys1.shares.forEach((key, share) -> {
+            if (share > heavyKeys0.getShare(key)) salted1.put(key, share);
+        });
+        final int numSalts = Math.max(heavyKeys0.numSalts, heavyKeys1.numSalts);
+        return new Tuple2<>(new HeavyKeys<>(salted0, numSalts), new HeavyKeys<>(salted1, numSalts));
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.basic.operators.AggregateOperator;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spark implementation of the {@link AggregateOperator}. Grouped aggregations are pre-aggregated within each partition
+ * before the shuffle, so that only one {@link AggregateDescriptor.Accumulator} per group and partition is transferred.
+ * Global aggregations are computed with a single {@link JavaRDD#aggregate} action and yield a {@link CollectionChannel}.
+ */
+public class SparkAggregateOperator extends AggregateOperator implements SparkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param aggregateDescriptor describes the grouping and the aggregates
+     */
+    public SparkAggregateOperator(AggregateDescriptor aggregateDescriptor) {
+        super(aggregateDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SparkAggregateOperator(AggregateOperator that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final AggregateDescriptor descriptor = this.aggregateDescriptor;
+        final JavaRDD<Record> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
+
+        if (descriptor.isGlobal()) {
+            final AggregateDescriptor.Accumulator accumulator = inputRdd.aggregate(
+                    descriptor.createAccumulator(),
+                    (acc, record) -> {
+                        descriptor.accumulate(acc, record);
+                        return acc;
+                    },
+                    descriptor::merge
+            );
+            ((CollectionChannel.Instance) outputs[0]).accept(
+                    Collections.singletonList(descriptor.createOutput(null, accumulator))
+            );
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        }
+
+        final JavaPairRDD<Object, AggregateDescriptor.Accumulator> partialRdd = inputRdd.mapPartitionsToPair(
+                records -> preAggregate(descriptor, records)
+        );
+        this.name(partialRdd);
+        final JavaPairRDD<Object, AggregateDescriptor.Accumulator> mergedRdd =
+                partialRdd.reduceByKey(descriptor::merge, sparkExecutor.getNumShufflePartitions(inputs, operatorContext));
+        this.name(mergedRdd);
+        final JavaRDD<Record> outputRdd = mergedRdd.map(pair -> descriptor.createOutput(pair._1, pair._2));
+        this.name(outputRdd);
+
+        ((RddChannel.Instance) outputs[0]).accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Aggregates the {@link Record}s of a single partition by their group key.
+     */
+    private static Iterator<scala.Tuple2<Object, AggregateDescriptor.Accumulator>> preAggregate(
+            AggregateDescriptor descriptor, Iterator<Record> records) {
+        final Map<Object, AggregateDescriptor.Accumulator> accumulators = new HashMap<>();
+        while (records.hasNext()) {
+            final Record record = records.next();
+            descriptor.accumulate(
+                    accumulators.computeIfAbsent(descriptor.extractKey(record), key -> descriptor.createAccumulator()),
+                    record
+            );
+        }
+        final List<scala.Tuple2<Object, AggregateDescriptor.Accumulator>> partials = new ArrayList<>(accumulators.size());
+        accumulators.forEach((key, accumulator) -> partials.add(new scala.Tuple2<>(key, accumulator)));
+        return partials.iterator();
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkAggregateOperator(this.getAggregateDescriptor());
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.aggregate.load";
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return RddChannel.ALL_DESCRIPTORS;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return this.aggregateDescriptor.isGlobal() ?
+                Collections.singletonList(CollectionChannel.DESCRIPTOR) :
+                Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return this.aggregateDescriptor.isGlobal();
+    }
+
+}
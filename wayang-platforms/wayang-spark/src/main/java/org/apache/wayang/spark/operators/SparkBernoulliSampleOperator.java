@@ -32,7 +32,6 @@ import org.apache.wayang.spark.channels.BroadcastChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -107,7 +106,7 @@ public class SparkBernoulliSampleOperator<Type>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         if (index == 0) {
             return this.isDataSetSizeKnown() ?
-                    Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR) :
+                    RddChannel.ALL_DESCRIPTORS :
                     Collections.singletonList(RddChannel.CACHED_DESCRIPTOR);
         } else {
             return Collections.singletonList(BroadcastChannel.DESCRIPTOR);
@@ -0,0 +1,309 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.api.java.function.PairFunction;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.DefaultLoadEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.optimizer.costs.NestableLoadProfileEstimator;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.BroadcastChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.compiler.FunctionCompiler;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.StreamSupport;
+
+/**
+ * Spark implementation of the {@link JoinOperator} that avoids shuffling: One input is collected and shipped to all
+ * executors via a {@link BroadcastChannel}, where it is indexed in a hash table and probed with the partitions of the
+ * other input. Broadcasting inputs with more than {@value #BROADCAST_THRESHOLD_KEY} data quanta is deemed prohibitively
+ * expensive by the load profile estimator, so that the optimizer falls back to the {@link SparkJoinOperator}.
+ */
+public class SparkBroadcastJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * {@link Configuration} key for the maximum estimated number of data quanta of the broadcast input.
+     */
+    public static final String BROADCAST_THRESHOLD_KEY = "wayang.spark.join.broadcast.threshold";
+
+    /**
+     * CPU cycles that exclude instances whose broadcast input exceeds the {@value #BROADCAST_THRESHOLD_KEY}.
+     */
+    private static final long PROHIBITIVE_LOAD = 1_000_000_000_000_000L;
+
+    /**
+     * Provides the {@link #joinId}s.
+     */
+    private static final AtomicLong NEXT_JOIN_ID = new AtomicLong();
+
+    /**
+     * The index of the input that is broadcast.
+     */
+    private final int broadcastIndex;
+
+    /**
+     * Distinguishes the hash tables of this instance from those of other joins that probe the same
+     * {@link Broadcast} with different keys.
+     */
+    private final long joinId = NEXT_JOIN_ID.getAndIncrement();
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that           that should be copied
+     * @param broadcastIndex the index of the input to broadcast
+     */
+    public SparkBroadcastJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that, int broadcastIndex) {
+        super(that);
+        assert broadcastIndex == 0 || broadcastIndex == 1;
+        this.broadcastIndex = broadcastIndex;
+    }
+
+    public int getBroadcastIndex() {
+        return this.broadcastIndex;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final BroadcastChannel.Instance broadcastInput = (BroadcastChannel.Instance) inputs[this.broadcastIndex];
+        final RddChannel.Instance probeInput = (RddChannel.Instance) inputs[1 - this.broadcastIndex];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final FunctionCompiler compiler = sparkExecutor.getCompiler();
+        final PairFunction<InputType0, KeyType, InputType0> keyExtractor0 = compiler.compileToKeyExtractor(this.keyDescriptor0);
+        final PairFunction<InputType1, KeyType, InputType1> keyExtractor1 = compiler.compileToKeyExtractor(this.keyDescriptor1);
+
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd;
+        if (this.broadcastIndex == 0) {
+            final JavaRDD<InputType1> probeRdd = probeInput.provideRdd();
+            outputRdd = probeRdd.mapPartitions(new BroadcastProbe<>(
+                    (Broadcast<Collection<InputType0>>) broadcastInput.provideBroadcast(),
+                    this.joinId,
+                    keyExtractor0,
+                    keyExtractor1,
+                    Tuple2::new
+            ));
+        } else {
+            final JavaRDD<InputType0> probeRdd = probeInput.provideRdd();
+            outputRdd = probeRdd.mapPartitions(new BroadcastProbe<>(
+                    (Broadcast<Collection<InputType1>>) broadcastInput.provideBroadcast(),
+                    this.joinId,
+                    keyExtractor1,
+                    keyExtractor0,
+                    (dataQuantum1, dataQuantum0) -> new Tuple2<>(dataQuantum0, dataQuantum1)
+            ));
+        }
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Indexes the broadcast data quanta and joins them map-side with each partition of the probing input. The hash
+     * table is built only once per executor JVM and then shared by all its partitions.
+     */
+    private static class BroadcastProbe<Build, Probe, Key, Out> implements FlatMapFunction<Iterator<Probe>, Out> {
+
+        /**
+         * Hash tables by {@link Broadcast#id()} and {@link #joinId}. They are softly referenced, so that hash tables
+         * of {@link Broadcast}s that are not used anymore can be reclaimed.
+         */
+        private static final Map<Tuple<Long, Long>, SoftReference<Map<?, List<?>>>> HASH_TABLES =
+                new ConcurrentHashMap<>();
+
+        private final Broadcast<Collection<Build>> broadcast;
+
+        private final long joinId;
+
+        private final PairFunction<Build, Key, Build> buildKeyExtractor;
+
+        private final PairFunction<Probe, Key, Probe> probeKeyExtractor;
+
+        private final JoinCombiner<Build, Probe, Out> combiner;
+
+        private BroadcastProbe(Broadcast<Collection<Build>> broadcast,
+                               long joinId,
+                               PairFunction<Build, Key, Build> buildKeyExtractor,
+                               PairFunction<Probe, Key, Probe> probeKeyExtractor,
+                               JoinCombiner<Build, Probe, Out> combiner) {
+            this.broadcast = broadcast;
+            this.joinId = joinId;
+            this.buildKeyExtractor = buildKeyExtractor;
+            this.probeKeyExtractor = probeKeyExtractor;
+            this.combiner = combiner;
+        }
+
+        @Override
+        public Iterator<Out> call(Iterator<Probe> probeIterator) throws Exception {
+            final Map<Key, List<Build>> hashTable = this.getHashTable();
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(probeIterator, Spliterator.ORDERED), false)
+                    .flatMap(probeDataQuantum -> {
+                        final Key key;
+                        try {
+                            key = this.probeKeyExtractor.call(probeDataQuantum)._1;
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        return hashTable.getOrDefault(key, Collections.emptyList()).stream()
+                                .map(buildDataQuantum -> this.combiner.combine(buildDataQuantum, probeDataQuantum));
+                    })
+                    .iterator();
+        }
+
+        /**
+         * Provides the hash table of the {@link #broadcast}, building it if no partition on this executor has done
+         * so yet. Partitions that start concurrently might build the table redundantly, but only one of them is kept.
+         *
+         * @return the hash table
+         */
+        @SuppressWarnings("unchecked")
+        private Map<Key, List<Build>> getHashTable() {
+            final Tuple<Long, Long> hashTableKey = new Tuple<>(this.broadcast.id(), this.joinId);
+            final SoftReference<Map<?, List<?>>> reference = HASH_TABLES.get(hashTableKey);
+            final Map<?, List<?>> cachedHashTable = reference == null ? null : reference.get();
+            if (cachedHashTable != null) {
+                return (Map<Key, List<Build>>) (Map<?, ?>) cachedHashTable;
+            }
+
+            HASH_TABLES.values().removeIf(staleReference -> staleReference.get() == null);
+            final Map<?, List<?>> hashTable = (Map<?, List<?>>) (Map<?, ?>) this.buildHashTable();
+            final SoftReference<Map<?, List<?>>> sharedReference =
+                    HASH_TABLES.putIfAbsent(hashTableKey, new SoftReference<>(hashTable));
+            final Map<?, List<?>> sharedHashTable = sharedReference == null ? null : sharedReference.get();
+            if (sharedHashTable != null) {
+                return (Map<Key, List<Build>>) (Map<?, ?>) sharedHashTable;
+            }
+            if (sharedReference != null) {
+                HASH_TABLES.replace(hashTableKey, sharedReference, new SoftReference<>(hashTable));
+            }
+            return (Map<Key, List<Build>>) (Map<?, ?>) hashTable;
+        }
+
+        private Map<Key, List<Build>> buildHashTable() {
+            final Collection<Build> buildDataQuanta = this.broadcast.value();
+            final Map<Key, List<Build>> hashTable = new HashMap<>(buildDataQuanta.size() * 4 / 3 + 1);
+            for (Build dataQuantum : buildDataQuanta) {
+                final Key key;
+                try {
+                    key = this.buildKeyExtractor.call(dataQuantum)._1;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(dataQuantum);
+            }
+            return hashTable;
+        }
+
+    }
+
+    /**
+     * Creates a join product from a data quantum of the broadcast and of the probing input.
+     */
+    @FunctionalInterface
+    private interface JoinCombiner<Build, Probe, Out> extends java.io.Serializable {
+
+        Out combine(Build buildDataQuantum, Probe probeDataQuantum);
+
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkBroadcastJoinOperator<>(this, this.broadcastIndex);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.broadcastjoin.load.in" + this.broadcastIndex;
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        final long threshold = configuration.getLongProperty(BROADCAST_THRESHOLD_KEY, 100_000L);
+        final int broadcastIndex = this.broadcastIndex;
+        optEstimator.ifPresent(estimator -> estimator.nest(new NestableLoadProfileEstimator(
+                new DefaultLoadEstimator(2, 1, 1d, CardinalityEstimate.EMPTY_ESTIMATE,
+                        (inputCards, outputCards) -> inputCards[broadcastIndex] > threshold ? PROHIBITIVE_LOAD : 0L),
+                new DefaultLoadEstimator(2, 1, 1d, CardinalityEstimate.EMPTY_ESTIMATE, (inputCards, outputCards) -> 0L)
+        )));
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        if (index == this.broadcastIndex) return Collections.singletonList(BroadcastChannel.DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -20,10 +20,15 @@ package org.apache.wayang.spark.operators;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.storage.StorageLevel;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.optimizer.costs.DefaultLoadEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.NestableLoadProfileEstimator;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -40,14 +45,59 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * Converts an uncached {@link RddChannel} into a cached {@link RddChannel}.
+ * Converts an uncached {@link RddChannel} into a cached {@link RddChannel} with the
+ * {@link org.apache.spark.storage.StorageLevel} of a {@link RddChannel.CachedDescriptor}.
+ * <p>The load profile estimate accounts for data quanta that do not fit into the configured cache capacity: If the
+ * {@link org.apache.spark.storage.StorageLevel} does not use the disk, they are recomputed on every reuse, otherwise
+ * they are read back from disk.</p>
  */
 public class SparkCacheOperator<Type>
         extends UnaryToUnaryOperator<Type, Type>
         implements SparkExecutionOperator {
 
+    /**
+     * {@link Configuration} key for the number of data quanta that fit deserialized into Spark's storage memory.
+     */
+    public static final String CAPACITY_KEY = "wayang.spark.cache.capacity";
+
+    /**
+     * {@link Configuration} key for how many more data quanta fit into Spark's storage memory when serialized.
+     */
+    public static final String SERIALIZED_COMPACTION_KEY = "wayang.spark.cache.serialized.compaction";
+
+    /**
+     * {@link Configuration} key for the number of data quanta that fit into Spark's off-heap storage memory.
+     */
+    public static final String OFF_HEAP_CAPACITY_KEY = "wayang.spark.cache.offheap.capacity";
+
+    /**
+     * {@link Configuration} key for the expected number of reads of a cached {@link RddChannel}.
+     */
+    public static final String REUSES_KEY = "wayang.spark.cache.reuses";
+
+    /**
+     * {@link Configuration} key for the CPU cycles to recompute an evicted data quantum.
+     */
+    public static final String RECOMPUTE_CPU_KEY = "wayang.spark.cache.recompute.cpu";
+
+    /**
+     * {@link Configuration} key for the CPU cycles to read back a spilled data quantum from disk.
+     */
+    public static final String SPILL_CPU_KEY = "wayang.spark.cache.spill.cpu";
+
+    private final RddChannel.CachedDescriptor cachedDescriptor;
+
     public SparkCacheOperator(DataSetType<Type> type) {
+        this(type, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    public SparkCacheOperator(DataSetType<Type> type, RddChannel.CachedDescriptor cachedDescriptor) {
         super(type, type, false);
+        this.cachedDescriptor = cachedDescriptor;
+    }
+
+    public RddChannel.CachedDescriptor getCachedDescriptor() {
+        return this.cachedDescriptor;
     }
 
     @Override
@@ -58,7 +108,7 @@ public class SparkCacheOperator<Type>
             OptimizationContext.OperatorContext operatorContext) {
         RddChannel.Instance input = (RddChannel.Instance) inputs[0];
         final JavaRDD<Object> rdd = input.provideRdd();
-        final JavaRDD<Object> cachedRdd = rdd.cache();
+        final JavaRDD<Object> cachedRdd = rdd.persist(this.cachedDescriptor.getStorageLevel());
         cachedRdd.foreachPartition(iterator -> {
         });
 
@@ -75,7 +125,7 @@ public class SparkCacheOperator<Type>
 
     @Override
     public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
-        return Collections.singletonList(RddChannel.CACHED_DESCRIPTOR);
+        return Collections.singletonList(this.cachedDescriptor);
     }
 
     @Override
@@ -94,7 +144,34 @@ public class SparkCacheOperator<Type>
 
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
-        return "wayang.spark.cache.load";
+        return this.cachedDescriptor == RddChannel.CACHED_DESCRIPTOR ?
+                "wayang.spark.cache.load" :
+                "wayang.spark.cache." + this.cachedDescriptor.getName() + ".load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        final StorageLevel storageLevel = this.cachedDescriptor.getStorageLevel();
+        final long capacity;
+        if (storageLevel.useOffHeap()) {
+            capacity = configuration.getLongProperty(OFF_HEAP_CAPACITY_KEY, 0L);
+        } else if (storageLevel.deserialized()) {
+            capacity = configuration.getLongProperty(CAPACITY_KEY);
+        } else {
+            capacity = Math.round(configuration.getLongProperty(CAPACITY_KEY)
+                    * configuration.getDoubleProperty(SERIALIZED_COMPACTION_KEY));
+        }
+        final long cyclesPerExcessQuantum = configuration.getLongProperty(REUSES_KEY) * (storageLevel.useDisk() ?
+                configuration.getLongProperty(SPILL_CPU_KEY) :
+                configuration.getLongProperty(RECOMPUTE_CPU_KEY));
+        optEstimator.ifPresent(estimator -> estimator.nest(new NestableLoadProfileEstimator(
+                new DefaultLoadEstimator(1, 1, 1d, CardinalityEstimate.EMPTY_ESTIMATE,
+                        (inputCards, outputCards) -> Math.max(0L, inputCards[0] - capacity) * cyclesPerExcessQuantum),
+                new DefaultLoadEstimator(1, 1, 1d, CardinalityEstimate.EMPTY_ESTIMATE, (inputCards, outputCards) -> 0L)
+        )));
+        return optEstimator;
     }
 
 }
@@ -38,7 +38,6 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.compiler.FunctionCompiler;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -107,7 +106,7 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
         JavaPairRDD<Key, In1> pairRdd1 = inputRdd1.mapToPair(keyExtractor1);
 
         final JavaPairRDD<Key, scala.Tuple2<Iterable<In0>, Iterable<In1>>> outputPair =
-                pairRdd0.cogroup(pairRdd1, sparkExecutor.getNumDefaultPartitions());
+                pairRdd0.cogroup(pairRdd1, sparkExecutor.getNumShufflePartitions(inputs, operatorContext));
         this.name(outputPair);
 
         // Map the output to what Wayang expects.
@@ -132,7 +131,7 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
@@ -30,7 +30,6 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -92,7 +91,7 @@ public class SparkCountOperator<Type>
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
@@ -30,7 +30,6 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -75,7 +74,7 @@ public class SparkDistinctOperator<Type>
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final JavaRDD<Type> inputRdd = input.provideRdd();
-        final JavaRDD<Type> outputRdd = inputRdd.distinct(sparkExecutor.getNumDefaultPartitions());
+        final JavaRDD<Type> outputRdd = inputRdd.distinct(sparkExecutor.getNumShufflePartitions(inputs, operatorContext));
         this.name(outputRdd);
         output.accept(outputRdd, sparkExecutor);
 
@@ -94,7 +93,7 @@ public class SparkDistinctOperator<Type>
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
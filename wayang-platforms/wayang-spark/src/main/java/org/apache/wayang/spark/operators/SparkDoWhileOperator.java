@@ -36,7 +36,6 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -159,7 +158,7 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
         switch (index) {
             case INITIAL_INPUT_INDEX:
             case ITERATION_INPUT_INDEX:
-                return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+                return RddChannel.ALL_DESCRIPTORS;
             case CONVERGENCE_INPUT_INDEX:
                 return Collections.singletonList(CollectionChannel.DESCRIPTOR);
             default:
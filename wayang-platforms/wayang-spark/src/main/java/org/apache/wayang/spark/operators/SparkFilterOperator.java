@@ -36,7 +36,6 @@ import org.apache.wayang.spark.channels.BroadcastChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -104,7 +103,7 @@ public class SparkFilterOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         if (index == 0) {
-            return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+            return RddChannel.ALL_DESCRIPTORS;
         } else {
             return Collections.singletonList(BroadcastChannel.DESCRIPTOR);
         }
@@ -32,7 +32,6 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -106,7 +105,7 @@ public class SparkGlobalMaterializedGroupOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         if (index == 0) {
-            return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+            return RddChannel.ALL_DESCRIPTORS;
         } else {
             return Collections.singletonList(BroadcastChannel.DESCRIPTOR);
         }
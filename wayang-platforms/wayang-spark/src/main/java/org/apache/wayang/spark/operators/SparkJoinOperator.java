@@ -39,7 +39,6 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.compiler.FunctionCompiler;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -93,19 +92,47 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
         final PairFunction<InputType1, KeyType, InputType1> keyExtractor1 = compiler.compileToKeyExtractor(this.keyDescriptor1);
         JavaPairRDD<KeyType, InputType0> pairStream0 = inputRdd0.mapToPair(keyExtractor0);
         JavaPairRDD<KeyType, InputType1> pairStream1 = inputRdd1.mapToPair(keyExtractor1);
+        final int numPartitions = sparkExecutor.getNumShufflePartitions(inputs, operatorContext);
+
+        JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = null;
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        if (HeavyKeys.isEnabled(configuration)) {
+            // Salt heavy keys on the input where they are heavier and replicate the matching data quanta on the other.
+            final HeavyKeys<KeyType> heavyKeys0 =
+                    HeavyKeys.detect(pairStream0, inputs[0], 0, operatorContext, configuration);
+            final HeavyKeys<KeyType> heavyKeys1 =
+                    HeavyKeys.detect(pairStream1, inputs[1], 1, operatorContext, configuration);
+            if (!heavyKeys0.isEmpty() || !heavyKeys1.isEmpty()) {
+                final Tuple2<HeavyKeys<KeyType>, HeavyKeys<KeyType>> saltedKeys =
+                        HeavyKeys.assignSaltedSides(heavyKeys0, heavyKeys1);
+                final JavaPairRDD<Tuple2<KeyType, Integer>, InputType0> saltedPairStream0 =
+                        pairStream0.flatMapToPair(HeavyKeys.createSalter(saltedKeys.field0, saltedKeys.field1));
+                final JavaPairRDD<Tuple2<KeyType, Integer>, InputType1> saltedPairStream1 =
+                        pairStream1.flatMapToPair(HeavyKeys.createSalter(saltedKeys.field1, saltedKeys.field0));
+                outputRdd = this.join(saltedPairStream0, saltedPairStream1, numPartitions);
+            }
+        }
+        if (outputRdd == null) {
+            outputRdd = this.join(pairStream0, pairStream1, numPartitions);
+        }
+
+        output.accept(outputRdd, sparkExecutor);
 
-        final JavaPairRDD<KeyType, scala.Tuple2<InputType0, InputType1>> outputPair =
-                pairStream0.<InputType1>join(pairStream1, sparkExecutor.getNumDefaultPartitions());
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    private <Key> JavaRDD<Tuple2<InputType0, InputType1>> join(JavaPairRDD<Key, InputType0> pairStream0,
+                                                               JavaPairRDD<Key, InputType1> pairStream1,
+                                                               int numPartitions) {
+        final JavaPairRDD<Key, scala.Tuple2<InputType0, InputType1>> outputPair =
+                pairStream0.<InputType1>join(pairStream1, numPartitions);
         this.name(outputPair);
 
         // convert from scala tuple to wayang tuple
         final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = outputPair
                 .map(new TupleConverter<>());
         this.name(outputRdd);
-
-        output.accept(outputRdd, sparkExecutor);
-
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        return outputRdd;
     }
 
     @Override
@@ -144,7 +171,7 @@ public class SparkJoinOperator<InputType0, InputType1, KeyType>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
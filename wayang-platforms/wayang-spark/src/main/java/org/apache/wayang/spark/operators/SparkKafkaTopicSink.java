@@ -25,6 +25,7 @@ import org.apache.spark.api.java.function.Function;
 import org.apache.spark.api.java.function.VoidFunction;
 import org.apache.wayang.basic.operators.KafkaTopicSink;
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
@@ -39,6 +40,7 @@ import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Implementation of the {@link KafkaTopicSink} operator for the Spark platform.
@@ -58,23 +60,29 @@ public class SparkKafkaTopicSink<T> extends KafkaTopicSink<T> implements SparkEx
     }
 
 
-    public void writeToKafka(JavaRDD<T> inputRdd, final String topicName) {
+    public void writeToKafka(JavaRDD<String> inputRdd, final String topicName) {
 
-        inputRdd.foreachPartition(new VoidFunction<Iterator<T>>() {
+        inputRdd.foreachPartition(new VoidFunction<Iterator<String>>() {
 
             @Override
-            public void call(Iterator<T> partition) throws Exception {
+            public void call(Iterator<String> partition) throws Exception {
                 // Kafka producer properties
                 KafkaProducer<String, String> producer = getProducer();
+                final AtomicReference<Exception> sendFailure = new AtomicReference<>();
 
                 // Send each record of the partition to Kafka
                 while (partition.hasNext()) {
-                    String kvp = (String) partition.next(); // Apply formatting function if necessary
-                    producer.send(new ProducerRecord<>(topicName, "-", kvp));
+                    String kvp = partition.next();
+                    producer.send(new ProducerRecord<>(topicName, "-", kvp), (metadata, exception) -> {
+                        if (exception != null) sendFailure.compareAndSet(null, exception);
+                    });
                 }
 
-                // Close the producer
+                // Close the producer, which also delivers all pending messages, and fail the batch if any was lost.
                 producer.close();
+                if (sendFailure.get() != null) {
+                    throw new WayangException("Writing to Kafka topic failed.", sendFailure.get());
+                }
             }
         });
     }
@@ -91,20 +99,19 @@ public class SparkKafkaTopicSink<T> extends KafkaTopicSink<T> implements SparkEx
 
         assert outputs.length == 0;
 
-        this.initProducer(this);
-
         JavaRDD<T> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
         final Function<T, String> formattingFunction =
                 sparkExecutor.getCompiler().compile(this.formattingDescriptor, this, operatorContext, inputs);
 
-        writeToKafka( inputRdd, this.topicName );
+        // The Kafka producers are created per partition on the Spark executors.
+        writeToKafka( inputRdd.map(formattingFunction), this.topicName );
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
@@ -18,8 +18,6 @@
 
 package org.apache.wayang.spark.operators;
 
-import org.apache.kafka.clients.consumer.ConsumerRecord;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.wayang.basic.operators.KafkaTopicSource;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -32,7 +30,6 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.time.Duration;
 import java.util.*;
 
 /**
@@ -66,18 +63,8 @@ public class SparkKafkaTopicSource extends KafkaTopicSource implements SparkExec
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        // We use a single Kafka client for reading data from our Kafka topic.
-        System.out.println("### 7 ... ");
-        this.initConsumer( (KafkaTopicSource) this );
-
-        ConsumerRecords<String, String> records = this.getConsumer().poll(Duration.ofMillis(100));
-
-        List<String> collectedRecords = new ArrayList<>();
-        for (ConsumerRecord<String, String> record : records) {
-            collectedRecords.add( record.value() );
-        }
-
-        System.out.println("### 8 ... ");
+        // We use a single Kafka client for reading data from our Kafka topic (and reuse it for further batches).
+        List<String> collectedRecords = this.pollBatch(sparkExecutor.getConfiguration());
 
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
@@ -37,7 +37,6 @@ import org.apache.wayang.java.operators.JavaExecutionOperator;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -168,7 +167,7 @@ public class SparkLoopOperator<InputType, ConvergenceType>
         switch (index) {
             case INITIAL_INPUT_INDEX:
             case ITERATION_INPUT_INDEX:
-                return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+                return RddChannel.ALL_DESCRIPTORS;
             case INITIAL_CONVERGENCE_INPUT_INDEX:
             case ITERATION_CONVERGENCE_INPUT_INDEX:
                 return Collections.singletonList(CollectionChannel.DESCRIPTOR);
@@ -37,7 +37,6 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 import scala.Tuple2;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -83,7 +82,7 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
         final Function<Type, KeyType> keyExtractor =
                 sparkExecutor.getCompiler().compile(this.keyDescriptor, this, operatorContext, inputs);
         final Function<scala.Tuple2<KeyType, Iterable<Type>>, Iterable<Type>> projector = new GroupProjector<>();
-        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = inputRdd.groupBy(keyExtractor, sparkExecutor.getNumDefaultPartitions());
+        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = inputRdd.groupBy(keyExtractor, sparkExecutor.getNumShufflePartitions(inputs, operatorContext));
         this.name(groupedKeyRdd);
         final JavaRDD<Iterable<Type>> outputRdd = groupedKeyRdd.map(projector);
         this.name(outputRdd);
@@ -122,7 +121,7 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
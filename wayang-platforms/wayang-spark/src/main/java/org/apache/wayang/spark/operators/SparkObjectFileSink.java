@@ -18,7 +18,12 @@
 
 package org.apache.wayang.spark.operators;
 
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.mapred.SequenceFileOutputFormat;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSink;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -34,8 +39,11 @@ import org.apache.wayang.spark.execution.SparkExecutor;
 import org.apache.wayang.spark.platform.SparkPlatform;
 import org.apache.logging.log4j.LogManager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -76,9 +84,12 @@ public class SparkObjectFileSink<T> extends ObjectFileSink<T> implements SparkEx
 
         RddChannel.Instance input = (RddChannel.Instance) inputs[0];
 
+        final ObjectFileSerializer serializer = ObjectFileSerializers.create(sparkExecutor.getConfiguration());
         input.provideRdd()
                 .coalesce(1) // TODO: Remove. This only hotfixes the issue that JavaObjectFileSource reads only a single file.
-                .saveAsObjectFile(targetPath);
+                .mapPartitions(iterator -> new ChunkIterator(iterator, serializer))
+                .mapToPair(bytes -> new scala.Tuple2<>(NullWritable.get(), new BytesWritable(bytes)))
+                .saveAsHadoopFile(targetPath, NullWritable.class, BytesWritable.class, SequenceFileOutputFormat.class);
         LogManager.getLogger(this.getClass()).info("Writing dataset to {}.", targetPath);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
@@ -109,4 +120,44 @@ public class SparkObjectFileSink<T> extends ObjectFileSink<T> implements SparkEx
         return true;
     }
 
+    /**
+     * Encodes chunks of data quanta lazily, just like Spark's object files do.
+     */
+    private static class ChunkIterator implements Iterator<byte[]> {
+
+        /**
+         * Number of data quanta per chunk; consistent with Spark's object files.
+         */
+        private static final int CHUNK_SIZE = 10;
+
+        private final Iterator<?> dataQuanta;
+
+        private final ObjectFileSerializer serializer;
+
+        private final Object[] chunk = new Object[CHUNK_SIZE];
+
+        private ChunkIterator(Iterator<?> dataQuanta, ObjectFileSerializer serializer) {
+            this.dataQuanta = dataQuanta;
+            this.serializer = serializer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.dataQuanta.hasNext();
+        }
+
+        @Override
+        public byte[] next() {
+            int size = 0;
+            while (size < CHUNK_SIZE && this.dataQuanta.hasNext()) {
+                this.chunk[size++] = this.dataQuanta.next();
+            }
+            try {
+                return ObjectFileSerializers.serialize(this.serializer, this.chunk, size);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Serialization failed.", e);
+            }
+        }
+    }
+
 }
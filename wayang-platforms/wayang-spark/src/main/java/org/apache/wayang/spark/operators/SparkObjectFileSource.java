@@ -18,8 +18,12 @@
 
 package org.apache.wayang.spark.operators;
 
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializer;
+import org.apache.wayang.basic.channels.serialization.ObjectFileSerializers;
 import org.apache.wayang.basic.operators.ObjectFileSource;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -37,6 +41,7 @@ import org.apache.wayang.spark.platform.SparkPlatform;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -79,7 +84,12 @@ public class SparkObjectFileSource<T> extends ObjectFileSource<T> implements Spa
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final String actualInputPath = FileSystems.findActualSingleInputPath(sourcePath);
-        final JavaRDD<Object> rdd = sparkExecutor.sc.objectFile(actualInputPath);
+        final ObjectFileSerializer serializer = ObjectFileSerializers.create(sparkExecutor.getConfiguration());
+        final JavaRDD<Object> rdd = sparkExecutor.sc
+                .sequenceFile(actualInputPath, NullWritable.class, BytesWritable.class)
+                .flatMap(pair -> Arrays.asList(
+                        ObjectFileSerializers.deserialize(serializer, pair._2.getBytes(), pair._2.getLength())
+                ).iterator());
         this.name(rdd);
         output.accept(rdd, sparkExecutor);
 
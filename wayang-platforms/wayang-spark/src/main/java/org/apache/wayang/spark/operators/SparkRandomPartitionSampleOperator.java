@@ -38,7 +38,6 @@ import scala.runtime.AbstractFunction1;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -192,7 +191,7 @@ public class SparkRandomPartitionSampleOperator<Type>
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
         return this.isDataSetSizeKnown() ?
-                Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR) :
+                RddChannel.ALL_DESCRIPTORS :
                 Collections.singletonList(RddChannel.CACHED_DESCRIPTOR);
     }
 
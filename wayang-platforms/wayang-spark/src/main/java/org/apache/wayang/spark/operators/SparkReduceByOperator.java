@@ -23,6 +23,7 @@ import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.Function;
 import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.api.java.function.PairFunction;
+import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.ReduceByOperator;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.function.ReduceDescriptor;
@@ -40,7 +41,6 @@ import org.apache.wayang.spark.channels.BroadcastChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -94,8 +94,25 @@ public class SparkReduceByOperator<Type, KeyType>
                 sparkExecutor.getCompiler().compile(this.reduceDescriptor, this, operatorContext, inputs);
         final JavaPairRDD<KeyType, Type> pairRdd = inputStream.mapToPair(keyExtractor);
         this.name(pairRdd);
-        final JavaPairRDD<KeyType, Type> reducedPairRdd =
-                pairRdd.reduceByKey(reduceFunc, sparkExecutor.getNumDefaultPartitions());
+        final int numPartitions = sparkExecutor.getNumShufflePartitions(inputs, operatorContext);
+        JavaPairRDD<KeyType, Type> reducedPairRdd = null;
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        if (HeavyKeys.isEnabled(configuration)) {
+            // Pre-aggregate heavy keys under several salts before reducing them finally.
+            final HeavyKeys<KeyType> heavyKeys = HeavyKeys.detect(pairRdd, input, 0, operatorContext, configuration);
+            if (!heavyKeys.isEmpty()) {
+                final JavaPairRDD<Tuple2<KeyType, Integer>, Type> partialPairRdd = pairRdd
+                        .mapToPair(keyValue -> new scala.Tuple2<>(heavyKeys.salt(keyValue._1, keyValue._2), keyValue._2))
+                        .reduceByKey(reduceFunc, numPartitions);
+                this.name(partialPairRdd);
+                reducedPairRdd = partialPairRdd
+                        .mapToPair(keyValue -> new scala.Tuple2<>(keyValue._1.field0, keyValue._2))
+                        .reduceByKey(reduceFunc, numPartitions);
+            }
+        }
+        if (reducedPairRdd == null) {
+            reducedPairRdd = pairRdd.reduceByKey(reduceFunc, numPartitions);
+        }
         this.name(reducedPairRdd);
         final JavaRDD<Type> outputRdd = reducedPairRdd.map(new TupleConverter<>());
         this.name(outputRdd);
@@ -140,7 +157,7 @@ public class SparkReduceByOperator<Type, KeyType>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         if (index == 0) {
-            return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+            return RddChannel.ALL_DESCRIPTORS;
         } else {
             return Collections.singletonList(BroadcastChannel.DESCRIPTOR);
         }
@@ -29,7 +29,6 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -115,7 +114,7 @@ public class SparkRepeatOperator<Type>
         switch (index) {
             case INITIAL_INPUT_INDEX:
             case ITERATION_INPUT_INDEX:
-                return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+                return RddChannel.ALL_DESCRIPTORS;
             default:
                 throw new IllegalStateException(String.format("%s has no %d-th input.", this, index));
         }
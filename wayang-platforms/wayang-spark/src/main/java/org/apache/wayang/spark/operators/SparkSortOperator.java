@@ -34,7 +34,6 @@ import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.compiler.FunctionCompiler;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -84,7 +83,7 @@ public class SparkSortOperator<Type, Key>
 
         final JavaPairRDD<Key, Type> keyedRdd = inputRdd.mapToPair(keyExtractor);
         this.name(keyedRdd);
-        final JavaPairRDD<Key, Type> sortedKeyedRdd = keyedRdd.sortByKey(true, sparkExecutor.getNumDefaultPartitions());
+        final JavaPairRDD<Key, Type> sortedKeyedRdd = keyedRdd.sortByKey(true, sparkExecutor.getNumShufflePartitions(inputs, operatorContext));
         this.name(sortedKeyedRdd);
         final JavaRDD<Type> outputRdd = sortedKeyedRdd.map(y -> y._2);
         this.name(outputRdd);
@@ -107,7 +106,7 @@ public class SparkSortOperator<Type, Key>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+        return RddChannel.ALL_DESCRIPTORS;
     }
 
     @Override
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.monitoring;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.spark.monitoring.metrics.ExecutionStageMetrics;
+import org.apache.wayang.spark.monitoring.metrics.SparkListener;
+import org.apache.wayang.spark.monitoring.sinks.FileMetricsSink;
+import org.apache.wayang.spark.monitoring.sinks.RingBufferMetricsSink;
+import org.apache.wayang.spark.operators.SparkOperatorTestBase;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkListener} and its sinks.
+ */
+public class SparkListenerTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testExecutionStageMetrics() throws InterruptedException {
+        final RingBufferMetricsSink sink = new RingBufferMetricsSink(1000);
+        final SparkListener listener = new SparkListener(sink);
+        this.getSC().sc().addSparkListener(listener);
+        try {
+            this.getSC().setLocalProperty(SparkListener.EXECUTION_STAGE_PROPERTY, "stage-1");
+            this.getSC().parallelize(Arrays.asList(1, 2, 3, 4, 5, 6), 3).count();
+            this.getSC().setLocalProperty(SparkListener.EXECUTION_STAGE_PROPERTY, null);
+
+            // The listener bus delivers the events asynchronously.
+            List<ExecutionStageMetrics> executionStageMetrics = sink.getExecutionStageMetrics();
+            for (int i = 0; i < 100 && executionStageMetrics.isEmpty(); i++) {
+                Thread.sleep(100);
+                executionStageMetrics = sink.getExecutionStageMetrics();
+            }
+
+            Assert.assertEquals(1, executionStageMetrics.size());
+            Assert.assertEquals("stage-1", executionStageMetrics.get(0).getExecutionStage());
+            Assert.assertEquals(3, executionStageMetrics.get(0).getNumTasks());
+            Assert.assertTrue(executionStageMetrics.get(0).getExecutorRunTime() >= 0);
+        } finally {
+            this.getSC().sc().removeSparkListener(listener);
+        }
+    }
+
+    @Test
+    public void testRingBufferMetricsSinkEvictsOldestPayloads() {
+        final RingBufferMetricsSink sink = new RingBufferMetricsSink(2);
+        sink.publish("a", 1);
+        sink.publish("b", 2);
+        sink.publish("c", 3);
+        Assert.assertEquals(
+                Arrays.asList(new Tuple2<>("b", 2), new Tuple2<>("c", 3)),
+                sink.snapshot()
+        );
+    }
+
+    @Test
+    public void testFileMetricsSinkRoundTrip() throws IOException {
+        final Path path = Files.createTempFile("wayang-spark-metrics", ".bin");
+        try {
+            final FileMetricsSink sink = new FileMetricsSink(path, 2);
+            final ExecutionStageMetrics metrics = new ExecutionStageMetrics("stage-1", 42);
+            metrics.add(1000L, 10L, 1L, 0L, 0L, 100L, 200L);
+            sink.publish("a", 1);
+            sink.publish("b", "two");
+            sink.publish("ExecutionStageMetrics", metrics);
+            sink.close();
+
+            final List<Tuple2<String, Serializable>> payloads = FileMetricsSink.read(path);
+            Assert.assertEquals(3, payloads.size());
+            Assert.assertEquals(new Tuple2<>("a", 1), payloads.get(0));
+            Assert.assertEquals(new Tuple2<>("b", "two"), payloads.get(1));
+            final ExecutionStageMetrics readMetrics = (ExecutionStageMetrics) payloads.get(2).field1;
+            Assert.assertEquals("stage-1", readMetrics.getExecutionStage());
+            Assert.assertEquals(42, readMetrics.getJobID());
+            Assert.assertEquals(1000L, readMetrics.getExecutorCPUTime());
+            Assert.assertEquals(200L, readMetrics.getShuffleBytesWritten());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+}
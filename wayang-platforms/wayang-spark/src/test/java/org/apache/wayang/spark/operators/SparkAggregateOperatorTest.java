@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.AggregateDescriptor;
+import org.apache.wayang.basic.function.AggregateDescriptor.Aggregate;
+import org.apache.wayang.basic.function.AggregateDescriptor.Function;
+import org.apache.wayang.basic.function.AggregateDescriptor.ValueType;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.util.WayangCollections;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkAggregateOperator}.
+ */
+public class SparkAggregateOperatorTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testGroupedExecution() {
+        // Prepare test data.
+        RddChannel.Instance input = this.createRddChannelInstance(Arrays.asList(
+                new Record("a", 1L),
+                new Record("b", 2L),
+                new Record("a", 3L),
+                new Record("b", 4L),
+                new Record("c", null)
+        ));
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the aggregate operator.
+        SparkAggregateOperator aggregateOperator = new SparkAggregateOperator(new AggregateDescriptor(
+                new int[]{0},
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, 1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 1, ValueType.LONG),
+                        new Aggregate(Function.MIN, 1, ValueType.LONG)
+                )
+        ));
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        this.evaluate(aggregateOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Record> result = output.<Record>provideRdd().collect();
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(
+                        new Record("a", 2L, 4L, 1L),
+                        new Record("b", 2L, 6L, 2L),
+                        new Record("c", 0L, null, null)
+                )),
+                new HashSet<>(result)
+        );
+    }
+
+    @Test
+    public void testGlobalExecutionWithoutData() {
+        // Prepare test data.
+        RddChannel.Instance input = this.createRddChannelInstance(Collections.emptyList());
+        CollectionChannel.Instance output = this.createCollectionChannelInstance();
+
+        // Build the aggregate operator.
+        SparkAggregateOperator aggregateOperator = new SparkAggregateOperator(new AggregateDescriptor(
+                new int[0],
+                Arrays.asList(
+                        new Aggregate(Function.COUNT, -1, ValueType.LONG),
+                        new Aggregate(Function.SUM, 0, ValueType.DOUBLE)
+                )
+        ));
+
+        // Set up the ChannelInstances.
+        final ChannelInstance[] inputs = new ChannelInstance[]{input};
+        final ChannelInstance[] outputs = new ChannelInstance[]{output};
+
+        // Execute.
+        this.evaluate(aggregateOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Record> result = WayangCollections.asList(output.provideCollection());
+        Assert.assertEquals(Collections.singletonList(new Record(0L, null)), result);
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.spark.channels.RddChannel;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link SparkBroadcastJoinOperator}.
+ */
+public class SparkBroadcastJoinOperatorTest extends SparkOperatorTestBase {
+
+    private static final List<Tuple2<Integer, String>> DATA0 = Arrays.asList(
+            new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e"));
+
+    private static final List<Tuple2<String, Integer>> DATA1 = Arrays.asList(
+            new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4));
+
+    @Test
+    public void testExecutionWithBroadcastInput0() {
+        this.testExecution(0);
+    }
+
+    @Test
+    public void testExecutionWithBroadcastInput1() {
+        this.testExecution(1);
+    }
+
+    private void testExecution(int broadcastIndex) {
+        // Prepare test data.
+        ChannelInstance input0 = broadcastIndex == 0 ?
+                this.createBroadcastChannelInstance(DATA0) :
+                this.createRddChannelInstance(DATA0);
+        ChannelInstance input1 = broadcastIndex == 1 ?
+                this.createBroadcastChannelInstance(DATA1) :
+                this.createRddChannelInstance(DATA1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the join operator.
+        SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> join = new SparkBroadcastJoinOperator<>(
+                new JoinOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class)),
+                broadcastIndex);
+
+        // Execute.
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        // Verify the outcome.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect().stream()
+                        .sorted(Comparator.comparing(Tuple2::toString))
+                        .collect(Collectors.toList());
+        Assert.assertEquals(
+                Arrays.asList(
+                        new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+                        new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+                        new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+                        new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+                        new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2))
+                ),
+                result
+        );
+    }
+
+    @Test
+    public void testJoinsWithDifferentKeysOnSameBroadcast() {
+        // Prepare test data.
+        ChannelInstance broadcastInput = this.createBroadcastChannelInstance(
+                Arrays.asList(new Tuple2<>(1, 10), new Tuple2<>(2, 1)));
+        ChannelInstance probeInput = this.createRddChannelInstance(
+                Arrays.asList(new Tuple2<>(1, 0), new Tuple2<>(10, 0)));
+
+        // Execute two joins that index the same broadcast by different fields.
+        final List<String> result0 = this.joinOnBroadcastField(broadcastInput, probeInput, "field0");
+        final List<String> result1 = this.joinOnBroadcastField(broadcastInput, probeInput, "field1");
+
+        // Verify the outcome.
+        Assert.assertEquals(Arrays.asList("((1, 10), (1, 0))"), result0);
+        Assert.assertEquals(Arrays.asList("((1, 10), (10, 0))", "((2, 1), (1, 0))"), result1);
+    }
+
+    private List<String> joinOnBroadcastField(ChannelInstance broadcastInput,
+                                              ChannelInstance probeInput,
+                                              String broadcastField) {
+        RddChannel.Instance output = this.createRddChannelInstance();
+        SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> join = new SparkBroadcastJoinOperator<>(
+                new JoinOperator<>(
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                broadcastField),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class)),
+                0);
+        this.evaluate(join, new ChannelInstance[]{broadcastInput, probeInput}, new ChannelInstance[]{output});
+        return output.provideRdd().collect().stream()
+                .map(Object::toString)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.storage.StorageLevel;
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.LoadProfile;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.SimpleEstimationContext;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.test.ChannelFactory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkCacheOperator}.
+ */
+public class SparkCacheOperatorTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        for (RddChannel.CachedDescriptor descriptor : Arrays.asList(
+                RddChannel.CACHED_DESCRIPTOR,
+                RddChannel.SERIALIZED_CACHED_DESCRIPTOR,
+                RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR)) {
+            // Prepare test data.
+            List<Integer> inputData = Arrays.asList(1, 2, 3, 4, 5);
+            RddChannel.Instance input = this.createRddChannelInstance(inputData);
+            RddChannel.Instance output = ChannelFactory.createRddChannelInstance(descriptor, this.configuration);
+
+            // Execute.
+            SparkCacheOperator<Integer> cacheOperator =
+                    new SparkCacheOperator<>(DataSetType.createDefault(Integer.class), descriptor);
+            this.evaluate(cacheOperator, new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+            // Verify the outcome.
+            Assert.assertEquals(descriptor.getStorageLevel(), output.provideRdd().getStorageLevel());
+            Assert.assertEquals(inputData, output.<Integer>provideRdd().collect());
+
+            // Verify that the RDD is unpersisted once its ChannelInstance is disposed.
+            final int rddId = output.provideRdd().id();
+            output.dispose();
+            Assert.assertFalse(this.getSC().getPersistentRDDs().containsKey(rddId));
+        }
+    }
+
+    @Test
+    public void testLoadEstimatesFavorSpillingForLargeInputs() {
+        this.configuration.setProperty(SparkCacheOperator.CAPACITY_KEY, "1000");
+
+        final long smallMemoryCpu = this.estimateCpu(RddChannel.CACHED_DESCRIPTOR, 100);
+        final long smallSpillingCpu = this.estimateCpu(RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR, 100);
+        Assert.assertTrue(smallMemoryCpu < smallSpillingCpu);
+
+        final long largeMemoryCpu = this.estimateCpu(RddChannel.CACHED_DESCRIPTOR, 100000);
+        final long largeSpillingCpu = this.estimateCpu(RddChannel.MEMORY_AND_DISK_CACHED_DESCRIPTOR, 100000);
+        Assert.assertTrue(largeMemoryCpu > largeSpillingCpu);
+    }
+
+    private long estimateCpu(RddChannel.CachedDescriptor descriptor, long cardinality) {
+        final SparkCacheOperator<Integer> cacheOperator =
+                new SparkCacheOperator<>(DataSetType.createDefault(Integer.class), descriptor);
+        final LoadProfileEstimator estimator = cacheOperator.createLoadProfileEstimator(this.configuration).get();
+        final LoadProfile loadProfile = estimator.estimate(new SimpleEstimationContext(
+                new CardinalityEstimate[]{new CardinalityEstimate(cardinality, cardinality, 1d)},
+                new CardinalityEstimate[]{new CardinalityEstimate(cardinality, cardinality, 1d)},
+                new HashMap<>(),
+                1
+        ));
+        return sumCpu(loadProfile);
+    }
+
+    private static long sumCpu(LoadProfile loadProfile) {
+        long cpu = loadProfile.getCpuUsage().getLowerEstimate();
+        for (LoadProfile subprofile : loadProfile.getSubprofiles()) {
+            cpu += sumCpu(subprofile);
+        }
+        return cpu;
+    }
+
+}
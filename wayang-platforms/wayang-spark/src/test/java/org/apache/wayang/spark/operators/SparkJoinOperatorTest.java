@@ -27,8 +27,12 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.spark.channels.RddChannel;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Test suite for {@link SparkJoinOperator}.
@@ -78,4 +82,84 @@ public class SparkJoinOperatorTest extends SparkOperatorTestBase {
 
     }
 
+    @Test
+    public void testSkewedExecution() {
+        this.configuration.setProperty(HeavyKeys.ENABLED_KEY, "true");
+        this.configuration.setProperty(HeavyKeys.FALLBACK_FRACTION_KEY, "1");
+        this.configuration.setProperty(HeavyKeys.NUM_SALTS_KEY, "4");
+
+        // Prepare test data: key 1 is heavy in the first input and key 2 is heavy in the second one.
+        List<Tuple2<Integer, Integer>> data0 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) data0.add(new Tuple2<>(1, i));
+        for (int i = 0; i < 3; i++) data0.add(new Tuple2<>(2, i));
+        for (int i = 3; i < 10; i++) data0.add(new Tuple2<>(i, i));
+        List<Tuple2<Integer, Integer>> data1 = new ArrayList<>();
+        for (int i = 0; i < 2; i++) data1.add(new Tuple2<>(i, 1));
+        for (int i = 0; i < 50; i++) data1.add(new Tuple2<>(i, 2));
+        for (int i = 5; i < 20; i++) data1.add(new Tuple2<>(i, i));
+        RddChannel.Instance input0 = this.createRddChannelInstance(data0);
+        RddChannel.Instance input1 = this.createRddChannelInstance(data1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Build the join operator.
+        SparkJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkJoinOperator<>(
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        DataSetType.createDefaultUnchecked(Tuple2.class),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field0"),
+                        new ProjectionDescriptor<>(
+                                DataUnitType.createBasicUnchecked(Tuple2.class),
+                                DataUnitType.createBasic(Integer.class),
+                                "field1"));
+
+        // Execute.
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        // Verify the outcome against a nested-loops join.
+        final List<String> expectedResult = new ArrayList<>();
+        for (Tuple2<Integer, Integer> dataQuantum0 : data0) {
+            for (Tuple2<Integer, Integer> dataQuantum1 : data1) {
+                if (dataQuantum0.field0.equals(dataQuantum1.field1)) {
+                    expectedResult.add(new Tuple2<>(dataQuantum0, dataQuantum1).toString());
+                }
+            }
+        }
+        final List<String> result = output.<Tuple2<Tuple2<Integer, Integer>, Tuple2<Integer, Integer>>>provideRdd()
+                .map(Tuple2::toString)
+                .collect();
+        Assert.assertEquals(
+                expectedResult.stream().sorted().collect(Collectors.toList()),
+                result.stream().sorted().collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testDeterministicSalts() {
+        this.configuration.setProperty(HeavyKeys.FALLBACK_FRACTION_KEY, "1");
+        this.configuration.setProperty(HeavyKeys.NUM_SALTS_KEY, "4");
+        List<Tuple2<Integer, Integer>> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) data.add(new Tuple2<>(1, i));
+        data.add(new Tuple2<>(2, 0));
+        RddChannel.Instance input = this.createRddChannelInstance(data);
+        final HeavyKeys<Integer> heavyKeys = HeavyKeys.detect(
+                input.<Tuple2<Integer, Integer>>provideRdd().mapToPair(t -> new scala.Tuple2<>(t.field0, t)),
+                input, 0, null, this.configuration
+        );
+        Assert.assertTrue(heavyKeys.contains(1));
+        Assert.assertFalse(heavyKeys.contains(2));
+
+        // The same data quantum should always receive the same salt, while the heavy key is spread over all salts.
+        final Set<Integer> salts = new HashSet<>();
+        for (Tuple2<Integer, Integer> dataQuantum : data) {
+            final Tuple2<Integer, Integer> saltedKey = heavyKeys.salt(dataQuantum.field0, dataQuantum);
+            Assert.assertEquals(saltedKey, heavyKeys.salt(dataQuantum.field0, new Tuple2<>(dataQuantum.field0, dataQuantum.field1)));
+            if (dataQuantum.field0 == 1) salts.add(saltedKey.field1);
+        }
+        Assert.assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3)), salts);
+        Assert.assertEquals(new Tuple2<>(2, 0), heavyKeys.salt(2, data.get(100)));
+    }
+
 }
@@ -19,8 +19,10 @@
 package org.apache.wayang.spark.operators;
 
 import org.apache.commons.lang3.Validate;
+import org.junit.Assert;
 import org.junit.Test;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.spark.channels.RddChannel;
@@ -69,6 +71,34 @@ public class SparkObjectFileSinkTest extends SparkOperatorTestBase {
 
     }
 
+    @Test
+    public void testWritingAndReadingTuples() throws IOException {
+        Path tempDir = Files.createTempDirectory("wayang-spark");
+        tempDir.toFile().deleteOnExit();
+        final String targetUrl = tempDir.resolve("testWritingAndReadingTuples").toUri().toString();
+        List<Tuple2<String, Integer>> tuples = new ArrayList<>();
+        for (int i = 0; i < 1234; i++) {
+            tuples.add(new Tuple2<>("key" + i, i));
+        }
+
+        // Write the tuples.
+        final SparkObjectFileSink<Tuple2<String, Integer>> sink = new SparkObjectFileSink<>(
+                targetUrl, DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        final ChannelInstance outputChannel = FileChannel.HDFS_OBJECT_FILE_DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(this.sparkExecutor, null, -1);
+        this.evaluate(sink, new ChannelInstance[]{this.createRddChannelInstance(tuples)}, new ChannelInstance[]{outputChannel});
+
+        // Read them back.
+        final SparkObjectFileSource<Tuple2<String, Integer>> source = new SparkObjectFileSource<>(
+                targetUrl, DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+        final RddChannel.Instance sourceOutput = this.createRddChannelInstance();
+        this.evaluate(source, new ChannelInstance[]{}, new ChannelInstance[]{sourceOutput});
+        Assert.assertEquals(tuples, sourceOutput.<Tuple2<String, Integer>>provideRdd().collect());
+    }
+
     static List<Integer> enumerateRange(int to) {
         Validate.isTrue(to >= 0);
         List<Integer> range = new ArrayList<>(to);
@@ -29,6 +29,7 @@ import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.profiling.FullInstrumentationStrategy;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.BroadcastChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 import org.apache.wayang.spark.platform.SparkPlatform;
@@ -81,6 +82,10 @@ public class SparkOperatorTestBase {
         return ChannelFactory.createRddChannelInstance(collection, this.sparkExecutor, this.configuration);
     }
 
+    BroadcastChannel.Instance createBroadcastChannelInstance(Collection<?> collection) {
+        return ChannelFactory.createBroadcastChannelInstance(collection, this.sparkExecutor, this.configuration);
+    }
+
     protected CollectionChannel.Instance createCollectionChannelInstance() {
         return ChannelFactory.createCollectionChannelInstance(this.configuration);
     }
@@ -23,6 +23,8 @@ import org.junit.Test;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.function.ProjectionDescriptor;
 import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
@@ -89,4 +91,84 @@ public class SparkReduceByOperatorTest extends SparkOperatorTestBase {
         Assert.assertEquals(expectedResults.length, resultSet.size());
 
     }
+
+    @Test
+    public void testAdaptivePartitioning() {
+        // Let each partition hold 4 data quanta.
+        this.configuration.setProperty("wayang.spark.partitions.adaptive", "true");
+        this.configuration.setProperty("wayang.spark.partitions.bytes-per-quantum", "100");
+        this.configuration.setProperty("wayang.spark.partitions.bytes-per-partition", "400");
+
+        // Prepare test data.
+        List<Tuple2<String, Integer>> inputList = Arrays.stream("aaabbccccdeefff".split(""))
+                .map(string -> new Tuple2<>(string, 1))
+                .collect(Collectors.toList());
+        RddChannel.Instance input = this.createRddChannelInstance(inputList);
+        RddChannel.Instance output = this.createRddChannelInstance();
+        SparkReduceByOperator<Tuple2<String, Integer>, String> reduceByOperator = createReduceByOperator();
+
+        // Small estimates do not go below the default number of partitions.
+        final int numDefaultPartitions = this.sparkExecutor.getNumDefaultPartitions();
+        OptimizationContext.OperatorContext operatorContext = this.createOperatorContext(reduceByOperator);
+        operatorContext.setInputCardinality(0, new CardinalityEstimate(3, 3, 1d));
+        operatorContext.setOutputCardinality(0, new CardinalityEstimate(2, 2, 1d));
+        reduceByOperator.evaluate(
+                new ChannelInstance[]{input}, new ChannelInstance[]{output}, this.sparkExecutor, operatorContext
+        );
+        Assert.assertEquals(numDefaultPartitions, output.provideRdd().getNumPartitions());
+
+        // Measured cardinalities take precedence over the estimates.
+        input.setMeasuredCardinality(4 * (numDefaultPartitions + 2));
+        reduceByOperator.evaluate(
+                new ChannelInstance[]{input}, new ChannelInstance[]{output}, this.sparkExecutor, operatorContext
+        );
+        Assert.assertEquals(numDefaultPartitions + 2, output.provideRdd().getNumPartitions());
+        Assert.assertEquals(6, output.provideRdd().count());
+    }
+
+    @Test
+    public void testSkewedExecution() {
+        this.configuration.setProperty(HeavyKeys.ENABLED_KEY, "true");
+        this.configuration.setProperty(HeavyKeys.FALLBACK_FRACTION_KEY, "1");
+        this.configuration.setProperty(HeavyKeys.NUM_SALTS_KEY, "4");
+
+        // Prepare test data, where "a" is a heavy key.
+        List<Tuple2<String, Integer>> inputList = Arrays.stream("aaaaaaaaaaaaaaaaaaaaaaaaabbccccdeefff".split(""))
+                .map(string -> new Tuple2<>(string, 1))
+                .collect(Collectors.toList());
+        RddChannel.Instance input = this.createRddChannelInstance(inputList);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Execute.
+        this.evaluate(createReduceByOperator(), new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+        // Verify the outcome.
+        final Set<Tuple2<String, Integer>> resultSet = new HashSet<>(output.<Tuple2<String, Integer>>provideRdd().collect());
+        final Set<Tuple2<String, Integer>> expectedResultSet = new HashSet<>(Arrays.asList(
+                new Tuple2<>("a", 25),
+                new Tuple2<>("b", 2),
+                new Tuple2<>("c", 4),
+                new Tuple2<>("d", 1),
+                new Tuple2<>("e", 2),
+                new Tuple2<>("f", 3)
+        ));
+        Assert.assertEquals(expectedResultSet, resultSet);
+    }
+
+    private static SparkReduceByOperator<Tuple2<String, Integer>, String> createReduceByOperator() {
+        return new SparkReduceByOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(String.class),
+                        "field0"),
+                new ReduceDescriptor<>(
+                        (a, b) -> {
+                            a.field1 += b.field1;
+                            return a;
+                        }, DataUnitType.createGroupedUnchecked(Tuple2.class),
+                        DataUnitType.createBasicUnchecked(Tuple2.class)
+                ));
+    }
+
 }
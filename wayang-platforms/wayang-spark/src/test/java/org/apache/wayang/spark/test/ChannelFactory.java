@@ -24,6 +24,7 @@ import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.util.WayangCollections;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.BroadcastChannel;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
@@ -61,6 +62,16 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static BroadcastChannel.Instance createBroadcastChannelInstance(Collection<?> data,
+                                                                          SparkExecutor sparkExecutor,
+                                                                          Configuration configuration) {
+        BroadcastChannel.Instance instance = (BroadcastChannel.Instance) BroadcastChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(sparkExecutor, null, -1);
+        instance.accept(sparkExecutor.sc.broadcast(data));
+        return instance;
+    }
+
     public static CollectionChannel.Instance createCollectionChannelInstance(Configuration configuration) {
         return (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR
                 .createChannel(null, configuration)
@@ -18,6 +18,7 @@
 
 package org.apache.wayang.iejoin.operators;
 
+import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -26,33 +27,34 @@ import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.Tuple;
-import org.apache.wayang.iejoin.data.Data;
-import org.apache.wayang.iejoin.operators.java_helpers.BitSetJoin;
-import org.apache.wayang.iejoin.operators.java_helpers.DataComparator;
-import org.apache.wayang.iejoin.operators.java_helpers.extractData;
+import org.apache.wayang.iejoin.operators.java_helpers.ArrayIEJoin;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
-import scala.Tuple2;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * Java implementation of the {@link IEJoinOperator}.
+ * <p>The join keys are extracted into arrays and joined by {@link ArrayIEJoin}, which works on the key ranks and
+ * splits the outer loop into blocks that are processed in parallel unless {@value #PARALLEL_KEY} is disabled.</p>
  */
 public class JavaIEJoinOperator<Type0 extends Comparable<Type0>, Type1 extends Comparable<Type1>, Input>
         extends IEJoinOperator<Type0, Type1, Input>
         implements JavaExecutionOperator {
 
+    /**
+     * {@link org.apache.wayang.core.api.Configuration} key to process the join in parallel (the UDFs are always
+     * evaluated sequentially).
+     */
+    public static final String PARALLEL_KEY = "wayang.java.iejoin.parallel";
+
     /**
      * Creates a new instance.
      */
@@ -70,69 +72,43 @@ public class JavaIEJoinOperator<Type0 extends Comparable<Type0>, Type1 extends C
             OptimizationContext.OperatorContext operatorContext) {
         StreamChannel.Instance outputChannel = (StreamChannel.Instance) outputs[0];
 
-        Stream<Input> stream0;
-        Stream<Input> stream1;
-        if (inputs[0] instanceof CollectionChannel.Instance) {
-            final Collection<Input> collection = ((CollectionChannel.Instance) inputs[0]).provideCollection();
-            stream0 = collection.stream();
-            stream1 = ((JavaChannelInstance) inputs[1]).provideStream();
-        } else if (inputs[1] instanceof CollectionChannel.Instance) {
-            stream0 = ((JavaChannelInstance) inputs[0]).provideStream();
-            final Collection<Input> collection = ((CollectionChannel.Instance) inputs[1]).provideCollection();
-            stream1 = collection.stream();
-        } else {
-            // Fallback: Materialize one side.
-            final Collection<Input> collection = ((JavaChannelInstance) inputs[0]).<Input>provideStream().collect(Collectors.toList());
-            stream0 = collection.stream();
-            stream1 = ((JavaChannelInstance) inputs[1]).provideStream();
-        }
-
         final Function<Input, Type0> get0Pivot_ = javaExecutor.getCompiler().compile(this.get0Pivot);
         final Function<Input, Type0> get1Pivot_ = javaExecutor.getCompiler().compile(this.get1Pivot);
         final Function<Input, Type1> get0Ref_ = javaExecutor.getCompiler().compile(this.get0Ref);
         final Function<Input, Type1> get1Ref_ = javaExecutor.getCompiler().compile(this.get1Ref);
 
-        Object[] stream0R = stream0.toArray();
-        Object[] stream1R = stream1.toArray();
-
-        ArrayList<Tuple2<Data<Type0, Type1>, Input>> list0 = new ArrayList<Tuple2<Data<Type0, Type1>, Input>>();
-        ArrayList<Tuple2<Data<Type0, Type1>, Input>> list1 = new ArrayList<Tuple2<Data<Type0, Type1>, Input>>();
-
-        for (int i = 0; i < stream0R.length; i++) {
-            list0.add(new Tuple2<Data<Type0, Type1>, Input>(new extractData<Type0, Type1, Input>(get0Pivot_, get0Ref_).call((Input) stream0R[i]), (Input) stream0R[i]));
-        }
-        for (int i = 0; i < stream1R.length; i++) {
-            list1.add(new Tuple2<Data<Type0, Type1>, Input>(new extractData<Type0, Type1, Input>(get1Pivot_, get1Ref_).call((Input) stream1R[i]), (Input) stream1R[i]));
-        }
+        final Input[] input0 = materialize(inputs[0]);
+        final Input[] input1 = materialize(inputs[1]);
+        final Type0[] pivots0 = extractKeys(input0, get0Pivot_);
+        final Type1[] refs0 = extractKeys(input0, get0Ref_);
+        final Type0[] pivots1 = extractKeys(input1, get1Pivot_);
+        final Type1[] refs1 = extractKeys(input1, get1Ref_);
 
-        Collections.sort(list0, new DataComparator<Type0, Type1, Input>(list1ASC, list1ASCSec));
-        Collections.sort(list1, new DataComparator<Type0, Type1, Input>(list2ASC, list2ASCSec));
+        final boolean isParallel = javaExecutor.getConfiguration().getBooleanProperty(PARALLEL_KEY, true);
+        final List<Tuple2<Input, Input>> result =
+                new ArrayIEJoin<Type0, Type1, Input>(this.cond0, this.cond1, isParallel)
+                        .join(input0, pivots0, refs0, input1, pivots1, refs1);
 
-        long partCount = list0.size();
-        long partCount2 = list1.size();
+        outputChannel.accept(result);
 
-        // count starting point for rdd2
-        long cnt2 = partCount + 1;
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
 
-        // Give unique ID for rdd1 & rdd2
-        for (int i = 0; i < partCount; i++) {
-            list0.get(i)._1().setRowID(i);
+    @SuppressWarnings("unchecked")
+    private static <T> T[] materialize(ChannelInstance channelInstance) {
+        if (channelInstance instanceof CollectionChannel.Instance) {
+            return (T[]) ((CollectionChannel.Instance) channelInstance).provideCollection().toArray();
         }
-        for (int i = 0; i < partCount2; i++) {
-            list1.get(i)._1().setRowID(i + cnt2);
-        }
-
-        ArrayList<Tuple2<Input, Input>> result = new BitSetJoin<Type0, Type1, Input>(list1ASC, list2ASC,
-                list1ASCSec, list2ASCSec, equalReverse, false, cond0).call(list0, list1);
+        return (T[]) ((JavaChannelInstance) channelInstance).provideStream().toArray();
+    }
 
-        ArrayList<org.apache.wayang.basic.data.Tuple2<Input, Input>> result2 = new ArrayList<>();
-        for (Tuple2<Input, Input> t : result) {
-            result2.add(new org.apache.wayang.basic.data.Tuple2<>(t._1(), t._2()));
+    @SuppressWarnings("unchecked")
+    private static <T, Key extends Comparable<Key>> Key[] extractKeys(T[] elements, Function<T, Key> keyExtractor) {
+        final Key[] keys = (Key[]) new Comparable[elements.length];
+        for (int i = 0; i < elements.length; i++) {
+            keys[i] = keyExtractor.apply(elements[i]);
         }
-
-        outputChannel.accept(result2);
-
-        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        return keys;
     }
 
     @Override
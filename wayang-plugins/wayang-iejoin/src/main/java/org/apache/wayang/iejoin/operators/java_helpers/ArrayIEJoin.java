@@ -0,0 +1,337 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.wayang.iejoin.operators.java_helpers;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.iejoin.operators.IEJoinMasterOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Inequality join on primitive arrays: the join keys are replaced by their dense ranks, both inputs are represented
+ * by permutation arrays, and the matches are collected with a two-level bitset. The outer loop over the first input
+ * is split into blocks that can be processed in parallel.
+ */
+public class ArrayIEJoin<Type0 extends Comparable<Type0>, Type1 extends Comparable<Type1>, Input> {
+
+    /**
+     * Minimum number of outer elements per block, so that the per-block bitset does not dominate the work.
+     */
+    private static final int MIN_BLOCK_SIZE = 1024;
+
+    private final IEJoinMasterOperator.JoinCondition cond0;
+
+    private final IEJoinMasterOperator.JoinCondition cond1;
+
+    private final boolean isParallel;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param cond0      condition between the pivot keys of the first and second input
+     * @param cond1      condition between the reference keys of the first and second input
+     * @param isParallel whether the join should be processed in parallel
+     */
+    public ArrayIEJoin(IEJoinMasterOperator.JoinCondition cond0, IEJoinMasterOperator.JoinCondition cond1,
+                       boolean isParallel) {
+        this.cond0 = cond0;
+        this.cond1 = cond1;
+        this.isParallel = isParallel;
+    }
+
+    /**
+     * Joins the two inputs, i.e., finds all pairs with {@code pivots0[i] cond0 pivots1[j]} and
+     * {@code refs0[i] cond1 refs1[j]}.
+     *
+     * @param input0  the first input
+     * @param pivots0 the pivot keys of the first input
+     * @param refs0   the reference keys of the first input
+     * @param input1  the second input
+     * @param pivots1 the pivot keys of the second input
+     * @param refs1   the reference keys of the second input
+     * @return the join pairs
+     */
+    public List<Tuple2<Input, Input>> join(Input[] input0, Type0[] pivots0, Type1[] refs0,
+                                           Input[] input1, Type0[] pivots1, Type1[] refs1) {
+        final int n0 = input0.length, n1 = input1.length;
+        if (n0 == 0 || n1 == 0) return new ArrayList<>(0);
+
+        final int[][] pivotRanks = this.rank(pivots0, pivots1);
+        final int[][] refRanks = this.rank(refs0, refs1);
+
+        // Bit positions correspond to the second input ordered by pivot.
+        final int[] pivotOrder1 = this.sortedIndices(pivotRanks[1]);
+        final int[] sortedPivots1 = permute(pivotRanks[1], pivotOrder1);
+        final int[] bitPositions1 = new int[n1];
+        for (int position = 0; position < n1; position++) {
+            bitPositions1[pivotOrder1[position]] = position;
+        }
+        final int[] refOrder1 = this.sortedIndices(refRanks[1]);
+        final int[] sortedRefs1 = permute(refRanks[1], refOrder1);
+
+        // Visit the first input in the order that lets the set of reference matches only grow.
+        final boolean isRefPrefix = isPrefixCondition(this.cond1);
+        final int[] refOrder0 = this.sortedIndices(refRanks[0]);
+        if (!isRefPrefix) reverse(refOrder0);
+
+        final int numBlocks = this.isParallel ?
+                Math.max(1, Math.min(4 * Runtime.getRuntime().availableProcessors(), n0 / MIN_BLOCK_SIZE)) :
+                1;
+        IntStream blocks = IntStream.range(0, numBlocks);
+        if (numBlocks > 1) blocks = blocks.parallel();
+        final List<List<Tuple2<Input, Input>>> blockResults = blocks
+                .mapToObj(block -> {
+                    final int from = (int) ((long) n0 * block / numBlocks);
+                    final int to = (int) ((long) n0 * (block + 1) / numBlocks);
+                    return this.joinBlock(from, to, refOrder0, pivotRanks[0], refRanks[0], input0,
+                            sortedPivots1, pivotOrder1, bitPositions1, sortedRefs1, refOrder1, input1, isRefPrefix);
+                })
+                .collect(Collectors.toList());
+
+        final List<Tuple2<Input, Input>> result =
+                new ArrayList<>(blockResults.stream().mapToInt(List::size).sum());
+        blockResults.forEach(result::addAll);
+        return result;
+    }
+
+    /**
+     * Joins the elements {@code refOrder0[from..to)} of the first input with the second input.
+     */
+    private List<Tuple2<Input, Input>> joinBlock(int from, int to,
+                                                 int[] refOrder0, int[] pivotRanks0, int[] refRanks0, Input[] input0,
+                                                 int[] sortedPivots1, int[] pivotOrder1, int[] bitPositions1,
+                                                 int[] sortedRefs1, int[] refOrder1, Input[] input1,
+                                                 boolean isRefPrefix) {
+        final int n1 = input1.length;
+        final List<Tuple2<Input, Input>> result = new ArrayList<>();
+        final long[] words = new long[(n1 + 63) >>> 6];
+        final long[] summary = new long[(words.length + 63) >>> 6];
+        int refCursor = isRefPrefix ? 0 : n1;
+
+        for (int k = from; k < to; k++) {
+            final int i = refOrder0[k];
+
+            // Mark all elements of the second input that satisfy the reference condition.
+            final int refBound = bound(sortedRefs1, refRanks0[i], this.cond1);
+            while (isRefPrefix ? refCursor < refBound : refCursor > refBound) {
+                final int position = bitPositions1[refOrder1[isRefPrefix ? refCursor++ : --refCursor]];
+                words[position >>> 6] |= 1L << position;
+                summary[position >>> 12] |= 1L << (position >>> 6);
+            }
+
+            // Collect the marked elements that also satisfy the pivot condition.
+            final int pivotBound = bound(sortedPivots1, pivotRanks0[i], this.cond0);
+            final int lo = isPrefixCondition(this.cond0) ? 0 : pivotBound;
+            final int hi = isPrefixCondition(this.cond0) ? pivotBound : n1;
+            if (lo >= hi) continue;
+            final int firstWord = lo >>> 6, lastWord = (hi - 1) >>> 6;
+            for (int s = firstWord >>> 6; s <= lastWord >>> 6; s++) {
+                long summaryWord = summary[s];
+                if (s == firstWord >>> 6) summaryWord &= -1L << firstWord;
+                if (s == lastWord >>> 6) summaryWord &= -1L >>> (63 - (lastWord & 63));
+                while (summaryWord != 0) {
+                    final int w = (s << 6) + Long.numberOfTrailingZeros(summaryWord);
+                    summaryWord &= summaryWord - 1;
+                    long word = words[w];
+                    if (w == firstWord) word &= -1L << lo;
+                    if (w == lastWord) word &= -1L >>> (63 - ((hi - 1) & 63));
+                    while (word != 0) {
+                        final int position = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1;
+                        result.add(new Tuple2<>(input0[i], input1[pivotOrder1[position]]));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the keys of both inputs by their dense ranks w.r.t. their natural order.
+     *
+     * @return the ranks of {@code keys0} and {@code keys1}
+     */
+    private <T extends Comparable<T>> int[][] rank(T[] keys0, T[] keys1) {
+        // Numeric keys can be ranked without any boxed comparisons.
+        final long[] numericKeys = toNumericKeys(keys0, keys1);
+        if (numericKeys != null) {
+            final long[] distinctKeys = numericKeys.clone();
+            if (this.isParallel) Arrays.parallelSort(distinctKeys);
+            else Arrays.sort(distinctKeys);
+            int numDistinctKeys = 0;
+            for (int i = 0; i < distinctKeys.length; i++) {
+                if (i == 0 || distinctKeys[i] != distinctKeys[numDistinctKeys - 1]) {
+                    distinctKeys[numDistinctKeys++] = distinctKeys[i];
+                }
+            }
+            final int n = numDistinctKeys;
+            final int[] ranks0 = new int[keys0.length], ranks1 = new int[keys1.length];
+            IntStream indices = IntStream.range(0, numericKeys.length);
+            if (this.isParallel) indices = indices.parallel();
+            indices.forEach(i -> {
+                final int rank = Arrays.binarySearch(distinctKeys, 0, n, numericKeys[i]);
+                if (i < ranks0.length) ranks0[i] = rank;
+                else ranks1[i - ranks0.length] = rank;
+            });
+            return new int[][]{ranks0, ranks1};
+        }
+
+        final T[] distinctKeys = Arrays.copyOf(keys0, keys0.length + keys1.length);
+        System.arraycopy(keys1, 0, distinctKeys, keys0.length, keys1.length);
+        if (this.isParallel) Arrays.parallelSort(distinctKeys);
+        else Arrays.sort(distinctKeys);
+        int numDistinctKeys = 0;
+        for (int i = 0; i < distinctKeys.length; i++) {
+            if (i == 0 || distinctKeys[i].compareTo(distinctKeys[numDistinctKeys - 1]) != 0) {
+                distinctKeys[numDistinctKeys++] = distinctKeys[i];
+            }
+        }
+        final int n = numDistinctKeys;
+        return new int[][]{this.lookUpRanks(keys0, distinctKeys, n), this.lookUpRanks(keys1, distinctKeys, n)};
+    }
+
+    /**
+     * Encodes the keys as {@code long}s that sort just like the keys, provided that they are all integral numbers or
+     * all floating point numbers.
+     *
+     * @return the encoded {@code keys0} followed by the encoded {@code keys1} or {@code null} if the keys cannot be
+     * encoded
+     */
+    private static long[] toNumericKeys(Object[] keys0, Object[] keys1) {
+        final long[] numericKeys = new long[keys0.length + keys1.length];
+        Boolean isFloatingPoint = null;
+        for (int i = 0; i < numericKeys.length; i++) {
+            final Object key = i < keys0.length ? keys0[i] : keys1[i - keys0.length];
+            final boolean isKeyFloatingPoint;
+            if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+                numericKeys[i] = ((Number) key).longValue();
+                isKeyFloatingPoint = false;
+            } else if (key instanceof Double || key instanceof Float) {
+                // Flip the bits of negative numbers, so that the long order matches Double#compareTo(...).
+                final long bits = Double.doubleToLongBits(((Number) key).doubleValue());
+                numericKeys[i] = bits ^ ((bits >> 63) & Long.MAX_VALUE);
+                isKeyFloatingPoint = true;
+            } else {
+                return null;
+            }
+            if (isFloatingPoint == null) isFloatingPoint = isKeyFloatingPoint;
+            else if (isFloatingPoint != isKeyFloatingPoint) return null;
+        }
+        return numericKeys;
+    }
+
+    private <T extends Comparable<T>> int[] lookUpRanks(T[] keys, T[] distinctKeys, int numDistinctKeys) {
+        final int[] ranks = new int[keys.length];
+        IntStream indices = IntStream.range(0, keys.length);
+        if (this.isParallel) indices = indices.parallel();
+        indices.forEach(i -> ranks[i] = Arrays.binarySearch(distinctKeys, 0, numDistinctKeys, keys[i]));
+        return ranks;
+    }
+
+    /**
+     * @return the permutation that sorts the given ranks ascendingly (stable)
+     */
+    private int[] sortedIndices(int[] ranks) {
+        final long[] packed = new long[ranks.length];
+        for (int i = 0; i < ranks.length; i++) {
+            packed[i] = ((long) ranks[i] << 32) | i;
+        }
+        if (this.isParallel) Arrays.parallelSort(packed);
+        else Arrays.sort(packed);
+        final int[] indices = new int[ranks.length];
+        for (int i = 0; i < packed.length; i++) {
+            indices[i] = (int) packed[i];
+        }
+        return indices;
+    }
+
+    private static int[] permute(int[] values, int[] permutation) {
+        final int[] result = new int[values.length];
+        for (int i = 0; i < permutation.length; i++) {
+            result[i] = values[permutation[i]];
+        }
+        return result;
+    }
+
+    private static void reverse(int[] array) {
+        for (int i = 0, j = array.length - 1; i < j; i++, j--) {
+            final int tmp = array[i];
+            array[i] = array[j];
+            array[j] = tmp;
+        }
+    }
+
+    /**
+     * Tells whether the elements {@code y} with {@code x cond y} form a prefix of the ascendingly sorted {@code y}s.
+     */
+    private static boolean isPrefixCondition(IEJoinMasterOperator.JoinCondition cond) {
+        return cond == IEJoinMasterOperator.JoinCondition.GreaterThan
+                || cond == IEJoinMasterOperator.JoinCondition.GreaterThanEqual;
+    }
+
+    /**
+     * Determines the boundary of the elements {@code y} in {@code sortedValues} that satisfy {@code value cond y}, i.e.,
+     * the end of the prefix or the start of the suffix (see {@link #isPrefixCondition(IEJoinMasterOperator.JoinCondition)}).
+     */
+    private static int bound(int[] sortedValues, int value, IEJoinMasterOperator.JoinCondition cond) {
+        switch (cond) {
+            case GreaterThan:
+            case LessThanEqual:
+                return lowerBound(sortedValues, value);
+            case GreaterThanEqual:
+            case LessThan:
+                return upperBound(sortedValues, value);
+            default:
+                throw new WayangException("Unsupported join condition: " + cond);
+        }
+    }
+
+    /**
+     * @return the index of the first element {@code >= value}
+     */
+    private static int lowerBound(int[] sortedValues, int value) {
+        int lo = 0, hi = sortedValues.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sortedValues[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * @return the index of the first element {@code > value}
+     */
+    private static int upperBound(int[] sortedValues, int value) {
+        int lo = 0, hi = sortedValues.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (sortedValues[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+}
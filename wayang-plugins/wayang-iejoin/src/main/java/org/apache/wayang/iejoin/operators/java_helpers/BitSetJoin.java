@@ -98,7 +98,7 @@ public class BitSetJoin<Type0 extends Comparable<Type0>, Type1 extends Comparabl
                 // i++;
                 //System.arraycopy(lst1, i, result, k, (lst1.size() - i));
                 int jj = k;
-                for (int x = i; x < (lst1.size() - i); x++) {
+                for (int x = i; x < lst1.size(); x++) {
                     result.add(lst1.get(x));
                     jj++;
                 }
@@ -108,7 +108,7 @@ public class BitSetJoin<Type0 extends Comparable<Type0>, Type1 extends Comparabl
                 // j++;
                 //System.arraycopy(lst2, j, result, k, (lst2.size() - j));
                 int jjj = k;
-                for (int iii = j; iii < (lst2.size() - j); iii++) {
+                for (int iii = j; iii < lst2.size(); iii++) {
                     result.add(lst2.get(iii));
                 }
                 return result;
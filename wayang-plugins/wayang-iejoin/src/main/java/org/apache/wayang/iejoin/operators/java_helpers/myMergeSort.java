@@ -67,11 +67,11 @@ public class myMergeSort<Type0 extends Comparable<Type0>, Type1 extends Comparab
 
         // If list is already sorted, just copy from src to dest. This is an
         // optimization that results in faster sorts for nearly ordered lists.
-        if (c.compare(src.get(mid - 1)._1(), src.get(mid)._1()) <= 0) {
+        if (c.compare(src.get(mid - 1), src.get(mid)) <= 0) {
             //System.arraycopy(src, low, dest, destLow, length);
             int jjj = destLow;
-            for (int iii = low; iii < length; iii++) {
-                dest.set(jjj, src.get(iii));
+            for (int iii = low; iii < high; iii++) {
+                dest.set(jjj++, src.get(iii));
             }
             System.arraycopy(bSrc, low, bDst, destLow, length);
             return;
@@ -25,6 +25,8 @@ import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.profiling.NoInstrumentationStrategy;
 import org.apache.wayang.iejoin.test.ChannelFactory;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.StreamChannel;
@@ -53,12 +55,11 @@ public class JavaExecutionOperatorTestBase {
         job = mock(Job.class);
         when(job.getConfiguration()).thenReturn(configuration);
         DefaultOptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new NoInstrumentationStrategy()));
         when(job.getOptimizationContext()).thenReturn(optimizationContext);
     }
 
     protected static JavaExecutor createExecutor() {
-        final Job job = mock(Job.class);
-        when(job.getConfiguration()).thenReturn(configuration);
         return new JavaExecutor(JavaPlatform.getInstance(), job);
     }
 
@@ -27,8 +27,11 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.types.DataUnitType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -89,4 +92,129 @@ public class JavaIEJoinOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testAllConditionsAgainstNestedLoops() {
+        final Random random = new Random(42);
+        final List<Record> input0 = createRecords(5000, random);
+        final List<Record> input1 = createRecords(300, random);
+
+        for (IEJoinMasterOperator.JoinCondition cond0 : IEJoinMasterOperator.JoinCondition.values()) {
+            for (IEJoinMasterOperator.JoinCondition cond1 : IEJoinMasterOperator.JoinCondition.values()) {
+                final List<String> expected = new ArrayList<>();
+                for (Record r0 : input0) {
+                    for (Record r1 : input1) {
+                        if (satisfies(r0.getInt(1), cond0, r1.getInt(1)) && satisfies(r0.getInt(2), cond1, r1.getInt(2))) {
+                            expected.add(r0.getInt(0) + "-" + r1.getInt(0));
+                        }
+                    }
+                }
+                Collections.sort(expected);
+
+                for (boolean isParallel : new boolean[]{true, false}) {
+                    configuration.setProperty(JavaIEJoinOperator.PARALLEL_KEY, String.valueOf(isParallel));
+                    final List<String> actual;
+                    try {
+                        actual = join(input0, input1, cond0, cond1).stream()
+                                .map(pair -> pair.field0.getInt(0) + "-" + pair.field1.getInt(0))
+                                .sorted()
+                                .collect(Collectors.toList());
+                    } finally {
+                        configuration.setProperty(JavaIEJoinOperator.PARALLEL_KEY, "true");
+                    }
+                    Assert.assertEquals(cond0 + "/" + cond1 + " (parallel: " + isParallel + ")", expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFloatingPointAndStringKeys() {
+        final Random random = new Random(42);
+        final List<Record> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(new Record(i, (random.nextInt(21) - 10) / 4d, String.valueOf((char) ('a' + random.nextInt(10)))));
+        }
+        records.add(new Record(200, -0d, "a"));
+        records.add(new Record(201, 0d, "a"));
+
+        final List<String> expected = new ArrayList<>();
+        for (Record r0 : records) {
+            for (Record r1 : records) {
+                if (Double.compare(r0.getDouble(1), r1.getDouble(1)) > 0 && r0.getString(2).compareTo(r1.getString(2)) <= 0) {
+                    expected.add(r0.getInt(0) + "-" + r1.getInt(0));
+                }
+            }
+        }
+        Collections.sort(expected);
+
+        JavaIEJoinOperator<Double, String, Record> operator = new JavaIEJoinOperator<Double, String, Record>(
+                DataSetType.createDefaultUnchecked(Record.class),
+                DataSetType.createDefaultUnchecked(Record.class),
+                createKeyExtractor(1, Double.class), createKeyExtractor(1, Double.class),
+                IEJoinMasterOperator.JoinCondition.GreaterThan,
+                createKeyExtractor(2, String.class), createKeyExtractor(2, String.class),
+                IEJoinMasterOperator.JoinCondition.LessThanEqual
+        );
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(records),
+                createCollectionChannelInstance(records)
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(operator, inputs, outputs);
+
+        final List<String> actual = outputs[0].<Tuple2<Record, Record>>provideStream()
+                .map(pair -> pair.field0.getInt(0) + "-" + pair.field1.getInt(0))
+                .sorted()
+                .collect(Collectors.toList());
+        Assert.assertEquals(expected, actual);
+    }
+
+    private static List<Record> createRecords(int numRecords, Random random) {
+        final List<Record> records = new ArrayList<>(numRecords);
+        for (int i = 0; i < numRecords; i++) {
+            records.add(new Record(i, random.nextInt(100), random.nextInt(100)));
+        }
+        return records;
+    }
+
+    private static boolean satisfies(int value0, IEJoinMasterOperator.JoinCondition cond, int value1) {
+        switch (cond) {
+            case GreaterThan:
+                return value0 > value1;
+            case GreaterThanEqual:
+                return value0 >= value1;
+            case LessThan:
+                return value0 < value1;
+            case LessThanEqual:
+                return value0 <= value1;
+            default:
+                throw new IllegalArgumentException();
+        }
+    }
+
+    private static List<Tuple2<Record, Record>> join(List<Record> input0, List<Record> input1,
+                                                     IEJoinMasterOperator.JoinCondition cond0,
+                                                     IEJoinMasterOperator.JoinCondition cond1) {
+        JavaIEJoinOperator<Integer, Integer, Record> operator = new JavaIEJoinOperator<Integer, Integer, Record>(
+                DataSetType.createDefaultUnchecked(Record.class),
+                DataSetType.createDefaultUnchecked(Record.class),
+                createKeyExtractor(1, Integer.class), createKeyExtractor(1, Integer.class), cond0,
+                createKeyExtractor(2, Integer.class), createKeyExtractor(2, Integer.class), cond1
+        );
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createCollectionChannelInstance(input0),
+                createStreamChannelInstance(input1.stream())
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(operator, inputs, outputs);
+        return outputs[0].<Tuple2<Record, Record>>provideStream().collect(Collectors.toList());
+    }
+
+    private static <Key> TransformationDescriptor<Record, Key> createKeyExtractor(int field, Class<Key> keyClass) {
+        return new TransformationDescriptor<Record, Key>(record -> keyClass.cast(record.getField(field)),
+                DataUnitType.<Record>createBasic(Record.class),
+                DataUnitType.<Key>createBasicUnchecked(keyClass)
+        );
+    }
+
 }
@@ -32,6 +32,8 @@ import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.WayangContext;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.enumeration.PlanEnumerator;
+import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
 import org.apache.wayang.core.types.DataSetType;
@@ -546,4 +548,51 @@ public class FullIntegrationIT {
                 .collect(Collectors.toList());
         Assert.assertEquals(expected, collector);
     }
+
+    @Test
+    public void testParallelPlanEnumeration() throws URISyntaxException {
+        // Force the parallel concatenation and pruning even for small enumerations.
+        this.configuration.setProperty(PlanEnumerator.PARALLEL_KEY, "true");
+        this.configuration.setProperty(PlanEnumerator.PARALLELISM_KEY, "4");
+        this.configuration.setProperty(PlanEnumerator.PARALLEL_THRESHOLD_KEY, "1");
+
+        List<String> collector1 = new LinkedList<>();
+        List<String> collector2 = new LinkedList<>();
+        WayangPlan wayangPlan = WayangPlans.multiSourceMultiSink(
+                Arrays.asList("a", "b", "c"), Arrays.asList("d", "e"), collector1, collector2
+        );
+        WayangContext wayangContext = new WayangContext(this.configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin());
+        wayangContext.execute(wayangPlan);
+
+        Collections.sort(collector1);
+        Collections.sort(collector2);
+        Assert.assertEquals(Arrays.asList("A", "B", "C", "D", "E"), collector1);
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), collector2);
+    }
+
+    @Test
+    public void testParallelPlanEnumerationIsDeterministic() throws URISyntaxException {
+        final List<String> sequentialPlan = this.describeInitialExecutionPlan(false);
+        final List<String> parallelPlan = this.describeInitialExecutionPlan(true);
+        Assert.assertEquals(sequentialPlan, parallelPlan);
+    }
+
+    private List<String> describeInitialExecutionPlan(boolean isParallel) throws URISyntaxException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(PlanEnumerator.PARALLEL_KEY, String.valueOf(isParallel));
+        configuration.setProperty(PlanEnumerator.PARALLEL_THRESHOLD_KEY, "1");
+        WayangPlan wayangPlan = WayangPlans.diverseScenario2(WayangPlans.FILE_SOME_LINES_TXT, WayangPlans.FILE_OTHER_LINES_TXT);
+        WayangContext wayangContext = new WayangContext(configuration)
+                .with(Java.basicPlugin())
+                .with(Spark.basicPlugin())
+                .with(Flink.basicPlugin());
+        return wayangContext.buildInitialExecutionPlan("parallel enumeration", wayangPlan).collectAllTasks().stream()
+                .map(ExecutionTask::getOperator)
+                .filter(operator -> !operator.isAuxiliary())
+                .map(operator -> String.format("%s on %s", operator.getName(), operator.getPlatform().getName()))
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }